@@ -0,0 +1,70 @@
+package com.csc205.project2;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.benchmarks.BenchmarkShapes;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * End-to-end cost of {@link ShapeDriver#displayShapesAndAnalysis(List)}
+ * from 10<sup>3</sup> to 10<sup>7</sup> shapes.
+ *
+ * <p>Standard output is redirected to a null stream, so the measurement
+ * covers formatting and analysis but not terminal I/O. The shapes keep their
+ * memoized values between invocations, as they would across repeated menu
+ * views.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "--add-modules", "jdk.incubator.vector"})
+public class ShapeDriverBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"OFF"})
+    private String logLevel;
+
+    private List<Shape3D> shapes;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.configure(logLevel);
+        shapes = BenchmarkShapes.catalog(size, 42L);
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public void displayShapesAndAnalysis() {
+        ShapeDriver.displayShapesAndAnalysis(shapes);
+    }
+}
@@ -0,0 +1,73 @@
+package com.csc205.project2.benchmarks;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Switches the project's loggers between "off" and "on" for benchmarks.
+ *
+ * <p>When logging is on, records are formatted with a
+ * {@link SimpleFormatter} and then discarded, so the measurement includes
+ * message construction and formatting but not console I/O.</p>
+ */
+public final class BenchmarkLogging {
+
+    /** Root of every logger used by the project. */
+    private static final String PROJECT_LOGGER = "com.csc205.project2";
+
+    /** Strong reference so the configured logger is not garbage collected. */
+    private static final Logger LOGGER = Logger.getLogger(PROJECT_LOGGER);
+
+    private static final Handler DISCARDING_HANDLER = new DiscardingHandler();
+
+    private BenchmarkLogging() {
+        // static utility
+    }
+
+    /**
+     * Applies a level to every project logger.
+     *
+     * @param levelName a {@link Level} name such as {@code "OFF"} or
+     *                  {@code "INFO"}
+     */
+    public static void configure(String levelName) {
+        LOGGER.setUseParentHandlers(false);
+        LOGGER.removeHandler(DISCARDING_HANDLER);
+        LOGGER.addHandler(DISCARDING_HANDLER);
+        LOGGER.setLevel(Level.parse(levelName));
+    }
+
+    /**
+     * Restores the default configuration.
+     */
+    public static void reset() {
+        LOGGER.removeHandler(DISCARDING_HANDLER);
+        LOGGER.setUseParentHandlers(true);
+        LOGGER.setLevel(null);
+    }
+
+    /**
+     * Formats every record and throws the result away.
+     */
+    private static final class DiscardingHandler extends Handler {
+
+        private final SimpleFormatter formatter = new SimpleFormatter();
+        private int sink;
+
+        @Override
+        public void publish(LogRecord record) {
+            sink += formatter.format(record).length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.csc205.project2.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * <p>Accepts the usual JMH command line (benchmark regex, {@code -p},
+ * {@code -f}, {@code -rf json}, ...) and always attaches the
+ * {@link GCProfiler}, so every run reports allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) alongside time.</p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // entry point only
+    }
+
+    /**
+     * Runs the selected benchmarks with the GC profiler enabled.
+     *
+     * @param args JMH command-line options
+     * @throws RunnerException            if JMH fails to run
+     * @throws CommandLineOptionException if the options cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
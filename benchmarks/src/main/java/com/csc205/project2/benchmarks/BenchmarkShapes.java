@@ -0,0 +1,76 @@
+package com.csc205.project2.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Builds deterministic shape fixtures for benchmarks.
+ */
+public final class BenchmarkShapes {
+
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private BenchmarkShapes() {
+        // static utility
+    }
+
+    /**
+     * Creates one shape of the given type with the given base dimension.
+     *
+     * @param type the shape type
+     * @param name the shape name
+     * @param size the base dimension; other dimensions are derived from it
+     * @return a new shape
+     */
+    public static Shape3D create(ShapeType type, String name, double size) {
+        return switch (type) {
+            case SPHERE -> new Sphere(name, "Red", size);
+            case CUBE -> new Cube(name, "Blue", size);
+            case CYLINDER -> new Cylinder(name, "Green", size, size * 2.0);
+            case RECTANGULAR_PRISM -> new RectangularPrism(name, "Yellow", size, size * 0.5, size * 1.5);
+            case CONE -> new Cone(name, "Purple", size, size * 3.0);
+        };
+    }
+
+    /**
+     * Changes the first dimension of a shape through its validated setter.
+     *
+     * @param shape the shape to mutate
+     * @param size  the new first dimension
+     */
+    public static void resize(Shape3D shape, double size) {
+        switch (ShapeType.of(shape)) {
+            case SPHERE -> ((Sphere) shape).setRadius(size);
+            case CUBE -> ((Cube) shape).setSideLength(size);
+            case CYLINDER -> ((Cylinder) shape).setRadius(size);
+            case RECTANGULAR_PRISM -> ((RectangularPrism) shape).setLength(size);
+            case CONE -> ((Cone) shape).setRadius(size);
+        }
+    }
+
+    /**
+     * Creates a list that cycles through all five types with pseudo-random
+     * dimensions, as a stand-in for a real catalog.
+     *
+     * @param count the number of shapes
+     * @param seed  the random seed
+     * @return a new mutable list
+     */
+    public static List<Shape3D> catalog(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shapes.add(create(TYPES[i % TYPES.length], "Shape " + i, 0.5 + random.nextDouble() * 20.0));
+        }
+        return shapes;
+    }
+}
@@ -0,0 +1,75 @@
+package com.csc205.project2.csg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Time for {@link MonteCarloVolume} to reach a relative tolerance on a small
+ * assembly: a rotated block, with a sphere cut out of one corner and a
+ * cylinder fused through it.
+ *
+ * <p>{@code tolerance} is the standard error as a fraction of the volume,
+ * so each tenfold tightening needs about a hundred times more samples
+ * wherever the solid's boundary crosses a cell.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class MonteCarloVolumeBenchmark {
+
+    @Param({"1e-3", "1e-4"})
+    private double tolerance;
+
+    private CompositeShape assembly;
+    private double absoluteTolerance;
+    private final MonteCarloVolume estimator = new MonteCarloVolume();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.configure("OFF");
+        Placement tilted = Placement.ORIGIN.rotated(1.0, 2.0, 0.5, 0.4);
+        Cube block = new Cube("Block", "Gray", 4.0);
+        block.setPlacement(tilted);
+        Sphere hole = new Sphere("Hole", "Gray", 1.5);
+        hole.setPlacement(Placement.at(2.0, 2.0, 2.0));
+        Cylinder shaft = new Cylinder("Shaft", "Gray", 0.75, 8.0);
+        shaft.setPlacement(Placement.alignedTo(0.0, 0.0, 0.0, 1.0, 1.0, 0.0));
+        assembly = CompositeShape.of(block)
+                .subtract(CompositeShape.of(hole))
+                .union(CompositeShape.of(shaft));
+        // Reference volume for turning the relative tolerance into cubic units.
+        absoluteTolerance = tolerance * estimator.estimate(assembly, 1e-3).getVolume();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public VolumeEstimate estimate() {
+        return estimator.estimate(assembly, absoluteTolerance);
+    }
+}
@@ -0,0 +1,122 @@
+package com.csc205.project2.kernels;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Point-cloud classification against one rotated shape.
+ *
+ * <p>Each operation classifies {@value #POINTS} points, and JMH reports the
+ * time per point, so {@code 1000 / score} is millions of points per
+ * second.</p>
+ *
+ * <ul>
+ *   <li>{@code containsLoop} — a plain loop over {@link Shape3D#contains}
+ *       into a {@link BitSet}</li>
+ *   <li>{@code scalarKernels} / {@code vectorKernels} — single-threaded
+ *       {@link ContainmentKernels} over the whole cloud</li>
+ *   <li>{@code classify} — {@link PointClassifier#classify}, which chunks the
+ *       cloud and runs the best kernels in parallel</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@OperationsPerInvocation(PointClassifierBenchmark.POINTS)
+public class PointClassifierBenchmark {
+
+    static final int POINTS = 1 << 22;
+
+    @Param({"SPHERE", "CUBE", "CYLINDER", "RECTANGULAR_PRISM", "CONE"})
+    private String type;
+
+    private Shape3D shape;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private long[] words;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.configure("OFF");
+        shape = switch (type) {
+            case "SPHERE" -> new Sphere("Ball", "Red", 2.5);
+            case "CUBE" -> new Cube("Box", "Blue", 3.0);
+            case "CYLINDER" -> new Cylinder("Pipe", "Green", 1.5, 4.0);
+            case "RECTANGULAR_PRISM" -> new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0);
+            default -> new Cone("Hat", "Purple", 3.0, 4.0);
+        };
+        shape.setPlacement(Placement.at(1.0, -2.0, 3.0).rotated(1.0, 1.0, 0.0, 0.7));
+        SplittableRandom random = new SplittableRandom(42L);
+        x = new double[POINTS];
+        y = new double[POINTS];
+        z = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            x[i] = 1.0 + random.nextDouble(-4.0, 4.0);
+            y[i] = -2.0 + random.nextDouble(-4.0, 4.0);
+            z[i] = 3.0 + random.nextDouble(-4.0, 4.0);
+        }
+        words = new long[POINTS / Long.SIZE];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public BitSet containsLoop() {
+        BitSet bits = new BitSet(POINTS);
+        for (int i = 0; i < POINTS; i++) {
+            if (shape.contains(x[i], y[i], z[i])) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    @Benchmark
+    public long[] scalarKernels() {
+        ContainmentKernels.scalar().classify(shape, x, y, z, 0, POINTS, words);
+        return words;
+    }
+
+    @Benchmark
+    public long[] vectorKernels() {
+        ContainmentKernels.vector().classify(shape, x, y, z, 0, POINTS, words);
+        return words;
+    }
+
+    @Benchmark
+    public BitSet classify() {
+        return PointClassifier.classify(shape, x, y, z);
+    }
+}
@@ -0,0 +1,124 @@
+package com.csc205.project2.mesh;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.benchmarks.BenchmarkShapes;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Exporting a placed assembly as binary STL with {@link StlWriter}.
+ *
+ * <p>Each operation is a cold export with a fresh {@link MeshCache}, at
+ * level of detail {@value #LOD} (16 segments per circle, about 69 triangles
+ * per shape), into a channel that discards the bytes, so the time is
+ * tessellation plus encoding rather than disk speed.</p>
+ *
+ * <ul>
+ *   <li>{@code parts = catalog} — every shape is one of
+ *       {@value #CATALOG_SIZES} standard sizes per type, so each distinct
+ *       part is tessellated once</li>
+ *   <li>{@code parts = unique} — every shape has its own random size, so
+ *       the cache fills and the remaining shapes are tessellated one by
+ *       one</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class StlExportBenchmark {
+
+    static final int LOD = 1;
+    static final int CATALOG_SIZES = 64;
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"catalog", "unique"})
+    private String parts;
+
+    private List<Shape3D> shapes;
+    private final DiscardChannel channel = new DiscardChannel();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.configure("OFF");
+        SplittableRandom random = new SplittableRandom(7L);
+        if (parts.equals("catalog")) {
+            shapes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                double standard = 0.5 + random.nextInt(CATALOG_SIZES) * 0.25;
+                shapes.add(BenchmarkShapes.create(TYPES[i % TYPES.length], "Part " + i, standard));
+            }
+        } else {
+            shapes = BenchmarkShapes.catalog(size, 42L);
+        }
+        double side = 40.0 * Math.cbrt(size);
+        for (Shape3D shape : shapes) {
+            shape.setPlacement(Placement.at(random.nextDouble() * side, random.nextDouble() * side,
+                            random.nextDouble() * side)
+                    .rotated(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5,
+                            random.nextDouble() * Math.PI));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public long export() throws Exception {
+        new StlWriter(new MeshCache(), LOD).write(shapes, channel);
+        return channel.written;
+    }
+
+    /** Accepts and drops every byte, counting them. */
+    private static final class DiscardChannel implements WritableByteChannel {
+
+        private long written;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int bytes = source.remaining();
+            source.position(source.limit());
+            written += bytes;
+            return bytes;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.csc205.project2.shapes;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.benchmarks.BenchmarkShapes;
+
+/**
+ * Per-shape cost of volume and surface-area reads, with logging off and on.
+ *
+ * <p>{@code getVolume}/{@code getSurfaceArea} measure the memoized read path,
+ * {@code calculate*} the raw formulas, and {@code resizeThenGetVolume} the
+ * full setter, invalidation and recalculation cycle.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ShapeCalculationBenchmark {
+
+    @Param({"SPHERE", "CUBE", "CYLINDER", "RECTANGULAR_PRISM", "CONE"})
+    private ShapeType type;
+
+    @Param({"OFF", "INFO"})
+    private String logLevel;
+
+    private Shape3D shape;
+    private double size;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.configure(logLevel);
+        size = 3.0;
+        shape = BenchmarkShapes.create(type, "Bench", size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkLogging.reset();
+    }
+
+    @Benchmark
+    public double getVolume() {
+        return shape.getVolume();
+    }
+
+    @Benchmark
+    public double getSurfaceArea() {
+        return shape.getSurfaceArea();
+    }
+
+    @Benchmark
+    public double calculateVolume() {
+        return shape.calculateVolume();
+    }
+
+    @Benchmark
+    public double calculateSurfaceArea() {
+        return shape.calculateSurfaceArea();
+    }
+
+    @Benchmark
+    public double resizeThenGetVolume() {
+        size = size == 3.0 ? 4.0 : 3.0;
+        BenchmarkShapes.resize(shape, size);
+        return shape.getVolume();
+    }
+}
@@ -0,0 +1,134 @@
+package com.csc205.project2.spatial;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.benchmarks.BenchmarkShapes;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Ray casting into a scene of placed shapes through {@link ShapeSpatialIndex}
+ * versus testing every shape.
+ *
+ * <p>The scene is built like {@link ShapeSpatialIndexBenchmark}'s: shapes at
+ * random positions and orientations in a cube that grows with the cube root
+ * of the shape count. The camera sits just outside one face and looks
+ * across the scene.</p>
+ *
+ * <ul>
+ *   <li>{@code raycastIndex} / {@code raycastScan} — one random ray through
+ *       the scene</li>
+ *   <li>{@code frame} — a {@value #WIDTH}&times;{@value #HEIGHT} batch of
+ *       primary camera rays cast with
+ *       {@link ShapeSpatialIndex#raycast(RayBatch)}</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class RayCastBenchmark {
+
+    static final int WIDTH = 320;
+    static final int HEIGHT = 240;
+    private static final int RAYS = 1_024;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<Shape3D> shapes;
+    private ShapeSpatialIndex index;
+    private double[] rays;
+    private RayBatch frame;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.configure("OFF");
+        shapes = BenchmarkShapes.catalog(size, 42L);
+        double side = 40.0 * Math.cbrt(size);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (Shape3D shape : shapes) {
+            shape.setPlacement(Placement.at(random.nextDouble() * side, random.nextDouble() * side,
+                            random.nextDouble() * side)
+                    .rotated(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5,
+                            random.nextDouble() * Math.PI));
+        }
+        index = ShapeSpatialIndex.build(shapes);
+
+        rays = new double[RAYS * 6];
+        for (int i = 0; i < rays.length; i += 6) {
+            rays[i] = random.nextDouble() * side;
+            rays[i + 1] = random.nextDouble() * side;
+            rays[i + 2] = random.nextDouble() * side;
+            rays[i + 3] = random.nextDouble() - 0.5;
+            rays[i + 4] = random.nextDouble() - 0.5;
+            rays[i + 5] = random.nextDouble() - 0.5;
+        }
+
+        // A pinhole camera centered on the z = 0 face, looking along +z with
+        // a 60 degree horizontal field of view.
+        frame = new RayBatch(WIDTH * HEIGHT);
+        double scale = Math.tan(Math.toRadians(30.0));
+        for (int row = 0; row < HEIGHT; row++) {
+            for (int column = 0; column < WIDTH; column++) {
+                double u = (2.0 * (column + 0.5) / WIDTH - 1.0) * scale;
+                double v = (2.0 * (row + 0.5) / HEIGHT - 1.0) * scale * HEIGHT / WIDTH;
+                frame.setRay(row * WIDTH + column, side / 2, side / 2, -1.0, u, v, 1.0);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.clear();
+        BenchmarkLogging.reset();
+    }
+
+    private int nextRay() {
+        next = (next + 1) & (RAYS - 1);
+        return next * 6;
+    }
+
+    @Benchmark
+    public RayHit raycastIndex() {
+        int r = nextRay();
+        return index.raycast(rays[r], rays[r + 1], rays[r + 2], rays[r + 3], rays[r + 4], rays[r + 5]);
+    }
+
+    @Benchmark
+    public double raycastScan() {
+        int r = nextRay();
+        double best = Double.POSITIVE_INFINITY;
+        for (Shape3D shape : shapes) {
+            best = Math.min(best, shape.intersect(rays[r], rays[r + 1], rays[r + 2],
+                    rays[r + 3], rays[r + 4], rays[r + 5], null));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public RayBatch frame() {
+        index.raycast(frame);
+        return frame;
+    }
+}
@@ -0,0 +1,144 @@
+package com.csc205.project2.spatial;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.csc205.project2.benchmarks.BenchmarkLogging;
+import com.csc205.project2.benchmarks.BenchmarkShapes;
+import com.csc205.project2.shapes.BoundingBox;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * {@link ShapeSpatialIndex} queries versus a linear scan over the shapes'
+ * bounding boxes, plus the cost of a parallel bulk build.
+ *
+ * <p>Shapes are placed uniformly at random, with random orientations, in a
+ * cube whose side grows with the cube root of the shape count, so the
+ * number of shapes per query region stays roughly constant across sizes and
+ * the index numbers show the {@code O(log n)} growth directly.</p>
+ *
+ * <ul>
+ *   <li>{@code build} — {@link ShapeSpatialIndex#build} from scratch</li>
+ *   <li>{@code regionIndex} / {@code regionScan} — shapes whose box meets a
+ *       small query box</li>
+ *   <li>{@code nearestIndex} / {@code nearestScan} — the shape whose box is
+ *       closest to a point</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ShapeSpatialIndexBenchmark {
+
+    private static final int QUERIES = 1_024;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<Shape3D> shapes;
+    private ShapeSpatialIndex index;
+    private BoundingBox[] regions;
+    private double[] points;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.configure("OFF");
+        shapes = BenchmarkShapes.catalog(size, 42L);
+        double side = 40.0 * Math.cbrt(size);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (Shape3D shape : shapes) {
+            shape.setPlacement(Placement.at(random.nextDouble() * side, random.nextDouble() * side,
+                            random.nextDouble() * side)
+                    .rotated(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5,
+                            random.nextDouble() * Math.PI));
+        }
+        index = ShapeSpatialIndex.build(shapes);
+        regions = new BoundingBox[QUERIES];
+        points = new double[QUERIES * 3];
+        for (int q = 0; q < QUERIES; q++) {
+            double x = random.nextDouble() * side;
+            double y = random.nextDouble() * side;
+            double z = random.nextDouble() * side;
+            regions[q] = BoundingBox.around(x, y, z, 40.0, 40.0, 40.0);
+            points[q * 3] = x;
+            points[q * 3 + 1] = y;
+            points[q * 3 + 2] = z;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.clear();
+        BenchmarkLogging.reset();
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERIES - 1);
+        return next;
+    }
+
+    @Benchmark
+    public ShapeSpatialIndex build() {
+        ShapeSpatialIndex built = ShapeSpatialIndex.build(shapes);
+        built.clear();
+        return built;
+    }
+
+    @Benchmark
+    public int regionIndex() {
+        return index.intersecting(regions[nextQuery()]).size();
+    }
+
+    @Benchmark
+    public int regionScan() {
+        BoundingBox region = regions[nextQuery()];
+        int count = 0;
+        for (Shape3D shape : shapes) {
+            if (shape.getBounds().intersects(region)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Shape3D nearestIndex() {
+        int q = nextQuery() * 3;
+        return index.nearest(points[q], points[q + 1], points[q + 2]);
+    }
+
+    @Benchmark
+    public Shape3D nearestScan() {
+        int q = nextQuery() * 3;
+        Shape3D best = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (Shape3D shape : shapes) {
+            double distance = shape.getBounds().distanceSquared(points[q], points[q + 1], points[q + 2]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = shape;
+            }
+        }
+        return best;
+    }
+}
@@ -1,10 +1,29 @@
 package com.csc205.project2;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.csc205.project2.analysis.DistributionStats;
+import com.csc205.project2.analysis.IncrementalShapeAnalysis;
+import com.csc205.project2.analysis.Metric;
+import com.csc205.project2.analysis.QuantileSketch;
+import com.csc205.project2.analysis.ShapeAnalysis;
+import com.csc205.project2.analysis.ShapeAnalyzer;
+import com.csc205.project2.analysis.ShapeRanker;
+import com.csc205.project2.analysis.ShapeRankings;
+import com.csc205.project2.batch.BatchOptions;
+import com.csc205.project2.batch.BatchProcessor;
+import com.csc205.project2.batch.BatchSummary;
+import com.csc205.project2.report.ShapeReportRenderer;
 import com.csc205.project2.shapes.Cone;
 import com.csc205.project2.shapes.Cube;
 import com.csc205.project2.shapes.Cylinder;
@@ -23,7 +42,12 @@ import com.csc205.project2.shapes.Sphere;
  *
  * <p>After the initial demonstration, the driver provides an interactive menu
  * that allows the user to create additional shapes with custom parameters,
- * view all shapes, and re-run the comparative analysis at any time.</p>
+ * view all shapes, re-run the comparative analysis, list the top and
+ * bottom shapes by each metric, and show per-type percentiles at any
+ * time.</p>
+ *
+ * <p>Given command-line arguments, the driver instead runs a non-interactive
+ * batch analysis of a shape file or standard input.</p>
  *
  * <p><strong>Design patterns demonstrated:</strong></p>
  * <ul>
@@ -46,6 +70,9 @@ public class ShapeDriver {
 
     private static final Logger LOGGER = Logger.getLogger(ShapeDriver.class.getName());
 
+    /** Read buffer size for batch input. */
+    private static final int BATCH_READ_BUFFER = 1 << 16;
+
     /**
      * Entry point for the 3D Shape Analysis System.
      *
@@ -53,9 +80,18 @@ public class ShapeDriver {
      * analysis, and then enters an interactive loop where the user can
      * create additional shapes with custom parameters.</p>
      *
-     * @param args command-line arguments (not used)
+     * <p>When arguments are given the driver runs in batch mode instead (see
+     * {@link BatchOptions}): shapes are streamed from a file or standard
+     * input, analysed, and reported without entering the menu.</p>
+     *
+     * @param args command-line arguments; empty for the interactive demo
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         LOGGER.info("Starting 3D Shape Analysis System...");
 
         // -- Build the shape collection (polymorphism in action) ------
@@ -80,6 +116,47 @@ public class ShapeDriver {
         runInteractiveMenu(shapes);
     }
 
+    // =================================================================
+    // Batch mode
+    // =================================================================
+
+    /**
+     * Runs batch mode with the given command-line arguments.
+     *
+     * <p>Invalid arguments and unreadable input are reported on
+     * {@code System.err}; nothing is read from the interactive menu.</p>
+     *
+     * @param args the command-line arguments
+     */
+    static void runBatch(String[] args) {
+        BatchOptions options;
+        try {
+            options = BatchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.err.println(BatchOptions.usage());
+            return;
+        }
+
+        LOGGER.info("Starting batch analysis of " + (options.isStdin() ? "standard input" : options.getInput()));
+        try (BufferedReader input = openBatchInput(options)) {
+            BatchSummary summary = new BatchProcessor(options).run(input, System.out, System.err);
+            LOGGER.info("Batch analysis finished: " + summary.getShapeCount() + " shapes, "
+                    + summary.getRejectedCount() + " lines skipped.");
+        } catch (IOException e) {
+            System.err.println("Cannot read batch input: " + e.getMessage());
+            LOGGER.warning("Batch input failed: " + e);
+        }
+    }
+
+    private static BufferedReader openBatchInput(BatchOptions options) throws IOException {
+        if (options.isStdin()) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), BATCH_READ_BUFFER);
+        }
+        return new BufferedReader(new InputStreamReader(
+                Files.newInputStream(Path.of(options.getInput())), StandardCharsets.UTF_8), BATCH_READ_BUFFER);
+    }
+
     // =================================================================
     // Display & Analysis helpers
     // =================================================================
@@ -89,62 +166,60 @@ public class ShapeDriver {
      * outputs the comparative analysis (largest volume, largest surface
      * area, and best volume-to-surface-area efficiency).
      *
+     * <p>The analysis itself is computed by {@link ShapeAnalyzer}, which
+     * switches to a parallel reduction for large lists; this method only
+     * formats the results. Output is rendered by
+     * {@link ShapeReportRenderer}, which buffers whole entries instead of
+     * issuing a {@code printf} per line.</p>
+     *
      * @param shapes the list of shapes to display and analyse
      */
     static void displayShapesAndAnalysis(List<Shape3D> shapes) {
+        displayShapesAndAnalysis(shapes, null);
+    }
+
+    /**
+     * Displays every shape and the comparative analysis, taking the analysis
+     * from an {@link IncrementalShapeAnalysis} that already tracks the list
+     * instead of rescanning it.
+     *
+     * @param shapes   the list of shapes to display
+     * @param analysis the incremental analysis tracking {@code shapes}, or
+     *                 {@code null} to analyse the list from scratch
+     */
+    static void displayShapesAndAnalysis(List<Shape3D> shapes, IncrementalShapeAnalysis analysis) {
         if (shapes.isEmpty()) {
             System.out.println("No shapes to display.");
             return;
         }
 
-        Shape3D largestVolumeShape = null;
-        double largestVolume = Double.NEGATIVE_INFINITY;
-
-        Shape3D largestSurfaceAreaShape = null;
-        double largestSurfaceArea = Double.NEGATIVE_INFINITY;
-
-        Shape3D mostEfficientShape = null;
-        double bestEfficiency = Double.NEGATIVE_INFINITY;
-
+        ShapeReportRenderer report = new ShapeReportRenderer(System.out);
         int index = 1;
         for (Shape3D shape : shapes) {
-            double volume = shape.getVolume();
-            double surfaceArea = shape.getSurfaceArea();
-            double efficiency = volume / surfaceArea;
-
-            System.out.printf("%d. %s%n", index, shape);
-            System.out.printf("   - Surface Area: %.2f square units%n", surfaceArea);
-            System.out.printf("   - Volume: %.2f cubic units%n", volume);
-            System.out.printf("   - Efficiency (V/SA): %.2f%n", efficiency);
-            System.out.println();
+            report.appendShapeEntry(index, shape);
 
-            LOGGER.info("Displayed shape #" + index + ": " + shape.getName());
-
-            if (volume > largestVolume) {
-                largestVolume = volume;
-                largestVolumeShape = shape;
-            }
-            if (surfaceArea > largestSurfaceArea) {
-                largestSurfaceArea = surfaceArea;
-                largestSurfaceAreaShape = shape;
-            }
-            if (efficiency > bestEfficiency) {
-                bestEfficiency = efficiency;
-                mostEfficientShape = shape;
+            if (LOGGER.isLoggable(Level.INFO)) {
+                LOGGER.info("Displayed shape #" + index + ": " + shape.getName());
             }
 
             index++;
         }
+        report.flush();
 
-        System.out.println("Analysis Results:");
-        System.out.printf("- Largest Volume: %s (%.2f)%n",
-                largestVolumeShape.getName(), largestVolume);
-        System.out.printf("- Largest Surface Area: %s (%.2f)%n",
-                largestSurfaceAreaShape.getName(), largestSurfaceArea);
-        System.out.printf("- Most Efficient (Volume/Surface): %s (%.2f)%n",
-                mostEfficientShape.getName(), bestEfficiency);
+        printAnalysis(analysis != null ? analysis.summary() : ShapeAnalyzer.analyze(shapes));
+    }
 
-        LOGGER.info("Analysis complete. Most efficient shape: " + mostEfficientShape.getName());
+    /**
+     * Prints the "Analysis Results" section for a completed analysis.
+     *
+     * @param analysis the analysis to print; must not be empty
+     */
+    static void printAnalysis(ShapeAnalysis analysis) {
+        ShapeReportRenderer report = new ShapeReportRenderer(System.out);
+        report.appendAnalysis(analysis);
+        report.flush();
+
+        LOGGER.info("Analysis complete. Most efficient shape: " + analysis.getMostEfficientShape().getName());
     }
 
     // =================================================================
@@ -153,12 +228,18 @@ public class ShapeDriver {
 
     /**
      * Presents an interactive menu that allows the user to create shapes
-     * with custom parameters, view all shapes, re-run analysis, or quit.
+     * with custom parameters, view all shapes, re-run analysis, show
+     * top/bottom rankings or distribution statistics, or quit.
+     *
+     * <p>The comparative analysis shown by option 2 is maintained by an
+     * {@link IncrementalShapeAnalysis} that is updated as shapes are created,
+     * so viewing it does not rescan the list.</p>
      *
      * @param shapes the mutable list of shapes to operate on
      */
     static void runInteractiveMenu(List<Shape3D> shapes) {
         Scanner scanner = new Scanner(System.in);
+        IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(shapes);
 
         System.out.println();
         System.out.println("=== Interactive Shape Creator ===");
@@ -170,34 +251,118 @@ public class ShapeDriver {
             System.out.println("  1. Create a new shape");
             System.out.println("  2. View all shapes & analysis");
             System.out.println("  3. Quit");
-            System.out.print("Choose an option (1-3): ");
+            System.out.println("  4. Show top/bottom rankings");
+            System.out.println("  5. Show distribution statistics");
+            System.out.print("Choose an option (1-5): ");
 
             String choice = scanner.nextLine().trim();
             switch (choice) {
                 case "1":
                     createShapeInteractively(scanner, shapes);
+                    for (int i = analysis.getCount(); i < shapes.size(); i++) {
+                        analysis.add(shapes.get(i));
+                    }
                     break;
                 case "2":
                     System.out.println();
                     System.out.println("=== All Shapes ===");
                     System.out.println();
-                    displayShapesAndAnalysis(shapes);
+                    displayShapesAndAnalysis(shapes, analysis);
                     break;
                 case "3":
                     running = false;
                     System.out.println("Goodbye!");
                     LOGGER.info("User exited interactive menu.");
                     break;
+                case "4":
+                    showRankings(scanner, shapes);
+                    break;
+                case "5":
+                    showDistributions(shapes);
+                    break;
                 default:
-                    System.out.println("Invalid option. Please enter 1, 2, or 3.");
+                    System.out.println("Invalid option. Please enter 1, 2, 3, 4, or 5.");
                     break;
             }
         }
 
+        analysis.clear();
         scanner.close();
         LOGGER.info("3D Shape Analysis System finished.");
     }
 
+    /**
+     * Prompts for K and prints the top-K and bottom-K shapes by every
+     * metric.
+     *
+     * <p>A blank answer uses {@link ShapeRanker#DEFAULT_LIMIT}. The rankings
+     * are computed by {@link ShapeRanker} with bounded heaps, so this stays
+     * cheap for catalogs far too large to sort.</p>
+     *
+     * @param scanner the {@code Scanner} used for console input
+     * @param shapes  the shapes to rank
+     */
+    static void showRankings(Scanner scanner, List<Shape3D> shapes) {
+        System.out.print("How many shapes per ranking? (default " + ShapeRanker.DEFAULT_LIMIT + "): ");
+        String answer = scanner.nextLine().trim();
+
+        int limit;
+        try {
+            limit = answer.isEmpty() ? ShapeRanker.DEFAULT_LIMIT : Integer.parseInt(answer);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format. Please enter a whole number.");
+            LOGGER.warning("Invalid ranking size from user: " + answer);
+            return;
+        }
+        if (limit <= 0) {
+            System.out.println("Invalid input: Ranking size must be greater than zero.");
+            LOGGER.warning("Invalid ranking size from user: " + limit);
+            return;
+        }
+
+        System.out.println();
+        System.out.println("=== Rankings ===");
+        if (shapes.isEmpty()) {
+            System.out.println("No shapes to display.");
+            return;
+        }
+
+        ShapeRankings<Shape3D> rankings = ShapeRanker.rank(shapes, limit);
+        ShapeReportRenderer report = new ShapeReportRenderer(System.out);
+        for (Metric metric : Metric.values()) {
+            report.newLine();
+            report.appendRanking("Top " + limit + " by " + metric.label() + ":", rankings.highest(metric));
+            report.appendRanking("Bottom " + limit + " by " + metric.label() + ":", rankings.lowest(metric));
+        }
+        report.flush();
+        LOGGER.info("Displayed top/bottom " + limit + " rankings for " + shapes.size() + " shapes.");
+    }
+
+    /**
+     * Prints the p50, p90, p99 and maximum of every metric for each shape
+     * type.
+     *
+     * <p>Percentiles come from {@link DistributionStats}, whose sketches are
+     * accurate to within {@link QuantileSketch#DEFAULT_RELATIVE_ACCURACY}
+     * and never need the values to be collected and sorted; the maximum is
+     * exact.</p>
+     *
+     * @param shapes the shapes to summarise
+     */
+    static void showDistributions(List<Shape3D> shapes) {
+        System.out.println();
+        System.out.println("=== Distribution Statistics ===");
+        if (shapes.isEmpty()) {
+            System.out.println("No shapes to display.");
+            return;
+        }
+
+        ShapeReportRenderer report = new ShapeReportRenderer(System.out);
+        report.appendDistributions(DistributionStats.of(shapes));
+        report.flush();
+        LOGGER.info("Displayed distribution statistics for " + shapes.size() + " shapes.");
+    }
+
     /**
      * Prompts the user to select a shape type and enter custom dimensions,
      * then creates the shape and adds it to the list.
@@ -267,9 +432,12 @@ public class ShapeDriver {
             shapes.add(newShape);
             System.out.println();
             System.out.println("Shape created successfully!");
-            System.out.printf("  %s%n", newShape);
-            System.out.printf("  - Surface Area: %.2f square units%n", newShape.getSurfaceArea());
-            System.out.printf("  - Volume: %.2f cubic units%n", newShape.getVolume());
+            ShapeReportRenderer report = new ShapeReportRenderer(System.out);
+            report.append("  ").appendShape(newShape).newLine();
+            report.append("  - Surface Area: ").appendFixed2(newShape.getSurfaceArea())
+                    .append(" square units").newLine();
+            report.append("  - Volume: ").appendFixed2(newShape.getVolume()).append(" cubic units").newLine();
+            report.flush();
             LOGGER.info("User created shape: " + newShape.getName());
 
         } catch (NumberFormatException e) {
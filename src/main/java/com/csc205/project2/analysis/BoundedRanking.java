@@ -0,0 +1,229 @@
+package com.csc205.project2.analysis;
+
+import java.util.stream.IntStream;
+
+/**
+ * Keeps the best {@code capacity} entries of a stream of
+ * {@code (value, ordinal)} pairs in a fixed-size binary heap.
+ *
+ * <p>The heap is rooted at the <em>worst</em> retained entry, so each offer
+ * costs one comparison when the entry does not qualify and
+ * {@code O(log capacity)} when it does; a pass over {@code n} values is
+ * {@code O(n log capacity)} with no per-entry allocation. Values and ordinals
+ * live in two parallel primitive arrays.</p>
+ *
+ * <p>Entries are ordered by value ({@link Order#HIGHEST} or
+ * {@link Order#LOWEST} first) and, among equal values, by ascending ordinal.
+ * Callers pass the position of the item in its source as the ordinal, so
+ * ties go to the item encountered first, as in {@link ShapeAnalysis}. Because
+ * the order is total, {@link #merge(BoundedRanking)} gives the same result
+ * regardless of how the input was partitioned or in which order partial
+ * rankings are merged. NaN values never rank and are ignored.</p>
+ *
+ * <p>Instances are not thread-safe; build one per thread and merge.</p>
+ *
+ * @see ShapeRanker
+ */
+public final class BoundedRanking {
+
+    /**
+     * Which end of the value range a ranking keeps.
+     */
+    public enum Order {
+        /** Largest values first (top-K). */
+        HIGHEST,
+        /** Smallest values first (bottom-K). */
+        LOWEST
+    }
+
+    private final int capacity;
+    private final Order order;
+    private final double[] values;
+    private final long[] ordinals;
+    private int size;
+
+    /**
+     * Creates an empty ranking.
+     *
+     * @param capacity the number of entries to keep; must be positive
+     * @param order    which end of the value range to keep
+     * @throws IllegalArgumentException if {@code capacity} is not positive or
+     *                                  {@code order} is {@code null}
+     */
+    public BoundedRanking(int capacity, Order order) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Order must not be null.");
+        }
+        this.capacity = capacity;
+        this.order = order;
+        this.values = new double[capacity];
+        this.ordinals = new long[capacity];
+    }
+
+    // ---------------------------------------------------------------
+    // Accumulation
+    // ---------------------------------------------------------------
+
+    /**
+     * Offers an entry, keeping it only if it ranks among the best
+     * {@code capacity} seen so far.
+     *
+     * @param value   the value to rank by; NaN is ignored
+     * @param ordinal the entry's position in its source, used to break ties
+     */
+    public void offer(double value, long ordinal) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (size < capacity) {
+            values[size] = value;
+            ordinals[size] = ordinal;
+            siftUp(size++);
+        } else if (ranksBefore(value, ordinal, values[0], ordinals[0])) {
+            values[0] = value;
+            ordinals[0] = ordinal;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Offers every entry of another ranking to this one.
+     *
+     * @param other a ranking with the same order
+     * @return this ranking
+     * @throws IllegalArgumentException if the orders differ
+     */
+    public BoundedRanking merge(BoundedRanking other) {
+        if (other.order != order) {
+            throw new IllegalArgumentException("Cannot merge rankings with different orders.");
+        }
+        for (int i = 0; i < other.size; i++) {
+            offer(other.values[i], other.ordinals[i]);
+        }
+        return this;
+    }
+
+    // ---------------------------------------------------------------
+    // Results
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the maximum number of entries kept.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns which end of the value range this ranking keeps.
+     *
+     * @return the order
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the number of entries currently kept.
+     *
+     * @return the size, at most {@link #getCapacity()}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kept ordinals, best first.
+     *
+     * @return a new array of {@link #size()} ordinals
+     */
+    public long[] ordinals() {
+        int[] sorted = sortedSlots();
+        long[] result = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            result[i] = ordinals[sorted[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the kept values, best first, aligned with {@link #ordinals()}.
+     *
+     * @return a new array of {@link #size()} values
+     */
+    public double[] values() {
+        int[] sorted = sortedSlots();
+        double[] result = new double[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            result[i] = values[sorted[i]];
+        }
+        return result;
+    }
+
+    private int[] sortedSlots() {
+        return IntStream.range(0, size)
+                .boxed()
+                .sorted((a, b) -> ranksBefore(values[a], ordinals[a], values[b], ordinals[b]) ? -1
+                        : ranksBefore(values[b], ordinals[b], values[a], ordinals[a]) ? 1 : 0)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // ---------------------------------------------------------------
+    // Heap maintenance
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns whether entry 1 ranks strictly before entry 2.
+     */
+    private boolean ranksBefore(double value1, long ordinal1, double value2, long ordinal2) {
+        if (value1 != value2) {
+            return order == Order.HIGHEST ? value1 > value2 : value1 < value2;
+        }
+        return ordinal1 < ordinal2;
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!ranksBefore(values[parent], ordinals[parent], values[slot], ordinals[slot])) {
+                return;
+            }
+            swap(parent, slot);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int worst = slot;
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            if (left < size && ranksBefore(values[worst], ordinals[worst], values[left], ordinals[left])) {
+                worst = left;
+            }
+            if (right < size && ranksBefore(values[worst], ordinals[worst], values[right], ordinals[right])) {
+                worst = right;
+            }
+            if (worst == slot) {
+                return;
+            }
+            swap(slot, worst);
+            slot = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+        long ordinal = ordinals[a];
+        ordinals[a] = ordinals[b];
+        ordinals[b] = ordinal;
+    }
+}
@@ -0,0 +1,182 @@
+package com.csc205.project2.analysis;
+
+import java.util.Collection;
+import java.util.stream.Collector;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Per-type distributions of volume, surface area and efficiency, kept as
+ * {@link QuantileSketch}es.
+ *
+ * <p>Each shape is measured once ({@code getVolume()} and
+ * {@code getSurfaceArea()}), and the three metric values are added to the
+ * sketches of its {@link ShapeType}. Sketches are only allocated for types
+ * that actually occur, and memory stays fixed regardless of how many shapes
+ * are added. During a parallel scan each worker fills its own instance
+ * through {@link #collector()} and the instances are merged at the end;
+ * merging is exact, so the result does not depend on how the input was
+ * split.</p>
+ *
+ * <p>Instances are not thread-safe; use one per thread and merge.</p>
+ *
+ * @see QuantileSketch
+ * @see ShapeAnalysis
+ */
+public final class DistributionStats {
+
+    private final double relativeAccuracy;
+    private final QuantileSketch[][] sketches = new QuantileSketch[ShapeType.values().length][];
+    private final long[] counts = new long[ShapeType.values().length];
+
+    /**
+     * Creates empty statistics with the default sketch accuracy.
+     */
+    public DistributionStats() {
+        this(QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param relativeAccuracy the relative accuracy of every sketch
+     * @throws IllegalArgumentException if {@code relativeAccuracy} is not
+     *                                  between 0 and 1
+     */
+    public DistributionStats(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0.0 && relativeAccuracy < 1.0)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1.");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+    }
+
+    /**
+     * Computes the statistics of a collection, in parallel if it holds at
+     * least {@link ShapeAnalyzer#PARALLEL_THRESHOLD} shapes.
+     *
+     * @param shapes the shapes to measure
+     * @return the statistics
+     */
+    public static DistributionStats of(Collection<? extends Shape3D> shapes) {
+        if (shapes.size() >= ShapeAnalyzer.PARALLEL_THRESHOLD) {
+            return shapes.parallelStream().collect(collector());
+        }
+        DistributionStats stats = new DistributionStats();
+        for (Shape3D shape : shapes) {
+            stats.accept(shape);
+        }
+        return stats;
+    }
+
+    /**
+     * Returns a collector that builds one instance per worker and merges
+     * them.
+     *
+     * @return the collector
+     */
+    public static Collector<Shape3D, DistributionStats, DistributionStats> collector() {
+        return Collector.of(DistributionStats::new, DistributionStats::accept, DistributionStats::merge,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    // ---------------------------------------------------------------
+    // Accumulation
+    // ---------------------------------------------------------------
+
+    /**
+     * Adds one shape.
+     *
+     * @param shape the shape to measure
+     */
+    public void accept(Shape3D shape) {
+        ShapeType type = ShapeType.of(shape);
+        QuantileSketch[] byMetric = sketchesFor(type);
+        counts[type.ordinal()]++;
+        double volume = shape.getVolume();
+        double surfaceArea = shape.getSurfaceArea();
+        for (Metric metric : Metric.values()) {
+            byMetric[metric.ordinal()].accept(metric.of(volume, surfaceArea));
+        }
+    }
+
+    /**
+     * Adds all values of another instance to this one.
+     *
+     * @param other statistics with the same relative accuracy
+     * @return this instance
+     * @throws IllegalArgumentException if the accuracies differ
+     */
+    public DistributionStats merge(DistributionStats other) {
+        for (ShapeType type : ShapeType.values()) {
+            QuantileSketch[] theirs = other.sketches[type.ordinal()];
+            if (theirs == null) {
+                continue;
+            }
+            QuantileSketch[] ours = sketchesFor(type);
+            counts[type.ordinal()] += other.counts[type.ordinal()];
+            for (int m = 0; m < ours.length; m++) {
+                ours[m].merge(theirs[m]);
+            }
+        }
+        return this;
+    }
+
+    private QuantileSketch[] sketchesFor(ShapeType type) {
+        QuantileSketch[] byMetric = sketches[type.ordinal()];
+        if (byMetric == null) {
+            byMetric = new QuantileSketch[Metric.values().length];
+            for (int m = 0; m < byMetric.length; m++) {
+                byMetric[m] = new QuantileSketch(relativeAccuracy);
+            }
+            sketches[type.ordinal()] = byMetric;
+        }
+        return byMetric;
+    }
+
+    // ---------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of shapes of the given type added so far,
+     * including shapes whose metrics are {@code NaN} and therefore left out
+     * of the sketches.
+     *
+     * @param type the shape type
+     * @return the count
+     */
+    public long getCount(ShapeType type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Returns a copy of the sketch of one metric for one type.
+     *
+     * @param type   the shape type
+     * @param metric the metric
+     * @return a sketch that is empty if no shape of {@code type} was added
+     */
+    public QuantileSketch getSketch(ShapeType type, Metric metric) {
+        QuantileSketch[] byMetric = sketches[type.ordinal()];
+        return byMetric == null
+                ? new QuantileSketch(relativeAccuracy)
+                : byMetric[metric.ordinal()].copy();
+    }
+
+    /**
+     * Returns the sketch of one metric over all types.
+     *
+     * @param metric the metric
+     * @return a new sketch merging every type
+     */
+    public QuantileSketch getSketch(Metric metric) {
+        QuantileSketch all = new QuantileSketch(relativeAccuracy);
+        for (QuantileSketch[] byMetric : sketches) {
+            if (byMetric != null) {
+                all.merge(byMetric[metric.ordinal()]);
+            }
+        }
+        return all;
+    }
+}
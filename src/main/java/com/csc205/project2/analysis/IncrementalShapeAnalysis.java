@@ -0,0 +1,346 @@
+package com.csc205.project2.analysis;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ToDoubleFunction;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeChangeListener;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Comparative analysis that is kept up to date as shapes are added, removed
+ * and resized, instead of being recomputed from scratch.
+ *
+ * <p>Every tracked shape has an entry holding the volume, surface area and
+ * efficiency it had when it was last seen. For each metric the entries sit in
+ * a sorted set ordered by value, descending, and then by the order in which
+ * the shapes were added, so the head of each set is the winner that
+ * {@link ShapeAnalysis} would pick for the same shapes in the same order.
+ * Adding, removing or resizing a shape is therefore {@code O(log n)}, and
+ * {@link #summary()} is {@code O(1)}.</p>
+ *
+ * <p>The analysis registers itself as a {@link ShapeChangeListener} on every
+ * shape it tracks, so calling a dimension setter on a tracked shape updates
+ * the results immediately. Name and color changes do not affect any metric
+ * and are ignored. Call {@link #clear()} when the analysis is no longer
+ * needed to detach it from the shapes.</p>
+ *
+ * <p>Totals are kept with Neumaier-compensated summation, which also
+ * compensates the subtractions made when a shape is removed or resized.
+ * Non-finite values are counted separately rather than summed, so removing a
+ * shape whose volume was infinite or {@code NaN} restores a finite total.</p>
+ *
+ * <p>Design patterns demonstrated:</p>
+ * <ul>
+ *   <li><b>Observer</b> &ndash; shapes push dimension changes to the
+ *       analysis rather than the analysis polling for them.</li>
+ *   <li><b>Materialized view</b> &ndash; the summary is maintained as the
+ *       data changes, so reading it never rescans the collection.</li>
+ * </ul>
+ *
+ * <p>Instances are not thread-safe. Shapes must be resized on the thread
+ * that owns the analysis.</p>
+ *
+ * @see ShapeAnalysis
+ * @see ShapeAnalyzer
+ */
+public final class IncrementalShapeAnalysis {
+
+    private static final Comparator<Entry> BY_VOLUME = byMetric(e -> e.volume);
+    private static final Comparator<Entry> BY_SURFACE_AREA = byMetric(e -> e.surfaceArea);
+    private static final Comparator<Entry> BY_EFFICIENCY = byMetric(e -> e.efficiency);
+
+    private final Map<Shape3D, Entry> entries = new IdentityHashMap<>();
+    private final TreeSet<Entry> byVolume = new TreeSet<>(BY_VOLUME);
+    private final TreeSet<Entry> bySurfaceArea = new TreeSet<>(BY_SURFACE_AREA);
+    private final TreeSet<Entry> byEfficiency = new TreeSet<>(BY_EFFICIENCY);
+
+    private final ReversibleSum totalVolume = new ReversibleSum();
+    private final ReversibleSum totalSurfaceArea = new ReversibleSum();
+    private final long[] countsByType = new long[ShapeType.values().length];
+
+    private final ShapeChangeListener listener = this::refresh;
+    private long nextSequence;
+
+    /**
+     * Creates an empty analysis.
+     */
+    public IncrementalShapeAnalysis() {
+        // starts empty
+    }
+
+    /**
+     * Creates an analysis that tracks the given shapes, in iteration order.
+     *
+     * @param shapes the shapes to track
+     * @return the new analysis
+     */
+    public static IncrementalShapeAnalysis of(Iterable<? extends Shape3D> shapes) {
+        IncrementalShapeAnalysis analysis = new IncrementalShapeAnalysis();
+        for (Shape3D shape : shapes) {
+            analysis.add(shape);
+        }
+        return analysis;
+    }
+
+    // ---------------------------------------------------------------
+    // Updates
+    // ---------------------------------------------------------------
+
+    /**
+     * Starts tracking a shape. The shape counts as coming after every shape
+     * already tracked when breaking ties.
+     *
+     * @param shape the shape to add
+     * @return {@code true} if the shape was added, {@code false} if this
+     *         exact instance is already tracked
+     * @throws IllegalArgumentException if {@code shape} is {@code null}
+     */
+    public boolean add(Shape3D shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        if (entries.containsKey(shape)) {
+            return false;
+        }
+        Entry entry = new Entry(shape, ShapeType.of(shape), nextSequence++);
+        entries.put(shape, entry);
+        countsByType[entry.type.ordinal()]++;
+        insert(entry);
+        shape.addChangeListener(listener);
+        return true;
+    }
+
+    /**
+     * Stops tracking a shape.
+     *
+     * @param shape the shape to remove
+     * @return {@code true} if the shape was tracked
+     */
+    public boolean remove(Shape3D shape) {
+        Entry entry = entries.remove(shape);
+        if (entry == null) {
+            return false;
+        }
+        shape.removeChangeListener(listener);
+        unlink(entry);
+        countsByType[entry.type.ordinal()]--;
+        return true;
+    }
+
+    /**
+     * Stops tracking every shape and detaches the analysis from them.
+     */
+    public void clear() {
+        for (Shape3D shape : entries.keySet()) {
+            shape.removeChangeListener(listener);
+        }
+        entries.clear();
+        byVolume.clear();
+        bySurfaceArea.clear();
+        byEfficiency.clear();
+        totalVolume.reset();
+        totalSurfaceArea.reset();
+        Arrays.fill(countsByType, 0);
+    }
+
+    /**
+     * Re-reads the metrics of a tracked shape. Called automatically when a
+     * dimension setter runs; only needed directly if a shape's values could
+     * change some other way.
+     *
+     * @param shape the shape to refresh
+     */
+    public void refresh(Shape3D shape) {
+        Entry entry = entries.get(shape);
+        if (entry != null) {
+            unlink(entry);
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry entry) {
+        entry.volume = entry.shape.getVolume();
+        entry.surfaceArea = entry.shape.getSurfaceArea();
+        entry.efficiency = entry.volume / entry.surfaceArea;
+        // NaN never wins a strict comparison in ShapeAnalysis, so it never ranks here either
+        if (!Double.isNaN(entry.volume)) {
+            byVolume.add(entry);
+        }
+        if (!Double.isNaN(entry.surfaceArea)) {
+            bySurfaceArea.add(entry);
+        }
+        if (!Double.isNaN(entry.efficiency)) {
+            byEfficiency.add(entry);
+        }
+        totalVolume.add(entry.volume);
+        totalSurfaceArea.add(entry.surfaceArea);
+    }
+
+    /** Removes the entry's recorded values; must run before they are overwritten. */
+    private void unlink(Entry entry) {
+        byVolume.remove(entry);
+        bySurfaceArea.remove(entry);
+        byEfficiency.remove(entry);
+        totalVolume.subtract(entry.volume);
+        totalSurfaceArea.subtract(entry.surfaceArea);
+    }
+
+    // ---------------------------------------------------------------
+    // Results
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of tracked shapes.
+     *
+     * @return the shape count
+     */
+    public int getCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns whether the analysis tracks the given shape instance.
+     *
+     * @param shape the shape to look up
+     * @return {@code true} if it is tracked
+     */
+    public boolean contains(Shape3D shape) {
+        return entries.containsKey(shape);
+    }
+
+    /**
+     * Returns the current results as a {@link ShapeAnalysis}. The result is a
+     * snapshot and does not change when the tracked shapes do.
+     *
+     * @return the analysis results
+     */
+    public ShapeAnalysis summary() {
+        Entry volume = byVolume.isEmpty() ? null : byVolume.first();
+        Entry surfaceArea = bySurfaceArea.isEmpty() ? null : bySurfaceArea.first();
+        Entry efficiency = byEfficiency.isEmpty() ? null : byEfficiency.first();
+        return ShapeAnalysis.of(
+                volume == null ? null : volume.shape,
+                volume == null ? Double.NEGATIVE_INFINITY : volume.volume,
+                surfaceArea == null ? null : surfaceArea.shape,
+                surfaceArea == null ? Double.NEGATIVE_INFINITY : surfaceArea.surfaceArea,
+                efficiency == null ? null : efficiency.shape,
+                efficiency == null ? Double.NEGATIVE_INFINITY : efficiency.efficiency,
+                totalVolume.value(), totalSurfaceArea.value(), countsByType);
+    }
+
+    // ---------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------
+
+    private static Comparator<Entry> byMetric(ToDoubleFunction<Entry> metric) {
+        return (a, b) -> {
+            int byValue = Double.compare(metric.applyAsDouble(b), metric.applyAsDouble(a));
+            return byValue != 0 ? byValue : Long.compare(a.sequence, b.sequence);
+        };
+    }
+
+    /** A tracked shape and the metric values it is currently filed under. */
+    private static final class Entry {
+        final Shape3D shape;
+        final ShapeType type;
+        final long sequence;
+        double volume;
+        double surfaceArea;
+        double efficiency;
+
+        Entry(Shape3D shape, ShapeType type, long sequence) {
+            this.shape = shape;
+            this.type = type;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Neumaier-compensated sum that supports removing values. Infinite and
+     * {@code NaN} terms are counted instead of summed so they can be removed
+     * again without poisoning the finite part. A finite term that would push
+     * the running sum past {@code Double.MAX_VALUE} goes into a separate
+     * overflow sum, scaled down by 2<sup>-64</sup> (exact for such large
+     * values), so the total reads as infinite while it lasts and becomes
+     * finite again once enough is removed, at which point it is folded back
+     * into the compensated sum.
+     */
+    private static final class ReversibleSum {
+        private static final double OVERFLOW_SCALE = 0x1p-64;
+
+        private double sum;
+        private double compensation;
+        private double scaledOverflow;
+        private long nanTerms;
+        private long positiveInfiniteTerms;
+        private long negativeInfiniteTerms;
+
+        void add(double value) {
+            update(value, 1);
+        }
+
+        void subtract(double value) {
+            update(value, -1);
+        }
+
+        private void update(double value, int delta) {
+            if (Double.isNaN(value)) {
+                nanTerms += delta;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                positiveInfiniteTerms += delta;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                negativeInfiniteTerms += delta;
+            } else {
+                double term = delta * value;
+                if (!accumulate(term)) {
+                    scaledOverflow += term * OVERFLOW_SCALE;
+                } else if (scaledOverflow != 0 && accumulate(scaledOverflow / OVERFLOW_SCALE)) {
+                    scaledOverflow = 0;
+                }
+            }
+        }
+
+        /** Adds {@code term} to the finite sum unless that would overflow. */
+        private boolean accumulate(double term) {
+            double next = sum + term;
+            if (!Double.isFinite(next)) {
+                return false;
+            }
+            compensation += Math.abs(sum) >= Math.abs(term)
+                    ? (sum - next) + term
+                    : (term - next) + sum;
+            sum = next;
+            return true;
+        }
+
+        double value() {
+            if (nanTerms > 0 || (positiveInfiniteTerms > 0 && negativeInfiniteTerms > 0)) {
+                return Double.NaN;
+            }
+            if (positiveInfiniteTerms > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (negativeInfiniteTerms > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            if (scaledOverflow == 0) {
+                return sum + compensation;
+            }
+            return ((sum + compensation) * OVERFLOW_SCALE + scaledOverflow) / OVERFLOW_SCALE;
+        }
+
+        void reset() {
+            sum = 0;
+            compensation = 0;
+            scaledOverflow = 0;
+            nanTerms = 0;
+            positiveInfiniteTerms = 0;
+            negativeInfiniteTerms = 0;
+        }
+    }
+}
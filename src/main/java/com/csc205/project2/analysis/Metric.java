@@ -0,0 +1,66 @@
+package com.csc205.project2.analysis;
+
+import com.csc205.project2.shapes.ThreeDimensionalShape;
+
+/**
+ * The per-shape quantities that the analysis layer ranks and summarises.
+ *
+ * <p>Efficiency is the volume-to-surface-area ratio used throughout the
+ * driver's report.</p>
+ */
+public enum Metric {
+
+    /** Volume in cubic units. */
+    VOLUME("Volume"),
+
+    /** Surface area in square units. */
+    SURFACE_AREA("Surface Area"),
+
+    /** Volume divided by surface area. */
+    EFFICIENCY("Efficiency (V/SA)");
+
+    private final String label;
+
+    Metric(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the label used for this metric in reports.
+     *
+     * @return the human-readable label
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Returns this metric of the given shape.
+     *
+     * @param shape the shape to measure
+     * @return the metric value
+     */
+    public double of(ThreeDimensionalShape shape) {
+        return switch (this) {
+            case VOLUME -> shape.getVolume();
+            case SURFACE_AREA -> shape.getSurfaceArea();
+            case EFFICIENCY -> shape.getVolume() / shape.getSurfaceArea();
+        };
+    }
+
+    /**
+     * Returns this metric given a shape's already computed volume and
+     * surface area.
+     *
+     * @param volume      the shape's volume
+     * @param surfaceArea the shape's surface area
+     * @return the metric value
+     */
+    public double of(double volume, double surfaceArea) {
+        return switch (this) {
+            case VOLUME -> volume;
+            case SURFACE_AREA -> surfaceArea;
+            case EFFICIENCY -> volume / surfaceArea;
+        };
+    }
+}
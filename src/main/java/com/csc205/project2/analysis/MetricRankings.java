@@ -0,0 +1,55 @@
+package com.csc205.project2.analysis;
+
+/**
+ * Mutable accumulator holding a highest and a lowest
+ * {@link BoundedRanking} for every {@link Metric}.
+ *
+ * <p>Used as the per-thread container of {@link ShapeRanker}'s parallel
+ * passes; {@link #merge(MetricRankings)} combines two partial results.</p>
+ */
+final class MetricRankings {
+
+    private final int limit;
+    private final BoundedRanking[] highest = new BoundedRanking[Metric.values().length];
+    private final BoundedRanking[] lowest = new BoundedRanking[Metric.values().length];
+
+    MetricRankings(int limit) {
+        this.limit = limit;
+        for (Metric metric : Metric.values()) {
+            highest[metric.ordinal()] = new BoundedRanking(limit, BoundedRanking.Order.HIGHEST);
+            lowest[metric.ordinal()] = new BoundedRanking(limit, BoundedRanking.Order.LOWEST);
+        }
+    }
+
+    /**
+     * Offers one item, given its volume and surface area, to all six
+     * rankings.
+     */
+    void accept(long ordinal, double volume, double surfaceArea) {
+        for (Metric metric : Metric.values()) {
+            double value = metric.of(volume, surfaceArea);
+            highest[metric.ordinal()].offer(value, ordinal);
+            lowest[metric.ordinal()].offer(value, ordinal);
+        }
+    }
+
+    MetricRankings merge(MetricRankings other) {
+        for (int i = 0; i < highest.length; i++) {
+            highest[i].merge(other.highest[i]);
+            lowest[i].merge(other.lowest[i]);
+        }
+        return this;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    BoundedRanking highest(Metric metric) {
+        return highest[metric.ordinal()];
+    }
+
+    BoundedRanking lowest(Metric metric) {
+        return lowest[metric.ordinal()];
+    }
+}
@@ -0,0 +1,239 @@
+package com.csc205.project2.analysis;
+
+/**
+ * Fixed-memory, mergeable quantile sketch with a guaranteed relative error.
+ *
+ * <p>Positive values are counted in logarithmically sized buckets: bucket
+ * {@code i} holds the values in {@code (γ^(i-1), γ^i]} with
+ * {@code γ = (1 + α) / (1 - α)}, where {@code α} is the relative accuracy.
+ * A quantile is answered with the midpoint (in the relative sense) of the
+ * bucket that holds the value of that rank, so for any value between
+ * {@link #MIN_INDEXABLE_VALUE} and {@link #MAX_INDEXABLE_VALUE} the answer is
+ * within {@code α} of the exact quantile. The bucket array is allocated once
+ * (about 3,500 counters at the default 1% accuracy) and never grows.</p>
+ *
+ * <p>Values below {@link #MIN_INDEXABLE_VALUE} (including zero and negative
+ * values) share one bucket, answered with the exact minimum, and values
+ * above {@link #MAX_INDEXABLE_VALUE} share another, answered with the exact
+ * maximum. All answers are clamped to the exact minimum and maximum, which
+ * are tracked separately. NaN is ignored.</p>
+ *
+ * <p>Two sketches with the same accuracy can be merged by adding their
+ * counters, which is exact: merging per-thread sketches gives the same
+ * answers as one sketch fed all the values. Instances are not
+ * thread-safe.</p>
+ *
+ * @see DistributionStats
+ */
+public final class QuantileSketch {
+
+    /** Relative accuracy used when none is given (1%). */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    /** Smallest value counted in its own bucket. */
+    public static final double MIN_INDEXABLE_VALUE = 1e-12;
+
+    /** Largest value counted in its own bucket. */
+    public static final double MAX_INDEXABLE_VALUE = 1e18;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int minIndex;
+    private final long[] counts;
+
+    private long lowCount;
+    private long highCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates an empty sketch with {@link #DEFAULT_RELATIVE_ACCURACY}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param relativeAccuracy the maximum relative error of quantiles;
+     *                         must be between 0 and 1 (exclusive)
+     * @throws IllegalArgumentException if {@code relativeAccuracy} is out of
+     *                                  range
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0.0 && relativeAccuracy < 1.0)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1.");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1.0 + relativeAccuracy) / (1.0 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.minIndex = rawIndex(MIN_INDEXABLE_VALUE);
+        this.counts = new long[rawIndex(MAX_INDEXABLE_VALUE) - minIndex + 1];
+    }
+
+    private QuantileSketch(QuantileSketch source) {
+        this.relativeAccuracy = source.relativeAccuracy;
+        this.gamma = source.gamma;
+        this.logGamma = source.logGamma;
+        this.minIndex = source.minIndex;
+        this.counts = source.counts.clone();
+        this.lowCount = source.lowCount;
+        this.highCount = source.highCount;
+        this.count = source.count;
+        this.min = source.min;
+        this.max = source.max;
+    }
+
+    private int rawIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    // ---------------------------------------------------------------
+    // Accumulation
+    // ---------------------------------------------------------------
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value to add; NaN is ignored
+     */
+    public void accept(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        count++;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+        if (value < MIN_INDEXABLE_VALUE) {
+            lowCount++;
+        } else if (value > MAX_INDEXABLE_VALUE) {
+            highCount++;
+        } else {
+            counts[rawIndex(value) - minIndex]++;
+        }
+    }
+
+    /**
+     * Adds all values of another sketch to this one.
+     *
+     * @param other a sketch with the same relative accuracy
+     * @return this sketch
+     * @throws IllegalArgumentException if the accuracies differ
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracies.");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        lowCount += other.lowCount;
+        highCount += other.highCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Returns an independent copy of this sketch.
+     *
+     * @return a new sketch with the same contents
+     */
+    public QuantileSketch copy() {
+        return new QuantileSketch(this);
+    }
+
+    // ---------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the approximate value at quantile {@code q}, i.e. the value of
+     * rank {@code q * (count - 1)} in sorted order, within the sketch's
+     * relative accuracy.
+     *
+     * @param q the quantile, from 0 to 1 inclusive
+     * @return the approximate quantile, or NaN if the sketch is empty
+     * @throws IllegalArgumentException if {@code q} is out of range
+     */
+    public double quantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1.");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0.0) {
+            return min;
+        }
+        if (q == 1.0) {
+            return max;
+        }
+        double rank = q * (count - 1);
+        long cumulative = lowCount;
+        if (cumulative > rank) {
+            return min;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative > rank) {
+                double estimate = 2.0 * Math.pow(gamma, i + minIndex) / (gamma + 1.0);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the relative accuracy this sketch was created with.
+     *
+     * @return the relative accuracy
+     */
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the exact smallest value added.
+     *
+     * @return the minimum, or NaN if the sketch is empty
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Returns the exact largest value added.
+     *
+     * @return the maximum, or NaN if the sketch is empty
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Returns whether no values have been added.
+     *
+     * @return {@code true} if the sketch is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.csc205.project2.analysis;
+
+/**
+ * One entry of a ranking: an item, its metric value and its 1-based rank.
+ *
+ * @param <T> the type of the ranked item
+ * @see ShapeRankings
+ */
+public final class Ranked<T> {
+
+    private final int rank;
+    private final T item;
+    private final double value;
+
+    Ranked(int rank, T item, double value) {
+        this.rank = rank;
+        this.item = item;
+        this.value = value;
+    }
+
+    /**
+     * Returns the 1-based position of this entry in its ranking.
+     *
+     * @return the rank
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the ranked item.
+     *
+     * @return the item
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Returns the metric value the item was ranked by.
+     *
+     * @return the value
+     */
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return rank + ". " + item + " (" + value + ")";
+    }
+}
@@ -0,0 +1,312 @@
+package com.csc205.project2.analysis;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Mergeable accumulator for the comparative analysis of a collection of
+ * shapes: largest volume, largest surface area, best volume-to-surface-area
+ * efficiency, totals and counts.
+ *
+ * <p>{@link #accept(Shape3D)} applies exactly the rules of the original
+ * {@code ShapeDriver} loop: a shape only replaces the current winner of a
+ * metric if its value is <em>strictly</em> greater, so among equal values the
+ * first shape encountered wins. {@link #merge(ShapeAnalysis)} treats its
+ * argument as the part of the collection that comes <em>after</em> this one
+ * and applies the same strict comparison, so combining partial results in
+ * encounter order produces the same winners as a single sequential pass.</p>
+ *
+ * <p>Totals are kept with Neumaier-compensated summation. Merging partial
+ * sums changes the order of additions, so totals computed in parallel agree
+ * with sequential ones to within rounding rather than bit for bit. A total
+ * that overflows is positive infinity, as a plain sum would be, never
+ * {@code NaN}.</p>
+ *
+ * <p>Instances are not thread-safe; use one per thread and merge, which is
+ * what {@link #collector()} does.</p>
+ *
+ * @see ShapeAnalyzer
+ */
+public final class ShapeAnalysis {
+
+    private Shape3D largestVolumeShape;
+    private double largestVolume = Double.NEGATIVE_INFINITY;
+
+    private Shape3D largestSurfaceAreaShape;
+    private double largestSurfaceArea = Double.NEGATIVE_INFINITY;
+
+    private Shape3D mostEfficientShape;
+    private double bestEfficiency = Double.NEGATIVE_INFINITY;
+
+    private double volumeSum;
+    private double volumeCompensation;
+    private double surfaceAreaSum;
+    private double surfaceAreaCompensation;
+
+    private long count;
+    private final long[] countsByType = new long[ShapeType.values().length];
+
+    /**
+     * Creates an empty analysis.
+     */
+    public ShapeAnalysis() {
+        // starts empty
+    }
+
+    /**
+     * Creates a finished analysis from results that were maintained
+     * elsewhere, such as by {@link IncrementalShapeAnalysis}.
+     *
+     * @param counts shape counts indexed by {@link ShapeType#ordinal()};
+     *               copied
+     */
+    static ShapeAnalysis of(Shape3D largestVolumeShape, double largestVolume,
+                            Shape3D largestSurfaceAreaShape, double largestSurfaceArea,
+                            Shape3D mostEfficientShape, double bestEfficiency,
+                            double totalVolume, double totalSurfaceArea, long[] counts) {
+        ShapeAnalysis analysis = new ShapeAnalysis();
+        analysis.largestVolumeShape = largestVolumeShape;
+        analysis.largestVolume = largestVolume;
+        analysis.largestSurfaceAreaShape = largestSurfaceAreaShape;
+        analysis.largestSurfaceArea = largestSurfaceArea;
+        analysis.mostEfficientShape = mostEfficientShape;
+        analysis.bestEfficiency = bestEfficiency;
+        analysis.volumeSum = totalVolume;
+        analysis.surfaceAreaSum = totalSurfaceArea;
+        for (int i = 0; i < counts.length; i++) {
+            analysis.countsByType[i] = counts[i];
+            analysis.count += counts[i];
+        }
+        return analysis;
+    }
+
+    /**
+     * Returns a collector that builds a {@code ShapeAnalysis} from a stream of
+     * shapes. On an ordered parallel stream, partial results are combined in
+     * encounter order, so tie-breaking matches a sequential pass.
+     *
+     * @return a collector producing a {@code ShapeAnalysis}
+     */
+    public static Collector<Shape3D, ShapeAnalysis, ShapeAnalysis> collector() {
+        Supplier<ShapeAnalysis> supplier = ShapeAnalysis::new;
+        BiConsumer<ShapeAnalysis, Shape3D> accumulator = ShapeAnalysis::accept;
+        BinaryOperator<ShapeAnalysis> combiner = ShapeAnalysis::merge;
+        return Collector.of(supplier, accumulator, combiner, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // ---------------------------------------------------------------
+    // Accumulation
+    // ---------------------------------------------------------------
+
+    /**
+     * Adds one shape to the analysis.
+     *
+     * @param shape the next shape in encounter order
+     */
+    public void accept(Shape3D shape) {
+        double volume = shape.getVolume();
+        double surfaceArea = shape.getSurfaceArea();
+        double efficiency = volume / surfaceArea;
+
+        if (volume > largestVolume) {
+            largestVolume = volume;
+            largestVolumeShape = shape;
+        }
+        if (surfaceArea > largestSurfaceArea) {
+            largestSurfaceArea = surfaceArea;
+            largestSurfaceAreaShape = shape;
+        }
+        if (efficiency > bestEfficiency) {
+            bestEfficiency = efficiency;
+            mostEfficientShape = shape;
+        }
+
+        addVolume(volume);
+        addSurfaceArea(surfaceArea);
+        countsByType[ShapeType.of(shape).ordinal()]++;
+        count++;
+    }
+
+    /**
+     * Folds the results of {@code later} into this analysis, treating every
+     * shape in {@code later} as coming after every shape already accepted
+     * here.
+     *
+     * @param later the analysis of the following part of the collection
+     * @return this analysis
+     */
+    public ShapeAnalysis merge(ShapeAnalysis later) {
+        if (later.largestVolume > largestVolume) {
+            largestVolume = later.largestVolume;
+            largestVolumeShape = later.largestVolumeShape;
+        }
+        if (later.largestSurfaceArea > largestSurfaceArea) {
+            largestSurfaceArea = later.largestSurfaceArea;
+            largestSurfaceAreaShape = later.largestSurfaceAreaShape;
+        }
+        if (later.bestEfficiency > bestEfficiency) {
+            bestEfficiency = later.bestEfficiency;
+            mostEfficientShape = later.mostEfficientShape;
+        }
+
+        addVolume(later.volumeSum);
+        addVolume(later.volumeCompensation);
+        addSurfaceArea(later.surfaceAreaSum);
+        addSurfaceArea(later.surfaceAreaCompensation);
+        for (int i = 0; i < countsByType.length; i++) {
+            countsByType[i] += later.countsByType[i];
+        }
+        count += later.count;
+        return this;
+    }
+
+    private void addVolume(double value) {
+        double sum = volumeSum + value;
+        volumeCompensation += compensation(volumeSum, value, sum);
+        volumeSum = sum;
+    }
+
+    private void addSurfaceArea(double value) {
+        double sum = surfaceAreaSum + value;
+        surfaceAreaCompensation += compensation(surfaceAreaSum, value, sum);
+        surfaceAreaSum = sum;
+    }
+
+    /**
+     * Returns Neumaier's correction for {@code sum = a + b}. Once the sum is
+     * infinite or {@code NaN} the correction would be {@code Inf - Inf}, so
+     * it is zero instead and the plain sum, which already carries the right
+     * infinity or {@code NaN}, becomes the total.
+     */
+    private static double compensation(double a, double b, double sum) {
+        if (!Double.isFinite(sum)) {
+            return 0.0;
+        }
+        return Math.abs(a) >= Math.abs(b) ? (a - sum) + b : (b - sum) + a;
+    }
+
+    // ---------------------------------------------------------------
+    // Results
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns whether no shapes have been analysed.
+     *
+     * @return {@code true} if {@link #getCount()} is zero
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of shapes analysed.
+     *
+     * @return the shape count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of shapes of one type.
+     *
+     * @param type the shape type
+     * @return the count for {@code type}
+     */
+    public long getCount(ShapeType type) {
+        return countsByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of shapes of every type.
+     *
+     * @return an unmodifiable map from type to count, in enum order
+     */
+    public Map<ShapeType, Long> getCountsByType() {
+        Map<ShapeType, Long> counts = new EnumMap<>(ShapeType.class);
+        for (ShapeType type : ShapeType.values()) {
+            counts.put(type, countsByType[type.ordinal()]);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the first shape with the largest volume.
+     *
+     * @return the shape, or {@code null} if the analysis is empty
+     */
+    public Shape3D getLargestVolumeShape() {
+        return largestVolumeShape;
+    }
+
+    /**
+     * Returns the largest volume.
+     *
+     * @return the volume, or negative infinity if the analysis is empty
+     */
+    public double getLargestVolume() {
+        return largestVolume;
+    }
+
+    /**
+     * Returns the first shape with the largest surface area.
+     *
+     * @return the shape, or {@code null} if the analysis is empty
+     */
+    public Shape3D getLargestSurfaceAreaShape() {
+        return largestSurfaceAreaShape;
+    }
+
+    /**
+     * Returns the largest surface area.
+     *
+     * @return the surface area, or negative infinity if the analysis is empty
+     */
+    public double getLargestSurfaceArea() {
+        return largestSurfaceArea;
+    }
+
+    /**
+     * Returns the first shape with the best volume-to-surface-area ratio.
+     *
+     * @return the shape, or {@code null} if the analysis is empty
+     */
+    public Shape3D getMostEfficientShape() {
+        return mostEfficientShape;
+    }
+
+    /**
+     * Returns the best volume-to-surface-area ratio.
+     *
+     * @return the ratio, or negative infinity if the analysis is empty
+     */
+    public double getBestEfficiency() {
+        return bestEfficiency;
+    }
+
+    /**
+     * Returns the sum of all volumes.
+     *
+     * @return the total volume in cubic units
+     */
+    public double getTotalVolume() {
+        return volumeSum + volumeCompensation;
+    }
+
+    /**
+     * Returns the sum of all surface areas.
+     *
+     * @return the total surface area in square units
+     */
+    public double getTotalSurfaceArea() {
+        return surfaceAreaSum + surfaceAreaCompensation;
+    }
+}
@@ -0,0 +1,64 @@
+package com.csc205.project2.analysis;
+
+import java.util.Collection;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Runs the comparative analysis over a collection of shapes, independently
+ * of how the results are displayed.
+ *
+ * <p>Small collections are analysed in a single sequential pass. Collections
+ * of at least {@link #PARALLEL_THRESHOLD} shapes are analysed with a parallel
+ * stream reduction on the common fork-join pool: each worker fills its own
+ * {@link ShapeAnalysis} and the partial results are merged in encounter
+ * order. Both paths pick the same winners, including which of several equal
+ * shapes wins.</p>
+ *
+ * @see ShapeAnalysis
+ */
+public final class ShapeAnalyzer {
+
+    /** Minimum collection size for which {@link #analyze} runs in parallel. */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    private ShapeAnalyzer() {
+        // static utility
+    }
+
+    /**
+     * Analyses the shapes, in parallel if the collection is large.
+     *
+     * @param shapes the shapes to analyse, in display order
+     * @return the analysis results
+     */
+    public static ShapeAnalysis analyze(Collection<? extends Shape3D> shapes) {
+        return shapes.size() >= PARALLEL_THRESHOLD ? analyzeParallel(shapes) : analyzeSequential(shapes);
+    }
+
+    /**
+     * Analyses the shapes in a single pass on the calling thread.
+     *
+     * @param shapes the shapes to analyse, in display order
+     * @return the analysis results
+     */
+    public static ShapeAnalysis analyzeSequential(Iterable<? extends Shape3D> shapes) {
+        ShapeAnalysis analysis = new ShapeAnalysis();
+        for (Shape3D shape : shapes) {
+            analysis.accept(shape);
+        }
+        return analysis;
+    }
+
+    /**
+     * Analyses the shapes with a parallel, order-preserving reduction.
+     *
+     * <p>The collection must not be modified during the analysis.</p>
+     *
+     * @param shapes the shapes to analyse, in display order
+     * @return the analysis results
+     */
+    public static ShapeAnalysis analyzeParallel(Collection<? extends Shape3D> shapes) {
+        return shapes.parallelStream().collect(ShapeAnalysis.collector());
+    }
+}
@@ -0,0 +1,177 @@
+package com.csc205.project2.analysis;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.csc205.project2.kernels.GeometryKernels;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.store.ShapeStore;
+import com.csc205.project2.store.ShapeView;
+
+/**
+ * Computes top-K and bottom-K rankings by volume, surface area and efficiency
+ * in a single streaming pass.
+ *
+ * <p>Each pass keeps six {@link BoundedRanking} heaps of size K, so memory
+ * stays proportional to K no matter how large the catalog is. Above
+ * {@link #PARALLEL_THRESHOLD} items the input is split across the common
+ * fork-join pool; each worker fills its own heaps and the partial heaps are
+ * merged at the end. Ties always go to the item that comes first in the
+ * source, so sequential and parallel passes return identical rankings.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Strategy</em> — the same accumulator serves object lists and
+ *       columnar {@link ShapeStore}s</li>
+ *   <li><em>Map-reduce</em> — partial heaps per worker, merged at the end</li>
+ * </ul>
+ *
+ * @see ShapeRankings
+ * @see ShapeAnalyzer
+ */
+public final class ShapeRanker {
+
+    /** The K used by the interactive driver when none is given. */
+    public static final int DEFAULT_LIMIT = 100;
+
+    /** Inputs of at least this many items are ranked in parallel. */
+    public static final int PARALLEL_THRESHOLD = ShapeAnalyzer.PARALLEL_THRESHOLD;
+
+    /** Rows of a store column measured at a time before being offered to the heaps. */
+    private static final int STORE_BLOCK_ROWS = 4096;
+
+    private ShapeRanker() {
+        // utility class
+    }
+
+    // ---------------------------------------------------------------
+    // Object lists
+    // ---------------------------------------------------------------
+
+    /**
+     * Ranks a list of shapes, in parallel if it is large.
+     *
+     * @param shapes the shapes to rank
+     * @param limit  the number of entries to keep per ranking (K)
+     * @return the rankings
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    public static ShapeRankings<Shape3D> rank(List<? extends Shape3D> shapes, int limit) {
+        return shapes.size() >= PARALLEL_THRESHOLD
+                ? rankParallel(shapes, limit)
+                : rankSequential(shapes, limit);
+    }
+
+    /**
+     * Ranks a list of shapes on the calling thread.
+     *
+     * @param shapes the shapes to rank
+     * @param limit  the number of entries to keep per ranking (K)
+     * @return the rankings
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    public static ShapeRankings<Shape3D> rankSequential(List<? extends Shape3D> shapes, int limit) {
+        MetricRankings rankings = new MetricRankings(limit);
+        long ordinal = 0;
+        for (Shape3D shape : shapes) {
+            rankings.accept(ordinal++, shape.getVolume(), shape.getSurfaceArea());
+        }
+        return new ShapeRankings<>(rankings, ordinalAt -> shapes.get((int) ordinalAt));
+    }
+
+    /**
+     * Ranks a list of shapes with partial heaps on the common fork-join
+     * pool. The list should support fast random access.
+     *
+     * @param shapes the shapes to rank
+     * @param limit  the number of entries to keep per ranking (K)
+     * @return the rankings
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    public static ShapeRankings<Shape3D> rankParallel(List<? extends Shape3D> shapes, int limit) {
+        MetricRankings rankings = IntStream.range(0, shapes.size()).parallel().collect(
+                () -> new MetricRankings(limit),
+                (partial, i) -> {
+                    Shape3D shape = shapes.get(i);
+                    partial.accept(i, shape.getVolume(), shape.getSurfaceArea());
+                },
+                MetricRankings::merge);
+        return new ShapeRankings<>(rankings, ordinalAt -> shapes.get((int) ordinalAt));
+    }
+
+    // ---------------------------------------------------------------
+    // Columnar storage
+    // ---------------------------------------------------------------
+
+    /**
+     * Ranks every shape in a store, using the exact scalar kernels.
+     *
+     * @param store the store to rank
+     * @param limit the number of entries to keep per ranking (K)
+     * @return the rankings, resolved to views of the ranked rows
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     * @see #rank(ShapeStore, int, GeometryKernels)
+     */
+    public static ShapeRankings<ShapeView> rank(ShapeStore store, int limit) {
+        return rank(store, limit, GeometryKernels.scalar());
+    }
+
+    /**
+     * Ranks every shape in a store.
+     *
+     * <p>Each type column is walked in blocks of a few thousand rows: the
+     * block's volumes and surface areas are computed with the given kernels
+     * and offered to the heaps straight away, in parallel for large columns,
+     * so memory stays proportional to K and the block size rather than to
+     * the column. Rows are ordered by type, then by row, which is the order
+     * ties are broken in.</p>
+     *
+     * @param store   the store to rank
+     * @param limit   the number of entries to keep per ranking (K)
+     * @param kernels the kernels used to evaluate the columns
+     * @return the rankings, resolved to views of the ranked rows
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    public static ShapeRankings<ShapeView> rank(ShapeStore store, int limit, GeometryKernels kernels) {
+        ShapeType[] types = ShapeType.values();
+        long[] offsets = new long[types.length + 1];
+        MetricRankings rankings = new MetricRankings(limit);
+
+        for (ShapeType type : types) {
+            int n = store.size(type);
+            long offset = offsets[type.ordinal()];
+            offsets[type.ordinal() + 1] = offset + n;
+            if (n == 0) {
+                continue;
+            }
+            IntStream blocks = IntStream.range(0, (n + STORE_BLOCK_ROWS - 1) / STORE_BLOCK_ROWS);
+            if (n >= PARALLEL_THRESHOLD) {
+                blocks = blocks.parallel();
+            }
+            rankings.merge(blocks.collect(
+                    () -> new MetricRankings(limit),
+                    (partial, block) -> rankBlock(store, type, block * STORE_BLOCK_ROWS,
+                            Math.min(STORE_BLOCK_ROWS, n - block * STORE_BLOCK_ROWS), offset, kernels, partial),
+                    MetricRankings::merge));
+        }
+
+        return new ShapeRankings<>(rankings, ordinal -> {
+            int t = 0;
+            while (ordinal >= offsets[t + 1]) {
+                t++;
+            }
+            return store.view(types[t], (int) (ordinal - offsets[t]));
+        });
+    }
+
+    private static void rankBlock(ShapeStore store, ShapeType type, int from, int count, long offset,
+                                  GeometryKernels kernels, MetricRankings rankings) {
+        double[] volumes = new double[count];
+        double[] surfaceAreas = new double[count];
+        store.measure(type, from, count, volumes, surfaceAreas, kernels);
+        for (int i = 0; i < count; i++) {
+            rankings.accept(offset + from + i, volumes[i], surfaceAreas[i]);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.csc205.project2.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * The top-K and bottom-K items by every {@link Metric}, as produced by
+ * {@link ShapeRanker}.
+ *
+ * <p>Items are resolved when the rankings are built, so the result stays
+ * valid if the source collection changes afterwards.</p>
+ *
+ * @param <T> the type of the ranked items
+ */
+public final class ShapeRankings<T> {
+
+    private final int limit;
+    private final List<List<Ranked<T>>> highest = new ArrayList<>();
+    private final List<List<Ranked<T>>> lowest = new ArrayList<>();
+
+    ShapeRankings(MetricRankings rankings, LongFunction<? extends T> resolver) {
+        this.limit = rankings.limit();
+        for (Metric metric : Metric.values()) {
+            highest.add(resolve(rankings.highest(metric), resolver));
+            lowest.add(resolve(rankings.lowest(metric), resolver));
+        }
+    }
+
+    private static <T> List<Ranked<T>> resolve(BoundedRanking ranking, LongFunction<? extends T> resolver) {
+        long[] ordinals = ranking.ordinals();
+        double[] values = ranking.values();
+        List<Ranked<T>> entries = new ArrayList<>(ordinals.length);
+        for (int i = 0; i < ordinals.length; i++) {
+            entries.add(new Ranked<>(i + 1, resolver.apply(ordinals[i]), values[i]));
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the maximum number of entries in each ranking.
+     *
+     * @return the K the rankings were built with
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the items with the highest values of a metric, best first.
+     *
+     * @param metric the metric
+     * @return an immutable list of at most {@link #getLimit()} entries
+     */
+    public List<Ranked<T>> highest(Metric metric) {
+        return highest.get(metric.ordinal());
+    }
+
+    /**
+     * Returns the items with the lowest values of a metric, lowest first.
+     *
+     * @param metric the metric
+     * @return an immutable list of at most {@link #getLimit()} entries
+     */
+    public List<Ranked<T>> lowest(Metric metric) {
+        return lowest.get(metric.ordinal());
+    }
+}
@@ -0,0 +1,203 @@
+package com.csc205.project2.batch;
+
+/**
+ * Command-line options of {@code ShapeDriver}'s batch mode.
+ *
+ * <pre>
+ * --batch &lt;file|-&gt;     read shape lines from a file, or from stdin with "-"
+ * --summary-only       print only the analysis, not every shape
+ * --threads &lt;n&gt;        number of parsing threads (default: available processors)
+ * --batch-size &lt;n&gt;     lines handed to a worker at a time (default 4096)
+ * --log-shapes         keep the per-shape INFO log of the shapes package
+ * </pre>
+ *
+ * <p>Every parsed shape logs its creation and calculations at
+ * {@code INFO}, which for a large input costs more than the analysis
+ * itself. Unless {@value #LOG_SHAPES_FLAG} is given, batch mode therefore
+ * raises the shapes logger to {@code WARNING} for the duration of the
+ * run.</p>
+ *
+ * @see BatchProcessor
+ */
+public final class BatchOptions {
+
+    /** Selects batch mode and names the input. */
+    public static final String BATCH_FLAG = "--batch";
+
+    /** Suppresses the per-shape part of the report. */
+    public static final String SUMMARY_ONLY_FLAG = "--summary-only";
+
+    /** Sets the number of worker threads. */
+    public static final String THREADS_FLAG = "--threads";
+
+    /** Sets the number of lines per work unit. */
+    public static final String BATCH_SIZE_FLAG = "--batch-size";
+
+    /** Keeps the per-shape log of the shapes package enabled. */
+    public static final String LOG_SHAPES_FLAG = "--log-shapes";
+
+    /** Input name that selects standard input. */
+    public static final String STDIN = "-";
+
+    /** Lines per work unit when none is given. */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final String input;
+    private final boolean summaryOnly;
+    private final int threads;
+    private final int batchSize;
+    private final boolean logShapes;
+
+    /**
+     * Creates batch options with the per-shape log silenced.
+     *
+     * @param input       a file path, or {@link #STDIN}
+     * @param summaryOnly whether to skip the per-shape report
+     * @param threads     the number of worker threads; must be positive
+     * @param batchSize   the number of lines per work unit; must be positive
+     * @throws IllegalArgumentException if any argument is invalid
+     */
+    public BatchOptions(String input, boolean summaryOnly, int threads, int batchSize) {
+        this(input, summaryOnly, threads, batchSize, false);
+    }
+
+    /**
+     * Creates batch options.
+     *
+     * @param input       a file path, or {@link #STDIN}
+     * @param summaryOnly whether to skip the per-shape report
+     * @param threads     the number of worker threads; must be positive
+     * @param batchSize   the number of lines per work unit; must be positive
+     * @param logShapes   whether to keep the per-shape log enabled
+     * @throws IllegalArgumentException if any argument is invalid
+     */
+    public BatchOptions(String input, boolean summaryOnly, int threads, int batchSize, boolean logShapes) {
+        if (input == null || input.isBlank()) {
+            throw new IllegalArgumentException("Batch input must not be empty.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be greater than zero.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than zero.");
+        }
+        this.input = input;
+        this.summaryOnly = summaryOnly;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.logShapes = logShapes;
+    }
+
+    /**
+     * Parses command-line arguments.
+     *
+     * @param args the arguments passed to {@code main}
+     * @return the options
+     * @throws IllegalArgumentException if an argument is unknown, a value is
+     *                                  missing or invalid, or
+     *                                  {@value #BATCH_FLAG} is absent
+     */
+    public static BatchOptions parse(String[] args) {
+        String input = null;
+        boolean summaryOnly = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = DEFAULT_BATCH_SIZE;
+        boolean logShapes = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case BATCH_FLAG -> input = value(args, ++i, BATCH_FLAG);
+                case SUMMARY_ONLY_FLAG -> summaryOnly = true;
+                case THREADS_FLAG -> threads = intValue(args, ++i, THREADS_FLAG);
+                case BATCH_SIZE_FLAG -> batchSize = intValue(args, ++i, BATCH_SIZE_FLAG);
+                case LOG_SHAPES_FLAG -> logShapes = true;
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("Missing " + BATCH_FLAG + " <file|->.");
+        }
+        return new BatchOptions(input, summaryOnly, threads, batchSize, logShapes);
+    }
+
+    private static String value(String[] args, int index, String flag) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + flag + ".");
+        }
+        return args[index];
+    }
+
+    private static int intValue(String[] args, int index, String flag) {
+        String text = value(args, index, flag);
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + flag + ": '" + text + "'.");
+        }
+    }
+
+    /**
+     * Returns a usage message listing the options.
+     *
+     * @return the usage text
+     */
+    public static String usage() {
+        return "Usage: ShapeDriver [" + BATCH_FLAG + " <file|-> [" + SUMMARY_ONLY_FLAG + "] ["
+                + THREADS_FLAG + " <n>] [" + BATCH_SIZE_FLAG + " <n>] [" + LOG_SHAPES_FLAG + "]]";
+    }
+
+    /**
+     * Returns the input file path, or {@link #STDIN}.
+     *
+     * @return the input name
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns whether input comes from standard input.
+     *
+     * @return {@code true} for {@link #STDIN}
+     */
+    public boolean isStdin() {
+        return STDIN.equals(input);
+    }
+
+    /**
+     * Returns whether the per-shape report is suppressed.
+     *
+     * @return {@code true} if only the analysis is printed
+     */
+    public boolean isSummaryOnly() {
+        return summaryOnly;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the thread count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the number of lines per work unit.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns whether the per-shape log of the shapes package stays
+     * enabled during the run.
+     *
+     * @return {@code true} if {@value #LOG_SHAPES_FLAG} was given
+     */
+    public boolean isLogShapes() {
+        return logShapes;
+    }
+}
@@ -0,0 +1,264 @@
+package com.csc205.project2.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.csc205.project2.analysis.ShapeAnalysis;
+import com.csc205.project2.ingest.IngestFormat;
+import com.csc205.project2.report.ShapeReportRenderer;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Streams shape lines through a pool of parsing threads and writes the
+ * report, without ever holding the whole input in memory.
+ *
+ * <p>The calling thread reads lines and groups them into work units of
+ * {@link BatchOptions#getBatchSize()} lines. Each unit is parsed and its
+ * shapes constructed on a worker thread, which also folds them into a
+ * {@link ShapeAnalysis}. Completed units are consumed strictly in input
+ * order: their shapes are rendered with running numbers and their analyses
+ * merged, after which the unit is discarded. At most twice as many units
+ * as there are threads are in flight, so memory is bounded by the batch size
+ * and thread count, not by the length of the input.</p>
+ *
+ * <p>Lines are parsed with {@link IngestFormat#CSV}, so batch mode and
+ * {@link com.csc205.project2.ingest.ShapeIngestor} accept the same input.
+ * Lines that cannot be parsed are reported on the error stream with their
+ * line number and skipped.</p>
+ *
+ * <p>Unless {@link BatchOptions#isLogShapes()} is set, the
+ * {@code com.csc205.project2.shapes} logger is raised to {@code WARNING} while
+ * {@link #run} executes, so the per-shape {@code INFO} records are not built
+ * at all; its previous level is restored when the run ends. Rejected shapes
+ * are still logged.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Producer-consumer</em> — a reader feeds a bounded set of
+ *       in-flight work units to the worker pool</li>
+ *   <li><em>Map-reduce</em> — per-unit analyses merged in order</li>
+ * </ul>
+ *
+ * @see IngestFormat#parseLine(String)
+ */
+public final class BatchProcessor {
+
+    /** Parent logger of every shape class. */
+    static final String SHAPES_LOGGER = "com.csc205.project2.shapes";
+
+    private final BatchOptions options;
+
+    /**
+     * Creates a processor.
+     *
+     * @param options the batch options
+     * @throws IllegalArgumentException if {@code options} is {@code null}
+     */
+    public BatchProcessor(BatchOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options must not be null.");
+        }
+        this.options = options;
+    }
+
+    /**
+     * Reads every line from {@code input}, writes the report to {@code out}
+     * and rejected lines to {@code err}.
+     *
+     * @param input the shape lines
+     * @param out   the report stream
+     * @param err   the stream for rejected lines
+     * @return what was processed
+     * @throws IOException if reading fails or the thread is interrupted
+     */
+    public BatchSummary run(BufferedReader input, PrintStream out, PrintStream err) throws IOException {
+        Logger shapesLogger = Logger.getLogger(SHAPES_LOGGER);
+        Level previousLevel = shapesLogger.getLevel();
+        if (!options.isLogShapes() && (previousLevel == null || previousLevel.intValue() < Level.WARNING.intValue())) {
+            shapesLogger.setLevel(Level.WARNING);
+        }
+        try {
+            return process(input, out, err);
+        } finally {
+            shapesLogger.setLevel(previousLevel);
+        }
+    }
+
+    private BatchSummary process(BufferedReader input, PrintStream out, PrintStream err) throws IOException {
+        ShapeReportRenderer report = new ShapeReportRenderer(out);
+        report.append("=== 3D Shape Analysis System ===").newLine().newLine();
+        if (!options.isSummaryOnly()) {
+            report.append("Created Shapes:").newLine();
+        }
+
+        ReportWriter writer = new ReportWriter(report, err);
+        int batchSize = options.getBatchSize();
+        int maxInFlight = 2 * options.getThreads();
+        Deque<Future<ParsedBatch>> inFlight = new ArrayDeque<>();
+        ExecutorService workers = Executors.newFixedThreadPool(options.getThreads(), new WorkerFactory());
+        try {
+            String[] lines = new String[batchSize];
+            int filled = 0;
+            long firstLine = 1;
+            String line;
+            while ((line = input.readLine()) != null) {
+                lines[filled++] = line;
+                if (filled == batchSize) {
+                    submit(workers, inFlight, lines, filled, firstLine);
+                    firstLine += filled;
+                    lines = new String[batchSize];
+                    filled = 0;
+                    while (inFlight.size() >= maxInFlight) {
+                        writer.accept(await(inFlight.removeFirst()));
+                    }
+                }
+            }
+            if (filled > 0) {
+                submit(workers, inFlight, lines, filled, firstLine);
+            }
+            while (!inFlight.isEmpty()) {
+                writer.accept(await(inFlight.removeFirst()));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        return writer.finish();
+    }
+
+    private static void submit(ExecutorService workers, Deque<Future<ParsedBatch>> inFlight,
+                               String[] lines, int count, long firstLine) {
+        inFlight.addLast(workers.submit(() -> ParsedBatch.parse(lines, count, firstLine)));
+    }
+
+    private static ParsedBatch await(Future<ParsedBatch> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a batch.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Work units
+    // ---------------------------------------------------------------
+
+    /**
+     * The shapes, rejected lines and partial analysis of one work unit.
+     */
+    private static final class ParsedBatch {
+
+        private final List<Shape3D> shapes;
+        private final List<String> rejections = new ArrayList<>();
+        private final ShapeAnalysis analysis = new ShapeAnalysis();
+
+        private ParsedBatch(int capacity) {
+            this.shapes = new ArrayList<>(capacity);
+        }
+
+        static ParsedBatch parse(String[] lines, int count, long firstLine) {
+            ParsedBatch batch = new ParsedBatch(count);
+            for (int i = 0; i < count; i++) {
+                try {
+                    Shape3D shape = IngestFormat.CSV.parseLine(lines[i]);
+                    if (shape == null) {
+                        continue;
+                    }
+                    batch.shapes.add(shape);
+                    batch.analysis.accept(shape);
+                } catch (IllegalArgumentException e) {
+                    batch.rejections.add("Skipped line " + (firstLine + i) + ": " + e.getMessage());
+                }
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Renders units in input order and merges their analyses.
+     */
+    private final class ReportWriter {
+
+        private final ShapeReportRenderer report;
+        private final PrintStream err;
+        private final ShapeAnalysis analysis = new ShapeAnalysis();
+        private long shapeCount;
+        private long rejectedCount;
+
+        ReportWriter(ShapeReportRenderer report, PrintStream err) {
+            this.report = report;
+            this.err = err;
+        }
+
+        void accept(ParsedBatch batch) {
+            if (!options.isSummaryOnly()) {
+                long index = shapeCount;
+                for (Shape3D shape : batch.shapes) {
+                    report.appendShapeEntry(++index, shape);
+                }
+            }
+            shapeCount += batch.shapes.size();
+            rejectedCount += batch.rejections.size();
+            if (!batch.rejections.isEmpty()) {
+                report.flush();
+                for (String rejection : batch.rejections) {
+                    err.println(rejection);
+                }
+            }
+            analysis.merge(batch.analysis);
+        }
+
+        BatchSummary finish() {
+            if (analysis.isEmpty()) {
+                report.append("No shapes to display.").newLine();
+            } else {
+                report.appendAnalysis(analysis);
+            }
+            report.newLine().append("Processed ").append(shapeCount)
+                    .append(shapeCount == 1 ? " shape (" : " shapes (").append(rejectedCount)
+                    .append(rejectedCount == 1 ? " line skipped)." : " lines skipped).").newLine();
+            report.flush();
+            return new BatchSummary(shapeCount, rejectedCount, analysis);
+        }
+    }
+
+    /**
+     * Creates daemon worker threads, so a failed run never keeps the JVM
+     * alive.
+     */
+    private static final class WorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "shape-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.csc205.project2.batch;
+
+import com.csc205.project2.analysis.ShapeAnalysis;
+
+/**
+ * What a {@link BatchProcessor} run processed.
+ */
+public final class BatchSummary {
+
+    private final long shapeCount;
+    private final long rejectedCount;
+    private final ShapeAnalysis analysis;
+
+    BatchSummary(long shapeCount, long rejectedCount, ShapeAnalysis analysis) {
+        this.shapeCount = shapeCount;
+        this.rejectedCount = rejectedCount;
+        this.analysis = analysis;
+    }
+
+    /**
+     * Returns the number of shapes parsed and analysed.
+     *
+     * @return the shape count
+     */
+    public long getShapeCount() {
+        return shapeCount;
+    }
+
+    /**
+     * Returns the number of lines that could not be parsed.
+     *
+     * @return the rejected line count
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns the analysis of every accepted shape.
+     *
+     * @return the analysis
+     */
+    public ShapeAnalysis getAnalysis() {
+        return analysis;
+    }
+}
@@ -0,0 +1,312 @@
+package com.csc205.project2.csg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.csc205.project2.kernels.ContainmentKernels;
+import com.csc205.project2.shapes.BoundingBox;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * A solid built from placed {@link Shape3D} primitives with the Boolean
+ * operations of constructive solid geometry: union, intersection and
+ * difference.
+ *
+ * <p>A composite is a binary tree. Leaves wrap one primitive each, created
+ * with {@link #of(Shape3D)}, and inner nodes combine two composites:</p>
+ * <ul>
+ *   <li>{@link #union} — points in either operand</li>
+ *   <li>{@link #intersect} — points in both operands</li>
+ *   <li>{@link #subtract} — points in this operand but not the other</li>
+ * </ul>
+ *
+ * <p>Overlapping primitives are counted once, so the volume of a composite
+ * is generally not a sum of {@link Shape3D#getVolume()} values and has no
+ * closed form. {@link MonteCarloVolume} estimates it by sampling
+ * {@link #contains}. Like the primitives' own surfaces, the composite's
+ * boundary counts as inside.</p>
+ *
+ * <p>Composites are immutable, but they hold the primitives themselves, not
+ * copies: moving or resizing a primitive changes every composite that uses
+ * it. Bounds are therefore computed on each call rather than cached. The
+ * same primitive may appear in several leaves.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Composite</em> — inner nodes answer {@link #contains} by
+ *       combining their children's answers</li>
+ *   <li><em>Immutable value</em> — operations return new composites and
+ *       never modify their operands</li>
+ * </ul>
+ *
+ * @see MonteCarloVolume
+ */
+public final class CompositeShape {
+
+    /**
+     * The Boolean operation an inner node applies to its two operands.
+     */
+    public enum Operation {
+
+        /** Points in either operand. */
+        UNION,
+
+        /** Points in both operands. */
+        INTERSECTION,
+
+        /** Points in the left operand but not the right. */
+        DIFFERENCE
+    }
+
+    /** The primitive of a leaf; {@code null} for inner nodes. */
+    private final Shape3D shape;
+
+    /** The operation of an inner node; {@code null} for leaves. */
+    private final Operation operation;
+
+    private final CompositeShape left;
+    private final CompositeShape right;
+
+    private CompositeShape(Shape3D shape, Operation operation, CompositeShape left, CompositeShape right) {
+        this.shape = shape;
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Wraps a single primitive.
+     *
+     * @param shape the primitive
+     * @return a leaf composite
+     * @throws IllegalArgumentException if {@code shape} is {@code null}
+     */
+    public static CompositeShape of(Shape3D shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        return new CompositeShape(shape, null, null, null);
+    }
+
+    /**
+     * Returns the union of this composite and {@code other}.
+     *
+     * @param other the other operand
+     * @return the points in either composite
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public CompositeShape union(CompositeShape other) {
+        return combine(Operation.UNION, other);
+    }
+
+    /**
+     * Returns the intersection of this composite and {@code other}.
+     *
+     * @param other the other operand
+     * @return the points in both composites
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public CompositeShape intersect(CompositeShape other) {
+        return combine(Operation.INTERSECTION, other);
+    }
+
+    /**
+     * Returns this composite with {@code other} cut away.
+     *
+     * @param other the composite to remove
+     * @return the points in this composite but not in {@code other}
+     * @throws IllegalArgumentException if {@code other} is {@code null}
+     */
+    public CompositeShape subtract(CompositeShape other) {
+        return combine(Operation.DIFFERENCE, other);
+    }
+
+    private CompositeShape combine(Operation op, CompositeShape other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Operand must not be null.");
+        }
+        return new CompositeShape(null, op, this, other);
+    }
+
+    // ---------------------------------------------------------------
+    // Structure
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns whether this composite is a single primitive.
+     *
+     * @return {@code true} for a leaf created with {@link #of(Shape3D)}
+     */
+    public boolean isLeaf() {
+        return shape != null;
+    }
+
+    /**
+     * Returns the operation of an inner node.
+     *
+     * @return the operation, or {@code null} for a leaf
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the primitives of every leaf, left to right. A primitive used
+     * in several leaves appears once per leaf.
+     *
+     * @return an unmodifiable list of the primitives
+     */
+    public List<Shape3D> getShapes() {
+        List<Shape3D> shapes = new ArrayList<>();
+        collectShapes(shapes);
+        return Collections.unmodifiableList(shapes);
+    }
+
+    private void collectShapes(List<Shape3D> shapes) {
+        if (isLeaf()) {
+            shapes.add(shape);
+        } else {
+            left.collectShapes(shapes);
+            right.collectShapes(shapes);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Geometry
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns whether a world-space point lies inside this composite.
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the boundary
+     */
+    public boolean contains(double x, double y, double z) {
+        if (isLeaf()) {
+            return shape.contains(x, y, z);
+        }
+        return switch (operation) {
+            case UNION -> left.contains(x, y, z) || right.contains(x, y, z);
+            case INTERSECTION -> left.contains(x, y, z) && right.contains(x, y, z);
+            case DIFFERENCE -> left.contains(x, y, z) && !right.contains(x, y, z);
+        };
+    }
+
+    /**
+     * Returns an axis-aligned box around this composite at the primitives'
+     * current placements.
+     *
+     * <p>The box is conservative: unions take the union of their operands'
+     * boxes, intersections the overlap, and differences the box of the left
+     * operand, so it may be larger than the solid but never smaller.</p>
+     *
+     * @return the bounding box, or {@code null} if the composite is provably
+     *         empty because an intersection's operands do not overlap
+     */
+    public BoundingBox getBounds() {
+        if (isLeaf()) {
+            return shape.getBounds();
+        }
+        BoundingBox leftBounds = left.getBounds();
+        if (leftBounds == null) {
+            return operation == Operation.UNION ? right.getBounds() : null;
+        }
+        if (operation == Operation.DIFFERENCE) {
+            return leftBounds;
+        }
+        BoundingBox rightBounds = right.getBounds();
+        if (rightBounds == null) {
+            return operation == Operation.UNION ? leftBounds : null;
+        }
+        return operation == Operation.UNION ? leftBounds.union(rightBounds) : leftBounds.intersection(rightBounds);
+    }
+
+    /**
+     * Returns whether any point of {@code region} could be inside this
+     * composite, judging by the primitives' boxes alone. A {@code false}
+     * answer is exact; a {@code true} answer may not be.
+     */
+    boolean mayIntersect(BoundingBox region) {
+        if (isLeaf()) {
+            return shape.getBounds().intersects(region);
+        }
+        return switch (operation) {
+            case UNION -> left.mayIntersect(region) || right.mayIntersect(region);
+            case INTERSECTION -> left.mayIntersect(region) && right.mayIntersect(region);
+            case DIFFERENCE -> left.mayIntersect(region);
+        };
+    }
+
+    /**
+     * Returns the number of word buffers {@link #classify} needs for this
+     * tree. A node's result is built in place in its left operand's buffer,
+     * so only each pending right operand needs one more.
+     */
+    int scratchDepth() {
+        return isLeaf() ? 1 : Math.max(left.scratchDepth(), 1 + right.scratchDepth());
+    }
+
+    /**
+     * Classifies {@code count} points that all lie in {@code region} and
+     * leaves the answers as bits in {@code scratch[level]}, as
+     * {@link ContainmentKernels} would for a single primitive. Buffers from
+     * {@code level} to {@code level + scratchDepth() - 1} are overwritten;
+     * each must hold at least {@code ceil(count / 64)} words, and only those
+     * words are written. Primitives whose box misses the region are not
+     * tested, and the right operand of an intersection or difference is
+     * skipped when the left one holds no points.
+     */
+    void classify(double[] x, double[] y, double[] z, int count, BoundingBox region,
+                  ContainmentKernels kernels, long[][] scratch, int level) {
+        long[] words = scratch[level];
+        int length = (count + Long.SIZE - 1) >>> 6;
+        if (isLeaf()) {
+            if (shape.getBounds().intersects(region)) {
+                kernels.classify(shape, x, y, z, 0, count, words);
+            } else {
+                Arrays.fill(words, 0, length, 0L);
+            }
+            return;
+        }
+        left.classify(x, y, z, count, region, kernels, scratch, level);
+        if (operation != Operation.UNION && isEmpty(words, length)) {
+            return;
+        }
+        right.classify(x, y, z, count, region, kernels, scratch, level + 1);
+        long[] b = scratch[level + 1];
+        for (int i = 0; i < length; i++) {
+            words[i] = switch (operation) {
+                case UNION -> words[i] | b[i];
+                case INTERSECTION -> words[i] & b[i];
+                case DIFFERENCE -> words[i] & ~b[i];
+            };
+        }
+    }
+
+    private static boolean isEmpty(long[] words, int length) {
+        for (int i = 0; i < length; i++) {
+            if (words[i] != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the tree in prefix form, for example
+     * {@code DIFFERENCE(Cube 'Block', Sphere 'Hole')}.
+     *
+     * @return a human-readable description of this composite
+     */
+    @Override
+    public String toString() {
+        if (isLeaf()) {
+            return shape.getClass().getSimpleName() + " '" + shape.getName() + "'";
+        }
+        return operation + "(" + left + ", " + right + ")";
+    }
+}
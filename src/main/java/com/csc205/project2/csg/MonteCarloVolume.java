@@ -0,0 +1,265 @@
+package com.csc205.project2.csg;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import com.csc205.project2.kernels.ContainmentKernels;
+import com.csc205.project2.shapes.BoundingBox;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Estimates the volume of a {@link CompositeShape} by stratified Monte Carlo
+ * sampling, refining until the standard error reaches a tolerance.
+ *
+ * <p>The composite's bounding box is cut into {@value #STRATA} equal cells
+ * ({@value #GRID} along each axis). Every round adds the same number of
+ * uniformly random points to every cell and classifies them with the
+ * {@linkplain ContainmentKernels#best() fastest containment kernels}, one
+ * primitive at a time, combining the bits as the composite's tree
+ * dictates. The volume is the sum of each cell's volume times the fraction
+ * of its points inside, and the variance is the sum of the cells'
+ * binomial variances. Cells wholly inside or outside the solid contribute
+ * no variance, so stratifying converges much faster than sampling the
+ * whole box at once, and cells that no primitive's box reaches are skipped
+ * without sampling.</p>
+ *
+ * <p>Cells are sampled in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool}. Each cell draws from its own
+ * random stream, derived from the seed, the cell and the round, so the
+ * estimate depends only on the seed and the inputs — never on the number
+ * of threads or how the work was scheduled. After each round the next
+ * round's size is predicted from the current error, so a run takes a few
+ * rounds rather than hundreds.</p>
+ *
+ * <p>The composite's primitives are read while sampling runs; callers must
+ * not move or resize them during an estimate.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Stratified sampling</em> — variance reduction by sampling equal
+ *       cells separately</li>
+ *   <li><em>Deterministic parallelism</em> — per-cell random streams make
+ *       the result independent of scheduling</li>
+ * </ul>
+ *
+ * @see CompositeShape
+ * @see VolumeEstimate
+ */
+public final class MonteCarloVolume {
+
+    /** Seed used by {@link #MonteCarloVolume()}. */
+    public static final long DEFAULT_SEED = 42L;
+
+    /** Sample budget used by {@link #MonteCarloVolume()}; about 17 billion points. */
+    public static final long DEFAULT_MAX_SAMPLES = 1L << 34;
+
+    /** Cells along each axis of the bounding box. */
+    static final int GRID = 8;
+
+    /** Total number of cells. */
+    static final int STRATA = GRID * GRID * GRID;
+
+    /** Points per cell in the first round. */
+    static final int FIRST_ROUND_POINTS = 1 << 10;
+
+    /** The smallest budget: one full first round. */
+    public static final long MIN_SAMPLES = (long) STRATA * FIRST_ROUND_POINTS;
+
+    /** Points generated and classified together within a cell. */
+    private static final int BATCH = 1 << 12;
+
+    private final long seed;
+    private final long maxSamples;
+
+    /**
+     * Creates an estimator with {@link #DEFAULT_SEED} and
+     * {@link #DEFAULT_MAX_SAMPLES}.
+     */
+    public MonteCarloVolume() {
+        this(DEFAULT_SEED, DEFAULT_MAX_SAMPLES);
+    }
+
+    /**
+     * Creates an estimator.
+     *
+     * @param seed       the seed of every random stream; equal seeds give
+     *                   equal estimates
+     * @param maxSamples the most points one estimate may sample; at least
+     *                   {@link #MIN_SAMPLES}
+     * @throws IllegalArgumentException if {@code maxSamples} is too small
+     */
+    public MonteCarloVolume(long seed, long maxSamples) {
+        if (maxSamples < MIN_SAMPLES) {
+            throw new IllegalArgumentException(
+                    "Sample budget must be at least " + MIN_SAMPLES + ", but got " + maxSamples + ".");
+        }
+        this.seed = seed;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Estimates the volume of a single primitive. Useful to check the
+     * estimator against {@link Shape3D#getVolume()}.
+     *
+     * @param shape     the primitive
+     * @param tolerance the largest acceptable standard error, in cubic units
+     * @return the estimate
+     * @throws IllegalArgumentException if {@code shape} is {@code null} or
+     *                                  the tolerance is invalid
+     */
+    public VolumeEstimate estimate(Shape3D shape, double tolerance) {
+        return estimate(CompositeShape.of(shape), tolerance);
+    }
+
+    /**
+     * Estimates the volume of a composite, sampling until the standard error
+     * is at most {@code tolerance} or the sample budget is spent.
+     *
+     * @param composite the composite to measure
+     * @param tolerance the largest acceptable standard error, in cubic units
+     * @return the estimate; {@link VolumeEstimate#isConverged()} tells
+     *         whether the tolerance was met
+     * @throws IllegalArgumentException if {@code composite} is {@code null},
+     *                                  the tolerance is not positive and
+     *                                  finite, or the composite's bounds are
+     *                                  not finite
+     */
+    public VolumeEstimate estimate(CompositeShape composite, double tolerance) {
+        if (composite == null) {
+            throw new IllegalArgumentException("Composite must not be null.");
+        }
+        if (!(tolerance > 0.0) || tolerance == Double.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("Tolerance must be positive and finite, but got " + tolerance + ".");
+        }
+        BoundingBox bounds = composite.getBounds();
+        if (bounds == null) {
+            return new VolumeEstimate(0.0, 0.0, 0L, 0L, true);
+        }
+        if (!bounds.isFinite()) {
+            throw new IllegalArgumentException("Composite " + composite + " has no finite bounding box.");
+        }
+        double cellVolume = bounds.volume() / STRATA;
+        if (cellVolume == 0.0) {
+            return new VolumeEstimate(0.0, 0.0, 0L, 0L, true);
+        }
+
+        ContainmentKernels kernels = ContainmentKernels.best();
+        BoundingBox[] cells = cells(bounds);
+        boolean[] live = new boolean[STRATA];
+        for (int cell = 0; cell < STRATA; cell++) {
+            live[cell] = composite.mayIntersect(cells[cell]);
+        }
+
+        int depth = composite.scratchDepth();
+        long[] hits = new long[STRATA];
+        long perCell = 0L;
+        long roundPoints = FIRST_ROUND_POINTS;
+        for (int round = 0; ; round++) {
+            int currentRound = round;
+            long points = roundPoints;
+            IntStream.range(0, STRATA).parallel().forEach(cell -> {
+                if (live[cell]) {
+                    hits[cell] += sample(composite, cells[cell], kernels, depth, stream(currentRound, cell), points);
+                }
+            });
+            perCell += points;
+
+            double fractionSum = 0.0;
+            double varianceSum = 0.0;
+            long totalHits = 0L;
+            for (long h : hits) {
+                double p = (double) h / perCell;
+                fractionSum += p;
+                varianceSum += p * (1.0 - p);
+                totalHits += h;
+            }
+            double volume = cellVolume * fractionSum;
+            double error = cellVolume * Math.sqrt(varianceSum / perCell);
+            long samples = perCell * STRATA;
+            if (error <= tolerance) {
+                return new VolumeEstimate(volume, error, samples, totalHits, true);
+            }
+
+            // The error shrinks with the square root of the sample count, so
+            // aim for the total that would just meet the tolerance, with a
+            // small margin, but add at most four times the samples taken so
+            // far in one round.
+            double ratio = error / tolerance;
+            double target = perCell * ratio * ratio * 1.05;
+            long next = (long) Math.min(Math.ceil(target) - perCell, 4.0 * perCell);
+            long remaining = maxSamples / STRATA - perCell;
+            if (remaining < 1) {
+                return new VolumeEstimate(volume, error, samples, totalHits, false);
+            }
+            roundPoints = Math.min(Math.max(next, FIRST_ROUND_POINTS), remaining);
+        }
+    }
+
+    /**
+     * Samples {@code points} random points in one cell and counts those
+     * inside. The coordinate and classification buffers are allocated once
+     * and reused for every batch; {@code depth} is the composite's
+     * {@link CompositeShape#scratchDepth()}.
+     */
+    private static long sample(CompositeShape composite, BoundingBox cell, ContainmentKernels kernels,
+                               int depth, long streamSeed, long points) {
+        SplittableRandom random = new SplittableRandom(streamSeed);
+        double minX = cell.getMinX();
+        double minY = cell.getMinY();
+        double minZ = cell.getMinZ();
+        double sizeX = cell.getMaxX() - minX;
+        double sizeY = cell.getMaxY() - minY;
+        double sizeZ = cell.getMaxZ() - minZ;
+        int batch = (int) Math.min(BATCH, points);
+        double[] x = new double[batch];
+        double[] y = new double[batch];
+        double[] z = new double[batch];
+        long[][] scratch = new long[depth][(batch + Long.SIZE - 1) >>> 6];
+        long inside = 0L;
+        for (long done = 0L; done < points; done += batch) {
+            int count = (int) Math.min(batch, points - done);
+            for (int i = 0; i < count; i++) {
+                x[i] = minX + random.nextDouble() * sizeX;
+                y[i] = minY + random.nextDouble() * sizeY;
+                z[i] = minZ + random.nextDouble() * sizeZ;
+            }
+            composite.classify(x, y, z, count, cell, kernels, scratch, 0);
+            long[] words = scratch[0];
+            for (int w = 0, length = (count + Long.SIZE - 1) >>> 6; w < length; w++) {
+                inside += Long.bitCount(words[w]);
+            }
+        }
+        return inside;
+    }
+
+    /** Cuts a box into {@link #STRATA} cells, x fastest. */
+    private static BoundingBox[] cells(BoundingBox bounds) {
+        BoundingBox[] cells = new BoundingBox[STRATA];
+        double sizeX = (bounds.getMaxX() - bounds.getMinX()) / GRID;
+        double sizeY = (bounds.getMaxY() - bounds.getMinY()) / GRID;
+        double sizeZ = (bounds.getMaxZ() - bounds.getMinZ()) / GRID;
+        for (int k = 0; k < GRID; k++) {
+            for (int j = 0; j < GRID; j++) {
+                for (int i = 0; i < GRID; i++) {
+                    double x = bounds.getMinX() + i * sizeX;
+                    double y = bounds.getMinY() + j * sizeY;
+                    double z = bounds.getMinZ() + k * sizeZ;
+                    cells[(k * GRID + j) * GRID + i] = BoundingBox.of(x, y, z, x + sizeX, y + sizeY, z + sizeZ);
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the seed of one cell's random stream in one round: the
+     * estimator seed and the stream number run through the SplitMix64
+     * finalizer, so neighboring streams start far apart.
+     */
+    private long stream(int round, int cell) {
+        long z = seed + ((long) round * STRATA + cell) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,86 @@
+package com.csc205.project2.csg;
+
+/**
+ * The result of a {@link MonteCarloVolume} run: an estimated volume, its
+ * standard error, and how much sampling produced them.
+ *
+ * <p>The true volume lies within {@code volume} &plusmn;
+ * {@code 2 * standardError} about 95% of the time. A composite whose
+ * bounding box is empty or flat has an exact volume of zero and is reported
+ * with no samples and no error.</p>
+ *
+ * <p>Instances are immutable.</p>
+ */
+public final class VolumeEstimate {
+
+    private final double volume;
+    private final double standardError;
+    private final long samples;
+    private final long hits;
+    private final boolean converged;
+
+    VolumeEstimate(double volume, double standardError, long samples, long hits, boolean converged) {
+        this.volume = volume;
+        this.standardError = standardError;
+        this.samples = samples;
+        this.hits = hits;
+        this.converged = converged;
+    }
+
+    /**
+     * Returns the estimated volume.
+     *
+     * @return the volume in cubic units
+     */
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * Returns the standard error of the estimate.
+     *
+     * @return one standard deviation of the estimator, in cubic units
+     */
+    public double getStandardError() {
+        return standardError;
+    }
+
+    /**
+     * Returns the number of points sampled.
+     *
+     * @return the sample count
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Returns the number of sampled points that fell inside the composite.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns whether the standard error reached the requested tolerance
+     * before the sample budget ran out.
+     *
+     * @return {@code true} if the estimate met its tolerance
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * Returns the volume, error and sample counts.
+     *
+     * @return a human-readable description of this estimate
+     */
+    @Override
+    public String toString() {
+        return "VolumeEstimate {volume=" + volume + " +/- " + standardError
+                + ", samples=" + samples + ", hits=" + hits + ", converged=" + converged + "}";
+    }
+}
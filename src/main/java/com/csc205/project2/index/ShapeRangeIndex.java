@@ -0,0 +1,361 @@
+package com.csc205.project2.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.csc205.project2.analysis.Metric;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeChangeListener;
+
+/**
+ * Secondary range index over the computed volume, surface area and
+ * efficiency of a set of shapes.
+ *
+ * <p>Each {@link Metric} has its own sorted primitive column of values, so
+ * questions such as "all shapes with a volume between 100 and 500" or "how
+ * many shapes have an efficiency above 1.5" are answered with two binary
+ * searches instead of calling {@code getVolume()} on every shape:</p>
+ * <ul>
+ *   <li>{@link #count} and {@link #rank} run in {@code O(log n)};</li>
+ *   <li>{@link #range} runs in {@code O(log n + k)} for {@code k}
+ *       results;</li>
+ *   <li>{@link #get} returns the shape at a sorted position in
+ *       {@code O(log n)}.</li>
+ * </ul>
+ *
+ * <p>The index registers a {@link ShapeChangeListener} on every shape it
+ * holds, so resizing an indexed shape moves it to its new position in all
+ * three columns. Columns are stored in blocks of at most
+ * {@value SortedMetricColumn#BLOCK_CAPACITY} entries, so inserts, removals
+ * and resizes shift one block rather than the whole column, and
+ * {@link #of} builds all three columns with one sort each instead of
+ * inserting shapes one at a time. Shapes with equal values are kept in the
+ * order they were added. {@code NaN} values
+ * sort after every number and are never returned by a range query.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Observer</em> — shapes push dimension changes to the index</li>
+ *   <li><em>Secondary index</em> — the shapes are stored once, each column
+ *       holds only values and slot numbers</li>
+ * </ul>
+ *
+ * <p>Instances are not thread-safe. Shapes must be resized on the thread
+ * that owns the index. Call {@link #clear()} to detach the index from its
+ * shapes when it is no longer needed.</p>
+ *
+ * @see Metric
+ */
+public final class ShapeRangeIndex {
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final Map<Metric, SortedMetricColumn> columns = new EnumMap<>(Metric.class);
+    private final Map<Shape3D, Integer> slotsByShape = new IdentityHashMap<>();
+
+    /** Per slot: the shape, its insertion sequence and the values it is filed under. */
+    private Shape3D[] shapes = new Shape3D[16];
+    private long[] sequences = new long[16];
+    private double[][] indexedValues = new double[METRICS.length][16];
+
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private long nextSequence;
+
+    private final ShapeChangeListener listener = this::refresh;
+
+    /**
+     * Creates an empty index.
+     */
+    public ShapeRangeIndex() {
+        for (Metric metric : METRICS) {
+            columns.put(metric, new SortedMetricColumn());
+        }
+    }
+
+    /**
+     * Creates an index over the given shapes in {@code O(n log n)}: every
+     * shape is measured once, then each column is sorted and filled in one
+     * pass. Repeated instances are indexed once.
+     *
+     * @param shapes the shapes to index
+     * @return the new index
+     * @throws IllegalArgumentException if {@code shapes} or one of its
+     *                                  elements is {@code null}
+     */
+    public static ShapeRangeIndex of(Iterable<? extends Shape3D> shapes) {
+        if (shapes == null) {
+            throw new IllegalArgumentException("Shapes must not be null.");
+        }
+        ShapeRangeIndex index = new ShapeRangeIndex();
+        for (Shape3D shape : shapes) {
+            if (shape == null) {
+                throw new IllegalArgumentException("Shape must not be null.");
+            }
+            if (index.slotsByShape.containsKey(shape)) {
+                continue;
+            }
+            int slot = index.allocateSlot();
+            index.shapes[slot] = shape;
+            index.sequences[slot] = index.nextSequence++;
+            index.slotsByShape.put(shape, slot);
+            index.measure(slot);
+        }
+        for (Metric metric : METRICS) {
+            index.columns.get(metric).load(index.indexedValues[metric.ordinal()], index.sequences, index.slotCount);
+        }
+        for (Shape3D shape : index.slotsByShape.keySet()) {
+            shape.addChangeListener(index.listener);
+        }
+        return index;
+    }
+
+    // ---------------------------------------------------------------
+    // Updates
+    // ---------------------------------------------------------------
+
+    /**
+     * Adds a shape to the index.
+     *
+     * @param shape the shape to add
+     * @return {@code true} if the shape was added, {@code false} if this
+     *         exact instance is already indexed
+     * @throws IllegalArgumentException if {@code shape} is {@code null}
+     */
+    public boolean add(Shape3D shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        if (slotsByShape.containsKey(shape)) {
+            return false;
+        }
+        int slot = allocateSlot();
+        shapes[slot] = shape;
+        sequences[slot] = nextSequence++;
+        slotsByShape.put(shape, slot);
+        file(slot);
+        shape.addChangeListener(listener);
+        return true;
+    }
+
+    /**
+     * Removes a shape from the index.
+     *
+     * @param shape the shape to remove
+     * @return {@code true} if the shape was indexed
+     */
+    public boolean remove(Shape3D shape) {
+        Integer slot = slotsByShape.remove(shape);
+        if (slot == null) {
+            return false;
+        }
+        shape.removeChangeListener(listener);
+        unfile(slot);
+        shapes[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    /**
+     * Removes every shape and detaches the index from them.
+     */
+    public void clear() {
+        for (Shape3D shape : slotsByShape.keySet()) {
+            shape.removeChangeListener(listener);
+        }
+        slotsByShape.clear();
+        for (SortedMetricColumn column : columns.values()) {
+            column.clear();
+        }
+        Arrays.fill(shapes, 0, slotCount, null);
+        slotCount = 0;
+        freeCount = 0;
+    }
+
+    /**
+     * Re-files an indexed shape under its current values. Called
+     * automatically when a dimension setter runs.
+     *
+     * @param shape the shape to refresh
+     */
+    public void refresh(Shape3D shape) {
+        Integer slot = slotsByShape.get(shape);
+        if (slot != null) {
+            unfile(slot);
+            file(slot);
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == shapes.length) {
+            int capacity = shapes.length * 2;
+            shapes = Arrays.copyOf(shapes, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+            for (int m = 0; m < METRICS.length; m++) {
+                indexedValues[m] = Arrays.copyOf(indexedValues[m], capacity);
+            }
+        }
+        return slotCount++;
+    }
+
+    private void file(int slot) {
+        measure(slot);
+        for (Metric metric : METRICS) {
+            columns.get(metric).insert(indexedValues[metric.ordinal()][slot], sequences[slot], slot);
+        }
+    }
+
+    /** Records the shape's current metric values for its slot. */
+    private void measure(int slot) {
+        Shape3D shape = shapes[slot];
+        double volume = shape.getVolume();
+        double surfaceArea = shape.getSurfaceArea();
+        for (Metric metric : METRICS) {
+            indexedValues[metric.ordinal()][slot] = metric.of(volume, surfaceArea);
+        }
+    }
+
+    private void unfile(int slot) {
+        for (Metric metric : METRICS) {
+            columns.get(metric).remove(indexedValues[metric.ordinal()][slot], sequences[slot]);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of indexed shapes.
+     *
+     * @return the shape count
+     */
+    public int size() {
+        return slotsByShape.size();
+    }
+
+    /**
+     * Returns whether this exact shape instance is indexed.
+     *
+     * @param shape the shape to look up
+     * @return {@code true} if it is indexed
+     */
+    public boolean contains(Shape3D shape) {
+        return slotsByShape.containsKey(shape);
+    }
+
+    /**
+     * Returns the shapes whose metric lies in {@code [min, max]}, in
+     * ascending order of the metric. Use {@link Math#nextUp(double)} or
+     * {@link Math#nextDown(double)} on a bound to make it exclusive, and an
+     * infinite bound for an open-ended range.
+     *
+     * @param metric the metric to query
+     * @param min    the smallest value to include
+     * @param max    the largest value to include
+     * @return an unmodifiable list of matching shapes
+     * @throws IllegalArgumentException if a bound is {@code NaN} or
+     *                                  {@code min > max}
+     */
+    public List<Shape3D> range(Metric metric, double min, double max) {
+        validateRange(min, max);
+        SortedMetricColumn column = columns.get(metric);
+        int from = column.lowerBound(min);
+        int to = column.upperBound(max);
+        int[] slots = new int[Math.max(0, to - from)];
+        column.copySlots(from, to, slots);
+        List<Shape3D> result = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            result.add(shapes[slot]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the number of shapes whose metric lies in {@code [min, max]}.
+     *
+     * @param metric the metric to query
+     * @param min    the smallest value to include
+     * @param max    the largest value to include
+     * @return the number of matching shapes
+     * @throws IllegalArgumentException if a bound is {@code NaN} or
+     *                                  {@code min > max}
+     */
+    public int count(Metric metric, double min, double max) {
+        validateRange(min, max);
+        SortedMetricColumn column = columns.get(metric);
+        return Math.max(0, column.upperBound(max) - column.lowerBound(min));
+    }
+
+    /**
+     * Returns the number of shapes whose metric is strictly less than
+     * {@code value}, which is the sorted position {@code value} would take.
+     *
+     * @param metric the metric to query
+     * @param value  the value to rank
+     * @return the rank, from {@code 0} to {@link #size()}
+     * @throws IllegalArgumentException if {@code value} is {@code NaN}
+     */
+    public int rank(Metric metric, double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Value must not be NaN.");
+        }
+        return columns.get(metric).lowerBound(value);
+    }
+
+    /**
+     * Returns the shape at a position in ascending order of the metric, so
+     * {@code get(metric, 0)} is the smallest and
+     * {@code get(metric, size() - 1)} the largest. Shapes with a
+     * {@code NaN} value occupy the last positions.
+     *
+     * @param metric   the metric to order by
+     * @param position the zero-based position
+     * @return the shape at that position
+     * @throws IndexOutOfBoundsException if {@code position} is out of range
+     */
+    public Shape3D get(Metric metric, int position) {
+        SortedMetricColumn column = columns.get(metric);
+        if (position < 0 || position >= column.size()) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of range for size " + column.size());
+        }
+        return shapes[column.slot(position)];
+    }
+
+    /**
+     * Returns the metric value at a position in ascending order.
+     *
+     * @param metric   the metric to order by
+     * @param position the zero-based position
+     * @return the value at that position
+     * @throws IndexOutOfBoundsException if {@code position} is out of range
+     */
+    public double valueAt(Metric metric, int position) {
+        SortedMetricColumn column = columns.get(metric);
+        if (position < 0 || position >= column.size()) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of range for size " + column.size());
+        }
+        return column.value(position);
+    }
+
+    private static void validateRange(double min, double max) {
+        if (Double.isNaN(min) || Double.isNaN(max)) {
+            throw new IllegalArgumentException("Range bounds must not be NaN.");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("Range minimum " + min + " is greater than maximum " + max + ".");
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.csc205.project2.index;
+
+import java.util.Arrays;
+
+/**
+ * Sorted primitive column of {@code (value, sequence, slot)} triples, ordered
+ * by value and then by sequence.
+ *
+ * <p>Values are compared with {@link Double#compare}, so {@code NaN} sorts
+ * after positive infinity and never falls inside a range with a finite or
+ * infinite upper bound.</p>
+ *
+ * <p>Entries live in a list of blocks of at most {@value #BLOCK_CAPACITY}
+ * entries, each block a sorted run of three parallel primitive arrays, with
+ * a running count of the entries before each block. A lookup is a binary
+ * search over the blocks' last entries followed by one inside a block. An
+ * insert or removal shifts at most one block and updates the running
+ * counts, so it costs {@code O(B + n / B)} rather than {@code O(n)}; a full
+ * block is split in two and an empty one is dropped. {@link #load} builds a
+ * column in {@code O(n log n)} with one sort and fills the blocks half full,
+ * leaving room for later inserts.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Blocked layout</em> — a shallow, array-backed relative of the
+ *       B+-tree: cache-friendly runs with cheap local updates</li>
+ *   <li><em>Bulk loading</em> — sort once instead of inserting one entry at a
+ *       time</li>
+ * </ul>
+ *
+ * <p>Not thread-safe.</p>
+ */
+final class SortedMetricColumn {
+
+    /** The most entries one block holds; a full block is split in two. */
+    static final int BLOCK_CAPACITY = 1 << 10;
+
+    /** Entries per block after a bulk load. */
+    private static final int LOAD_FILL = BLOCK_CAPACITY / 2;
+
+    private double[][] values = new double[4][];
+    private long[][] sequences = new long[4][];
+    private int[][] slots = new int[4][];
+    private int[] sizes = new int[4];
+
+    /** {@code starts[b]} is the number of entries in the blocks before {@code b}. */
+    private int[] starts = new int[5];
+    private int blockCount;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    double value(int position) {
+        int block = blockOf(position);
+        return values[block][position - starts[block]];
+    }
+
+    int slot(int position) {
+        int block = blockOf(position);
+        return slots[block][position - starts[block]];
+    }
+
+    /**
+     * Copies the slots at positions {@code from} (inclusive) to {@code to}
+     * (exclusive) into {@code out}, starting at index {@code 0}.
+     */
+    void copySlots(int from, int to, int[] out) {
+        if (from >= to) {
+            return;
+        }
+        int block = blockOf(from);
+        int offset = from - starts[block];
+        for (int written = 0; written < to - from; block++, offset = 0) {
+            int count = Math.min(sizes[block] - offset, to - from - written);
+            System.arraycopy(slots[block], offset, out, written, count);
+            written += count;
+        }
+    }
+
+    /**
+     * Replaces the contents with {@code count} entries, the entry for slot
+     * {@code i} having value {@code values[i]} and sequence
+     * {@code sequences[i]}. Sequences must ascend with the slot, as they do
+     * when a new index assigns both in order, so a stable sort by value
+     * gives the {@code (value, sequence)} order.
+     */
+    void load(double[] entryValues, long[] entrySequences, int count) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        sortByValue(order, entryValues);
+
+        int blocks = (count + LOAD_FILL - 1) / LOAD_FILL;
+        ensureBlocks(blocks);
+        blockCount = blocks;
+        size = count;
+        for (int b = 0; b < blocks; b++) {
+            int from = b * LOAD_FILL;
+            int n = Math.min(LOAD_FILL, count - from);
+            values[b] = new double[BLOCK_CAPACITY];
+            sequences[b] = new long[BLOCK_CAPACITY];
+            slots[b] = new int[BLOCK_CAPACITY];
+            for (int i = 0; i < n; i++) {
+                int slot = order[from + i];
+                values[b][i] = entryValues[slot];
+                sequences[b][i] = entrySequences[slot];
+                slots[b][i] = slot;
+            }
+            sizes[b] = n;
+            starts[b] = from;
+        }
+        starts[blocks] = count;
+    }
+
+    /**
+     * Inserts an entry at its sorted position.
+     */
+    void insert(double value, long sequence, int slot) {
+        if (blockCount == 0) {
+            ensureBlocks(1);
+            values[0] = new double[BLOCK_CAPACITY];
+            sequences[0] = new long[BLOCK_CAPACITY];
+            slots[0] = new int[BLOCK_CAPACITY];
+            sizes[0] = 0;
+            starts[0] = 0;
+            starts[1] = 0;
+            blockCount = 1;
+        }
+        int block = blockFor(value, sequence);
+        if (sizes[block] == BLOCK_CAPACITY) {
+            split(block);
+            if (compare(value, sequence, block, sizes[block] - 1) > 0) {
+                block++;
+            }
+        }
+        int position = -(find(block, value, sequence) + 1);
+        int tail = sizes[block] - position;
+        System.arraycopy(values[block], position, values[block], position + 1, tail);
+        System.arraycopy(sequences[block], position, sequences[block], position + 1, tail);
+        System.arraycopy(slots[block], position, slots[block], position + 1, tail);
+        values[block][position] = value;
+        sequences[block][position] = sequence;
+        slots[block][position] = slot;
+        sizes[block]++;
+        for (int b = block + 1; b <= blockCount; b++) {
+            starts[b]++;
+        }
+        size++;
+    }
+
+    /**
+     * Removes the entry with exactly this value and sequence.
+     *
+     * @return {@code true} if the entry was present
+     */
+    boolean remove(double value, long sequence) {
+        if (blockCount == 0) {
+            return false;
+        }
+        int block = blockFor(value, sequence);
+        int position = find(block, value, sequence);
+        if (position < 0) {
+            return false;
+        }
+        int tail = sizes[block] - position - 1;
+        System.arraycopy(values[block], position + 1, values[block], position, tail);
+        System.arraycopy(sequences[block], position + 1, sequences[block], position, tail);
+        System.arraycopy(slots[block], position + 1, slots[block], position, tail);
+        sizes[block]--;
+        for (int b = block + 1; b <= blockCount; b++) {
+            starts[b]--;
+        }
+        size--;
+        if (sizes[block] == 0) {
+            dropBlock(block);
+        }
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(values, 0, blockCount, null);
+        Arrays.fill(sequences, 0, blockCount, null);
+        Arrays.fill(slots, 0, blockCount, null);
+        blockCount = 0;
+        size = 0;
+        starts[0] = 0;
+    }
+
+    /**
+     * Returns the position of the first value not less than {@code value}.
+     */
+    int lowerBound(double value) {
+        int block = firstBlockEndingAtLeast(value, false);
+        if (block == blockCount) {
+            return size;
+        }
+        double[] run = values[block];
+        int low = 0;
+        int high = sizes[block];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(run[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return starts[block] + low;
+    }
+
+    /**
+     * Returns the position of the first value greater than {@code value}.
+     */
+    int upperBound(double value) {
+        int block = firstBlockEndingAtLeast(value, true);
+        if (block == blockCount) {
+            return size;
+        }
+        double[] run = values[block];
+        int low = 0;
+        int high = sizes[block];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(run[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return starts[block] + low;
+    }
+
+    // ---------------------------------------------------------------
+    // Blocks
+    // ---------------------------------------------------------------
+
+    /** Returns the block holding a position in {@code [0, size)}. */
+    private int blockOf(int position) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first block whose last value is at least {@code value}
+     * (or greater, when {@code strict}), or {@code blockCount} if none is.
+     */
+    private int firstBlockEndingAtLeast(double value, boolean strict) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(values[mid][sizes[mid] - 1], value);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the block an entry belongs in: the first whose last entry is
+     * not less than it, or the last block if the entry sorts after them all.
+     */
+    private int blockFor(double value, long sequence) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(value, sequence, mid, sizes[mid] - 1) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Splits a full block into two halves. */
+    private void split(int block) {
+        ensureBlocks(blockCount + 1);
+        int shift = blockCount - block - 1;
+        System.arraycopy(values, block + 1, values, block + 2, shift);
+        System.arraycopy(sequences, block + 1, sequences, block + 2, shift);
+        System.arraycopy(slots, block + 1, slots, block + 2, shift);
+        System.arraycopy(sizes, block + 1, sizes, block + 2, shift);
+        System.arraycopy(starts, block + 1, starts, block + 2, shift + 1);
+
+        int keep = sizes[block] / 2;
+        int move = sizes[block] - keep;
+        values[block + 1] = new double[BLOCK_CAPACITY];
+        sequences[block + 1] = new long[BLOCK_CAPACITY];
+        slots[block + 1] = new int[BLOCK_CAPACITY];
+        System.arraycopy(values[block], keep, values[block + 1], 0, move);
+        System.arraycopy(sequences[block], keep, sequences[block + 1], 0, move);
+        System.arraycopy(slots[block], keep, slots[block + 1], 0, move);
+        sizes[block] = keep;
+        sizes[block + 1] = move;
+        starts[block + 1] = starts[block] + keep;
+        blockCount++;
+    }
+
+    /** Removes an empty block. */
+    private void dropBlock(int block) {
+        int shift = blockCount - block - 1;
+        System.arraycopy(values, block + 1, values, block, shift);
+        System.arraycopy(sequences, block + 1, sequences, block, shift);
+        System.arraycopy(slots, block + 1, slots, block, shift);
+        System.arraycopy(sizes, block + 1, sizes, block, shift);
+        System.arraycopy(starts, block + 1, starts, block, shift + 1);
+        blockCount--;
+        values[blockCount] = null;
+        sequences[blockCount] = null;
+        slots[blockCount] = null;
+    }
+
+    private void ensureBlocks(int blocks) {
+        if (blocks > sizes.length) {
+            int capacity = Math.max(blocks, sizes.length * 2);
+            values = Arrays.copyOf(values, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            starts = Arrays.copyOf(starts, capacity + 1);
+        }
+    }
+
+    /** Compares an entry with the entry at {@code index} of {@code block}. */
+    private int compare(double value, long sequence, int block, int index) {
+        int cmp = Double.compare(value, values[block][index]);
+        return cmp != 0 ? cmp : Long.compare(sequence, sequences[block][index]);
+    }
+
+    /**
+     * Binary search on {@code (value, sequence)} within one block, returning
+     * the index if found or {@code -(insertion point) - 1} otherwise, like
+     * {@link Arrays#binarySearch(double[], double)}.
+     */
+    private int find(int block, double value, long sequence) {
+        int low = 0;
+        int high = sizes[block] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(value, sequence, block, mid);
+            if (cmp > 0) {
+                low = mid + 1;
+            } else if (cmp < 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /** Stable bottom-up merge sort of {@code order} by {@code keys[order[i]]}. */
+    private static void sortByValue(int[] order, double[] keys) {
+        int n = order.length;
+        int[] source = order;
+        int[] target = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int left = 0; left < n; left += 2 * width) {
+                int mid = Math.min(left + width, n);
+                int right = Math.min(left + 2 * width, n);
+                int i = left;
+                int j = mid;
+                int k = left;
+                while (i < mid && j < right) {
+                    target[k++] = Double.compare(keys[source[j]], keys[source[i]]) < 0 ? source[j++] : source[i++];
+                }
+                while (i < mid) {
+                    target[k++] = source[i++];
+                }
+                while (j < right) {
+                    target[k++] = source[j++];
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != order) {
+            System.arraycopy(source, 0, order, 0, n);
+        }
+    }
+}
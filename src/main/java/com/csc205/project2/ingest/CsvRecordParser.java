@@ -0,0 +1,79 @@
+package com.csc205.project2.ingest;
+
+/**
+ * Parses the {@link IngestFormat#CSV} line format from bytes. This is the
+ * only implementation of the format; batch mode reaches it through
+ * {@link IngestFormat#parseLine(String)}.
+ */
+final class CsvRecordParser extends RecordParser {
+
+    /** The field separator. */
+    static final byte DELIMITER = ',';
+
+    private static final int FIXED_FIELDS = 3;
+    private static final int MAX_FIELDS = FIXED_FIELDS + 3;
+
+    private final int[] starts = new int[MAX_FIELDS];
+    private final int[] ends = new int[MAX_FIELDS];
+
+    @Override
+    Outcome parse(byte[] bytes, int from, int to) {
+        int first = Utf8.trimStart(bytes, from, to);
+        if (first == to || bytes[first] == '#') {
+            return Outcome.SKIP;
+        }
+
+        int fields = 0;
+        int start = from;
+        int i = from;
+        while (true) {
+            int delimiter = indexOfDelimiter(bytes, i, to);
+            if (fields < MAX_FIELDS) {
+                starts[fields] = start;
+                ends[fields] = delimiter;
+            }
+            fields++;
+            if (delimiter == to) {
+                break;
+            }
+            start = delimiter + 1;
+            i = start;
+        }
+        if (fields < FIXED_FIELDS + 1) {
+            return fail("Expected type,name,color,dimensions but found "
+                    + fields + (fields == 1 ? " field." : " fields."));
+        }
+
+        type = matchType(bytes, starts[0], ends[0]);
+        if (type == null) {
+            return fail("Unknown shape type: '" + Utf8.decode(bytes, starts[0], ends[0]) + "'.");
+        }
+        int expected = FIXED_FIELDS + type.dimensionCount();
+        if (fields != expected) {
+            return fail(type.displayName() + " expects " + expected + " fields but found " + fields + ".");
+        }
+
+        for (int d = 0; d < type.dimensionCount(); d++) {
+            int s = Utf8.trimStart(bytes, starts[FIXED_FIELDS + d], ends[FIXED_FIELDS + d]);
+            int e = Utf8.trimEnd(bytes, s, ends[FIXED_FIELDS + d]);
+            if (!parseDimension(bytes, s, e, d)) {
+                return Outcome.ERROR;
+            }
+        }
+        name = trimmed(bytes, 1);
+        color = trimmed(bytes, 2);
+        return Outcome.SHAPE;
+    }
+
+    private static int indexOfDelimiter(byte[] bytes, int from, int to) {
+        while (from < to && bytes[from] != DELIMITER) {
+            from++;
+        }
+        return from;
+    }
+
+    private String trimmed(byte[] bytes, int field) {
+        int s = Utf8.trimStart(bytes, starts[field], ends[field]);
+        return Utf8.decode(bytes, s, Utf8.trimEnd(bytes, s, ends[field]));
+    }
+}
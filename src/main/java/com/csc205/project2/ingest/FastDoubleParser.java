@@ -0,0 +1,151 @@
+package com.csc205.project2.ingest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses decimal numbers straight from bytes, without building a
+ * {@code String} for the common case.
+ *
+ * <p>Plain decimals such as {@code 12}, {@code -3.75} or {@code 6.02e23}
+ * with at most 18 significant digits are accumulated into a {@code long}.
+ * When that significand is at most 2<sup>53</sup> and the decimal exponent
+ * lies within &plusmn;22, both the significand and the power of ten are
+ * exact doubles, so a single multiplication or division gives the correctly
+ * rounded result (Clinger's fast path). Everything else, including
+ * {@code NaN}, {@code Infinity}, hexadecimal literals and very long or
+ * very large numbers, falls back to {@link Double#parseDouble(String)}.
+ * Either way the result is bit-for-bit identical to
+ * {@code Double.parseDouble} on the same text.</p>
+ */
+public final class FastDoubleParser {
+
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private FastDoubleParser() {
+        // utility class
+    }
+
+    /**
+     * Parses the bytes {@code [from, to)} of an array as a number. The
+     * range must already be trimmed.
+     *
+     * @param bytes the bytes holding the number
+     * @param from  the offset of the first byte
+     * @param to    the offset just past the last byte
+     * @return the parsed value
+     * @throws NumberFormatException if the bytes are not a number
+     */
+    public static double parse(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to) {
+            byte sign = bytes[i];
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i++;
+            }
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        while (i < to) {
+            int d = bytes[i] - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            anyDigit = true;
+            if (significand != 0 || d != 0) {
+                if (++digits > MAX_SIGNIFICANT_DIGITS) {
+                    return slowParse(bytes, from, to);
+                }
+                significand = significand * 10 + d;
+            }
+            i++;
+        }
+        if (i < to && bytes[i] == '.') {
+            i++;
+            while (i < to) {
+                int d = bytes[i] - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                anyDigit = true;
+                if (significand != 0 || d != 0) {
+                    if (++digits > MAX_SIGNIFICANT_DIGITS) {
+                        return slowParse(bytes, from, to);
+                    }
+                    significand = significand * 10 + d;
+                }
+                exponent--;
+                i++;
+            }
+        }
+        if (!anyDigit) {
+            return slowParse(bytes, from, to);
+        }
+        if (i < to && (bytes[i] | 0x20) == 'e') {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to) {
+                byte sign = bytes[i];
+                if (sign == '-' || sign == '+') {
+                    negativeExponent = sign == '-';
+                    i++;
+                }
+            }
+            int explicit = 0;
+            int exponentStart = i;
+            while (i < to) {
+                int d = bytes[i] - '0';
+                if (d < 0 || d > 9 || explicit > 100_000) {
+                    break;
+                }
+                explicit = explicit * 10 + d;
+                i++;
+            }
+            if (i == exponentStart) {
+                return slowParse(bytes, from, to);
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (i != to || significand > MAX_EXACT_SIGNIFICAND) {
+            return slowParse(bytes, from, to);
+        }
+
+        double value;
+        if (significand == 0) {
+            value = 0.0;
+        } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            value = significand * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            value = significand / POWERS_OF_TEN[-exponent];
+        } else {
+            return slowParse(bytes, from, to);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a string with the same rules, for callers that already hold
+     * one.
+     *
+     * @param text the number
+     * @return the parsed value
+     * @throws NumberFormatException if the text is not a number
+     */
+    public static double parse(String text) {
+        byte[] bytes = text.trim().getBytes(StandardCharsets.UTF_8);
+        return parse(bytes, 0, bytes.length);
+    }
+
+    private static double slowParse(byte[] bytes, int from, int to) {
+        return Double.parseDouble(Utf8.decode(bytes, from, to));
+    }
+}
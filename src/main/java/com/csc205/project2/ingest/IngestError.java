@@ -0,0 +1,43 @@
+package com.csc205.project2.ingest;
+
+/**
+ * A line the ingestor could not turn into a shape.
+ */
+public final class IngestError {
+
+    private final long line;
+    private final String message;
+
+    IngestError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    /**
+     * Returns the 1-based line number in the input.
+     *
+     * @return the line number
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Returns why the line was rejected.
+     *
+     * @return the error message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns {@code "Line N: message"}.
+     *
+     * @return a description of the error
+     */
+    @Override
+    public String toString() {
+        return "Line " + line + ": " + message;
+    }
+}
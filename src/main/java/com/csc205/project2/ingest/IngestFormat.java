@@ -0,0 +1,74 @@
+package com.csc205.project2.ingest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * The line-oriented input formats understood by {@link ShapeIngestor}.
+ *
+ * <p>{@link #parseLine(String)} applies a format's rules to a single line,
+ * so callers that read lines themselves, such as batch mode, accept and
+ * reject exactly what the ingestor does.</p>
+ */
+public enum IngestFormat {
+
+    /**
+     * {@code type,name,color,dimension[,dimension[,dimension]]}, where
+     * {@code type} is any name accepted by
+     * {@link com.csc205.project2.shapes.ShapeType#parse} and the dimensions
+     * follow {@link com.csc205.project2.shapes.ShapeType#dimensionNames()},
+     * for example {@code Cylinder,Green Pipe,Green,3.0,7.0}. Fields are
+     * trimmed. Blank lines and lines whose first non-blank character is
+     * {@code #} are skipped.
+     */
+    CSV,
+
+    /**
+     * One JSON object per line with {@code type}, {@code name},
+     * {@code color} and a {@code dimensions} array. Blank lines are skipped.
+     */
+    JSON_LINES;
+
+    /**
+     * Chooses a format from a file extension: {@code .json}, {@code .jsonl}
+     * and {@code .ndjson} are JSON lines, anything else is CSV.
+     *
+     * @param path the input file
+     * @return the format for that file
+     */
+    public static IngestFormat forPath(Path path) {
+        String file = path.getFileName() == null ? "" : path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return file.endsWith(".json") || file.endsWith(".jsonl") || file.endsWith(".ndjson") ? JSON_LINES : CSV;
+    }
+
+    /**
+     * Parses one line of this format into a new shape.
+     *
+     * @param line the line, without its line terminator
+     * @return the shape, or {@code null} if the line is blank or a comment
+     * @throws IllegalArgumentException if {@code line} is {@code null}, is
+     *                                  malformed, or the shape's constructor
+     *                                  rejects a value
+     */
+    public Shape3D parseLine(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Line must not be null.");
+        }
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        RecordParser parser = newParser();
+        return switch (parser.parse(bytes, 0, bytes.length)) {
+            case SHAPE -> parser.type.create(parser.name, parser.color,
+                    Arrays.copyOf(parser.dimensions, parser.type.dimensionCount()));
+            case SKIP -> null;
+            case ERROR -> throw new IllegalArgumentException(parser.error());
+        };
+    }
+
+    RecordParser newParser() {
+        return this == CSV ? new CsvRecordParser() : new JsonRecordParser();
+    }
+}
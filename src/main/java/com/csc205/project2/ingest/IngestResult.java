@@ -0,0 +1,74 @@
+package com.csc205.project2.ingest;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of one {@link ShapeIngestor} run: the filled sink plus line
+ * counts and the rejected lines.
+ *
+ * @param <S> the sink type
+ */
+public final class IngestResult<S extends ShapeSink<S>> {
+
+    private final S sink;
+    private final long lineCount;
+    private final long shapeCount;
+    private final long rejectedCount;
+    private final List<IngestError> errors;
+
+    IngestResult(S sink, long lineCount, long shapeCount, long rejectedCount, List<IngestError> errors) {
+        this.sink = sink;
+        this.lineCount = lineCount;
+        this.shapeCount = shapeCount;
+        this.rejectedCount = rejectedCount;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the sink holding every accepted shape in input order.
+     *
+     * @return the sink
+     */
+    public S getSink() {
+        return sink;
+    }
+
+    /**
+     * Returns the number of lines read, including skipped and rejected ones.
+     *
+     * @return the line count
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the number of shapes accepted by the sink.
+     *
+     * @return the shape count
+     */
+    public long getShapeCount() {
+        return shapeCount;
+    }
+
+    /**
+     * Returns the number of rejected lines, which may exceed the number of
+     * {@link #getErrors() recorded errors}.
+     *
+     * @return the rejected line count
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns the first rejected lines, in input order, up to the
+     * ingestor's error limit.
+     *
+     * @return an unmodifiable list of errors
+     */
+    public List<IngestError> getErrors() {
+        return errors;
+    }
+}
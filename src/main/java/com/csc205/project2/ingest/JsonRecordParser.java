@@ -0,0 +1,310 @@
+package com.csc205.project2.ingest;
+
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Parses one JSON object per line, for example:
+ * <pre>
+ * {"type": "Cylinder", "name": "Pipe", "color": "Green", "dimensions": [3.0, 7.0]}
+ * </pre>
+ *
+ * <p>The four members may appear in any order and are all required; any
+ * other member is an error. {@code type} accepts the same names as
+ * {@link ShapeType#parse}. Strings support the JSON escapes. Blank lines are
+ * skipped.</p>
+ */
+final class JsonRecordParser extends RecordParser {
+
+    private static final int MAX_DIMENSIONS = 3;
+
+    private final int[] dimensionStarts = new int[MAX_DIMENSIONS];
+    private final int[] dimensionEnds = new int[MAX_DIMENSIONS];
+    private byte[] bytes;
+    private int position;
+    private int end;
+    private String stringValue;
+    private int stringStart;
+    private int stringEnd;
+
+    @Override
+    Outcome parse(byte[] bytes, int from, int to) {
+        this.bytes = bytes;
+        this.position = Utf8.trimStart(bytes, from, to);
+        this.end = Utf8.trimEnd(bytes, position, to);
+        if (position == end) {
+            return Outcome.SKIP;
+        }
+
+        type = null;
+        name = null;
+        color = null;
+        int dimensionCount = -1;
+        int typeStart = 0;
+        int typeEnd = 0;
+        String typeText = null;
+
+        if (!expect('{')) {
+            return Outcome.ERROR;
+        }
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+        } else {
+            while (true) {
+                skipWhitespace();
+                if (!readString()) {
+                    return Outcome.ERROR;
+                }
+                String key = stringValue != null ? stringValue : Utf8.decode(bytes, stringStart, stringEnd);
+                if (!expect(':')) {
+                    return Outcome.ERROR;
+                }
+                skipWhitespace();
+                switch (key) {
+                    case "type" -> {
+                        if (!readMemberString(key)) {
+                            return Outcome.ERROR;
+                        }
+                        typeText = stringValue;
+                        typeStart = stringStart;
+                        typeEnd = stringEnd;
+                        type = typeText == null ? matchType(bytes, typeStart, typeEnd) : null;
+                        if (typeText == null && type == null) {
+                            typeText = Utf8.decode(bytes, typeStart, typeEnd);
+                        }
+                    }
+                    case "name" -> {
+                        if (!readMemberString(key)) {
+                            return Outcome.ERROR;
+                        }
+                        name = currentString();
+                    }
+                    case "color" -> {
+                        if (!readMemberString(key)) {
+                            return Outcome.ERROR;
+                        }
+                        color = currentString();
+                    }
+                    case "dimensions" -> {
+                        dimensionCount = readDimensions();
+                        if (dimensionCount < 0) {
+                            return Outcome.ERROR;
+                        }
+                    }
+                    default -> {
+                        return fail("Unknown field \"" + key + "\".");
+                    }
+                }
+                skipWhitespace();
+                byte next = peek();
+                position++;
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    return fail("Malformed JSON: expected ',' or '}'.");
+                }
+            }
+        }
+        skipWhitespace();
+        if (position != end) {
+            return fail("Malformed JSON: unexpected text after the object.");
+        }
+
+        if (type == null && typeText == null) {
+            return fail("Missing \"type\" field.");
+        }
+        if (type == null) {
+            ShapeType parsed;
+            try {
+                parsed = ShapeType.parse(typeText);
+            } catch (IllegalArgumentException e) {
+                return fail(e.getMessage());
+            }
+            type = parsed;
+        }
+        if (name == null) {
+            return fail("Missing \"name\" field.");
+        }
+        if (color == null) {
+            return fail("Missing \"color\" field.");
+        }
+        if (dimensionCount < 0) {
+            return fail("Missing \"dimensions\" field.");
+        }
+        if (dimensionCount != type.dimensionCount()) {
+            return fail(type.displayName() + " requires " + type.dimensionCount()
+                    + (type.dimensionCount() == 1 ? " dimension" : " dimensions") + " but got "
+                    + dimensionCount + ".");
+        }
+        for (int d = 0; d < dimensionCount; d++) {
+            if (!parseDimension(bytes, dimensionStarts[d], dimensionEnds[d], d)) {
+                return Outcome.ERROR;
+            }
+        }
+        return Outcome.SHAPE;
+    }
+
+    // ---------------------------------------------------------------
+    // Tokens
+    // ---------------------------------------------------------------
+
+    private byte peek() {
+        return position < end ? bytes[position] : 0;
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            byte b = bytes[position];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private boolean expect(char c) {
+        skipWhitespace();
+        if (peek() != c) {
+            fail("Malformed JSON: expected '" + c + "'.");
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    private boolean readMemberString(String key) {
+        if (peek() != '"') {
+            fail("Field \"" + key + "\" must be a string.");
+            return false;
+        }
+        return readString();
+    }
+
+    private String currentString() {
+        return stringValue != null ? stringValue : Utf8.decode(bytes, stringStart, stringEnd);
+    }
+
+    /**
+     * Reads a string token. Without escapes only its byte range is
+     * recorded and {@code stringValue} is {@code null}; otherwise the
+     * decoded value is stored in {@code stringValue}.
+     */
+    private boolean readString() {
+        if (peek() != '"') {
+            fail("Malformed JSON: expected '\"'.");
+            return false;
+        }
+        position++;
+        stringStart = position;
+        stringValue = null;
+        StringBuilder unescaped = null;
+        int runStart = position;
+        while (position < end) {
+            byte b = bytes[position];
+            if (b == '"') {
+                stringEnd = position;
+                position++;
+                if (unescaped != null) {
+                    unescaped.append(Utf8.decode(bytes, runStart, stringEnd));
+                    stringValue = unescaped.toString();
+                }
+                return true;
+            }
+            if (b == '\\') {
+                if (unescaped == null) {
+                    unescaped = new StringBuilder();
+                }
+                unescaped.append(Utf8.decode(bytes, runStart, position));
+                if (position + 1 >= end) {
+                    break;
+                }
+                byte escape = bytes[position + 1];
+                position += 2;
+                switch (escape) {
+                    case '"', '\\', '/' -> unescaped.append((char) escape);
+                    case 'b' -> unescaped.append('\b');
+                    case 'f' -> unescaped.append('\f');
+                    case 'n' -> unescaped.append('\n');
+                    case 'r' -> unescaped.append('\r');
+                    case 't' -> unescaped.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > end) {
+                            fail("Malformed JSON: truncated \\u escape.");
+                            return false;
+                        }
+                        int code = 0;
+                        for (int k = 0; k < 4; k++) {
+                            int digit = Character.digit(bytes[position + k], 16);
+                            if (digit < 0) {
+                                fail("Malformed JSON: invalid \\u escape.");
+                                return false;
+                            }
+                            code = code * 16 + digit;
+                        }
+                        unescaped.append((char) code);
+                        position += 4;
+                    }
+                    default -> {
+                        fail("Malformed JSON: invalid escape '\\" + (char) escape + "'.");
+                        return false;
+                    }
+                }
+                runStart = position;
+            } else {
+                position++;
+            }
+        }
+        fail("Malformed JSON: unterminated string.");
+        return false;
+    }
+
+    /**
+     * Reads a JSON array of numbers, recording the byte range of each
+     * element. Returns the element count, or -1 with {@link #error} set.
+     */
+    private int readDimensions() {
+        if (peek() != '[') {
+            fail("Field \"dimensions\" must be an array of numbers.");
+            return -1;
+        }
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return 0;
+        }
+        int count = 0;
+        while (true) {
+            skipWhitespace();
+            int start = position;
+            while (position < end) {
+                byte b = bytes[position];
+                if (b == ',' || b == ']' || b == ' ' || b == '\t') {
+                    break;
+                }
+                position++;
+            }
+            if (position == start) {
+                fail("Field \"dimensions\" must be an array of numbers.");
+                return -1;
+            }
+            if (count < MAX_DIMENSIONS) {
+                dimensionStarts[count] = start;
+                dimensionEnds[count] = position;
+            }
+            count++;
+            skipWhitespace();
+            byte next = peek();
+            position++;
+            if (next == ']') {
+                return count;
+            }
+            if (next != ',') {
+                fail("Malformed JSON: expected ',' or ']' in \"dimensions\".");
+                return -1;
+            }
+        }
+    }
+}
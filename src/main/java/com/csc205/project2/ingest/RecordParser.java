@@ -0,0 +1,106 @@
+package com.csc205.project2.ingest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Parses one line of an input format into the fields of a shape.
+ *
+ * <p>A parser holds the fields of the line it parsed last, so one instance
+ * is reused for every line of a chunk and no per-line objects are created
+ * apart from the name and color strings. Problems are reported through
+ * {@link #error()} instead of exceptions. Instances are not thread-safe.</p>
+ */
+abstract class RecordParser {
+
+    /** What a parsed line turned out to be. */
+    enum Outcome {
+        /** The line described a shape; its fields are available. */
+        SHAPE,
+        /** The line was blank or a comment. */
+        SKIP,
+        /** The line was malformed; see {@link #error()}. */
+        ERROR
+    }
+
+    private static final ShapeType[] TYPES = ShapeType.values();
+    private static final byte[][] TYPE_KEYS = new byte[TYPES.length][];
+
+    static {
+        for (ShapeType type : TYPES) {
+            TYPE_KEYS[type.ordinal()] = type.displayName().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    ShapeType type;
+    String name;
+    String color;
+    final double[] dimensions = new double[3];
+    String error;
+
+    /**
+     * Parses the bytes {@code [from, to)}, which hold one line without its
+     * terminating newline.
+     */
+    abstract Outcome parse(byte[] bytes, int from, int to);
+
+    /** Returns the message for the last {@link Outcome#ERROR}. */
+    final String error() {
+        return error;
+    }
+
+    final Outcome fail(String message) {
+        error = message;
+        return Outcome.ERROR;
+    }
+
+    /**
+     * Matches a type name as {@link ShapeType#parse} does, ignoring case and
+     * underscores, directly on the bytes {@code [from, to)}.
+     *
+     * @return the type, or {@code null} if no type matches
+     */
+    static ShapeType matchType(byte[] bytes, int from, int to) {
+        from = Utf8.trimStart(bytes, from, to);
+        to = Utf8.trimEnd(bytes, from, to);
+        for (ShapeType type : TYPES) {
+            byte[] key = TYPE_KEYS[type.ordinal()];
+            int k = 0;
+            int i = from;
+            for (; i < to; i++) {
+                byte b = bytes[i];
+                if (b == '_') {
+                    continue;
+                }
+                if (k == key.length || (b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b) != key[k]) {
+                    break;
+                }
+                k++;
+            }
+            if (i == to && k == key.length) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the trimmed bytes {@code [from, to)} as dimension {@code index}
+     * of the current type.
+     *
+     * @return {@code false}, with {@link #error()} set, if they are not a
+     *         number
+     */
+    final boolean parseDimension(byte[] bytes, int from, int to, int index) {
+        try {
+            dimensions[index] = FastDoubleParser.parse(bytes, from, to);
+            return true;
+        } catch (NumberFormatException e) {
+            error = "Invalid number for " + type.dimensionNames().get(index) + ": '"
+                    + Utf8.decode(bytes, from, to) + "'.";
+            return false;
+        }
+    }
+}
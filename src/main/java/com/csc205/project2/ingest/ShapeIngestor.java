@@ -0,0 +1,355 @@
+package com.csc205.project2.ingest;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.csc205.project2.shapes.ShapeRules;
+
+/**
+ * Loads large CSV or JSON-lines shape files in parallel.
+ *
+ * <p>The input is memory-mapped and cut into chunks of roughly
+ * {@link #getChunkBytes()} bytes, each ending on a line boundary. Every chunk
+ * is parsed on a worker thread into its own {@link ShapeSink}: the chunk is
+ * copied to the heap in one bulk transfer, fields are located directly in
+ * its bytes, numbers are read with {@link FastDoubleParser}, and only the
+ * name and color strings are allocated per line. When all chunks are done their sinks are appended in
+ * input order, so the result is the same for any thread count. Chunks share
+ * nothing while parsing, so throughput grows with the number of cores until
+ * the disk becomes the limit.</p>
+ *
+ * <p>A bad line never stops the run. Syntax errors and {@link ShapeRules}
+ * violations are found without throwing; they, and any other rejection by
+ * the sink, are recorded as {@link IngestError}s with their line number, up
+ * to {@link #getMaxErrors()} of them, and counted in
+ * {@link IngestResult#getRejectedCount()}.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Map-reduce</em> — per-chunk sinks merged in order</li>
+ *   <li><em>Strategy</em> — the {@link IngestFormat} picks the record
+ *       parser; the {@link ShapeSink} decides how shapes are stored</li>
+ * </ul>
+ *
+ * @see IngestFormat
+ */
+public final class ShapeIngestor {
+
+    /** Default target chunk size: 4 MiB. */
+    public static final int DEFAULT_CHUNK_BYTES = 4 << 20;
+
+    /** Default number of errors kept in a result. */
+    public static final int DEFAULT_MAX_ERRORS = 1000;
+
+    private static final int MAX_CHUNK_BYTES = Integer.MAX_VALUE - 8;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final int threads;
+    private final int chunkBytes;
+    private final int maxErrors;
+
+    /**
+     * Creates an ingestor with one thread per available processor and the
+     * default chunk size and error limit.
+     */
+    public ShapeIngestor() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_BYTES, DEFAULT_MAX_ERRORS);
+    }
+
+    /**
+     * Creates an ingestor.
+     *
+     * @param threads    the number of parsing threads; must be positive
+     * @param chunkBytes the target chunk size in bytes; must be positive
+     * @param maxErrors  the number of errors to keep; must not be negative
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public ShapeIngestor(int threads, int chunkBytes, int maxErrors) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1.");
+        }
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1 byte.");
+        }
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("Error limit must not be negative.");
+        }
+        this.threads = threads;
+        this.chunkBytes = chunkBytes;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Ingests a file, choosing the format from its extension with
+     * {@link IngestFormat#forPath(Path)}.
+     *
+     * @param path  the input file
+     * @param sinks creates one empty sink per chunk
+     * @param <S>   the sink type
+     * @return the merged sink and the line statistics
+     * @throws IOException if the file cannot be read or the thread is
+     *                     interrupted
+     */
+    public <S extends ShapeSink<S>> IngestResult<S> ingest(Path path, Supplier<S> sinks) throws IOException {
+        return ingest(path, IngestFormat.forPath(path), sinks);
+    }
+
+    /**
+     * Ingests a file in the given format.
+     *
+     * @param path   the input file
+     * @param format the input format
+     * @param sinks  creates one empty sink per chunk
+     * @param <S>    the sink type
+     * @return the merged sink and the line statistics
+     * @throws IOException if the file cannot be read or the thread is
+     *                     interrupted
+     */
+    public <S extends ShapeSink<S>> IngestResult<S> ingest(Path path, IngestFormat format, Supplier<S> sinks)
+            throws IOException {
+        try (Arena arena = Arena.ofShared();
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return ingest(bytes, format, sinks);
+        }
+    }
+
+    /**
+     * Ingests UTF-8 text that is already in memory.
+     *
+     * @param bytes  the input
+     * @param format the input format
+     * @param sinks  creates one empty sink per chunk
+     * @param <S>    the sink type
+     * @return the merged sink and the line statistics
+     * @throws IOException if the thread is interrupted
+     */
+    public <S extends ShapeSink<S>> IngestResult<S> ingest(MemorySegment bytes, IngestFormat format,
+                                                          Supplier<S> sinks) throws IOException {
+        List<long[]> chunks = split(bytes);
+        if (chunks.size() <= 1 || threads == 1) {
+            List<ChunkResult<S>> results = new ArrayList<>(chunks.size());
+            for (long[] chunk : chunks) {
+                results.add(parseChunk(bytes, chunk[0], chunk[1], format, sinks.get()));
+            }
+            return combine(results, sinks);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, chunks.size()), new IngestThreadFactory());
+        try {
+            List<Future<ChunkResult<S>>> futures = new ArrayList<>(chunks.size());
+            for (long[] chunk : chunks) {
+                futures.add(pool.submit(() -> parseChunk(bytes, chunk[0], chunk[1], format, sinks.get())));
+            }
+            List<ChunkResult<S>> results = new ArrayList<>(chunks.size());
+            for (Future<ChunkResult<S>> future : futures) {
+                results.add(future.get());
+            }
+            return combine(results, sinks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while ingesting shapes.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Shape ingestion failed.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Accessors
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of parsing threads.
+     *
+     * @return the thread count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the target chunk size in bytes.
+     *
+     * @return the chunk size
+     */
+    public int getChunkBytes() {
+        return chunkBytes;
+    }
+
+    /**
+     * Returns the maximum number of errors kept in a result.
+     *
+     * @return the error limit
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    // ---------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------
+
+    /**
+     * Cuts the input into {@code [start, end)} ranges of about
+     * {@link #chunkBytes}, extending each to just past the next newline.
+     */
+    private List<long[]> split(MemorySegment bytes) {
+        long size = bytes.byteSize();
+        long start = hasBom(bytes) ? UTF8_BOM.length : 0;
+        List<long[]> chunks = new ArrayList<>();
+        while (start < size) {
+            long end = Math.min(size, start + chunkBytes);
+            while (end < size && bytes.get(ValueLayout.JAVA_BYTE, end - 1) != '\n') {
+                end++;
+            }
+            chunks.add(new long[] {start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static boolean hasBom(MemorySegment bytes) {
+        if (bytes.byteSize() < UTF8_BOM.length) {
+            return false;
+        }
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (bytes.get(ValueLayout.JAVA_BYTE, i) != UTF8_BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies one chunk to the heap and parses it line by line. The copy is a
+     * single bulk transfer, after which every access is a plain array read.
+     */
+    private <S extends ShapeSink<S>> ChunkResult<S> parseChunk(MemorySegment input, long start, long end,
+                                                              IngestFormat format, S sink) {
+        if (end - start > MAX_CHUNK_BYTES) {
+            throw new IllegalStateException("A line starting near byte " + start + " is too long to ingest.");
+        }
+        byte[] bytes = input.asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE);
+        RecordParser parser = format.newParser();
+        ChunkResult<S> result = new ChunkResult<>(sink);
+        int lineStart = 0;
+        while (lineStart < bytes.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            result.lines++;
+            switch (parser.parse(bytes, lineStart, lineEnd)) {
+                case SHAPE -> {
+                    double[] d = parser.dimensions;
+                    double d1 = parser.type.dimensionCount() > 1 ? d[1] : 0.0;
+                    double d2 = parser.type.dimensionCount() > 2 ? d[2] : 0.0;
+                    String violation = ShapeRules.check(parser.type, parser.name, parser.color, d[0], d1, d2);
+                    if (violation != null) {
+                        result.reject(result.lines, violation, maxErrors);
+                        break;
+                    }
+                    try {
+                        sink.accept(parser.type, parser.name, parser.color, d[0], d1, d2);
+                        result.shapes++;
+                    } catch (IllegalArgumentException e) {
+                        result.reject(result.lines, e.getMessage(), maxErrors);
+                    }
+                }
+                case ERROR -> result.reject(result.lines, parser.error(), maxErrors);
+                case SKIP -> {
+                    // blank line or comment
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Appends every chunk's sink into the first, in order, and rebases
+     * chunk-relative line numbers.
+     */
+    private <S extends ShapeSink<S>> IngestResult<S> combine(List<ChunkResult<S>> results, Supplier<S> sinks) {
+        S sink = results.isEmpty() ? sinks.get() : results.get(0).sink;
+        long lines = 0;
+        long shapes = 0;
+        long rejected = 0;
+        List<IngestError> errors = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            ChunkResult<S> result = results.get(i);
+            if (i > 0) {
+                sink.addAll(result.sink);
+            }
+            for (IngestError error : result.errors) {
+                if (errors.size() == maxErrors) {
+                    break;
+                }
+                errors.add(new IngestError(lines + error.getLine(), error.getMessage()));
+            }
+            lines += result.lines;
+            shapes += result.shapes;
+            rejected += result.rejected;
+        }
+        return new IngestResult<>(sink, lines, shapes, rejected, errors);
+    }
+
+    /**
+     * What one chunk produced. Line numbers are relative to the chunk.
+     */
+    private static final class ChunkResult<S> {
+
+        private final S sink;
+        private final List<IngestError> errors = new ArrayList<>();
+        private long lines;
+        private long shapes;
+        private long rejected;
+
+        ChunkResult(S sink) {
+            this.sink = sink;
+        }
+
+        void reject(long line, String message, int maxErrors) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new IngestError(line, message));
+            }
+        }
+    }
+
+    /**
+     * Creates named daemon threads so an abandoned run cannot keep the JVM
+     * alive.
+     */
+    private static final class IngestThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger next = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "shape-ingest-" + next.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
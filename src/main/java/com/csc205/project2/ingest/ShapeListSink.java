@@ -0,0 +1,46 @@
+package com.csc205.project2.ingest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * A {@link ShapeSink} that builds regular {@link Shape3D} objects through
+ * their validating constructors.
+ */
+public final class ShapeListSink implements ShapeSink<ShapeListSink> {
+
+    private final List<Shape3D> shapes = new ArrayList<>();
+
+    @Override
+    public void accept(ShapeType type, String name, String color, double d0, double d1, double d2) {
+        shapes.add(switch (type) {
+            case SPHERE -> new Sphere(name, color, d0);
+            case CUBE -> new Cube(name, color, d0);
+            case CYLINDER -> new Cylinder(name, color, d0, d1);
+            case RECTANGULAR_PRISM -> new RectangularPrism(name, color, d0, d1, d2);
+            case CONE -> new Cone(name, color, d0, d1);
+        });
+    }
+
+    @Override
+    public void addAll(ShapeListSink other) {
+        shapes.addAll(other.shapes);
+    }
+
+    /**
+     * Returns the shapes in input order.
+     *
+     * @return the live, mutable list of shapes
+     */
+    public List<Shape3D> getShapes() {
+        return shapes;
+    }
+}
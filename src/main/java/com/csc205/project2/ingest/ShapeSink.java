@@ -0,0 +1,39 @@
+package com.csc205.project2.ingest;
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Receives the shapes produced by {@link ShapeIngestor}.
+ *
+ * <p>The ingestor gives every chunk of the input its own sink and, once all
+ * chunks are parsed, appends them into the first one in input order with
+ * {@link #addAll}. A sink therefore never sees concurrent calls.</p>
+ *
+ * @param <S> the implementing type
+ * @see ShapeListSink
+ * @see ShapeStoreSink
+ */
+public interface ShapeSink<S extends ShapeSink<S>> {
+
+    /**
+     * Adds one shape. Unused dimensions are zero.
+     *
+     * @param type  the shape type
+     * @param name  the shape name
+     * @param color the shape color
+     * @param d0    the first dimension in {@link ShapeType#dimensionNames()} order
+     * @param d1    the second dimension, or zero
+     * @param d2    the third dimension, or zero
+     * @throws IllegalArgumentException if the shape fails validation; the
+     *                                  ingestor records the message against
+     *                                  the line and continues
+     */
+    void accept(ShapeType type, String name, String color, double d0, double d1, double d2);
+
+    /**
+     * Appends every shape of {@code other} after this sink's own.
+     *
+     * @param other a sink filled from a later chunk
+     */
+    void addAll(S other);
+}
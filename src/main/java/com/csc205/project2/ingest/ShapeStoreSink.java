@@ -0,0 +1,39 @@
+package com.csc205.project2.ingest;
+
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.store.ShapeStore;
+
+/**
+ * A {@link ShapeSink} that appends straight into columnar
+ * {@link ShapeStore} storage, without creating a {@code Shape3D} per row.
+ * Rows are validated with the same rules as the shape constructors.
+ */
+public final class ShapeStoreSink implements ShapeSink<ShapeStoreSink> {
+
+    private final ShapeStore store = new ShapeStore();
+
+    @Override
+    public void accept(ShapeType type, String name, String color, double d0, double d1, double d2) {
+        switch (type) {
+            case SPHERE -> store.addSphere(name, color, d0);
+            case CUBE -> store.addCube(name, color, d0);
+            case CYLINDER -> store.addCylinder(name, color, d0, d1);
+            case RECTANGULAR_PRISM -> store.addRectangularPrism(name, color, d0, d1, d2);
+            case CONE -> store.addCone(name, color, d0, d1);
+        }
+    }
+
+    @Override
+    public void addAll(ShapeStoreSink other) {
+        store.addAll(other.store);
+    }
+
+    /**
+     * Returns the store holding the ingested rows.
+     *
+     * @return the store
+     */
+    public ShapeStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,39 @@
+package com.csc205.project2.ingest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte-level helpers shared by the record parsers.
+ */
+final class Utf8 {
+
+    private Utf8() {
+        // utility class
+    }
+
+    /** Decodes the bytes {@code [from, to)} as UTF-8. */
+    static String decode(byte[] bytes, int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /** Returns whether a byte is whitespace or a control character, as {@link String#trim()} defines it. */
+    static boolean isBlank(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    /** Returns the offset of the first non-blank byte in {@code [from, to)}, or {@code to}. */
+    static int trimStart(byte[] bytes, int from, int to) {
+        while (from < to && isBlank(bytes[from])) {
+            from++;
+        }
+        return from;
+    }
+
+    /** Returns the offset just past the last non-blank byte in {@code [from, to)}, or {@code from}. */
+    static int trimEnd(byte[] bytes, int from, int to) {
+        while (to > from && isBlank(bytes[to - 1])) {
+            to--;
+        }
+        return to;
+    }
+}
@@ -0,0 +1,86 @@
+package com.csc205.project2.kernels;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Point-containment kernels that classify a range of points against one
+ * placed shape and write the answers as bits.
+ *
+ * <p>Points are passed as three parallel coordinate arrays. Bit {@code i} of
+ * the result is bit {@code i % 64} of {@code words[i / 64]} and is set when
+ * {@link Shape3D#contains(double, double, double)} would return
+ * {@code true} for point {@code i}. A kernel only ever writes the words that
+ * cover its range, and ranges start on a multiple of 64, so ranges can be
+ * classified concurrently into one shared array.</p>
+ *
+ * <p>Like {@link GeometryKernels}, two implementations exist:</p>
+ * <ul>
+ *   <li>{@link #scalar()} — a loop over {@link Shape3D#contains}</li>
+ *   <li>{@link #vector()} — SIMD loops built on {@code jdk.incubator.vector}
+ *       that evaluate the same expressions in the same order, so both
+ *       implementations agree on every point, including points on the
+ *       surface</li>
+ * </ul>
+ *
+ * <p>Most callers should use {@link PointClassifier}, which validates its
+ * input, splits large clouds into chunks and classifies them in
+ * parallel.</p>
+ */
+public interface ContainmentKernels {
+
+    /**
+     * Returns the scalar kernels.
+     *
+     * @return kernels that call {@link Shape3D#contains} for every point
+     */
+    static ContainmentKernels scalar() {
+        return ScalarContainmentKernels.INSTANCE;
+    }
+
+    /**
+     * Returns the Vector API kernels.
+     *
+     * @return the SIMD kernels
+     * @throws UnsupportedOperationException if {@code jdk.incubator.vector} is
+     *                                       not available in this JVM
+     */
+    static ContainmentKernels vector() {
+        ContainmentKernels kernels = KernelSelection.VECTOR_CONTAINMENT;
+        if (kernels == null) {
+            throw new UnsupportedOperationException(
+                    "jdk.incubator.vector is not available; start the JVM with --add-modules jdk.incubator.vector.");
+        }
+        return kernels;
+    }
+
+    /**
+     * Returns the fastest kernels available in this JVM, chosen the same way
+     * as {@link GeometryKernels#best()}.
+     *
+     * @return the vector kernels if available, otherwise the scalar kernels
+     */
+    static ContainmentKernels best() {
+        return KernelSelection.BEST_CONTAINMENT;
+    }
+
+    /**
+     * Returns whether these kernels use SIMD instructions.
+     *
+     * @return {@code true} for the Vector API implementation
+     */
+    boolean isVectorized();
+
+    /**
+     * Classifies points {@code [from, to)} against {@code shape}, replacing
+     * the words that cover the range.
+     *
+     * @param shape the shape to test against
+     * @param x     the {@code x} coordinates
+     * @param y     the {@code y} coordinates
+     * @param z     the {@code z} coordinates
+     * @param from  the first point; a multiple of 64
+     * @param to    one past the last point
+     * @param words receives the bits
+     */
+    void classify(Shape3D shape, double[] x, double[] y, double[] z, int from, int to, long[] words);
+}
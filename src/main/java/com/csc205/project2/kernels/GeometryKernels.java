@@ -0,0 +1,300 @@
+package com.csc205.project2.kernels;
+
+/**
+ * Batch volume and surface-area kernels over primitive dimension arrays.
+ *
+ * <p>Each method reads {@code length} elements of its dimension arrays,
+ * starting at {@code offset} (zero for the overloads without one), and
+ * writes one result per element into {@code out} starting at index zero, so
+ * a block of a long column can be evaluated in place. The arrays
+ * follow the dimension order of {@link com.csc205.project2.shapes.ShapeType}.
+ * Arguments are not validated beyond array bounds; dimensions are expected to
+ * have passed the shapes' validation already.</p>
+ *
+ * <p>Two implementations exist:</p>
+ * <ul>
+ *   <li>{@link #scalar()} — plain loops over
+ *       {@link com.csc205.project2.shapes.ShapeFormulas}; results are
+ *       bit-for-bit identical to the per-shape {@code calculate*} methods</li>
+ *   <li>{@link #vector()} — SIMD loops built on {@code jdk.incubator.vector};
+ *       they replace {@code Math.pow} with multiplications, so results may
+ *       differ from the per-shape methods in the last bit or two</li>
+ * </ul>
+ *
+ * <p>{@link #best()} returns the vector implementation when the JVM was
+ * started with {@code --add-modules jdk.incubator.vector}, and the scalar one
+ * otherwise or when the system property
+ * {@code com.csc205.project2.kernels.scalar} is {@code true}.</p>
+ */
+public interface GeometryKernels {
+
+    /**
+     * Returns the scalar kernels.
+     *
+     * @return kernels that match the per-shape methods exactly
+     */
+    static GeometryKernels scalar() {
+        return ScalarGeometryKernels.INSTANCE;
+    }
+
+    /**
+     * Returns the Vector API kernels.
+     *
+     * @return the SIMD kernels
+     * @throws UnsupportedOperationException if {@code jdk.incubator.vector} is
+     *                                       not available in this JVM
+     */
+    static GeometryKernels vector() {
+        GeometryKernels kernels = KernelSelection.VECTOR;
+        if (kernels == null) {
+            throw new UnsupportedOperationException(
+                    "jdk.incubator.vector is not available; start the JVM with --add-modules jdk.incubator.vector.");
+        }
+        return kernels;
+    }
+
+    /**
+     * Returns the fastest kernels available in this JVM.
+     *
+     * @return the vector kernels if available, otherwise the scalar kernels
+     */
+    static GeometryKernels best() {
+        return KernelSelection.BEST;
+    }
+
+    /**
+     * Returns whether these kernels use SIMD instructions.
+     *
+     * @return {@code true} for the Vector API implementation
+     */
+    boolean isVectorized();
+
+    /**
+     * Computes sphere volumes, (4/3) &pi; r&sup3;.
+     *
+     * @param radius radii
+     * @param out    receives the volumes
+     * @param length number of elements to process
+     */
+    default void sphereVolumes(double[] radius, double[] out, int length) {
+        sphereVolumes(radius, 0, out, length);
+    }
+
+    /**
+     * Computes sphere volumes, (4/3) &pi; r&sup3;.
+     *
+     * @param radius radii
+     * @param offset index of the first dimension element to read
+     * @param out    receives the volumes
+     * @param length number of elements to process
+     */
+    void sphereVolumes(double[] radius, int offset, double[] out, int length);
+
+    /**
+     * Computes sphere surface areas, 4 &pi; r&sup2;.
+     *
+     * @param radius radii
+     * @param out    receives the surface areas
+     * @param length number of elements to process
+     */
+    default void sphereSurfaceAreas(double[] radius, double[] out, int length) {
+        sphereSurfaceAreas(radius, 0, out, length);
+    }
+
+    /**
+     * Computes sphere surface areas, 4 &pi; r&sup2;.
+     *
+     * @param radius radii
+     * @param offset index of the first dimension element to read
+     * @param out    receives the surface areas
+     * @param length number of elements to process
+     */
+    void sphereSurfaceAreas(double[] radius, int offset, double[] out, int length);
+
+    /**
+     * Computes cube volumes, s&sup3;.
+     *
+     * @param sideLength side lengths
+     * @param out        receives the volumes
+     * @param length     number of elements to process
+     */
+    default void cubeVolumes(double[] sideLength, double[] out, int length) {
+        cubeVolumes(sideLength, 0, out, length);
+    }
+
+    /**
+     * Computes cube volumes, s&sup3;.
+     *
+     * @param sideLength side lengths
+     * @param offset     index of the first dimension element to read
+     * @param out        receives the volumes
+     * @param length     number of elements to process
+     */
+    void cubeVolumes(double[] sideLength, int offset, double[] out, int length);
+
+    /**
+     * Computes cube surface areas, 6 s&sup2;.
+     *
+     * @param sideLength side lengths
+     * @param out        receives the surface areas
+     * @param length     number of elements to process
+     */
+    default void cubeSurfaceAreas(double[] sideLength, double[] out, int length) {
+        cubeSurfaceAreas(sideLength, 0, out, length);
+    }
+
+    /**
+     * Computes cube surface areas, 6 s&sup2;.
+     *
+     * @param sideLength side lengths
+     * @param offset     index of the first dimension element to read
+     * @param out        receives the surface areas
+     * @param length     number of elements to process
+     */
+    void cubeSurfaceAreas(double[] sideLength, int offset, double[] out, int length);
+
+    /**
+     * Computes cylinder volumes, &pi; r&sup2; h.
+     *
+     * @param radius radii
+     * @param height heights
+     * @param out    receives the volumes
+     * @param length number of elements to process
+     */
+    default void cylinderVolumes(double[] radius, double[] height, double[] out, int length) {
+        cylinderVolumes(radius, height, 0, out, length);
+    }
+
+    /**
+     * Computes cylinder volumes, &pi; r&sup2; h.
+     *
+     * @param radius radii
+     * @param height heights
+     * @param offset index of the first dimension element to read
+     * @param out    receives the volumes
+     * @param length number of elements to process
+     */
+    void cylinderVolumes(double[] radius, double[] height, int offset, double[] out, int length);
+
+    /**
+     * Computes cylinder surface areas, 2 &pi; r (r + h).
+     *
+     * @param radius radii
+     * @param height heights
+     * @param out    receives the surface areas
+     * @param length number of elements to process
+     */
+    default void cylinderSurfaceAreas(double[] radius, double[] height, double[] out, int length) {
+        cylinderSurfaceAreas(radius, height, 0, out, length);
+    }
+
+    /**
+     * Computes cylinder surface areas, 2 &pi; r (r + h).
+     *
+     * @param radius radii
+     * @param height heights
+     * @param offset index of the first dimension element to read
+     * @param out    receives the surface areas
+     * @param length number of elements to process
+     */
+    void cylinderSurfaceAreas(double[] radius, double[] height, int offset, double[] out, int length);
+
+    /**
+     * Computes rectangular prism volumes, l &times; w &times; h.
+     *
+     * @param lengths lengths
+     * @param width   widths
+     * @param height  heights
+     * @param out     receives the volumes
+     * @param length  number of elements to process
+     */
+    default void rectangularPrismVolumes(double[] lengths, double[] width, double[] height, double[] out, int length) {
+        rectangularPrismVolumes(lengths, width, height, 0, out, length);
+    }
+
+    /**
+     * Computes rectangular prism volumes, l &times; w &times; h.
+     *
+     * @param lengths lengths
+     * @param width   widths
+     * @param height  heights
+     * @param offset  index of the first dimension element to read
+     * @param out     receives the volumes
+     * @param length  number of elements to process
+     */
+    void rectangularPrismVolumes(double[] lengths, double[] width, double[] height, int offset,
+                                 double[] out, int length);
+
+    /**
+     * Computes rectangular prism surface areas, 2 (lw + lh + wh).
+     *
+     * @param lengths lengths
+     * @param width   widths
+     * @param height  heights
+     * @param out     receives the surface areas
+     * @param length  number of elements to process
+     */
+    default void rectangularPrismSurfaceAreas(double[] lengths, double[] width, double[] height,
+                                              double[] out, int length) {
+        rectangularPrismSurfaceAreas(lengths, width, height, 0, out, length);
+    }
+
+    /**
+     * Computes rectangular prism surface areas, 2 (lw + lh + wh).
+     *
+     * @param lengths lengths
+     * @param width   widths
+     * @param height  heights
+     * @param offset  index of the first dimension element to read
+     * @param out     receives the surface areas
+     * @param length  number of elements to process
+     */
+    void rectangularPrismSurfaceAreas(double[] lengths, double[] width, double[] height, int offset,
+                                      double[] out, int length);
+
+    /**
+     * Computes cone volumes, (1/3) &pi; r&sup2; h.
+     *
+     * @param radius radii
+     * @param height heights
+     * @param out    receives the volumes
+     * @param length number of elements to process
+     */
+    default void coneVolumes(double[] radius, double[] height, double[] out, int length) {
+        coneVolumes(radius, height, 0, out, length);
+    }
+
+    /**
+     * Computes cone volumes, (1/3) &pi; r&sup2; h.
+     *
+     * @param radius radii
+     * @param height heights
+     * @param offset index of the first dimension element to read
+     * @param out    receives the volumes
+     * @param length number of elements to process
+     */
+    void coneVolumes(double[] radius, double[] height, int offset, double[] out, int length);
+
+    /**
+     * Computes cone surface areas, &pi; r (r + &radic;(h&sup2; + r&sup2;)).
+     *
+     * @param radius radii
+     * @param height heights
+     * @param out    receives the surface areas
+     * @param length number of elements to process
+     */
+    default void coneSurfaceAreas(double[] radius, double[] height, double[] out, int length) {
+        coneSurfaceAreas(radius, height, 0, out, length);
+    }
+
+    /**
+     * Computes cone surface areas, &pi; r (r + &radic;(h&sup2; + r&sup2;)).
+     *
+     * @param radius radii
+     * @param height heights
+     * @param offset index of the first dimension element to read
+     * @param out    receives the surface areas
+     * @param length number of elements to process
+     */
+    void coneSurfaceAreas(double[] radius, double[] height, int offset, double[] out, int length);
+}
@@ -0,0 +1,54 @@
+package com.csc205.project2.kernels;
+
+import java.util.logging.Logger;
+
+/**
+ * Decides once, at class initialization, which {@link GeometryKernels} and
+ * {@link ContainmentKernels} implementations this JVM can run.
+ *
+ * <p>{@link VectorGeometryKernels} and {@link VectorContainmentKernels} are
+ * only loaded after confirming that the {@code jdk.incubator.vector} module
+ * is present in the boot layer, so a JVM started without
+ * {@code --add-modules jdk.incubator.vector} never attempts to link against
+ * them.</p>
+ */
+final class KernelSelection {
+
+    /** System property that forces the scalar kernels when {@code true}. */
+    static final String FORCE_SCALAR_PROPERTY = "com.csc205.project2.kernels.scalar";
+
+    private static final Logger LOGGER = Logger.getLogger(KernelSelection.class.getName());
+
+    /** The vector kernels, or {@code null} when the module is unavailable. */
+    static final GeometryKernels VECTOR = loadVectorKernels();
+
+    /** The kernels returned by {@link GeometryKernels#best()}. */
+    static final GeometryKernels BEST = VECTOR == null || Boolean.getBoolean(FORCE_SCALAR_PROPERTY)
+            ? ScalarGeometryKernels.INSTANCE
+            : VECTOR;
+
+    /** The vector containment kernels, or {@code null} when the module is unavailable. */
+    static final ContainmentKernels VECTOR_CONTAINMENT = VECTOR == null ? null : new VectorContainmentKernels();
+
+    /** The kernels returned by {@link ContainmentKernels#best()}. */
+    static final ContainmentKernels BEST_CONTAINMENT = BEST == VECTOR && VECTOR_CONTAINMENT != null
+            ? VECTOR_CONTAINMENT
+            : ScalarContainmentKernels.INSTANCE;
+
+    private KernelSelection() {
+        // holder for selection results
+    }
+
+    private static GeometryKernels loadVectorKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            LOGGER.fine("jdk.incubator.vector not present; using scalar geometry kernels.");
+            return null;
+        }
+        try {
+            return new VectorGeometryKernels();
+        } catch (LinkageError e) {
+            LOGGER.warning("Vector API present but unusable; using scalar geometry kernels: " + e);
+            return null;
+        }
+    }
+}
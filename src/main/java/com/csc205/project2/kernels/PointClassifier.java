@@ -0,0 +1,122 @@
+package com.csc205.project2.kernels;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Classifies clouds of points as inside or outside a placed shape.
+ *
+ * <p>Points are given as three parallel coordinate arrays — one array per
+ * axis rather than interleaved {@code x, y, z} triples — so the kernels can
+ * load a full vector of {@code x} values with one instruction. The answer is
+ * a {@link BitSet} in which bit {@code i} is set when point {@code i} is
+ * inside the shape or on its surface, exactly as
+ * {@link Shape3D#contains(double, double, double)} would report.</p>
+ *
+ * <p>Clouds of at least {@value #PARALLEL_THRESHOLD} points are split into
+ * chunks of {@value #CHUNK_POINTS} points. Chunk boundaries fall on 64-point
+ * word boundaries, so each chunk owns a disjoint run of words in the result
+ * and the chunks are classified in parallel without locking.</p>
+ *
+ * <p>The shape is read while the chunks run; callers must not resize or move
+ * it during a classification.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Structure of arrays</em> — one contiguous array per coordinate
+ *       keeps the SIMD loads dense</li>
+ *   <li><em>Fork/join over disjoint ranges</em> — word-aligned chunks need no
+ *       synchronization</li>
+ *   <li><em>Strategy</em> — the per-chunk work is delegated to a
+ *       {@link ContainmentKernels} implementation</li>
+ * </ul>
+ *
+ * @see ContainmentKernels
+ * @see Shape3D#contains(double, double, double)
+ */
+public final class PointClassifier {
+
+    /** Points per parallel chunk; a multiple of 64. */
+    static final int CHUNK_POINTS = 1 << 16;
+
+    /** Smallest cloud that is classified in parallel. */
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    private PointClassifier() {
+        // static utility
+    }
+
+    /**
+     * Classifies every point against {@code shape} with the fastest
+     * available kernels.
+     *
+     * @param shape the shape to test against
+     * @param x     the {@code x} coordinates
+     * @param y     the {@code y} coordinates
+     * @param z     the {@code z} coordinates
+     * @return bit {@code i} is set when point {@code i} is inside the shape
+     * @throws IllegalArgumentException if any argument is {@code null} or the
+     *                                  arrays differ in length
+     */
+    public static BitSet classify(Shape3D shape, double[] x, double[] y, double[] z) {
+        return classify(shape, x, y, z, ContainmentKernels.best());
+    }
+
+    /**
+     * Classifies every point against {@code shape} with the given kernels.
+     *
+     * @param shape   the shape to test against
+     * @param x       the {@code x} coordinates
+     * @param y       the {@code y} coordinates
+     * @param z       the {@code z} coordinates
+     * @param kernels the kernels to run
+     * @return bit {@code i} is set when point {@code i} is inside the shape
+     * @throws IllegalArgumentException if any argument is {@code null} or the
+     *                                  arrays differ in length
+     */
+    public static BitSet classify(Shape3D shape, double[] x, double[] y, double[] z, ContainmentKernels kernels) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        if (kernels == null) {
+            throw new IllegalArgumentException("Kernels must not be null.");
+        }
+        if (x == null || y == null || z == null) {
+            throw new IllegalArgumentException("Coordinate arrays must not be null.");
+        }
+        int count = x.length;
+        if (y.length != count || z.length != count) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length, but got "
+                    + x.length + ", " + y.length + " and " + z.length + ".");
+        }
+
+        long[] words = new long[(count + Long.SIZE - 1) >>> 6];
+        if (count < PARALLEL_THRESHOLD) {
+            kernels.classify(shape, x, y, z, 0, count, words);
+        } else {
+            int chunks = (count + CHUNK_POINTS - 1) / CHUNK_POINTS;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int from = chunk * CHUNK_POINTS;
+                kernels.classify(shape, x, y, z, from, Math.min(count, from + CHUNK_POINTS), words);
+            });
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Counts the points inside {@code shape}.
+     *
+     * @param shape the shape to test against
+     * @param x     the {@code x} coordinates
+     * @param y     the {@code y} coordinates
+     * @param z     the {@code z} coordinates
+     * @return the number of points inside the shape or on its surface
+     * @throws IllegalArgumentException if any argument is {@code null} or the
+     *                                  arrays differ in length
+     */
+    public static int countInside(Shape3D shape, double[] x, double[] y, double[] z) {
+        return classify(shape, x, y, z).cardinality();
+    }
+}
@@ -0,0 +1,38 @@
+package com.csc205.project2.kernels;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Portable {@link ContainmentKernels} that call
+ * {@link Shape3D#contains(double, double, double)} for every point.
+ *
+ * <p>This is the fallback when the Vector API is unavailable and the
+ * reference the vector kernels are tested against.</p>
+ */
+final class ScalarContainmentKernels implements ContainmentKernels {
+
+    static final ScalarContainmentKernels INSTANCE = new ScalarContainmentKernels();
+
+    private ScalarContainmentKernels() {
+        // singleton
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+
+    @Override
+    public void classify(Shape3D shape, double[] x, double[] y, double[] z, int from, int to, long[] words) {
+        for (int base = from; base < to; base += Long.SIZE) {
+            int end = Math.min(base + Long.SIZE, to);
+            long bits = 0L;
+            for (int i = base; i < end; i++) {
+                if (shape.contains(x[i], y[i], z[i])) {
+                    bits |= 1L << (i - base);
+                }
+            }
+            words[base >>> 6] = bits;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.csc205.project2.kernels;
+
+import com.csc205.project2.shapes.ShapeFormulas;
+
+/**
+ * Portable {@link GeometryKernels} made of plain loops over
+ * {@link ShapeFormulas}.
+ *
+ * <p>Because every element goes through the same formula method as the
+ * shape classes, results are bit-for-bit identical to
+ * {@code calculateVolume()} and {@code calculateSurfaceArea()}. This is the
+ * fallback when the Vector API is unavailable and the reference the vector
+ * kernels are tested against.</p>
+ */
+final class ScalarGeometryKernels implements GeometryKernels {
+
+    static final ScalarGeometryKernels INSTANCE = new ScalarGeometryKernels();
+
+    private ScalarGeometryKernels() {
+        // singleton
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+
+    @Override
+    public void sphereVolumes(double[] radius, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.sphereVolume(radius[j]);
+        }
+    }
+
+    @Override
+    public void sphereSurfaceAreas(double[] radius, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.sphereSurfaceArea(radius[j]);
+        }
+    }
+
+    @Override
+    public void cubeVolumes(double[] sideLength, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.cubeVolume(sideLength[j]);
+        }
+    }
+
+    @Override
+    public void cubeSurfaceAreas(double[] sideLength, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.cubeSurfaceArea(sideLength[j]);
+        }
+    }
+
+    @Override
+    public void cylinderVolumes(double[] radius, double[] height, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.cylinderVolume(radius[j], height[j]);
+        }
+    }
+
+    @Override
+    public void cylinderSurfaceAreas(double[] radius, double[] height, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.cylinderSurfaceArea(radius[j], height[j]);
+        }
+    }
+
+    @Override
+    public void rectangularPrismVolumes(double[] lengths, double[] width, double[] height, int offset,
+                                        double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.rectangularPrismVolume(lengths[j], width[j], height[j]);
+        }
+    }
+
+    @Override
+    public void rectangularPrismSurfaceAreas(double[] lengths, double[] width, double[] height, int offset,
+                                             double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.rectangularPrismSurfaceArea(lengths[j], width[j], height[j]);
+        }
+    }
+
+    @Override
+    public void coneVolumes(double[] radius, double[] height, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.coneVolume(radius[j], height[j]);
+        }
+    }
+
+    @Override
+    public void coneSurfaceAreas(double[] radius, double[] height, int offset, double[] out, int length) {
+        for (int i = 0, j = offset; i < length; i++, j++) {
+            out[i] = ShapeFormulas.coneSurfaceArea(radius[j], ShapeFormulas.coneSlantHeight(radius[j], height[j]));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.csc205.project2.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * SIMD {@link ContainmentKernels} built on the incubating Vector API.
+ *
+ * <p>Each 64-point word is classified {@link #SPECIES} lanes at a time: the
+ * points are moved into the shape's local frame with the placement's
+ * rotation, compared against the solid, and the comparison mask is packed
+ * straight into the word with {@link VectorMask#toLong()}. Every
+ * subtraction, multiplication and addition matches the order used by the
+ * shape's own {@code contains} method — no fused multiply-adds — so the two
+ * agree bit for bit. A final partial word falls back to
+ * {@link Shape3D#contains}.</p>
+ *
+ * <p>Only instantiate this class through {@link ContainmentKernels#vector()}
+ * or {@link ContainmentKernels#best()}, which first check that
+ * {@code jdk.incubator.vector} is present.</p>
+ */
+final class VectorContainmentKernels implements ContainmentKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /** Whether a 64-point word is a whole number of vectors. */
+    private static final boolean WORD_ALIGNED = Long.SIZE % SPECIES.length() == 0;
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    public void classify(Shape3D shape, double[] x, double[] y, double[] z, int from, int to, long[] words) {
+        int vectorEnd = WORD_ALIGNED ? from + ((to - from) & -Long.SIZE) : from;
+        Placement p = shape.getPlacement();
+        switch (shape) {
+            case Sphere sphere -> sphere(p, sphere.getRadius(), x, y, z, from, vectorEnd, words);
+            case Cube cube -> {
+                double half = cube.getSideLength() / 2;
+                box(p, half, half, half, x, y, z, from, vectorEnd, words);
+            }
+            case RectangularPrism prism -> box(p, prism.getLength() / 2, prism.getWidth() / 2,
+                    prism.getHeight() / 2, x, y, z, from, vectorEnd, words);
+            case Cylinder cylinder -> cylinder(p, cylinder.getRadius(), cylinder.getHeight(),
+                    x, y, z, from, vectorEnd, words);
+            case Cone cone -> cone(p, cone.getRadius(), cone.getHeight(), x, y, z, from, vectorEnd, words);
+        }
+        if (vectorEnd < to) {
+            ScalarContainmentKernels.INSTANCE.classify(shape, x, y, z, vectorEnd, to, words);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Per-type loops over whole words
+    // ---------------------------------------------------------------
+
+    private static void sphere(Placement p, double radius, double[] x, double[] y, double[] z,
+                               int from, int to, long[] words) {
+        double px = p.getX();
+        double py = p.getY();
+        double pz = p.getZ();
+        double limit = radius * radius;
+        for (int base = from; base < to; base += Long.SIZE) {
+            long bits = 0L;
+            for (int lane = 0; lane < Long.SIZE; lane += SPECIES.length()) {
+                int i = base + lane;
+                DoubleVector dx = DoubleVector.fromArray(SPECIES, x, i).sub(px);
+                DoubleVector dy = DoubleVector.fromArray(SPECIES, y, i).sub(py);
+                DoubleVector dz = DoubleVector.fromArray(SPECIES, z, i).sub(pz);
+                VectorMask<Double> inside = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz))
+                        .compare(VectorOperators.LE, limit);
+                bits |= inside.toLong() << lane;
+            }
+            words[base >>> 6] = bits;
+        }
+    }
+
+    private static void box(Placement p, double hx, double hy, double hz, double[] x, double[] y, double[] z,
+                            int from, int to, long[] words) {
+        double px = p.getX();
+        double py = p.getY();
+        double pz = p.getZ();
+        double m00 = p.rotation(0, 0), m01 = p.rotation(0, 1), m02 = p.rotation(0, 2);
+        double m10 = p.rotation(1, 0), m11 = p.rotation(1, 1), m12 = p.rotation(1, 2);
+        double m20 = p.rotation(2, 0), m21 = p.rotation(2, 1), m22 = p.rotation(2, 2);
+        for (int base = from; base < to; base += Long.SIZE) {
+            long bits = 0L;
+            for (int lane = 0; lane < Long.SIZE; lane += SPECIES.length()) {
+                int i = base + lane;
+                DoubleVector dx = DoubleVector.fromArray(SPECIES, x, i).sub(px);
+                DoubleVector dy = DoubleVector.fromArray(SPECIES, y, i).sub(py);
+                DoubleVector dz = DoubleVector.fromArray(SPECIES, z, i).sub(pz);
+                VectorMask<Double> inside = local(dx, dy, dz, m00, m10, m20).abs().compare(VectorOperators.LE, hx)
+                        .and(local(dx, dy, dz, m01, m11, m21).abs().compare(VectorOperators.LE, hy))
+                        .and(local(dx, dy, dz, m02, m12, m22).abs().compare(VectorOperators.LE, hz));
+                bits |= inside.toLong() << lane;
+            }
+            words[base >>> 6] = bits;
+        }
+    }
+
+    private static void cylinder(Placement p, double radius, double height, double[] x, double[] y, double[] z,
+                                 int from, int to, long[] words) {
+        double px = p.getX();
+        double py = p.getY();
+        double pz = p.getZ();
+        double m00 = p.rotation(0, 0), m01 = p.rotation(0, 1), m02 = p.rotation(0, 2);
+        double m10 = p.rotation(1, 0), m11 = p.rotation(1, 1), m12 = p.rotation(1, 2);
+        double m20 = p.rotation(2, 0), m21 = p.rotation(2, 1), m22 = p.rotation(2, 2);
+        double halfHeight = height / 2;
+        double limit = radius * radius;
+        for (int base = from; base < to; base += Long.SIZE) {
+            long bits = 0L;
+            for (int lane = 0; lane < Long.SIZE; lane += SPECIES.length()) {
+                int i = base + lane;
+                DoubleVector dx = DoubleVector.fromArray(SPECIES, x, i).sub(px);
+                DoubleVector dy = DoubleVector.fromArray(SPECIES, y, i).sub(py);
+                DoubleVector dz = DoubleVector.fromArray(SPECIES, z, i).sub(pz);
+                DoubleVector lx = local(dx, dy, dz, m00, m10, m20);
+                DoubleVector ly = local(dx, dy, dz, m01, m11, m21);
+                DoubleVector lz = local(dx, dy, dz, m02, m12, m22);
+                VectorMask<Double> inside = lz.abs().compare(VectorOperators.LE, halfHeight)
+                        .and(lx.mul(lx).add(ly.mul(ly)).compare(VectorOperators.LE, limit));
+                bits |= inside.toLong() << lane;
+            }
+            words[base >>> 6] = bits;
+        }
+    }
+
+    private static void cone(Placement p, double radius, double height, double[] x, double[] y, double[] z,
+                             int from, int to, long[] words) {
+        double px = p.getX();
+        double py = p.getY();
+        double pz = p.getZ();
+        double m00 = p.rotation(0, 0), m01 = p.rotation(0, 1), m02 = p.rotation(0, 2);
+        double m10 = p.rotation(1, 0), m11 = p.rotation(1, 1), m12 = p.rotation(1, 2);
+        double m20 = p.rotation(2, 0), m21 = p.rotation(2, 1), m22 = p.rotation(2, 2);
+        double halfHeight = height / 2;
+        DoubleVector halfHeights = DoubleVector.broadcast(SPECIES, halfHeight);
+        for (int base = from; base < to; base += Long.SIZE) {
+            long bits = 0L;
+            for (int lane = 0; lane < Long.SIZE; lane += SPECIES.length()) {
+                int i = base + lane;
+                DoubleVector dx = DoubleVector.fromArray(SPECIES, x, i).sub(px);
+                DoubleVector dy = DoubleVector.fromArray(SPECIES, y, i).sub(py);
+                DoubleVector dz = DoubleVector.fromArray(SPECIES, z, i).sub(pz);
+                DoubleVector lx = local(dx, dy, dz, m00, m10, m20);
+                DoubleVector ly = local(dx, dy, dz, m01, m11, m21);
+                DoubleVector lz = local(dx, dy, dz, m02, m12, m22);
+                DoubleVector r = halfHeights.sub(lz).mul(radius).div(height);
+                VectorMask<Double> inside = lz.abs().compare(VectorOperators.LE, halfHeight)
+                        .and(lx.mul(lx).add(ly.mul(ly)).compare(VectorOperators.LE, r.mul(r)));
+                bits |= inside.toLong() << lane;
+            }
+            words[base >>> 6] = bits;
+        }
+    }
+
+    /** One local coordinate, {@code a·dx + b·dy + c·dz}, in the same order as {@link Placement#toLocal}. */
+    private static DoubleVector local(DoubleVector dx, DoubleVector dy, DoubleVector dz, double a, double b, double c) {
+        return dx.mul(a).add(dy.mul(b)).add(dz.mul(c));
+    }
+}
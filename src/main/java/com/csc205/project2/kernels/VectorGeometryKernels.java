@@ -0,0 +1,178 @@
+package com.csc205.project2.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD {@link GeometryKernels} built on the incubating Vector API.
+ *
+ * <p>Each kernel processes {@link #SPECIES} lanes per iteration and finishes
+ * the remainder with a scalar tail that performs the same operations in the
+ * same order, so a value does not change depending on whether it landed in a
+ * full vector or in the tail. Powers are computed by repeated multiplication
+ * instead of {@code Math.pow}, which can differ from the per-shape methods by
+ * a unit or two in the last place.</p>
+ *
+ * <p>Only instantiate this class through {@link GeometryKernels#vector()} or
+ * {@link GeometryKernels#best()}, which first check that
+ * {@code jdk.incubator.vector} is present.</p>
+ */
+final class VectorGeometryKernels implements GeometryKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final double SPHERE_VOLUME_FACTOR = (4.0 / 3.0) * Math.PI;
+    private static final double SPHERE_AREA_FACTOR = 4.0 * Math.PI;
+    private static final double CYLINDER_AREA_FACTOR = 2.0 * Math.PI;
+    private static final double CONE_VOLUME_FACTOR = (1.0 / 3.0) * Math.PI;
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    public void sphereVolumes(double[] radius, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, offset + i);
+            r.mul(r).mul(r).mul(SPHERE_VOLUME_FACTOR).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double r = radius[offset + i];
+            out[i] = r * r * r * SPHERE_VOLUME_FACTOR;
+        }
+    }
+
+    @Override
+    public void sphereSurfaceAreas(double[] radius, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, offset + i);
+            r.mul(r).mul(SPHERE_AREA_FACTOR).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double r = radius[offset + i];
+            out[i] = r * r * SPHERE_AREA_FACTOR;
+        }
+    }
+
+    @Override
+    public void cubeVolumes(double[] sideLength, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector s = DoubleVector.fromArray(SPECIES, sideLength, offset + i);
+            s.mul(s).mul(s).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double s = sideLength[offset + i];
+            out[i] = s * s * s;
+        }
+    }
+
+    @Override
+    public void cubeSurfaceAreas(double[] sideLength, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector s = DoubleVector.fromArray(SPECIES, sideLength, offset + i);
+            s.mul(s).mul(6.0).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double s = sideLength[offset + i];
+            out[i] = s * s * 6.0;
+        }
+    }
+
+    @Override
+    public void cylinderVolumes(double[] radius, double[] height, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, offset + i);
+            DoubleVector h = DoubleVector.fromArray(SPECIES, height, offset + i);
+            r.mul(r).mul(Math.PI).mul(h).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double r = radius[offset + i];
+            out[i] = r * r * Math.PI * height[offset + i];
+        }
+    }
+
+    @Override
+    public void cylinderSurfaceAreas(double[] radius, double[] height, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, offset + i);
+            DoubleVector h = DoubleVector.fromArray(SPECIES, height, offset + i);
+            r.mul(CYLINDER_AREA_FACTOR).mul(r.add(h)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double r = radius[offset + i];
+            out[i] = r * CYLINDER_AREA_FACTOR * (r + height[offset + i]);
+        }
+    }
+
+    @Override
+    public void rectangularPrismVolumes(double[] lengths, double[] width, double[] height, int offset,
+                                        double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector l = DoubleVector.fromArray(SPECIES, lengths, offset + i);
+            DoubleVector w = DoubleVector.fromArray(SPECIES, width, offset + i);
+            DoubleVector h = DoubleVector.fromArray(SPECIES, height, offset + i);
+            l.mul(w).mul(h).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = lengths[offset + i] * width[offset + i] * height[offset + i];
+        }
+    }
+
+    @Override
+    public void rectangularPrismSurfaceAreas(double[] lengths, double[] width, double[] height, int offset,
+                                             double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector l = DoubleVector.fromArray(SPECIES, lengths, offset + i);
+            DoubleVector w = DoubleVector.fromArray(SPECIES, width, offset + i);
+            DoubleVector h = DoubleVector.fromArray(SPECIES, height, offset + i);
+            l.mul(w).add(l.mul(h)).add(w.mul(h)).mul(2.0).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double l = lengths[offset + i];
+            double w = width[offset + i];
+            double h = height[offset + i];
+            out[i] = (l * w + l * h + w * h) * 2.0;
+        }
+    }
+
+    @Override
+    public void coneVolumes(double[] radius, double[] height, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, offset + i);
+            DoubleVector h = DoubleVector.fromArray(SPECIES, height, offset + i);
+            r.mul(r).mul(CONE_VOLUME_FACTOR).mul(h).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double r = radius[offset + i];
+            out[i] = r * r * CONE_VOLUME_FACTOR * height[offset + i];
+        }
+    }
+
+    @Override
+    public void coneSurfaceAreas(double[] radius, double[] height, int offset, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, radius, offset + i);
+            DoubleVector h = DoubleVector.fromArray(SPECIES, height, offset + i);
+            DoubleVector slant = h.mul(h).add(r.mul(r)).lanewise(VectorOperators.SQRT);
+            r.mul(Math.PI).mul(r.add(slant)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double r = radius[offset + i];
+            double h = height[offset + i];
+            double slant = Math.sqrt(h * h + r * r);
+            out[i] = r * Math.PI * (r + slant);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.csc205.project2.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that hands records to a background thread through a
+ * fixed-size ring buffer, so formatting and I/O never run on the thread that
+ * logged the message.
+ *
+ * <p>The buffer is an {@link ArrayBlockingQueue}, whose storage is a single
+ * pre-allocated circular array. {@link #publish(LogRecord)} never blocks: if
+ * the buffer is full the record is dropped and counted (see
+ * {@link #getDroppedCount()}), trading completeness for a bounded cost on the
+ * calling thread. A single daemon thread drains the buffer in order and
+ * forwards each record to the delegate handler.</p>
+ *
+ * <p>Every accepted record gets a sequence number, and the background thread
+ * counts the records it has forwarded. {@link #flush()} waits on a condition
+ * until the forwarded count reaches the sequence of the last record accepted
+ * before the call, then flushes the delegate. The delegate is only ever
+ * called under one lock, so a flush never overlaps a publish. A record
+ * accepted by a {@code publish} that races {@link #close()} is still
+ * forwarded: the background thread waits for such publishers to finish
+ * before its final drain.</p>
+ *
+ * <p>The handler can be created programmatically or configured through
+ * {@code logging.properties}, in which case it reads
+ * {@code com.csc205.project2.logging.AsyncRingBufferHandler.capacity}
+ * (default {@value #DEFAULT_CAPACITY}) and delegates to a
+ * {@link ConsoleHandler}.</p>
+ *
+ * <p>Records that were not published through {@link ShapeLogger} and have no
+ * explicit source class are not caller-inferred on the logging thread, so
+ * their source is reported as unknown.</p>
+ *
+ * @see ShapeLogger
+ */
+public class AsyncRingBufferHandler extends Handler {
+
+    /** Buffer capacity used when none is configured. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> buffer;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    /** Number of records accepted into the buffer so far. */
+    private final AtomicLong accepted = new AtomicLong();
+
+    /** Number of {@code publish} calls between their closed check and their return. */
+    private final AtomicInteger publishing = new AtomicInteger();
+
+    /** Guards every call to the delegate and {@link #forwarded}. */
+    private final ReentrantLock delegateLock = new ReentrantLock();
+
+    /** Signalled each time {@link #forwarded} advances. */
+    private final Condition progress = delegateLock.newCondition();
+
+    /** Number of records handed to the delegate; guarded by {@link #delegateLock}. */
+    private long forwarded;
+
+    /**
+     * Creates a handler configured from {@code logging.properties} that
+     * forwards to a new {@link ConsoleHandler}.
+     */
+    public AsyncRingBufferHandler() {
+        this(new ConsoleHandler(), configuredCapacity());
+    }
+
+    /**
+     * Creates a handler that forwards records to {@code delegate} through a
+     * ring buffer of the given capacity.
+     *
+     * @param delegate the handler that formats and writes records
+     * @param capacity the number of records the buffer can hold
+     * @throws IllegalArgumentException if {@code delegate} is {@code null} or
+     *                                  {@code capacity} is not positive
+     */
+    public AsyncRingBufferHandler(Handler delegate, int capacity) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate handler must not be null.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::drain, "async-log-" + Integer.toHexString(System.identityHashCode(this)));
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Enqueues the record for the background thread, or drops it if the
+     * buffer is full or the handler is closed.
+     *
+     * @param record the record to publish
+     */
+    @Override
+    public void publish(LogRecord record) {
+        publishing.incrementAndGet();
+        try {
+            if (closed || !isLoggable(record)) {
+                return;
+            }
+            if (buffer.offer(record)) {
+                accepted.incrementAndGet();
+            } else {
+                dropped.increment();
+            }
+        } finally {
+            if (publishing.decrementAndGet() == 0 && closed) {
+                LockSupport.unpark(worker);
+            }
+        }
+    }
+
+    /**
+     * Waits until every record accepted before this call has been handed to
+     * the delegate, then flushes the delegate.
+     */
+    @Override
+    public void flush() {
+        long target = accepted.get();
+        delegateLock.lock();
+        try {
+            while (forwarded < target && worker.isAlive() && Thread.currentThread() != worker) {
+                progress.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                delegate.flush();
+            } finally {
+                delegateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stops accepting records, drains what is already buffered, and closes
+     * the delegate.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Returns how many records were dropped because the buffer was full.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the handler that receives records from the background thread.
+     *
+     * @return the delegate handler
+     */
+    public Handler getDelegate() {
+        return delegate;
+    }
+
+    // ---------------------------------------------------------------
+    // Background thread
+    // ---------------------------------------------------------------
+
+    private void drain() {
+        while (!closed) {
+            try {
+                LogRecord record = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    flushDelegate();
+                } else {
+                    forward(record);
+                }
+            } catch (InterruptedException e) {
+                // close() interrupts to stop waiting; the loop condition decides.
+            }
+        }
+        // A publisher that passed its closed check before close() may still
+        // be about to enqueue; wait for it so its record is not stranded.
+        while (publishing.get() > 0) {
+            Thread.interrupted(); // a pending interrupt from close() would turn park into a spin
+            LockSupport.park(this);
+        }
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            forward(record);
+        }
+        flushDelegate();
+    }
+
+    private void forward(LogRecord record) {
+        delegateLock.lock();
+        try {
+            delegate.publish(record);
+        } catch (RuntimeException e) {
+            reportError("Delegate handler failed to publish a record.", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            forwarded++;
+            progress.signalAll();
+            delegateLock.unlock();
+        }
+    }
+
+    private void flushDelegate() {
+        delegateLock.lock();
+        try {
+            delegate.flush();
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    private static int configuredCapacity() {
+        String value = LogManager.getLogManager()
+                .getProperty(AsyncRingBufferHandler.class.getName() + ".capacity");
+        if (value == null) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_CAPACITY;
+        }
+    }
+}
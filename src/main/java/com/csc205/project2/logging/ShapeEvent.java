@@ -0,0 +1,48 @@
+package com.csc205.project2.logging;
+
+import java.util.logging.Level;
+
+/**
+ * Categorises every message the shapes package logs.
+ *
+ * <p>Each event type carries the {@link Level} it is logged at, which keeps
+ * the levels used before the introduction of {@link ShapeLogger}: successful
+ * construction, updates and calculations are {@code INFO}, rejected
+ * constructor arguments are {@code SEVERE}, and rejected setter arguments
+ * are {@code WARNING}. The event type is also the unit of sampling — see
+ * {@link ShapeLogger#setSamplingInterval(ShapeEvent, int)}.</p>
+ *
+ * @see ShapeLogger
+ */
+public enum ShapeEvent {
+
+    /** A shape was constructed successfully. */
+    CREATED(Level.INFO),
+
+    /** A constructor argument failed validation. */
+    CREATE_REJECTED(Level.SEVERE),
+
+    /** A name, color or dimension was changed through a setter. */
+    UPDATED(Level.INFO),
+
+    /** A setter argument failed validation. */
+    UPDATE_REJECTED(Level.WARNING),
+
+    /** A volume or surface area was (re)calculated. */
+    CALCULATED(Level.INFO);
+
+    private final Level level;
+
+    ShapeEvent(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Returns the level at which events of this type are logged.
+     *
+     * @return the logging level
+     */
+    public Level level() {
+        return level;
+    }
+}
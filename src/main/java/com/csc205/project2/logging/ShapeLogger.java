@@ -0,0 +1,142 @@
+package com.csc205.project2.logging;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+/**
+ * Thin, allocation-free gate in front of a {@code java.util.logging}
+ * {@link Logger} for the shapes package.
+ *
+ * <p>Call sites guard message construction with {@link #isLoggable(ShapeEvent)}
+ * so that no string is concatenated and no {@code LogRecord} is created when
+ * the event's level is disabled:</p>
+ *
+ * <pre>{@code
+ * if (LOGGER.isLoggable(ShapeEvent.CALCULATED)) {
+ *     LOGGER.log(ShapeEvent.CALCULATED, "Calculated volume for '" + name + "': " + volume);
+ * }
+ * }</pre>
+ *
+ * <p>When the level is off the guard is a single integer comparison inside
+ * {@link Logger#isLoggable}. When it is on, the guard additionally applies
+ * per-event-type sampling: with a sampling interval of {@code n}, only the
+ * first of every {@code n} events of that type is logged. Intervals default
+ * to {@code 1} (log everything) and can be set at run time or through the
+ * system property {@code com.csc205.project2.logging.sample.<EVENT>}, e.g.
+ * {@code -Dcom.csc205.project2.logging.sample.CALCULATED=1000}.</p>
+ *
+ * <p>Records are published with an explicit source class, so handlers that
+ * run on another thread — such as {@link AsyncRingBufferHandler} — never need
+ * to walk the stack to infer the caller.</p>
+ *
+ * @see ShapeEvent
+ * @see AsyncRingBufferHandler
+ */
+public final class ShapeLogger {
+
+    /** Prefix of the system properties that configure sampling intervals. */
+    public static final String SAMPLING_PROPERTY_PREFIX = "com.csc205.project2.logging.sample.";
+
+    private static final ShapeEvent[] EVENTS = ShapeEvent.values();
+
+    private static final AtomicIntegerArray SAMPLING_INTERVALS = new AtomicIntegerArray(EVENTS.length);
+    private static final AtomicLongArray EVENT_COUNTERS = new AtomicLongArray(EVENTS.length);
+
+    static {
+        for (ShapeEvent event : EVENTS) {
+            int interval = Integer.getInteger(SAMPLING_PROPERTY_PREFIX + event.name(), 1);
+            SAMPLING_INTERVALS.set(event.ordinal(), Math.max(1, interval));
+        }
+    }
+
+    private final Logger logger;
+    private final String sourceClassName;
+
+    private ShapeLogger(Logger logger, String sourceClassName) {
+        this.logger = logger;
+        this.sourceClassName = sourceClassName;
+    }
+
+    /**
+     * Returns a {@code ShapeLogger} backed by the JUL logger named after the
+     * given class.
+     *
+     * @param type the class that owns the logger
+     * @return a logger gate for {@code type}
+     */
+    public static ShapeLogger getLogger(Class<?> type) {
+        return new ShapeLogger(Logger.getLogger(type.getName()), type.getName());
+    }
+
+    /**
+     * Returns whether an event of the given type should be logged now.
+     *
+     * <p>Returns {@code false} without side effects when the event's level is
+     * disabled. Otherwise the event is counted against its sampling interval,
+     * so this method should be called exactly once per candidate event.</p>
+     *
+     * @param event the event type about to be logged
+     * @return {@code true} if the caller should build and log the message
+     */
+    public boolean isLoggable(ShapeEvent event) {
+        if (!logger.isLoggable(event.level())) {
+            return false;
+        }
+        int interval = SAMPLING_INTERVALS.get(event.ordinal());
+        return interval == 1 || EVENT_COUNTERS.getAndIncrement(event.ordinal()) % interval == 0;
+    }
+
+    /**
+     * Logs a message for the given event type at the event's level.
+     *
+     * <p>This method does not re-apply sampling; guard it with
+     * {@link #isLoggable(ShapeEvent)}.</p>
+     *
+     * @param event   the event type
+     * @param message the fully built message
+     */
+    public void log(ShapeEvent event, String message) {
+        logger.logp(event.level(), sourceClassName, null, message);
+    }
+
+    /**
+     * Returns the underlying JUL logger, e.g. to attach handlers or change
+     * its level.
+     *
+     * @return the wrapped logger
+     */
+    public Logger getDelegate() {
+        return logger;
+    }
+
+    // ---------------------------------------------------------------
+    // Sampling configuration
+    // ---------------------------------------------------------------
+
+    /**
+     * Sets the sampling interval for an event type: only one of every
+     * {@code interval} enabled events of that type is logged.
+     *
+     * @param event    the event type to configure
+     * @param interval the sampling interval; {@code 1} logs every event
+     * @throws IllegalArgumentException if {@code interval} is less than one
+     */
+    public static void setSamplingInterval(ShapeEvent event, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Sampling interval must be at least 1.");
+        }
+        SAMPLING_INTERVALS.set(event.ordinal(), interval);
+        EVENT_COUNTERS.set(event.ordinal(), 0);
+    }
+
+    /**
+     * Returns the current sampling interval for an event type.
+     *
+     * @param event the event type
+     * @return the sampling interval; {@code 1} means every event is logged
+     */
+    public static int getSamplingInterval(ShapeEvent event) {
+        return SAMPLING_INTERVALS.get(event.ordinal());
+    }
+}
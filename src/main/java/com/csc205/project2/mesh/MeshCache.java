@@ -0,0 +1,205 @@
+package com.csc205.project2.mesh;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Shares one {@link TriangleMesh} between all shapes with the same type,
+ * dimensions and level of detail.
+ *
+ * <p>Assemblies repeat the same standard parts many thousands of times, and
+ * a mesh depends only on its shape's type and dimensions — never on the
+ * name, color or placement. Caching by those keys means each distinct part
+ * is tessellated once per level of detail, and exporting the assembly only
+ * reads the cached arrays. Lookups go through a {@link ConcurrentHashMap},
+ * so one cache can be shared by every thread.</p>
+ *
+ * <p>The cache holds at most about {@code capacity} meshes. Once it is full,
+ * meshes for new keys are still built and returned, but not stored, so an
+ * assembly of one-off sizes costs one tessellation per shape rather than
+ * unbounded memory. Call {@link #clear()} to start over, for example when
+ * moving on to a different assembly.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Flyweight</em> — identical parts share one immutable mesh</li>
+ *   <li><em>Cache-aside</em> — misses are built on demand and stored while
+ *       there is room</li>
+ * </ul>
+ *
+ * @see Tessellator
+ */
+public final class MeshCache {
+
+    /** Capacity used by {@link #MeshCache()}. */
+    public static final int DEFAULT_CAPACITY = 1 << 12;
+
+    private final ConcurrentHashMap<Key, TriangleMesh> meshes = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty cache holding up to {@link #DEFAULT_CAPACITY} meshes.
+     */
+    public MeshCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the most meshes to keep; {@code 0} disables caching
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public MeshCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, but got " + capacity + ".");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the mesh of a shape at its current dimensions.
+     *
+     * @param shape the shape
+     * @param lod   the level of detail
+     * @return the shared mesh, in the shape's local frame
+     * @throws IllegalArgumentException if {@code shape} is {@code null} or
+     *                                  {@code lod} is out of range
+     */
+    public TriangleMesh get(Shape3D shape, int lod) {
+        Tessellator.checkLod(lod);
+        return switch (shape) {
+            case Sphere sphere -> get(ShapeType.SPHERE, lod, sphere.getRadius(), 0.0, 0.0);
+            case Cube cube -> get(ShapeType.CUBE, lod, cube.getSideLength(), 0.0, 0.0);
+            case Cylinder cylinder -> get(ShapeType.CYLINDER, lod, cylinder.getRadius(), cylinder.getHeight(), 0.0);
+            case RectangularPrism prism -> get(ShapeType.RECTANGULAR_PRISM, lod,
+                    prism.getLength(), prism.getWidth(), prism.getHeight());
+            case Cone cone -> get(ShapeType.CONE, lod, cone.getRadius(), cone.getHeight(), 0.0);
+            case null -> throw new IllegalArgumentException("Shape must not be null.");
+        };
+    }
+
+    /**
+     * Returns the mesh of a shape of the given type and dimensions.
+     *
+     * @param type       the shape type
+     * @param lod        the level of detail
+     * @param dimensions the dimensions in {@link ShapeType#dimensionNames()}
+     *                   order
+     * @return the shared mesh, in the shape's local frame
+     * @throws IllegalArgumentException if the type is {@code null}, the
+     *                                  level is out of range, or the
+     *                                  dimensions are the wrong number or
+     *                                  invalid
+     */
+    public TriangleMesh get(ShapeType type, int lod, double... dimensions) {
+        Tessellator.checkDimensions(type, dimensions);
+        Tessellator.checkLod(lod);
+        return get(type, lod, dimensions[0],
+                dimensions.length > 1 ? dimensions[1] : 0.0,
+                dimensions.length > 2 ? dimensions[2] : 0.0);
+    }
+
+    private TriangleMesh get(ShapeType type, int lod, double d0, double d1, double d2) {
+        Key key = new Key(type, lod, d0, d1, d2);
+        TriangleMesh mesh = meshes.get(key);
+        if (mesh != null) {
+            hits.increment();
+            return mesh;
+        }
+        misses.increment();
+        if (meshes.size() >= capacity) {
+            return Tessellator.build(type, lod, d0, d1, d2);
+        }
+        return meshes.computeIfAbsent(key, k -> Tessellator.build(type, lod, d0, d1, d2));
+    }
+
+    /**
+     * Returns the number of cached meshes.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return meshes.size();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to tessellate.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes every cached mesh and resets the hit and miss counts.
+     */
+    public void clear() {
+        meshes.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Cache key: type, level of detail and the dimensions, compared bit for
+     * bit. Unused dimensions are zero.
+     */
+    private static final class Key {
+
+        private final ShapeType type;
+        private final int lod;
+        private final double d0;
+        private final double d1;
+        private final double d2;
+
+        Key(ShapeType type, int lod, double d0, double d1, double d2) {
+            this.type = type;
+            this.lod = lod;
+            this.d0 = d0;
+            this.d1 = d1;
+            this.d2 = d2;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key other)) {
+                return false;
+            }
+            return type == other.type && lod == other.lod
+                    && Double.doubleToLongBits(d0) == Double.doubleToLongBits(other.d0)
+                    && Double.doubleToLongBits(d1) == Double.doubleToLongBits(other.d1)
+                    && Double.doubleToLongBits(d2) == Double.doubleToLongBits(other.d2);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = type.ordinal() * 31 + lod;
+            hash = hash * 31 + Double.hashCode(d0);
+            hash = hash * 31 + Double.hashCode(d1);
+            return hash * 31 + Double.hashCode(d2);
+        }
+    }
+}
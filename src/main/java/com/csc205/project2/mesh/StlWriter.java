@@ -0,0 +1,359 @@
+package com.csc205.project2.mesh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Exports placed shapes as one binary STL solid, the triangle soup read by
+ * CAD, slicing and printing tools.
+ *
+ * <p>A binary STL file is an {@value #HEADER_BYTES}-byte header, a
+ * little-endian unsigned 32-bit triangle count, and
+ * {@value #TRIANGLE_BYTES} bytes per triangle: the facet normal and three
+ * corners as single-precision floats, followed by a two-byte attribute word
+ * that is always zero. The triangle count of each shape follows from its
+ * type and the level of detail alone (see
+ * {@link Tessellator#triangleCount}), so the count is written first and the
+ * triangles are streamed after it in one pass.</p>
+ *
+ * <p>Each shape's mesh comes from a {@link MeshCache} in its local frame.
+ * The writer moves the mesh's vertices into world space with the shape's
+ * {@link Placement} in one reused scratch array, then encodes each triangle
+ * and the facet normal of its moved corners straight into a direct
+ * {@link ByteBuffer}: nothing is allocated per triangle, and repeated parts
+ * are tessellated only once. Output goes either to a channel, through a
+ * {@value #BUFFER_TRIANGLES}-triangle buffer that is drained whenever it
+ * fills, or into a caller's buffer sized with {@link #byteSize}.</p>
+ *
+ * <p>A writer holds no per-export state and may be shared between threads.
+ * The shapes are read while an export runs; callers must not move or resize
+ * them until it returns.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Streaming</em> — triangles go from the cached mesh to the
+ *       output through fixed-size scratch space, whatever the export's
+ *       size</li>
+ *   <li><em>Flyweight</em> — placed shapes share meshes through the
+ *       cache</li>
+ * </ul>
+ *
+ * @see Tessellator
+ * @see MeshCache
+ */
+public final class StlWriter {
+
+    /** Size of the free-form header at the start of the file. */
+    public static final int HEADER_BYTES = 80;
+
+    /** Size of one triangle record. */
+    public static final int TRIANGLE_BYTES = 50;
+
+    /** Triangles buffered between writes to a channel. */
+    static final int BUFFER_TRIANGLES = 1 << 10;
+
+    /** The most triangles the 32-bit count can describe. */
+    private static final long MAX_TRIANGLES = 0xFFFF_FFFFL;
+
+    /** Header text; must not start with {@code solid}, which marks ASCII STL. */
+    private static final byte[] HEADER = "Binary STL exported by com.csc205.project2"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private final MeshCache cache;
+    private final int lod;
+
+    /**
+     * Creates a writer with its own {@link MeshCache}.
+     *
+     * @param lod the level of detail of every shape
+     * @throws IllegalArgumentException if {@code lod} is out of range
+     */
+    public StlWriter(int lod) {
+        this(new MeshCache(), lod);
+    }
+
+    /**
+     * Creates a writer that takes its meshes from a shared cache.
+     *
+     * @param cache the mesh cache
+     * @param lod   the level of detail of every shape
+     * @throws IllegalArgumentException if {@code cache} is {@code null} or
+     *                                  {@code lod} is out of range
+     */
+    public StlWriter(MeshCache cache, int lod) {
+        if (cache == null) {
+            throw new IllegalArgumentException("Mesh cache must not be null.");
+        }
+        Tessellator.checkLod(lod);
+        this.cache = cache;
+        this.lod = lod;
+    }
+
+    /**
+     * Returns the level of detail this writer tessellates at.
+     *
+     * @return the level of detail
+     */
+    public int getLod() {
+        return lod;
+    }
+
+    /**
+     * Returns the cache this writer takes meshes from.
+     *
+     * @return the mesh cache
+     */
+    public MeshCache getCache() {
+        return cache;
+    }
+
+    // ---------------------------------------------------------------
+    // Sizes
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of triangles an export of {@code shapes} contains.
+     *
+     * @param shapes the shapes
+     * @return the total triangle count
+     * @throws IllegalArgumentException if {@code shapes} or one of its
+     *                                  elements is {@code null}
+     */
+    public long triangleCount(Collection<? extends Shape3D> shapes) {
+        if (shapes == null) {
+            throw new IllegalArgumentException("Shapes must not be null.");
+        }
+        long triangles = 0L;
+        for (Shape3D shape : shapes) {
+            triangles += Tessellator.triangleCount(ShapeType.of(shape), lod);
+        }
+        return triangles;
+    }
+
+    /**
+     * Returns the size in bytes of an export of {@code shapes}.
+     *
+     * @param shapes the shapes
+     * @return the file size
+     * @throws IllegalArgumentException if {@code shapes} or one of its
+     *                                  elements is {@code null}
+     */
+    public long byteSize(Collection<? extends Shape3D> shapes) {
+        return fileBytes(triangleCount(shapes));
+    }
+
+    private static long fileBytes(long triangles) {
+        return HEADER_BYTES + Integer.BYTES + triangles * TRIANGLE_BYTES;
+    }
+
+    // ---------------------------------------------------------------
+    // Export
+    // ---------------------------------------------------------------
+
+    /**
+     * Writes {@code shapes} to {@code path}, replacing any existing file.
+     *
+     * @param shapes the shapes to export
+     * @param path   the destination file
+     * @return the number of triangles written
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if an argument is {@code null} or the
+     *                                  export has more triangles than STL can
+     *                                  count
+     */
+    public long write(Collection<? extends Shape3D> shapes, Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path must not be null.");
+        }
+        long triangles = checkedTriangleCount(shapes);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            stream(shapes, triangles, channel);
+        }
+        return triangles;
+    }
+
+    /**
+     * Writes {@code shapes} to a channel at its current position. The
+     * channel is not closed.
+     *
+     * @param shapes  the shapes to export
+     * @param channel the destination
+     * @return the number of triangles written
+     * @throws IOException              if the channel cannot be written
+     * @throws IllegalArgumentException if an argument is {@code null} or the
+     *                                  export has more triangles than STL can
+     *                                  count
+     */
+    public long write(Collection<? extends Shape3D> shapes, WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel must not be null.");
+        }
+        long triangles = checkedTriangleCount(shapes);
+        stream(shapes, triangles, channel);
+        return triangles;
+    }
+
+    /**
+     * Writes {@code shapes} into a buffer, starting at its position and
+     * advancing the position past the export. The buffer's byte order is
+     * left unchanged.
+     *
+     * @param shapes the shapes to export
+     * @param target the destination, with at least {@link #byteSize}
+     *               bytes remaining
+     * @return the number of triangles written
+     * @throws IllegalArgumentException if an argument is {@code null} or the
+     *                                  buffer is too small
+     */
+    public long write(Collection<? extends Shape3D> shapes, ByteBuffer target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Buffer must not be null.");
+        }
+        long triangles = checkedTriangleCount(shapes);
+        long bytes = fileBytes(triangles);
+        if (target.remaining() < bytes) {
+            throw new IllegalArgumentException("Export needs " + bytes + " bytes, but the buffer has "
+                    + target.remaining() + " remaining.");
+        }
+        ByteBuffer out = target.slice().order(ByteOrder.LITTLE_ENDIAN);
+        double[] world = new double[Tessellator.maxVertexCount(lod) * 3];
+        writeHeader(out, triangles);
+        for (Shape3D shape : shapes) {
+            TriangleMesh mesh = cache.get(shape, lod);
+            toWorld(mesh, shape.getPlacement(), world);
+            writeTriangles(out, mesh.indices, world, 0, mesh.getTriangleCount());
+        }
+        target.position(target.position() + (int) bytes);
+        return triangles;
+    }
+
+    private long checkedTriangleCount(Collection<? extends Shape3D> shapes) {
+        long triangles = triangleCount(shapes);
+        if (triangles > MAX_TRIANGLES) {
+            throw new IllegalArgumentException("Binary STL holds at most " + MAX_TRIANGLES
+                    + " triangles, but the export has " + triangles + ".");
+        }
+        return triangles;
+    }
+
+    private void stream(Collection<? extends Shape3D> shapes, long triangles, WritableByteChannel channel)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_TRIANGLES * TRIANGLE_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        double[] world = new double[Tessellator.maxVertexCount(lod) * 3];
+        writeHeader(buffer, triangles);
+        for (Shape3D shape : shapes) {
+            TriangleMesh mesh = cache.get(shape, lod);
+            toWorld(mesh, shape.getPlacement(), world);
+            int count = mesh.getTriangleCount();
+            // Write the mesh in runs that fit the buffer, draining between them.
+            for (int first = 0; first < count; ) {
+                int room = buffer.remaining() / TRIANGLE_BYTES;
+                if (room == 0) {
+                    drain(channel, buffer);
+                    continue;
+                }
+                int last = Math.min(count, first + room);
+                writeTriangles(buffer, mesh.indices, world, first, last);
+                first = last;
+            }
+        }
+        drain(channel, buffer);
+    }
+
+    private static void writeHeader(ByteBuffer buffer, long triangles) {
+        buffer.put(HEADER);
+        for (int i = HEADER.length; i < HEADER_BYTES; i++) {
+            buffer.put((byte) 0);
+        }
+        buffer.putInt((int) triangles);
+    }
+
+    /**
+     * Moves every vertex of a mesh into world space, once per shape rather
+     * than once per triangle corner.
+     */
+    private static void toWorld(TriangleMesh mesh, Placement placement, double[] world) {
+        float[] positions = mesh.positions;
+        double px = placement.getX();
+        double py = placement.getY();
+        double pz = placement.getZ();
+        double m00 = placement.rotation(0, 0);
+        double m01 = placement.rotation(0, 1);
+        double m02 = placement.rotation(0, 2);
+        double m10 = placement.rotation(1, 0);
+        double m11 = placement.rotation(1, 1);
+        double m12 = placement.rotation(1, 2);
+        double m20 = placement.rotation(2, 0);
+        double m21 = placement.rotation(2, 1);
+        double m22 = placement.rotation(2, 2);
+        for (int i = 0; i < positions.length; i += 3) {
+            double lx = positions[i];
+            double ly = positions[i + 1];
+            double lz = positions[i + 2];
+            world[i] = px + m00 * lx + m01 * ly + m02 * lz;
+            world[i + 1] = py + m10 * lx + m11 * ly + m12 * lz;
+            world[i + 2] = pz + m20 * lx + m21 * ly + m22 * lz;
+        }
+    }
+
+    /**
+     * Writes triangles {@code first} (inclusive) to {@code last} (exclusive)
+     * of a mesh whose vertices {@link #toWorld} has already placed.
+     */
+    private static void writeTriangles(ByteBuffer buffer, int[] indices, double[] world, int first, int last) {
+        for (int t = first; t < last; t++) {
+            int a = indices[t * 3] * 3;
+            int b = indices[t * 3 + 1] * 3;
+            int c = indices[t * 3 + 2] * 3;
+            double ax = world[a];
+            double ay = world[a + 1];
+            double az = world[a + 2];
+            double bx = world[b];
+            double by = world[b + 1];
+            double bz = world[b + 2];
+            double cx = world[c];
+            double cy = world[c + 1];
+            double cz = world[c + 2];
+
+            double ux = bx - ax;
+            double uy = by - ay;
+            double uz = bz - az;
+            double vx = cx - ax;
+            double vy = cy - ay;
+            double vz = cz - az;
+            double nx = uy * vz - uz * vy;
+            double ny = uz * vx - ux * vz;
+            double nz = ux * vy - uy * vx;
+            double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+            // Degenerate triangles get a zero normal; readers recompute it.
+            double scale = length > 0.0 ? 1.0 / length : 0.0;
+
+            buffer.putFloat((float) (nx * scale)).putFloat((float) (ny * scale)).putFloat((float) (nz * scale))
+                    .putFloat((float) ax).putFloat((float) ay).putFloat((float) az)
+                    .putFloat((float) bx).putFloat((float) by).putFloat((float) bz)
+                    .putFloat((float) cx).putFloat((float) cy).putFloat((float) cz)
+                    .putShort((short) 0);
+        }
+    }
+
+    private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,329 @@
+package com.csc205.project2.mesh;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeRules;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Turns shapes into closed {@link TriangleMesh}es at a chosen level of
+ * detail.
+ *
+ * <p>Meshes are built in the shape's local frame, with the same layout
+ * {@link Shape3D#contains} uses: centered on the origin, with the height of
+ * cylinders, cones and prisms along {@code z}, and a cone's base at
+ * {@code z = -height / 2}. Every vertex lies on the exact surface, so curved
+ * shapes are inscribed polyhedra whose volume and area approach the exact
+ * values from below.</p>
+ *
+ * <p>The level of detail runs from {@value #MIN_LOD} to {@value #MAX_LOD}.
+ * Level {@code n} cuts every circle into {@code 8 * 2^n} segments (see
+ * {@link #segments(int)}), so each level doubles the resolution and roughly
+ * quarters the error:</p>
+ * <ul>
+ *   <li>cubes and prisms — 12 triangles at every level</li>
+ *   <li>spheres — a latitude/longitude grid with half as many rings as
+ *       segments, closed by a single vertex at each pole</li>
+ *   <li>cylinders — a side band of quads and a fan on each end</li>
+ *   <li>cones — a fan from the apex and a fan on the base</li>
+ * </ul>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Factory</em> — one entry point builds the right mesh for any
+ *       shape type</li>
+ *   <li><em>Indexed geometry</em> — vertices shared by neighboring triangles
+ *       are stored once</li>
+ * </ul>
+ *
+ * @see TriangleMesh
+ * @see MeshCache
+ */
+public final class Tessellator {
+
+    /** The coarsest level of detail: 8 segments per circle. */
+    public static final int MIN_LOD = 0;
+
+    /** The finest level of detail: 512 segments per circle. */
+    public static final int MAX_LOD = 6;
+
+    /** Segments per circle at {@link #MIN_LOD}. */
+    private static final int BASE_SEGMENTS = 8;
+
+    private Tessellator() {
+        // static utility
+    }
+
+    /**
+     * Returns the number of segments each circle is cut into at a level of
+     * detail.
+     *
+     * @param lod the level of detail
+     * @return {@code 8 * 2^lod}
+     * @throws IllegalArgumentException if {@code lod} is out of range
+     */
+    public static int segments(int lod) {
+        checkLod(lod);
+        return BASE_SEGMENTS << lod;
+    }
+
+    /**
+     * Returns the number of triangles in a mesh of the given type and level
+     * of detail, without building it. The count does not depend on the
+     * dimensions.
+     *
+     * @param type the shape type
+     * @param lod  the level of detail
+     * @return the triangle count
+     * @throws IllegalArgumentException if {@code type} is {@code null} or
+     *                                  {@code lod} is out of range
+     */
+    public static int triangleCount(ShapeType type, int lod) {
+        if (type == null) {
+            throw new IllegalArgumentException("Shape type must not be null.");
+        }
+        int n = segments(lod);
+        return switch (type) {
+            case CUBE, RECTANGULAR_PRISM -> 12;
+            case SPHERE -> n * (n / 2 - 1) * 2;
+            case CYLINDER -> n * 4;
+            case CONE -> n * 2;
+        };
+    }
+
+    /**
+     * Tessellates a shape at its current dimensions.
+     *
+     * @param shape the shape
+     * @param lod   the level of detail
+     * @return a new mesh in the shape's local frame
+     * @throws IllegalArgumentException if {@code shape} is {@code null} or
+     *                                  {@code lod} is out of range
+     */
+    public static TriangleMesh tessellate(Shape3D shape, int lod) {
+        checkLod(lod);
+        return switch (shape) {
+            case Sphere sphere -> sphere(sphere.getRadius(), lod);
+            case Cube cube -> box(cube.getSideLength(), cube.getSideLength(), cube.getSideLength());
+            case Cylinder cylinder -> cylinder(cylinder.getRadius(), cylinder.getHeight(), lod);
+            case RectangularPrism prism -> box(prism.getLength(), prism.getWidth(), prism.getHeight());
+            case Cone cone -> cone(cone.getRadius(), cone.getHeight(), lod);
+            case null -> throw new IllegalArgumentException("Shape must not be null.");
+        };
+    }
+
+    /**
+     * Tessellates a shape of the given type and dimensions without creating
+     * the shape.
+     *
+     * @param type       the shape type
+     * @param lod        the level of detail
+     * @param dimensions the dimensions in {@link ShapeType#dimensionNames()}
+     *                   order
+     * @return a new mesh in the shape's local frame
+     * @throws IllegalArgumentException if the type is {@code null}, the
+     *                                  level is out of range, or the
+     *                                  dimensions are the wrong number or
+     *                                  invalid
+     */
+    public static TriangleMesh tessellate(ShapeType type, int lod, double... dimensions) {
+        checkDimensions(type, dimensions);
+        checkLod(lod);
+        return build(type, lod, dimensions[0],
+                dimensions.length > 1 ? dimensions[1] : 0.0,
+                dimensions.length > 2 ? dimensions[2] : 0.0);
+    }
+
+    /** Returns the most vertices any mesh has at a level of detail; spheres always have the most. */
+    static int maxVertexCount(int lod) {
+        int n = segments(lod);
+        return 2 + (n / 2 - 1) * n;
+    }
+
+    /** Builds a mesh from dimensions that have already been validated. */
+    static TriangleMesh build(ShapeType type, int lod, double d0, double d1, double d2) {
+        return switch (type) {
+            case SPHERE -> sphere(d0, lod);
+            case CUBE -> box(d0, d0, d0);
+            case CYLINDER -> cylinder(d0, d1, lod);
+            case RECTANGULAR_PRISM -> box(d0, d1, d2);
+            case CONE -> cone(d0, d1, lod);
+        };
+    }
+
+    static void checkLod(int lod) {
+        if (lod < MIN_LOD || lod > MAX_LOD) {
+            throw new IllegalArgumentException("Level of detail must be between " + MIN_LOD + " and "
+                    + MAX_LOD + ", but got " + lod + ".");
+        }
+    }
+
+    static void checkDimensions(ShapeType type, double[] dimensions) {
+        if (type == null) {
+            throw new IllegalArgumentException("Shape type must not be null.");
+        }
+        if (dimensions == null || dimensions.length != type.dimensionCount()) {
+            throw new IllegalArgumentException(type.displayName() + " requires " + type.dimensionCount()
+                    + (type.dimensionCount() == 1 ? " dimension" : " dimensions") + " but got "
+                    + (dimensions == null ? 0 : dimensions.length) + ".");
+        }
+        for (int i = 0; i < dimensions.length; i++) {
+            if (!ShapeRules.isValidDimension(dimensions[i])) {
+                throw new IllegalArgumentException(ShapeRules.dimensionMessage(type, i));
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Per-type meshes
+    // ---------------------------------------------------------------
+
+    /** Eight corners, x fastest, and two triangles per face. */
+    private static TriangleMesh box(double length, double width, double height) {
+        MeshBuilder mesh = new MeshBuilder(8, 12);
+        double a = length / 2.0;
+        double b = width / 2.0;
+        double c = height / 2.0;
+        for (int corner = 0; corner < 8; corner++) {
+            mesh.vertex((corner & 1) == 0 ? -a : a, (corner & 2) == 0 ? -b : b, (corner & 4) == 0 ? -c : c);
+        }
+        mesh.quad(0, 2, 3, 1);
+        mesh.quad(4, 5, 7, 6);
+        mesh.quad(0, 1, 5, 4);
+        mesh.quad(2, 6, 7, 3);
+        mesh.quad(0, 4, 6, 2);
+        mesh.quad(1, 3, 7, 5);
+        return mesh.build();
+    }
+
+    /** North pole, {@code n / 2 - 1} rings of {@code n} vertices, south pole. */
+    private static TriangleMesh sphere(double radius, int lod) {
+        int n = segments(lod);
+        int rings = n / 2;
+        MeshBuilder mesh = new MeshBuilder(2 + (rings - 1) * n, triangleCount(ShapeType.SPHERE, lod));
+        double[] cos = new double[n];
+        double[] sin = new double[n];
+        circle(n, cos, sin);
+        int north = mesh.vertex(0.0, 0.0, radius);
+        for (int k = 1; k < rings; k++) {
+            double polar = Math.PI * k / rings;
+            double ring = radius * Math.sin(polar);
+            double z = radius * Math.cos(polar);
+            for (int j = 0; j < n; j++) {
+                mesh.vertex(ring * cos[j], ring * sin[j], z);
+            }
+        }
+        int south = mesh.vertex(0.0, 0.0, -radius);
+        for (int j = 0; j < n; j++) {
+            int next = (j + 1) % n;
+            mesh.triangle(north, 1 + j, 1 + next);
+            for (int k = 1; k < rings - 1; k++) {
+                int upper = 1 + (k - 1) * n;
+                int lower = upper + n;
+                mesh.quad(upper + j, lower + j, lower + next, upper + next);
+            }
+            int last = 1 + (rings - 2) * n;
+            mesh.triangle(last + j, south, last + next);
+        }
+        return mesh.build();
+    }
+
+    /** A bottom ring, a top ring, and the centers of both ends. */
+    private static TriangleMesh cylinder(double radius, double height, int lod) {
+        int n = segments(lod);
+        MeshBuilder mesh = new MeshBuilder(2 * n + 2, triangleCount(ShapeType.CYLINDER, lod));
+        double[] cos = new double[n];
+        double[] sin = new double[n];
+        circle(n, cos, sin);
+        double half = height / 2.0;
+        for (int j = 0; j < n; j++) {
+            mesh.vertex(radius * cos[j], radius * sin[j], -half);
+        }
+        for (int j = 0; j < n; j++) {
+            mesh.vertex(radius * cos[j], radius * sin[j], half);
+        }
+        int bottom = mesh.vertex(0.0, 0.0, -half);
+        int top = mesh.vertex(0.0, 0.0, half);
+        for (int j = 0; j < n; j++) {
+            int next = (j + 1) % n;
+            mesh.quad(n + j, j, next, n + next);
+            mesh.triangle(top, n + j, n + next);
+            mesh.triangle(bottom, next, j);
+        }
+        return mesh.build();
+    }
+
+    /** A base ring, the apex, and the center of the base. */
+    private static TriangleMesh cone(double radius, double height, int lod) {
+        int n = segments(lod);
+        MeshBuilder mesh = new MeshBuilder(n + 2, triangleCount(ShapeType.CONE, lod));
+        double[] cos = new double[n];
+        double[] sin = new double[n];
+        circle(n, cos, sin);
+        double half = height / 2.0;
+        for (int j = 0; j < n; j++) {
+            mesh.vertex(radius * cos[j], radius * sin[j], -half);
+        }
+        int apex = mesh.vertex(0.0, 0.0, half);
+        int base = mesh.vertex(0.0, 0.0, -half);
+        for (int j = 0; j < n; j++) {
+            int next = (j + 1) % n;
+            mesh.triangle(apex, j, next);
+            mesh.triangle(base, next, j);
+        }
+        return mesh.build();
+    }
+
+    /** Fills the unit circle's coordinates at {@code n} equal angles, counter-clockwise from {@code +x}. */
+    private static void circle(int n, double[] cos, double[] sin) {
+        for (int j = 0; j < n; j++) {
+            double angle = 2.0 * Math.PI * j / n;
+            cos[j] = Math.cos(angle);
+            sin[j] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Fills the arrays of one mesh. Sizes are known up front, so the arrays
+     * are allocated once and never grown.
+     */
+    private static final class MeshBuilder {
+
+        private final float[] positions;
+        private final int[] indices;
+        private int vertices;
+        private int corners;
+
+        MeshBuilder(int vertexCount, int triangleCount) {
+            positions = new float[vertexCount * 3];
+            indices = new int[triangleCount * 3];
+        }
+
+        int vertex(double x, double y, double z) {
+            positions[vertices * 3] = (float) x;
+            positions[vertices * 3 + 1] = (float) y;
+            positions[vertices * 3 + 2] = (float) z;
+            return vertices++;
+        }
+
+        void triangle(int a, int b, int c) {
+            indices[corners++] = a;
+            indices[corners++] = b;
+            indices[corners++] = c;
+        }
+
+        /** Two triangles for a quad whose corners run counter-clockwise seen from outside. */
+        void quad(int a, int b, int c, int d) {
+            triangle(a, b, c);
+            triangle(a, c, d);
+        }
+
+        TriangleMesh build() {
+            return new TriangleMesh(positions, indices);
+        }
+    }
+}
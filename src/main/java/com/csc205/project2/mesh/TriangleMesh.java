@@ -0,0 +1,181 @@
+package com.csc205.project2.mesh;
+
+/**
+ * An indexed triangle mesh of one shape's surface in the shape's local
+ * frame.
+ *
+ * <p>Vertices are stored as one interleaved {@code float} array of
+ * {@code x, y, z} triples, and triangles as one {@code int} array of vertex
+ * indices, three per triangle. Single precision matches what STL and most
+ * CAD and printing formats store, and halves the memory a
+ * {@link MeshCache} holds. A mesh of any size is therefore two arrays rather
+ * than one object per vertex or triangle.</p>
+ *
+ * <p>Triangles wind counter-clockwise when seen from outside the solid, so
+ * the right-hand normal of every triangle points outward and
+ * {@link #getVolume()} is positive. Vertices are shared between the
+ * triangles that meet at them, including across sharp edges; flat-shaded
+ * formats derive one normal per triangle instead.</p>
+ *
+ * <p>Meshes are immutable and safe to share between threads. They carry no
+ * placement: writers move each vertex into world space as they stream it
+ * out, so one cached mesh serves every shape with the same type and
+ * dimensions.</p>
+ *
+ * @see Tessellator
+ * @see MeshCache
+ */
+public final class TriangleMesh {
+
+    /** Vertex coordinates, {@code x, y, z} per vertex. */
+    final float[] positions;
+
+    /** Vertex indices, three per triangle. */
+    final int[] indices;
+
+    TriangleMesh(float[] positions, int[] indices) {
+        this.positions = positions;
+        this.indices = indices;
+    }
+
+    /**
+     * Returns the number of distinct vertices.
+     *
+     * @return the vertex count
+     */
+    public int getVertexCount() {
+        return positions.length / 3;
+    }
+
+    /**
+     * Returns the number of triangles.
+     *
+     * @return the triangle count
+     */
+    public int getTriangleCount() {
+        return indices.length / 3;
+    }
+
+    /**
+     * Returns the local {@code x} coordinate of a vertex.
+     *
+     * @param vertex the vertex index
+     * @return the coordinate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public float getX(int vertex) {
+        return positions[checkVertex(vertex) * 3];
+    }
+
+    /**
+     * Returns the local {@code y} coordinate of a vertex.
+     *
+     * @param vertex the vertex index
+     * @return the coordinate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public float getY(int vertex) {
+        return positions[checkVertex(vertex) * 3 + 1];
+    }
+
+    /**
+     * Returns the local {@code z} coordinate of a vertex.
+     *
+     * @param vertex the vertex index
+     * @return the coordinate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public float getZ(int vertex) {
+        return positions[checkVertex(vertex) * 3 + 2];
+    }
+
+    /**
+     * Returns one corner of a triangle.
+     *
+     * @param triangle the triangle index
+     * @param corner   the corner, {@code 0} to {@code 2} in winding order
+     * @return the index of the corner's vertex
+     * @throws IndexOutOfBoundsException if an index is out of range
+     */
+    public int getIndex(int triangle, int corner) {
+        if (triangle < 0 || triangle >= getTriangleCount() || corner < 0 || corner > 2) {
+            throw new IndexOutOfBoundsException("Corner " + corner + " of triangle " + triangle);
+        }
+        return indices[triangle * 3 + corner];
+    }
+
+    private int checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= getVertexCount()) {
+            throw new IndexOutOfBoundsException("Vertex " + vertex);
+        }
+        return vertex;
+    }
+
+    // ---------------------------------------------------------------
+    // Measurements
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the volume enclosed by the mesh, by the divergence theorem:
+     * the sum of the signed volumes of the tetrahedra joining each triangle
+     * to the origin. Because the triangles are inscribed in the shape's
+     * surface, the result approaches the shape's own volume from below as
+     * the level of detail rises.
+     *
+     * @return the enclosed volume in cubic units
+     */
+    public double getVolume() {
+        double sixfold = 0.0;
+        for (int i = 0; i < indices.length; i += 3) {
+            int a = indices[i] * 3;
+            int b = indices[i + 1] * 3;
+            int c = indices[i + 2] * 3;
+            double ax = positions[a];
+            double ay = positions[a + 1];
+            double az = positions[a + 2];
+            double bx = positions[b];
+            double by = positions[b + 1];
+            double bz = positions[b + 2];
+            double cx = positions[c];
+            double cy = positions[c + 1];
+            double cz = positions[c + 2];
+            sixfold += ax * (by * cz - bz * cy) + ay * (bz * cx - bx * cz) + az * (bx * cy - by * cx);
+        }
+        return sixfold / 6.0;
+    }
+
+    /**
+     * Returns the total area of the triangles.
+     *
+     * @return the surface area in square units
+     */
+    public double getSurfaceArea() {
+        double twofold = 0.0;
+        for (int i = 0; i < indices.length; i += 3) {
+            int a = indices[i] * 3;
+            int b = indices[i + 1] * 3;
+            int c = indices[i + 2] * 3;
+            double ux = positions[b] - positions[a];
+            double uy = positions[b + 1] - positions[a + 1];
+            double uz = positions[b + 2] - positions[a + 2];
+            double vx = positions[c] - positions[a];
+            double vy = positions[c + 1] - positions[a + 1];
+            double vz = positions[c + 2] - positions[a + 2];
+            double nx = uy * vz - uz * vy;
+            double ny = uz * vx - ux * vz;
+            double nz = ux * vy - uy * vx;
+            twofold += Math.sqrt(nx * nx + ny * ny + nz * nz);
+        }
+        return twofold / 2.0;
+    }
+
+    /**
+     * Returns the vertex and triangle counts.
+     *
+     * @return a human-readable description of this mesh
+     */
+    @Override
+    public String toString() {
+        return "TriangleMesh {vertices=" + getVertexCount() + ", triangles=" + getTriangleCount() + "}";
+    }
+}
@@ -0,0 +1,305 @@
+package com.csc205.project2.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.StringDictionary;
+
+/**
+ * Thread-safe catalog of shapes keyed by name, with secondary indexes by
+ * color and by concrete type.
+ *
+ * <p>All three indexes are {@link ConcurrentHashMap}s, so lookups
+ * ({@link #get}, {@link #byColor}, {@link #byType}) take no locks and cost
+ * O(1). Writes that touch several indexes ({@link #register},
+ * {@link #remove}, {@link #rename}, {@link #recolor}) hold a striped lock
+ * chosen by the shape's name, so writes to different names rarely contend
+ * and writes to the same name are serialized. A rename holds the stripes of
+ * both names, taken in stripe order so two renames cannot deadlock. Color
+ * buckets are concurrent sets keyed by the color's code in a
+ * {@link StringDictionary} owned by the registry, so color lookups hash an
+ * int instead of a string; they are created on first use and never
+ * discarded, so a view returned by {@link #byColor} stays live. Both grow
+ * only with the distinct colors this registry has seen and are reclaimed
+ * with it.</p>
+ *
+ * <p>A reader racing with a write sees each index either before or after
+ * that write, but not necessarily the same state in every index; a lookup
+ * during a rename may find the shape under either name. Once a write
+ * returns, every index reflects it.</p>
+ *
+ * <p>Indexes only stay consistent if registered shapes are renamed and
+ * recolored through the registry rather than through
+ * {@link Shape3D#setName} and {@link Shape3D#setColor} directly.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Registry</em> — a shared lookup point for shapes by name</li>
+ *   <li><em>Lock striping</em> — one lock per group of names instead of one
+ *       for the whole registry</li>
+ * </ul>
+ */
+public final class ShapeRegistry {
+
+    /** Default number of lock stripes. */
+    public static final int DEFAULT_STRIPES = 64;
+
+    private final Map<String, Shape3D> byName = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Shape3D>> byColor = new ConcurrentHashMap<>();
+    private final StringDictionary colorCodes = new StringDictionary();
+    private final Map<ShapeType, Set<Shape3D>> byType = new EnumMap<>(ShapeType.class);
+    private final Object[] stripes;
+
+    /**
+     * Creates an empty registry with {@link #DEFAULT_STRIPES} lock stripes.
+     */
+    public ShapeRegistry() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param stripes the number of lock stripes; more stripes mean less
+     *                contention between writers to different names
+     * @throws IllegalArgumentException if {@code stripes} is less than 1
+     */
+    public ShapeRegistry(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be at least 1.");
+        }
+        this.stripes = new Object[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Object();
+        }
+        for (ShapeType type : ShapeType.values()) {
+            byType.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Writes
+    // ---------------------------------------------------------------
+
+    /**
+     * Adds a shape under its current name.
+     *
+     * @param shape the shape to add
+     * @throws IllegalArgumentException if {@code shape} is {@code null} or
+     *                                  another shape already has its name
+     */
+    public void register(Shape3D shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        ShapeType type = ShapeType.of(shape);
+        String name = shape.getName();
+        synchronized (stripeFor(name)) {
+            if (byName.putIfAbsent(name, shape) != null) {
+                throw new IllegalArgumentException("A shape named '" + name + "' is already registered.");
+            }
+            addToColor(colorCodes.encode(shape.getColor()), shape);
+            byType.get(type).add(shape);
+        }
+    }
+
+    /**
+     * Removes the shape with the given name.
+     *
+     * @param name the shape name
+     * @return the removed shape, or empty if no shape had that name
+     */
+    public Optional<Shape3D> remove(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        synchronized (stripeFor(name)) {
+            Shape3D shape = byName.remove(name);
+            if (shape == null) {
+                return Optional.empty();
+            }
+            removeFromColor(colorCodes.encode(shape.getColor()), shape);
+            byType.get(ShapeType.of(shape)).remove(shape);
+            return Optional.of(shape);
+        }
+    }
+
+    /**
+     * Renames a registered shape and moves it in the name index.
+     *
+     * @param name    the current name
+     * @param newName the new name; must not be {@code null} or blank
+     * @throws IllegalArgumentException if no shape has {@code name}, another
+     *                                  shape already has {@code newName}, or
+     *                                  {@code newName} is invalid
+     */
+    public void rename(String name, String newName) {
+        Object first = stripeFor(name);
+        Object second = stripeFor(newName);
+        if (stripeIndex(newName) < stripeIndex(name)) {
+            Object swap = first;
+            first = second;
+            second = swap;
+        }
+        synchronized (first) {
+            synchronized (second) {
+                Shape3D shape = require(name);
+                if (name.equals(newName)) {
+                    return;
+                }
+                if (byName.containsKey(newName)) {
+                    throw new IllegalArgumentException("A shape named '" + newName + "' is already registered.");
+                }
+                shape.setName(newName);
+                byName.put(newName, shape);
+                byName.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Changes the color of a registered shape and moves it in the color
+     * index.
+     *
+     * @param name     the shape name
+     * @param newColor the new color; must not be {@code null} or blank
+     * @throws IllegalArgumentException if no shape has {@code name} or
+     *                                  {@code newColor} is invalid
+     */
+    public void recolor(String name, String newColor) {
+        synchronized (stripeFor(name)) {
+            Shape3D shape = require(name);
+            int oldColor = colorCodes.encode(shape.getColor());
+            shape.setColor(newColor);
+            int color = colorCodes.encode(shape.getColor());
+            if (color != oldColor) {
+                addToColor(color, shape);
+                removeFromColor(oldColor, shape);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Lookups
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the shape with the given name.
+     *
+     * @param name the shape name
+     * @return the shape, or empty if none is registered under {@code name}
+     */
+    public Optional<Shape3D> get(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * Returns whether a shape is registered under the given name.
+     *
+     * @param name the shape name
+     * @return {@code true} if the name is taken
+     */
+    public boolean contains(String name) {
+        return name != null && byName.containsKey(name);
+    }
+
+    /**
+     * Returns the shapes of one color as a live, unmodifiable view.
+     * Iteration is weakly consistent: it never fails under concurrent
+     * writes and may or may not reflect them. If no shape has ever had the
+     * color, the result is an empty set that does not update.
+     *
+     * @param color the color, matched exactly
+     * @return the shapes with that color, possibly empty
+     */
+    public Set<Shape3D> byColor(String color) {
+        int code = colorCodes.lookup(color);
+        Set<Shape3D> shapes = code < 0 ? null : byColor.get(code);
+        return shapes == null ? Collections.emptySet() : Collections.unmodifiableSet(shapes);
+    }
+
+    /**
+     * Returns the shapes of one concrete type as a live, unmodifiable view
+     * with the same consistency as {@link #byColor}.
+     *
+     * @param type the shape type
+     * @return the shapes of that type, possibly empty
+     */
+    public Set<Shape3D> byType(ShapeType type) {
+        return Collections.unmodifiableSet(byType.get(type));
+    }
+
+    /**
+     * Returns the colors that at least one registered shape has.
+     *
+     * @return an unmodifiable snapshot of the colors
+     */
+    public Set<String> colors() {
+        Set<String> colors = new HashSet<>();
+        byColor.forEach((color, shapes) -> {
+            if (!shapes.isEmpty()) {
+                colors.add(colorCodes.decode(color));
+            }
+        });
+        return Collections.unmodifiableSet(colors);
+    }
+
+    /**
+     * Returns the number of registered shapes.
+     *
+     * @return the registry size
+     */
+    public int size() {
+        return byName.size();
+    }
+
+    /**
+     * Returns a snapshot of every registered shape, in no particular order.
+     *
+     * @return a new list of shapes
+     */
+    public List<Shape3D> snapshot() {
+        return new ArrayList<>(byName.values());
+    }
+
+    // ---------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------
+
+    private Shape3D require(String name) {
+        Shape3D shape = name == null ? null : byName.get(name);
+        if (shape == null) {
+            throw new IllegalArgumentException("No shape named '" + name + "' is registered.");
+        }
+        return shape;
+    }
+
+    private void addToColor(int color, Shape3D shape) {
+        byColor.computeIfAbsent(color, key -> ConcurrentHashMap.newKeySet()).add(shape);
+    }
+
+    private void removeFromColor(int color, Shape3D shape) {
+        Set<Shape3D> shapes = byColor.get(color);
+        if (shapes != null) {
+            shapes.remove(shape);
+        }
+    }
+
+    private int stripeIndex(String name) {
+        int hash = name == null ? 0 : name.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    private Object stripeFor(String name) {
+        return stripes[stripeIndex(name)];
+    }
+}
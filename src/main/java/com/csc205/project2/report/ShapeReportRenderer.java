@@ -0,0 +1,493 @@
+package com.csc205.project2.report;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+
+import com.csc205.project2.analysis.DistributionStats;
+import com.csc205.project2.analysis.Metric;
+import com.csc205.project2.analysis.QuantileSketch;
+import com.csc205.project2.analysis.Ranked;
+import com.csc205.project2.analysis.ShapeAnalysis;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Renders the shape report into a reusable byte buffer and writes it out
+ * through an NIO channel.
+ *
+ * <p>The output is byte-for-byte what {@code ShapeDriver} used to produce with
+ * {@code printf("%.2f")} and {@code Shape3D.toString()}, but without creating
+ * a {@link java.util.Formatter} or a concatenated description string per
+ * shape. Text is encoded straight into the buffer, taking a single-byte path
+ * for ASCII characters when the charset allows it, and the buffer is written
+ * to the channel only when it fills up or {@link #flush()} is called.</p>
+ *
+ * <p>Fixed-point values are rounded like {@code %.2f}: half-up on the
+ * shortest decimal representation of the double. The fast path handles every
+ * value whose rounding decision is not within a small guard band of a tie;
+ * the rest (ties, very large magnitudes, NaN, infinities, and locales with
+ * non-ASCII digits) are delegated to {@link String#format}, so the result is
+ * always identical to {@code printf}.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Builder</em> — {@code append} methods return the renderer so a
+ *       line can be written as a single chained expression</li>
+ *   <li><em>Fast path / slow path</em> — common values are formatted
+ *       directly while rare ones fall back to the JDK formatter</li>
+ * </ul>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class ShapeReportRenderer implements Flushable {
+
+    /** Size of the internal byte buffer. */
+    public static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Largest magnitude formatted without {@link String#format}. Scaled by
+     * 100 this stays below 2<sup>40</sup>, where the error of the scaling
+     * multiplication is far smaller than {@link #ROUNDING_GUARD}.
+     */
+    private static final double FIXED_FAST_PATH_LIMIT = 1e10;
+
+    /** Distance from a rounding tie below which the fast path gives up. */
+    private static final double ROUNDING_GUARD = 1e-3;
+
+    /** Range in which {@link Double#toString} prints integral values as {@code "n.0"}. */
+    private static final double PLAIN_DOUBLE_MIN = 1e-3;
+    private static final double PLAIN_DOUBLE_MAX = 1e7;
+
+    private final WritableByteChannel channel;
+    private final Flushable target;
+    private final Locale locale;
+    private final CharsetEncoder encoder;
+    private final boolean asciiCompatible;
+    private final char zeroDigit;
+    private final char decimalSeparator;
+    private final String lineSeparator = System.lineSeparator();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
+
+    /**
+     * Creates a renderer that writes to the given print stream, using its
+     * charset and the default formatting locale, exactly as
+     * {@link PrintStream#printf(String, Object...)} would.
+     *
+     * @param out the stream to write to
+     * @throws IllegalArgumentException if {@code out} is {@code null}
+     */
+    public ShapeReportRenderer(PrintStream out) {
+        this(requireStream(out), out.charset(), Locale.getDefault(Locale.Category.FORMAT), out);
+    }
+
+    /**
+     * Creates a renderer that writes to an arbitrary channel.
+     *
+     * @param channel the channel to write to
+     * @param charset the charset used to encode text
+     * @param locale  the locale whose decimal separator is used for
+     *                fixed-point values
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public ShapeReportRenderer(WritableByteChannel channel, Charset charset, Locale locale) {
+        this(channel, charset, locale, null);
+    }
+
+    private ShapeReportRenderer(WritableByteChannel channel, Charset charset, Locale locale, Flushable target) {
+        if (channel == null || charset == null || locale == null) {
+            throw new IllegalArgumentException("Channel, charset and locale must not be null.");
+        }
+        this.channel = channel;
+        this.target = target;
+        this.locale = locale;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.asciiCompatible = isAsciiCompatible(charset);
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+
+    private static WritableByteChannel requireStream(PrintStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream must not be null.");
+        }
+        return Channels.newChannel(out);
+    }
+
+    /**
+     * Returns whether every ASCII character encodes to its own code as a
+     * single byte in the given charset.
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        char[] ascii = new char[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (char) i;
+        }
+        try {
+            ByteBuffer encoded = charset.newEncoder().encode(CharBuffer.wrap(ascii));
+            if (encoded.remaining() != ascii.length) {
+                return false;
+            }
+            for (int i = 0; i < ascii.length; i++) {
+                if (encoded.get(i) != i) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (CharacterCodingException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Report sections
+    // ---------------------------------------------------------------
+
+    /**
+     * Appends one numbered shape entry: the description line, surface area,
+     * volume, efficiency, and a blank line.
+     *
+     * @param index the 1-based position shown before the description
+     * @param shape the shape to describe
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendShapeEntry(long index, Shape3D shape) {
+        double volume = shape.getVolume();
+        double surfaceArea = shape.getSurfaceArea();
+        double efficiency = volume / surfaceArea;
+
+        append(index).append(". ").appendShape(shape).newLine();
+        append("   - Surface Area: ").appendFixed2(surfaceArea).append(" square units").newLine();
+        append("   - Volume: ").appendFixed2(volume).append(" cubic units").newLine();
+        append("   - Efficiency (V/SA): ").appendFixed2(efficiency).newLine();
+        return newLine();
+    }
+
+    /**
+     * Appends the "Analysis Results" section.
+     *
+     * @param analysis the analysis to render; must not be empty
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendAnalysis(ShapeAnalysis analysis) {
+        append("Analysis Results:").newLine();
+        append("- Largest Volume: ").append(analysis.getLargestVolumeShape().getName())
+                .append(" (").appendFixed2(analysis.getLargestVolume()).append(')').newLine();
+        append("- Largest Surface Area: ").append(analysis.getLargestSurfaceAreaShape().getName())
+                .append(" (").appendFixed2(analysis.getLargestSurfaceArea()).append(')').newLine();
+        append("- Most Efficient (Volume/Surface): ").append(analysis.getMostEfficientShape().getName())
+                .append(" (").appendFixed2(analysis.getBestEfficiency()).append(')').newLine();
+        return this;
+    }
+
+    /**
+     * Appends a titled ranking, one {@code "  rank. name (value)"} line per
+     * entry.
+     *
+     * @param title   the heading line, e.g. {@code "Top 10 by Volume:"}
+     * @param entries the ranked shapes, best first
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendRanking(String title, List<? extends Ranked<? extends Shape3D>> entries) {
+        append(title).newLine();
+        for (Ranked<? extends Shape3D> entry : entries) {
+            append("  ").append(entry.getRank()).append(". ").append(entry.getItem().getName())
+                    .append(" (").appendFixed2(entry.getValue()).append(')').newLine();
+        }
+        return this;
+    }
+
+    /**
+     * Appends one block per shape type that occurs in {@code stats}: a
+     * heading with the shape count, then a
+     * {@code "p50=…, p90=…, p99=…, max=…"} line per metric.
+     *
+     * @param stats the distribution statistics to render
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendDistributions(DistributionStats stats) {
+        for (ShapeType type : ShapeType.values()) {
+            long count = stats.getCount(type);
+            if (count == 0) {
+                continue;
+            }
+            append(type.displayName()).append(" (").append(count).append(count == 1 ? " shape):" : " shapes):")
+                    .newLine();
+            for (Metric metric : Metric.values()) {
+                QuantileSketch sketch = stats.getSketch(type, metric);
+                append("   - ").append(metric.label())
+                        .append(": p50=").appendFixed2(sketch.quantile(0.50))
+                        .append(", p90=").appendFixed2(sketch.quantile(0.90))
+                        .append(", p99=").appendFixed2(sketch.quantile(0.99))
+                        .append(", max=").appendFixed2(sketch.getMax()).newLine();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the same text as {@code shape.toString()}.
+     *
+     * <p>{@link Shape3D} is sealed over five final classes, so every shape is
+     * rendered field by field through an exhaustive type switch; a
+     * {@code null} shape is rendered as {@code "null"}.</p>
+     *
+     * @param shape the shape to describe
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendShape(Shape3D shape) {
+        switch (shape) {
+            case null -> {
+                return append("null");
+            }
+            case Sphere sphere -> {
+                openDescription("Sphere", sphere);
+                appendDimension(", radius=", sphere.getRadius());
+            }
+            case Cube cube -> {
+                openDescription("Cube", cube);
+                appendDimension(", sideLength=", cube.getSideLength());
+            }
+            case Cylinder cylinder -> {
+                openDescription("Cylinder", cylinder);
+                appendDimension(", radius=", cylinder.getRadius());
+                appendDimension(", height=", cylinder.getHeight());
+            }
+            case RectangularPrism prism -> {
+                openDescription("RectangularPrism", prism);
+                appendDimension(", length=", prism.getLength());
+                appendDimension(", width=", prism.getWidth());
+                appendDimension(", height=", prism.getHeight());
+            }
+            case Cone cone -> {
+                openDescription("Cone", cone);
+                appendDimension(", radius=", cone.getRadius());
+                appendDimension(", height=", cone.getHeight());
+            }
+        }
+        return append('}');
+    }
+
+    private void openDescription(String typeName, Shape3D shape) {
+        append(typeName).append(" {name='").append(shape.getName())
+                .append("', color='").append(shape.getColor()).append('\'');
+    }
+
+    private void appendDimension(String label, double value) {
+        append(label).appendDouble(value);
+    }
+
+    // ---------------------------------------------------------------
+    // Primitive appends
+    // ---------------------------------------------------------------
+
+    /**
+     * Appends a value formatted exactly as {@code String.format(locale,
+     * "%.2f", value)}.
+     *
+     * @param value the value to format
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendFixed2(double value) {
+        if (!appendFixed2Directly(value)) {
+            append(String.format(locale, "%.2f", value));
+        }
+        return this;
+    }
+
+    private boolean appendFixed2Directly(double value) {
+        double magnitude = Math.abs(value);
+        if (zeroDigit != '0' || !(magnitude < FIXED_FAST_PATH_LIMIT)) {
+            return false;
+        }
+        double scaled = magnitude * 100.0;
+        double whole = Math.floor(scaled);
+        double fraction = scaled - whole;
+        if (Math.abs(fraction - 0.5) <= ROUNDING_GUARD) {
+            return false;
+        }
+        long hundredths = (long) whole + (fraction > 0.5 ? 1 : 0);
+
+        if (Double.doubleToRawLongBits(value) < 0) {
+            putAscii('-');
+        }
+        append(hundredths / 100);
+        append(decimalSeparator);
+        int cents = (int) (hundredths % 100);
+        putAscii((char) ('0' + cents / 10));
+        putAscii((char) ('0' + cents % 10));
+        return true;
+    }
+
+    /**
+     * Appends a value formatted exactly as {@link Double#toString(double)}.
+     *
+     * @param value the value to format
+     * @return this renderer
+     */
+    public ShapeReportRenderer appendDouble(double value) {
+        if (value >= PLAIN_DOUBLE_MIN && value < PLAIN_DOUBLE_MAX && value == Math.rint(value)) {
+            append((long) value);
+            putAscii('.');
+            putAscii('0');
+            return this;
+        }
+        return append(Double.toString(value));
+    }
+
+    /**
+     * Appends a decimal integer.
+     *
+     * @param value the value to append
+     * @return this renderer
+     */
+    public ShapeReportRenderer append(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append(Long.toString(value));
+        }
+        if (value < 0) {
+            putAscii('-');
+            value = -value;
+        }
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start; i < digits.length; i++) {
+            putAscii((char) digits[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Appends a single character.
+     *
+     * @param c the character to append
+     * @return this renderer
+     */
+    public ShapeReportRenderer append(char c) {
+        if (c < 0x80) {
+            putAscii(c);
+        } else {
+            encode(String.valueOf(c), 0, 1);
+        }
+        return this;
+    }
+
+    /**
+     * Appends a string, or {@code "null"} if it is {@code null}.
+     *
+     * @param text the text to append
+     * @return this renderer
+     */
+    public ShapeReportRenderer append(String text) {
+        String s = text == null ? "null" : text;
+        int length = s.length();
+        if (!asciiCompatible) {
+            encode(s, 0, length);
+            return this;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                encode(s, i, length);
+                return this;
+            }
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) c);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the platform line separator, as {@code %n} and
+     * {@code println} do.
+     *
+     * @return this renderer
+     */
+    public ShapeReportRenderer newLine() {
+        return append(lineSeparator);
+    }
+
+    private void putAscii(char c) {
+        if (!asciiCompatible) {
+            encode(String.valueOf(c), 0, 1);
+            return;
+        }
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) c);
+    }
+
+    private void encode(CharSequence text, int start, int end) {
+        CharBuffer in = CharBuffer.wrap(text, start, end);
+        encoder.reset();
+        while (encoder.encode(in, buffer, true) == CoderResult.OVERFLOW) {
+            drain();
+        }
+        while (encoder.flush(buffer) == CoderResult.OVERFLOW) {
+            drain();
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Output
+    // ---------------------------------------------------------------
+
+    /**
+     * Writes everything buffered so far to the channel and flushes the
+     * underlying stream, if there is one.
+     *
+     * @throws UncheckedIOException if the channel cannot be written
+     */
+    @Override
+    public void flush() {
+        drain();
+        if (target != null) {
+            try {
+                target.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.csc205.project2.shapes;
+
+/**
+ * Immutable axis-aligned box in world space, closed on every face.
+ *
+ * <p>{@link Shape3D#getBounds()} returns the tightest such box around a
+ * placed shape, and spatial indexes use boxes both as keys and as query
+ * regions. A box may be flat or a single point ({@code min == max} on some
+ * axis), but its bounds are never {@code NaN} and never reversed when built
+ * through {@link #of}.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Value object</em> — immutable and compared by value</li>
+ * </ul>
+ *
+ * @see Shape3D#getBounds()
+ * @see Placement
+ */
+public final class BoundingBox {
+
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double maxX;
+    private final double maxY;
+    private final double maxZ;
+
+    /** Unchecked constructor; shapes may produce {@code NaN} bounds from {@code NaN} dimensions. */
+    BoundingBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Returns the box with the given corners.
+     *
+     * @param minX the smallest {@code x}
+     * @param minY the smallest {@code y}
+     * @param minZ the smallest {@code z}
+     * @param maxX the largest {@code x}
+     * @param maxY the largest {@code y}
+     * @param maxZ the largest {@code z}
+     * @return the box
+     * @throws IllegalArgumentException if a bound is {@code NaN} or a minimum
+     *                                  exceeds its maximum
+     */
+    public static BoundingBox of(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (!(minX <= maxX) || !(minY <= maxY) || !(minZ <= maxZ)) {
+            throw new IllegalArgumentException("Box bounds must not be NaN or reversed: ("
+                    + minX + ", " + minY + ", " + minZ + ") to (" + maxX + ", " + maxY + ", " + maxZ + ").");
+        }
+        return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Returns the box centered on a point with the given half extents.
+     *
+     * @param x  the center {@code x}
+     * @param y  the center {@code y}
+     * @param z  the center {@code z}
+     * @param hx the half extent on {@code x}; not negative
+     * @param hy the half extent on {@code y}; not negative
+     * @param hz the half extent on {@code z}; not negative
+     * @return the box
+     * @throws IllegalArgumentException if a value is {@code NaN} or a half
+     *                                  extent is negative
+     */
+    public static BoundingBox around(double x, double y, double z, double hx, double hy, double hz) {
+        return of(x - hx, y - hy, z - hz, x + hx, y + hy, z + hz);
+    }
+
+    // ---------------------------------------------------------------
+    // Accessors
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the smallest {@code x}.
+     *
+     * @return the smallest {@code x}
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * Returns the smallest {@code y}.
+     *
+     * @return the smallest {@code y}
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * Returns the smallest {@code z}.
+     *
+     * @return the smallest {@code z}
+     */
+    public double getMinZ() {
+        return minZ;
+    }
+
+    /**
+     * Returns the largest {@code x}.
+     *
+     * @return the largest {@code x}
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Returns the largest {@code y}.
+     *
+     * @return the largest {@code y}
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Returns the largest {@code z}.
+     *
+     * @return the largest {@code z}
+     */
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    /**
+     * Returns whether every bound is a finite number.
+     *
+     * @return {@code true} if the box is finite
+     */
+    public boolean isFinite() {
+        return Double.isFinite(minX) && Double.isFinite(minY) && Double.isFinite(minZ)
+                && Double.isFinite(maxX) && Double.isFinite(maxY) && Double.isFinite(maxZ);
+    }
+
+    // ---------------------------------------------------------------
+    // Geometry
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns whether a point lies inside or on this box.
+     *
+     * @param x the point {@code x}
+     * @param y the point {@code y}
+     * @param z the point {@code z}
+     * @return {@code true} if the point is in the box
+     */
+    public boolean contains(double x, double y, double z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Returns whether {@code other} lies entirely inside this box.
+     *
+     * @param other the box to test
+     * @return {@code true} if {@code other} is contained
+     */
+    public boolean contains(BoundingBox other) {
+        return other.minX >= minX && other.maxX <= maxX
+                && other.minY >= minY && other.maxY <= maxY
+                && other.minZ >= minZ && other.maxZ <= maxZ;
+    }
+
+    /**
+     * Returns whether this box and {@code other} share at least one point.
+     * Boxes that only touch on a face, edge or corner intersect.
+     *
+     * @param other the box to test
+     * @return {@code true} if the boxes intersect
+     */
+    public boolean intersects(BoundingBox other) {
+        return other.minX <= maxX && other.maxX >= minX
+                && other.minY <= maxY && other.maxY >= minY
+                && other.minZ <= maxZ && other.maxZ >= minZ;
+    }
+
+    /**
+     * Returns the smallest box containing this box and {@code other}.
+     *
+     * @param other the box to include
+     * @return the union
+     */
+    public BoundingBox union(BoundingBox other) {
+        return new BoundingBox(
+                Math.min(minX, other.minX), Math.min(minY, other.minY), Math.min(minZ, other.minZ),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY), Math.max(maxZ, other.maxZ));
+    }
+
+    /**
+     * Returns the box shared by this box and {@code other}.
+     *
+     * @param other the box to intersect with
+     * @return the overlap, or {@code null} if the boxes do not intersect
+     */
+    public BoundingBox intersection(BoundingBox other) {
+        if (!intersects(other)) {
+            return null;
+        }
+        return new BoundingBox(
+                Math.max(minX, other.minX), Math.max(minY, other.minY), Math.max(minZ, other.minZ),
+                Math.min(maxX, other.maxX), Math.min(maxY, other.maxY), Math.min(maxZ, other.maxZ));
+    }
+
+    /**
+     * Returns the squared distance from a point to the nearest point of this
+     * box, or {@code 0} if the point is inside.
+     *
+     * @param x the point {@code x}
+     * @param y the point {@code y}
+     * @param z the point {@code z}
+     * @return the squared distance
+     */
+    public double distanceSquared(double x, double y, double z) {
+        double dx = Math.max(0.0, Math.max(minX - x, x - maxX));
+        double dy = Math.max(0.0, Math.max(minY - y, y - maxY));
+        double dz = Math.max(0.0, Math.max(minZ - z, z - maxZ));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns the total area of the six faces, the cost measure used to
+     * choose where a box goes in a bounding-volume hierarchy.
+     *
+     * @return the surface area
+     */
+    public double surfaceArea() {
+        double dx = maxX - minX;
+        double dy = maxY - minY;
+        double dz = maxZ - minZ;
+        return 2.0 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    /**
+     * Returns the enclosed volume.
+     *
+     * @return the volume
+     */
+    public double volume() {
+        return (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+    }
+
+    // ---------------------------------------------------------------
+    // Object overrides
+    // ---------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BoundingBox other
+                && Double.compare(minX, other.minX) == 0
+                && Double.compare(minY, other.minY) == 0
+                && Double.compare(minZ, other.minZ) == 0
+                && Double.compare(maxX, other.maxX) == 0
+                && Double.compare(maxY, other.maxY) == 0
+                && Double.compare(maxZ, other.maxZ) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(minX);
+        hash = 31 * hash + Double.hashCode(minY);
+        hash = 31 * hash + Double.hashCode(minZ);
+        hash = 31 * hash + Double.hashCode(maxX);
+        hash = 31 * hash + Double.hashCode(maxY);
+        return 31 * hash + Double.hashCode(maxZ);
+    }
+
+    /**
+     * Returns the two corners.
+     *
+     * @return a human-readable description of this box
+     */
+    @Override
+    public String toString() {
+        return "BoundingBox {min=(" + minX + ", " + minY + ", " + minZ
+                + "), max=(" + maxX + ", " + maxY + ", " + maxZ + ")}";
+    }
+}
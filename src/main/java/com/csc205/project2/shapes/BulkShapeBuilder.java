@@ -0,0 +1,255 @@
+package com.csc205.project2.shapes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validates many candidate shapes at once and constructs only the valid
+ * ones, without an exception per bad candidate.
+ *
+ * <p>Candidates are collected with {@link #add} (or from parallel arrays
+ * with {@link #of}) into primitive columns. {@link #validate()} checks every
+ * candidate against {@link ShapeRules} in one pass and returns a compact
+ * {@link ShapeValidationReport} listing every (row, field, reason)
+ * violation. {@link #build()} does the same and then runs the regular
+ * constructors for the valid rows only; because those rows already passed
+ * the constructors' own rules, no constructor throws and nothing is logged
+ * at {@code SEVERE}.</p>
+ *
+ * <p>Rows are numbered from zero in the order candidates were added. A
+ * builder is not thread-safe.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Builder</em> — candidates are accumulated, then built in one
+ *       step</li>
+ *   <li><em>Notification</em> — violations are collected into a report
+ *       instead of being thrown one at a time</li>
+ * </ul>
+ *
+ * @see ShapeRules
+ */
+public final class BulkShapeBuilder {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private byte[] types;
+    private byte[] dimensionCounts;
+    private String[] names;
+    private String[] colors;
+    private final double[][] dimensions = new double[3][];
+    private int size;
+
+    /**
+     * Creates an empty builder.
+     */
+    public BulkShapeBuilder() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty builder with room for {@code expectedRows} candidates.
+     *
+     * @param expectedRows the expected number of candidates
+     * @throws IllegalArgumentException if {@code expectedRows} is negative
+     */
+    public BulkShapeBuilder(int expectedRows) {
+        if (expectedRows < 0) {
+            throw new IllegalArgumentException("Expected rows must not be negative.");
+        }
+        int capacity = Math.max(expectedRows, 1);
+        types = new byte[capacity];
+        dimensionCounts = new byte[capacity];
+        names = new String[capacity];
+        colors = new String[capacity];
+        for (int d = 0; d < dimensions.length; d++) {
+            dimensions[d] = new double[capacity];
+        }
+    }
+
+    /**
+     * Creates a builder holding one candidate per element of parallel
+     * arrays, all of the same type.
+     *
+     * @param type             the shape type of every candidate
+     * @param names            the names
+     * @param colors           the colors
+     * @param dimensionColumns one array per dimension of {@code type}, in
+     *                         {@link ShapeType#dimensionNames()} order
+     * @return a builder with {@code names.length} candidates
+     * @throws IllegalArgumentException if the arrays differ in length or the
+     *                                  number of dimension arrays does not
+     *                                  match {@code type}
+     */
+    public static BulkShapeBuilder of(ShapeType type, String[] names, String[] colors, double[]... dimensionColumns) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type must not be null.");
+        }
+        if (dimensionColumns.length != type.dimensionCount()) {
+            throw new IllegalArgumentException(type.displayName() + " requires " + type.dimensionCount()
+                    + " dimension arrays but got " + dimensionColumns.length + ".");
+        }
+        int rows = names.length;
+        if (colors.length != rows) {
+            throw new IllegalArgumentException("Expected " + rows + " colors but got " + colors.length + ".");
+        }
+        for (double[] column : dimensionColumns) {
+            if (column.length != rows) {
+                throw new IllegalArgumentException("Expected " + rows + " values per dimension but got "
+                        + column.length + ".");
+            }
+        }
+
+        BulkShapeBuilder builder = new BulkShapeBuilder(rows);
+        Arrays.fill(builder.types, 0, rows, (byte) type.ordinal());
+        Arrays.fill(builder.dimensionCounts, 0, rows, (byte) type.dimensionCount());
+        System.arraycopy(names, 0, builder.names, 0, rows);
+        System.arraycopy(colors, 0, builder.colors, 0, rows);
+        for (int d = 0; d < dimensionColumns.length; d++) {
+            System.arraycopy(dimensionColumns[d], 0, builder.dimensions[d], 0, rows);
+        }
+        builder.size = rows;
+        return builder;
+    }
+
+    /**
+     * Adds one candidate. Nothing is validated until {@link #validate()} or
+     * {@link #build()}; a wrong number of dimensions is reported there too.
+     *
+     * @param type       the shape type
+     * @param name       the candidate name
+     * @param color      the candidate color
+     * @param dimensions the dimensions in {@link ShapeType#dimensionNames()} order
+     * @return this builder
+     * @throws IllegalArgumentException if {@code type} is {@code null}
+     */
+    public BulkShapeBuilder add(ShapeType type, String name, String color, double... dimensions) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type must not be null.");
+        }
+        if (size == names.length) {
+            grow();
+        }
+        int count = dimensions == null ? 0 : dimensions.length;
+        types[size] = (byte) type.ordinal();
+        dimensionCounts[size] = (byte) Math.min(count, Byte.MAX_VALUE);
+        names[size] = name;
+        colors[size] = color;
+        for (int d = 0; d < this.dimensions.length; d++) {
+            this.dimensions[d][size] = d < count ? dimensions[d] : 0.0;
+        }
+        size++;
+        return this;
+    }
+
+    /**
+     * Returns the number of candidates.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks every candidate without constructing anything.
+     *
+     * @return every violation, ordered by row
+     */
+    public ShapeValidationReport validate() {
+        ShapeValidationReport report = new ShapeValidationReport();
+        for (int row = 0; row < size; row++) {
+            ShapeType type = TYPES[types[row]];
+            if (!ShapeRules.isValidText(names[row])) {
+                report.nameInvalid(row, type);
+            }
+            if (!ShapeRules.isValidText(colors[row])) {
+                report.colorInvalid(row, type);
+            }
+            if (dimensionCounts[row] != type.dimensionCount()) {
+                report.dimensionCountInvalid(row, type, dimensionCounts[row]);
+                continue;
+            }
+            for (int d = 0; d < type.dimensionCount(); d++) {
+                if (!ShapeRules.isValidDimension(dimensions[d][row])) {
+                    report.dimensionInvalid(row, type, d);
+                }
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Validates every candidate and constructs the valid ones.
+     *
+     * @return the shapes and the report
+     */
+    public Result build() {
+        ShapeValidationReport report = validate();
+        List<Shape3D> shapes = new ArrayList<>(size - report.getInvalidRowCount());
+        for (int row = 0; row < size; row++) {
+            if (!report.isValid(row)) {
+                continue;
+            }
+            String name = names[row];
+            String color = colors[row];
+            double d0 = dimensions[0][row];
+            double d1 = dimensions[1][row];
+            double d2 = dimensions[2][row];
+            shapes.add(switch (TYPES[types[row]]) {
+                case SPHERE -> new Sphere(name, color, d0);
+                case CUBE -> new Cube(name, color, d0);
+                case CYLINDER -> new Cylinder(name, color, d0, d1);
+                case RECTANGULAR_PRISM -> new RectangularPrism(name, color, d0, d1, d2);
+                case CONE -> new Cone(name, color, d0, d1);
+            });
+        }
+        return new Result(shapes, report);
+    }
+
+    private void grow() {
+        int capacity = names.length + (names.length >> 1) + 1;
+        types = Arrays.copyOf(types, capacity);
+        dimensionCounts = Arrays.copyOf(dimensionCounts, capacity);
+        names = Arrays.copyOf(names, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        for (int d = 0; d < dimensions.length; d++) {
+            dimensions[d] = Arrays.copyOf(dimensions[d], capacity);
+        }
+    }
+
+    /**
+     * The outcome of {@link #build()}.
+     */
+    public static final class Result {
+
+        private final List<Shape3D> shapes;
+        private final ShapeValidationReport report;
+
+        private Result(List<Shape3D> shapes, ShapeValidationReport report) {
+            this.shapes = Collections.unmodifiableList(shapes);
+            this.report = report;
+        }
+
+        /**
+         * Returns the shapes built from the valid rows, in row order.
+         *
+         * @return an unmodifiable list of shapes
+         */
+        public List<Shape3D> getShapes() {
+            return shapes;
+        }
+
+        /**
+         * Returns the violations of the rejected rows.
+         *
+         * @return the report
+         */
+        public ShapeValidationReport getReport() {
+            return report;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.csc205.project2.shapes;
 
-import java.util.logging.Logger;
+import com.csc205.project2.logging.ShapeEvent;
+import com.csc205.project2.logging.ShapeLogger;
 
 /**
  * Represents a three-dimensional cone defined by its radius and height.
@@ -28,13 +29,16 @@ import java.util.logging.Logger;
  * @see Shape3D
  * @see ThreeDimensionalShape
  */
-public class Cone extends Shape3D {
+public final class Cone extends Shape3D {
 
-    private static final Logger LOGGER = Logger.getLogger(Cone.class.getName());
+    private static final ShapeLogger LOGGER = ShapeLogger.getLogger(Cone.class);
 
     private double radius;
     private double height;
 
+    /** Cached result of {@link #getSlantHeight()}, or {@code NaN} if stale. */
+    private double cachedSlantHeight = Double.NaN;
+
     /**
      * Constructs a new {@code Cone} with the specified name, color, radius,
      * and height.
@@ -54,17 +58,23 @@ public class Cone extends Shape3D {
      */
     public Cone(String name, String color, double radius, double height) {
         super(name, color);
-        if (radius <= 0) {
-            LOGGER.severe("Invalid radius (" + radius + ") for Cone '" + name + "'.");
+        if (!ShapeRules.isValidDimension(radius)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid radius (" + radius + ") for Cone '" + name + "'.");
+            }
             throw new IllegalArgumentException("Radius must be greater than zero.");
         }
-        if (height <= 0) {
-            LOGGER.severe("Invalid height (" + height + ") for Cone '" + name + "'.");
+        if (!ShapeRules.isValidDimension(height)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid height (" + height + ") for Cone '" + name + "'.");
+            }
             throw new IllegalArgumentException("Height must be greater than zero.");
         }
         this.radius = radius;
         this.height = height;
-        LOGGER.info("Created Cone '" + name + "' with radius=" + radius + ", height=" + height);
+        if (LOGGER.isLoggable(ShapeEvent.CREATED)) {
+            LOGGER.log(ShapeEvent.CREATED, "Created Cone '" + name + "' with radius=" + radius + ", height=" + height);
+        }
     }
 
     // ---------------------------------------------------------------
@@ -79,22 +89,144 @@ public class Cone extends Shape3D {
      */
     @Override
     public double calculateVolume() {
-        return (1.0 / 3.0) * Math.PI * Math.pow(radius, 2) * height;
+        return ShapeFormulas.coneVolume(radius, height);
     }
 
     /**
      * Calculates the surface area of this cone using the formula
      * &pi; r (r + &radic;(h&sup2; + r&sup2;)).
      *
-     * <p>The slant height is computed internally as
-     * {@code Math.sqrt(height² + radius²)}.</p>
+     * <p>The slant height is obtained from {@link #getSlantHeight()}, so it
+     * shares that method's cached value.</p>
      *
      * @return the surface area in square units
      */
     @Override
     public double calculateSurfaceArea() {
-        double slantHeight = Math.sqrt(Math.pow(height, 2) + Math.pow(radius, 2));
-        return Math.PI * radius * (radius + slantHeight);
+        return ShapeFormulas.coneSurfaceArea(radius, getSlantHeight());
+    }
+
+    /**
+     * Calculates the tight bounding box of this cone: the union of the apex
+     * and the extent of the base disc.
+     *
+     * @return the bounding box in world space
+     */
+    @Override
+    public BoundingBox calculateBounds() {
+        return getPlacement().coneBounds(radius, height / 2);
+    }
+
+    /**
+     * Returns whether a point lies between this cone's base and apex and
+     * within the radius of its axis at that height, which shrinks linearly
+     * from {@code radius} at the base to zero at the apex.
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the surface
+     */
+    @Override
+    public boolean contains(double x, double y, double z) {
+        Placement placement = getPlacement();
+        double lx = placement.localX(x, y, z);
+        double ly = placement.localY(x, y, z);
+        double lz = placement.localZ(x, y, z);
+        double halfHeight = height / 2;
+        double r = radius * (halfHeight - lz) / height;
+        return Math.abs(lz) <= halfHeight && lx * lx + ly * ly <= r * r;
+    }
+
+    /**
+     * Returns the distance from a local point to this cone. The cone is a
+     * solid of revolution, so the point is reduced to its distance from the
+     * axis and its height above the base, and measured in that half-plane
+     * against the profile triangle: the nearest point is on the base edge or
+     * on the slanted edge from the base rim to the apex.
+     *
+     * @param x the local {@code x} coordinate
+     * @param y the local {@code y} coordinate
+     * @param z the local {@code z} coordinate
+     * @return the distance, or zero inside
+     */
+    @Override
+    protected double distanceLocal(double x, double y, double z) {
+        double rho = Math.sqrt(x * x + y * y);
+        double halfHeight = height / 2;
+        if (Math.abs(z) <= halfHeight && rho <= radius * (halfHeight - z) / height) {
+            return 0.0;
+        }
+        double up = z + halfHeight;
+        // Base edge: from the axis to the rim at up = 0.
+        double baseRho = Math.max(0.0, rho - radius);
+        double toBase = up <= 0.0 ? Math.sqrt(baseRho * baseRho + up * up) : Double.POSITIVE_INFINITY;
+        // Slanted edge: from the rim (radius, 0) to the apex (0, height).
+        double t = ((rho - radius) * -radius + up * height) / (radius * radius + height * height);
+        t = Math.max(0.0, Math.min(1.0, t));
+        double dRho = rho - radius * (1.0 - t);
+        double dUp = up - height * t;
+        return Math.min(toBase, Math.sqrt(dRho * dRho + dUp * dUp));
+    }
+
+    /**
+     * Intersects a local ray with this cone. The lateral surface is the
+     * quadric x&sup2; + y&sup2; = k&sup2;(h/2 &minus; z)&sup2; with
+     * {@code k = radius / height}, cut to the height so the mirrored nappe
+     * above the apex is ignored; the base is a disc at {@code z = -h/2}.
+     * At the apex, where the lateral normal is undefined, the normal is the
+     * axis.
+     *
+     * @param ox     the local ray origin {@code x}
+     * @param oy     the local ray origin {@code y}
+     * @param oz     the local ray origin {@code z}
+     * @param dx     the local ray direction {@code x}
+     * @param dy     the local ray direction {@code y}
+     * @param dz     the local ray direction {@code z}
+     * @param normal receives the local normal, or {@code null}
+     * @return the hit distance, or {@link #MISS}
+     */
+    @Override
+    protected double intersectLocal(double ox, double oy, double oz,
+                                    double dx, double dy, double dz, double[] normal) {
+        double halfHeight = height / 2;
+        double k = radius / height;
+        double k2 = k * k;
+        double w = halfHeight - oz;
+
+        // Lateral surface.
+        double a = dx * dx + dy * dy - k2 * dz * dz;
+        double c = ox * ox + oy * oy - k2 * w * w;
+        double q = quadratic(a, ox * dx + oy * dy + k2 * w * dz, c);
+        double t0 = q / a;
+        double t1 = c / q;
+        if (!(Math.abs(oz + t0 * dz) <= halfHeight)) {
+            t0 = MISS;
+        }
+        if (!(Math.abs(oz + t1 * dz) <= halfHeight)) {
+            t1 = MISS;
+        }
+        double side = nearest(t0, t1);
+
+        // Base disc.
+        double base = intersectDisc(-halfHeight, radius * radius, ox, oy, oz, dx, dy, dz);
+
+        if (side == MISS && base == MISS) {
+            return MISS;
+        }
+        if (side <= base) {
+            double x = ox + side * dx;
+            double y = oy + side * dy;
+            double rho = Math.sqrt(x * x + y * y);
+            if (rho == 0.0) {
+                setAxisNormal(normal, 2, 1.0);
+            } else {
+                setNormal(normal, x, y, k * rho);
+            }
+            return side;
+        }
+        setAxisNormal(normal, 2, -1.0);
+        return base;
     }
 
     // ---------------------------------------------------------------
@@ -117,12 +249,17 @@ public class Cone extends Shape3D {
      * @throws IllegalArgumentException if {@code radius} is zero or negative
      */
     public void setRadius(double radius) {
-        if (radius <= 0) {
-            LOGGER.warning("Attempted to set invalid radius (" + radius + ") on Cone '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(radius)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid radius (" + radius + ") on Cone '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Radius must be greater than zero.");
         }
-        LOGGER.info("Updating radius of Cone '" + getName() + "' from " + this.radius + " to " + radius);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating radius of Cone '" + getName() + "' from " + this.radius + " to " + radius);
+        }
         this.radius = radius;
+        invalidateDerivedValues();
     }
 
     /**
@@ -141,12 +278,17 @@ public class Cone extends Shape3D {
      * @throws IllegalArgumentException if {@code height} is zero or negative
      */
     public void setHeight(double height) {
-        if (height <= 0) {
-            LOGGER.warning("Attempted to set invalid height (" + height + ") on Cone '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(height)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid height (" + height + ") on Cone '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Height must be greater than zero.");
         }
-        LOGGER.info("Updating height of Cone '" + getName() + "' from " + this.height + " to " + height);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating height of Cone '" + getName() + "' from " + this.height + " to " + height);
+        }
         this.height = height;
+        invalidateDerivedValues();
     }
 
     /**
@@ -156,10 +298,29 @@ public class Cone extends Shape3D {
      * the circumference of the base, calculated as
      * &radic;(h&sup2; + r&sup2;).</p>
      *
+     * <p>Like volume and surface area, the result is cached until
+     * {@link #setRadius(double)} or {@link #setHeight(double)} changes a
+     * dimension.</p>
+     *
      * @return the slant height
      */
     public double getSlantHeight() {
-        return Math.sqrt(Math.pow(height, 2) + Math.pow(radius, 2));
+        double slantHeight = cachedSlantHeight;
+        if (Double.isNaN(slantHeight)) {
+            slantHeight = ShapeFormulas.coneSlantHeight(radius, height);
+            cachedSlantHeight = slantHeight;
+        }
+        return slantHeight;
+    }
+
+    /**
+     * Discards the cached slant height along with the volume and surface
+     * area cached by {@link Shape3D}.
+     */
+    @Override
+    protected void invalidateDerivedValues() {
+        cachedSlantHeight = Double.NaN;
+        super.invalidateDerivedValues();
     }
 
     // ---------------------------------------------------------------
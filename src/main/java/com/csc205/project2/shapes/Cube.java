@@ -1,6 +1,7 @@
 package com.csc205.project2.shapes;
 
-import java.util.logging.Logger;
+import com.csc205.project2.logging.ShapeEvent;
+import com.csc205.project2.logging.ShapeLogger;
 
 /**
  * Represents a three-dimensional cube defined by the length of one side.
@@ -25,9 +26,9 @@ import java.util.logging.Logger;
  * @see Shape3D
  * @see ThreeDimensionalShape
  */
-public class Cube extends Shape3D {
+public final class Cube extends Shape3D {
 
-    private static final Logger LOGGER = Logger.getLogger(Cube.class.getName());
+    private static final ShapeLogger LOGGER = ShapeLogger.getLogger(Cube.class);
 
     private double sideLength;
 
@@ -48,12 +49,16 @@ public class Cube extends Shape3D {
      */
     public Cube(String name, String color, double sideLength) {
         super(name, color);
-        if (sideLength <= 0) {
-            LOGGER.severe("Invalid sideLength (" + sideLength + ") for Cube '" + name + "'.");
+        if (!ShapeRules.isValidDimension(sideLength)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid sideLength (" + sideLength + ") for Cube '" + name + "'.");
+            }
             throw new IllegalArgumentException("Side length must be greater than zero.");
         }
         this.sideLength = sideLength;
-        LOGGER.info("Created Cube '" + name + "' with sideLength=" + sideLength);
+        if (LOGGER.isLoggable(ShapeEvent.CREATED)) {
+            LOGGER.log(ShapeEvent.CREATED, "Created Cube '" + name + "' with sideLength=" + sideLength);
+        }
     }
 
     // ---------------------------------------------------------------
@@ -67,7 +72,7 @@ public class Cube extends Shape3D {
      */
     @Override
     public double calculateVolume() {
-        return Math.pow(sideLength, 3);
+        return ShapeFormulas.cubeVolume(sideLength);
     }
 
     /**
@@ -78,7 +83,72 @@ public class Cube extends Shape3D {
      */
     @Override
     public double calculateSurfaceArea() {
-        return 6.0 * Math.pow(sideLength, 2);
+        return ShapeFormulas.cubeSurfaceArea(sideLength);
+    }
+
+    /**
+     * Calculates the bounding box of this cube, taking its orientation into
+     * account.
+     *
+     * @return the bounding box in world space
+     */
+    @Override
+    public BoundingBox calculateBounds() {
+        double half = sideLength / 2;
+        return getPlacement().boxBounds(half, half, half);
+    }
+
+    /**
+     * Returns whether a point lies within half the side length of this
+     * cube's center along each of its local axes.
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the surface
+     */
+    @Override
+    public boolean contains(double x, double y, double z) {
+        Placement placement = getPlacement();
+        double half = sideLength / 2;
+        return Math.abs(placement.localX(x, y, z)) <= half
+                && Math.abs(placement.localY(x, y, z)) <= half
+                && Math.abs(placement.localZ(x, y, z)) <= half;
+    }
+
+    /**
+     * Returns the distance from a local point to this cube, measured per
+     * axis beyond each face.
+     *
+     * @param x the local {@code x} coordinate
+     * @param y the local {@code y} coordinate
+     * @param z the local {@code z} coordinate
+     * @return the distance, or zero inside
+     */
+    @Override
+    protected double distanceLocal(double x, double y, double z) {
+        double half = sideLength / 2;
+        return distanceToBox(half, half, half, x, y, z);
+    }
+
+    /**
+     * Intersects a local ray with this cube using the slab method. The
+     * normal is the outward normal of the face that was hit.
+     *
+     * @param ox     the local ray origin {@code x}
+     * @param oy     the local ray origin {@code y}
+     * @param oz     the local ray origin {@code z}
+     * @param dx     the local ray direction {@code x}
+     * @param dy     the local ray direction {@code y}
+     * @param dz     the local ray direction {@code z}
+     * @param normal receives the local normal, or {@code null}
+     * @return the hit distance, or {@link #MISS}
+     */
+    @Override
+    protected double intersectLocal(double ox, double oy, double oz,
+                                    double dx, double dy, double dz, double[] normal) {
+        double half = sideLength / 2;
+        return intersectBox(half, half, half, ox, oy, oz, dx, dy, dz, normal);
     }
 
     // ---------------------------------------------------------------
@@ -101,12 +171,17 @@ public class Cube extends Shape3D {
      * @throws IllegalArgumentException if {@code sideLength} is zero or negative
      */
     public void setSideLength(double sideLength) {
-        if (sideLength <= 0) {
-            LOGGER.warning("Attempted to set invalid sideLength (" + sideLength + ") on Cube '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(sideLength)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid sideLength (" + sideLength + ") on Cube '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Side length must be greater than zero.");
         }
-        LOGGER.info("Updating sideLength of Cube '" + getName() + "' from " + this.sideLength + " to " + sideLength);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating sideLength of Cube '" + getName() + "' from " + this.sideLength + " to " + sideLength);
+        }
         this.sideLength = sideLength;
+        invalidateDerivedValues();
     }
 
     // ---------------------------------------------------------------
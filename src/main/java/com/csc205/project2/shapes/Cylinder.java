@@ -1,6 +1,7 @@
 package com.csc205.project2.shapes;
 
-import java.util.logging.Logger;
+import com.csc205.project2.logging.ShapeEvent;
+import com.csc205.project2.logging.ShapeLogger;
 
 /**
  * Represents a three-dimensional cylinder defined by its radius and height.
@@ -25,9 +26,9 @@ import java.util.logging.Logger;
  * @see Shape3D
  * @see ThreeDimensionalShape
  */
-public class Cylinder extends Shape3D {
+public final class Cylinder extends Shape3D {
 
-    private static final Logger LOGGER = Logger.getLogger(Cylinder.class.getName());
+    private static final ShapeLogger LOGGER = ShapeLogger.getLogger(Cylinder.class);
 
     private double radius;
     private double height;
@@ -51,17 +52,23 @@ public class Cylinder extends Shape3D {
      */
     public Cylinder(String name, String color, double radius, double height) {
         super(name, color);
-        if (radius <= 0) {
-            LOGGER.severe("Invalid radius (" + radius + ") for Cylinder '" + name + "'.");
+        if (!ShapeRules.isValidDimension(radius)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid radius (" + radius + ") for Cylinder '" + name + "'.");
+            }
             throw new IllegalArgumentException("Radius must be greater than zero.");
         }
-        if (height <= 0) {
-            LOGGER.severe("Invalid height (" + height + ") for Cylinder '" + name + "'.");
+        if (!ShapeRules.isValidDimension(height)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid height (" + height + ") for Cylinder '" + name + "'.");
+            }
             throw new IllegalArgumentException("Height must be greater than zero.");
         }
         this.radius = radius;
         this.height = height;
-        LOGGER.info("Created Cylinder '" + name + "' with radius=" + radius + ", height=" + height);
+        if (LOGGER.isLoggable(ShapeEvent.CREATED)) {
+            LOGGER.log(ShapeEvent.CREATED, "Created Cylinder '" + name + "' with radius=" + radius + ", height=" + height);
+        }
     }
 
     // ---------------------------------------------------------------
@@ -76,7 +83,7 @@ public class Cylinder extends Shape3D {
      */
     @Override
     public double calculateVolume() {
-        return Math.PI * Math.pow(radius, 2) * height;
+        return ShapeFormulas.cylinderVolume(radius, height);
     }
 
     /**
@@ -87,7 +94,104 @@ public class Cylinder extends Shape3D {
      */
     @Override
     public double calculateSurfaceArea() {
-        return 2.0 * Math.PI * radius * (radius + height);
+        return ShapeFormulas.cylinderSurfaceArea(radius, height);
+    }
+
+    /**
+     * Calculates the tight bounding box of this cylinder: each end disc
+     * contributes r &radic;(1 &minus; a<sub>i</sub>&sup2;) on world axis {@code i}, where
+     * {@code a} is the cylinder's axis direction.
+     *
+     * @return the bounding box in world space
+     */
+    @Override
+    public BoundingBox calculateBounds() {
+        return getPlacement().cylinderBounds(radius, height / 2);
+    }
+
+    /**
+     * Returns whether a point lies between this cylinder's end discs and
+     * within the radius of its axis.
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the surface
+     */
+    @Override
+    public boolean contains(double x, double y, double z) {
+        Placement placement = getPlacement();
+        double lx = placement.localX(x, y, z);
+        double ly = placement.localY(x, y, z);
+        double lz = placement.localZ(x, y, z);
+        return Math.abs(lz) <= height / 2 && lx * lx + ly * ly <= radius * radius;
+    }
+
+    /**
+     * Returns the distance from a local point to this cylinder: the radial
+     * overshoot beyond the side and the axial overshoot beyond the ends are
+     * the legs of a right triangle.
+     *
+     * @param x the local {@code x} coordinate
+     * @param y the local {@code y} coordinate
+     * @param z the local {@code z} coordinate
+     * @return the distance, or zero inside
+     */
+    @Override
+    protected double distanceLocal(double x, double y, double z) {
+        double radial = Math.max(0.0, Math.sqrt(x * x + y * y) - radius);
+        double axial = Math.max(0.0, Math.abs(z) - height / 2);
+        return Math.sqrt(radial * radial + axial * axial);
+    }
+
+    /**
+     * Intersects a local ray with this cylinder: the curved side is the
+     * infinite cylinder x&sup2; + y&sup2; = r&sup2; cut to the height, and
+     * each end is a disc. The nearest of the three hits wins.
+     *
+     * @param ox     the local ray origin {@code x}
+     * @param oy     the local ray origin {@code y}
+     * @param oz     the local ray origin {@code z}
+     * @param dx     the local ray direction {@code x}
+     * @param dy     the local ray direction {@code y}
+     * @param dz     the local ray direction {@code z}
+     * @param normal receives the local normal, or {@code null}
+     * @return the hit distance, or {@link #MISS}
+     */
+    @Override
+    protected double intersectLocal(double ox, double oy, double oz,
+                                    double dx, double dy, double dz, double[] normal) {
+        double halfHeight = height / 2;
+        double limit = radius * radius;
+
+        // Curved side.
+        double a = dx * dx + dy * dy;
+        double c = ox * ox + oy * oy - limit;
+        double q = quadratic(a, ox * dx + oy * dy, c);
+        double t0 = q / a;
+        double t1 = c / q;
+        if (!(Math.abs(oz + t0 * dz) <= halfHeight)) {
+            t0 = MISS;
+        }
+        if (!(Math.abs(oz + t1 * dz) <= halfHeight)) {
+            t1 = MISS;
+        }
+        double side = nearest(t0, t1);
+
+        // End discs.
+        double bottom = intersectDisc(-halfHeight, limit, ox, oy, oz, dx, dy, dz);
+        double top = intersectDisc(halfHeight, limit, ox, oy, oz, dx, dy, dz);
+        double cap = Math.min(bottom, top);
+
+        if (side == MISS && cap == MISS) {
+            return MISS;
+        }
+        if (side <= cap) {
+            setNormal(normal, ox + side * dx, oy + side * dy, 0.0);
+            return side;
+        }
+        setAxisNormal(normal, 2, top < bottom ? 1.0 : -1.0);
+        return cap;
     }
 
     // ---------------------------------------------------------------
@@ -110,12 +214,17 @@ public class Cylinder extends Shape3D {
      * @throws IllegalArgumentException if {@code radius} is zero or negative
      */
     public void setRadius(double radius) {
-        if (radius <= 0) {
-            LOGGER.warning("Attempted to set invalid radius (" + radius + ") on Cylinder '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(radius)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid radius (" + radius + ") on Cylinder '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Radius must be greater than zero.");
         }
-        LOGGER.info("Updating radius of Cylinder '" + getName() + "' from " + this.radius + " to " + radius);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating radius of Cylinder '" + getName() + "' from " + this.radius + " to " + radius);
+        }
         this.radius = radius;
+        invalidateDerivedValues();
     }
 
     /**
@@ -134,12 +243,17 @@ public class Cylinder extends Shape3D {
      * @throws IllegalArgumentException if {@code height} is zero or negative
      */
     public void setHeight(double height) {
-        if (height <= 0) {
-            LOGGER.warning("Attempted to set invalid height (" + height + ") on Cylinder '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(height)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid height (" + height + ") on Cylinder '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Height must be greater than zero.");
         }
-        LOGGER.info("Updating height of Cylinder '" + getName() + "' from " + this.height + " to " + height);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating height of Cylinder '" + getName() + "' from " + this.height + " to " + height);
+        }
         this.height = height;
+        invalidateDerivedValues();
     }
 
     // ---------------------------------------------------------------
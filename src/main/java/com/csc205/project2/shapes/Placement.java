@@ -0,0 +1,439 @@
+package com.csc205.project2.shapes;
+
+/**
+ * Immutable position and orientation of a {@link Shape3D} in world space.
+ *
+ * <p>Every shape is modelled in a local frame centered on the origin with
+ * its height along the local {@code z} axis:</p>
+ * <ul>
+ *   <li>a {@link Sphere} is centered on the origin;</li>
+ *   <li>a {@link Cube} or {@link RectangularPrism} spans
+ *       &plusmn;{@code length/2}, &plusmn;{@code width/2} and
+ *       &plusmn;{@code height/2} on
+ *       {@code x}, {@code y} and {@code z};</li>
+ *   <li>a {@link Cylinder} has its axis on {@code z} from
+ *       {@code -height/2} to {@code +height/2};</li>
+ *   <li>a {@link Cone} has its base disc at {@code z = -height/2} and its
+ *       apex at {@code z = +height/2}.</li>
+ * </ul>
+ *
+ * <p>A placement rotates that frame and then moves its origin to
+ * {@code (x, y, z)}. The rotation is held as a unit quaternion, normalized on
+ * construction, together with the equivalent 3&times;3 matrix so that
+ * {@link #toWorld} and {@link #toLocal} are nine multiply-adds each. A
+ * sphere ignores the rotation.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Value object</em> — immutable, compared by value, freely shared
+ *       between shapes and threads</li>
+ *   <li><em>Static factory</em> — {@link #at}, {@link #alignedTo} and
+ *       {@link #rotated} name the common ways to build a placement</li>
+ * </ul>
+ *
+ * @see Shape3D#setPlacement(Placement)
+ * @see BoundingBox
+ */
+public final class Placement {
+
+    /** The placement every shape starts with: at the origin, unrotated. */
+    public static final Placement ORIGIN = new Placement(0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0);
+
+    private final double x;
+    private final double y;
+    private final double z;
+
+    /** Unit quaternion {@code (qw, qx, qy, qz)}. */
+    private final double qw;
+    private final double qx;
+    private final double qy;
+    private final double qz;
+
+    /** Row-major rotation matrix equal to the quaternion. */
+    private final double m00, m01, m02;
+    private final double m10, m11, m12;
+    private final double m20, m21, m22;
+
+    private Placement(double x, double y, double z, double qw, double qx, double qy, double qz) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.qw = qw;
+        this.qx = qx;
+        this.qy = qy;
+        this.qz = qz;
+        m00 = 1 - 2 * (qy * qy + qz * qz);
+        m01 = 2 * (qx * qy - qw * qz);
+        m02 = 2 * (qx * qz + qw * qy);
+        m10 = 2 * (qx * qy + qw * qz);
+        m11 = 1 - 2 * (qx * qx + qz * qz);
+        m12 = 2 * (qy * qz - qw * qx);
+        m20 = 2 * (qx * qz - qw * qy);
+        m21 = 2 * (qy * qz + qw * qx);
+        m22 = 1 - 2 * (qx * qx + qy * qy);
+    }
+
+    /**
+     * Returns an unrotated placement at the given position.
+     *
+     * @param x the world {@code x} coordinate of the shape's center
+     * @param y the world {@code y} coordinate of the shape's center
+     * @param z the world {@code z} coordinate of the shape's center
+     * @return the placement
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public static Placement at(double x, double y, double z) {
+        checkPosition(x, y, z);
+        return new Placement(x, y, z, 1.0, 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Returns a placement from a position and a rotation quaternion. The
+     * quaternion does not need to be normalized.
+     *
+     * @param x  the world {@code x} coordinate of the shape's center
+     * @param y  the world {@code y} coordinate of the shape's center
+     * @param z  the world {@code z} coordinate of the shape's center
+     * @param qw the scalar part of the quaternion
+     * @param qx the {@code x} part of the quaternion
+     * @param qy the {@code y} part of the quaternion
+     * @param qz the {@code z} part of the quaternion
+     * @return the placement
+     * @throws IllegalArgumentException if a value is not finite or the
+     *                                  quaternion has zero length
+     */
+    public static Placement of(double x, double y, double z, double qw, double qx, double qy, double qz) {
+        checkPosition(x, y, z);
+        double norm = Math.sqrt(qw * qw + qx * qx + qy * qy + qz * qz);
+        if (!Double.isFinite(norm) || norm == 0.0) {
+            throw new IllegalArgumentException("Orientation must be a finite, non-zero quaternion.");
+        }
+        return new Placement(x, y, z, qw / norm, qx / norm, qy / norm, qz / norm);
+    }
+
+    /**
+     * Returns a placement at the given position whose local {@code z} axis —
+     * the height axis of a cylinder, cone or prism — points along
+     * {@code (dx, dy, dz)}.
+     *
+     * @param x  the world {@code x} coordinate of the shape's center
+     * @param y  the world {@code y} coordinate of the shape's center
+     * @param z  the world {@code z} coordinate of the shape's center
+     * @param dx the {@code x} component of the axis direction
+     * @param dy the {@code y} component of the axis direction
+     * @param dz the {@code z} component of the axis direction
+     * @return the placement
+     * @throws IllegalArgumentException if a value is not finite or the
+     *                                  direction has zero length
+     */
+    public static Placement alignedTo(double x, double y, double z, double dx, double dy, double dz) {
+        double length = checkDirection(dx, dy, dz);
+        dx /= length;
+        dy /= length;
+        dz /= length;
+        // Shortest rotation from +z to d: axis (0,0,1) x d, angle acos(d.z).
+        if (dz < -1.0 + 1e-12) {
+            return of(x, y, z, 0.0, 1.0, 0.0, 0.0);
+        }
+        return of(x, y, z, 1.0 + dz, -dy, dx, 0.0);
+    }
+
+    /**
+     * Returns this placement with an additional rotation about a world axis
+     * through the shape's center.
+     *
+     * @param ax      the {@code x} component of the rotation axis
+     * @param ay      the {@code y} component of the rotation axis
+     * @param az      the {@code z} component of the rotation axis
+     * @param radians the rotation angle, counter-clockwise about the axis
+     * @return the rotated placement
+     * @throws IllegalArgumentException if a value is not finite or the axis
+     *                                  has zero length
+     */
+    public Placement rotated(double ax, double ay, double az, double radians) {
+        double length = checkDirection(ax, ay, az);
+        if (!Double.isFinite(radians)) {
+            throw new IllegalArgumentException("Angle must be finite.");
+        }
+        double s = Math.sin(radians / 2) / length;
+        double rw = Math.cos(radians / 2);
+        double rx = ax * s;
+        double ry = ay * s;
+        double rz = az * s;
+        return of(x, y, z,
+                rw * qw - rx * qx - ry * qy - rz * qz,
+                rw * qx + rx * qw + ry * qz - rz * qy,
+                rw * qy - rx * qz + ry * qw + rz * qx,
+                rw * qz + rx * qy - ry * qx + rz * qw);
+    }
+
+    /**
+     * Returns this placement moved to a new position, keeping its
+     * orientation.
+     *
+     * @param x the new world {@code x} coordinate
+     * @param y the new world {@code y} coordinate
+     * @param z the new world {@code z} coordinate
+     * @return the moved placement
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public Placement movedTo(double x, double y, double z) {
+        checkPosition(x, y, z);
+        return new Placement(x, y, z, qw, qx, qy, qz);
+    }
+
+    private static void checkPosition(double x, double y, double z) {
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(z)) {
+            throw new IllegalArgumentException("Position must be finite.");
+        }
+    }
+
+    private static double checkDirection(double dx, double dy, double dz) {
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (!Double.isFinite(length) || length == 0.0) {
+            throw new IllegalArgumentException("Direction must be finite and non-zero.");
+        }
+        return length;
+    }
+
+    // ---------------------------------------------------------------
+    // Accessors
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the world {@code x} coordinate of the shape's center.
+     *
+     * @return the {@code x} coordinate
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Returns the world {@code y} coordinate of the shape's center.
+     *
+     * @return the {@code y} coordinate
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Returns the world {@code z} coordinate of the shape's center.
+     *
+     * @return the {@code z} coordinate
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Returns whether the local axes are the world axes.
+     *
+     * @return {@code true} if this placement has no rotation
+     */
+    public boolean isAxisAligned() {
+        return qx == 0.0 && qy == 0.0 && qz == 0.0;
+    }
+
+    /**
+     * Returns one entry of the rotation matrix. Column {@code c} is the
+     * world direction of local axis {@code c}.
+     *
+     * @param row    the row, {@code 0} to {@code 2}
+     * @param column the column, {@code 0} to {@code 2}
+     * @return the matrix entry
+     * @throws IndexOutOfBoundsException if an index is out of range
+     */
+    public double rotation(int row, int column) {
+        return switch (row * 3 + column) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m10;
+            case 4 -> m11;
+            case 5 -> m12;
+            case 6 -> m20;
+            case 7 -> m21;
+            case 8 -> m22;
+            default -> throw new IndexOutOfBoundsException("Rotation entry (" + row + ", " + column + ")");
+        };
+    }
+
+    // ---------------------------------------------------------------
+    // Transforms
+    // ---------------------------------------------------------------
+
+    /**
+     * Transforms a point from the shape's local frame to world space.
+     *
+     * @param lx  the local {@code x} coordinate
+     * @param ly  the local {@code y} coordinate
+     * @param lz  the local {@code z} coordinate
+     * @param out receives the world coordinates; at least three long
+     */
+    public void toWorld(double lx, double ly, double lz, double[] out) {
+        out[0] = x + m00 * lx + m01 * ly + m02 * lz;
+        out[1] = y + m10 * lx + m11 * ly + m12 * lz;
+        out[2] = z + m20 * lx + m21 * ly + m22 * lz;
+    }
+
+    /**
+     * Transforms a point from world space to the shape's local frame.
+     *
+     * @param wx  the world {@code x} coordinate
+     * @param wy  the world {@code y} coordinate
+     * @param wz  the world {@code z} coordinate
+     * @param out receives the local coordinates; at least three long
+     */
+    public void toLocal(double wx, double wy, double wz, double[] out) {
+        double dx = wx - x;
+        double dy = wy - y;
+        double dz = wz - z;
+        out[0] = m00 * dx + m10 * dy + m20 * dz;
+        out[1] = m01 * dx + m11 * dy + m21 * dz;
+        out[2] = m02 * dx + m12 * dy + m22 * dz;
+    }
+
+    /** Returns the local {@code x} of a world point; the first coordinate of {@link #toLocal}. */
+    double localX(double wx, double wy, double wz) {
+        return m00 * (wx - x) + m10 * (wy - y) + m20 * (wz - z);
+    }
+
+    /** Returns the local {@code y} of a world point; the second coordinate of {@link #toLocal}. */
+    double localY(double wx, double wy, double wz) {
+        return m01 * (wx - x) + m11 * (wy - y) + m21 * (wz - z);
+    }
+
+    /** Returns the local {@code z} of a world point; the third coordinate of {@link #toLocal}. */
+    double localZ(double wx, double wy, double wz) {
+        return m02 * (wx - x) + m12 * (wy - y) + m22 * (wz - z);
+    }
+
+    /** Returns the local {@code x} of a world direction; rotation only, no translation. */
+    double directionX(double dx, double dy, double dz) {
+        return m00 * dx + m10 * dy + m20 * dz;
+    }
+
+    /** Returns the local {@code y} of a world direction; rotation only, no translation. */
+    double directionY(double dx, double dy, double dz) {
+        return m01 * dx + m11 * dy + m21 * dz;
+    }
+
+    /** Returns the local {@code z} of a world direction; rotation only, no translation. */
+    double directionZ(double dx, double dy, double dz) {
+        return m02 * dx + m12 * dy + m22 * dz;
+    }
+
+    /** Rotates a local direction held in {@code v[0..2]} into world space, in place. */
+    void rotateToWorld(double[] v) {
+        double lx = v[0];
+        double ly = v[1];
+        double lz = v[2];
+        v[0] = m00 * lx + m01 * ly + m02 * lz;
+        v[1] = m10 * lx + m11 * ly + m12 * lz;
+        v[2] = m20 * lx + m21 * ly + m22 * lz;
+    }
+
+    /**
+     * Returns the axis-aligned box around a local box of half extents
+     * {@code (hx, hy, hz)} centered on the local origin.
+     */
+    BoundingBox boxBounds(double hx, double hy, double hz) {
+        double ex = Math.abs(m00) * hx + Math.abs(m01) * hy + Math.abs(m02) * hz;
+        double ey = Math.abs(m10) * hx + Math.abs(m11) * hy + Math.abs(m12) * hz;
+        double ez = Math.abs(m20) * hx + Math.abs(m21) * hy + Math.abs(m22) * hz;
+        return new BoundingBox(x - ex, y - ey, z - ez, x + ex, y + ey, z + ez);
+    }
+
+    /**
+     * Returns the tight axis-aligned box around a local cylinder of the
+     * given radius running from {@code z = -halfHeight} to
+     * {@code z = +halfHeight}.
+     */
+    BoundingBox cylinderBounds(double radius, double halfHeight) {
+        double ex = Math.abs(m02) * halfHeight + radius * discExtent(m00, m01);
+        double ey = Math.abs(m12) * halfHeight + radius * discExtent(m10, m11);
+        double ez = Math.abs(m22) * halfHeight + radius * discExtent(m20, m21);
+        return new BoundingBox(x - ex, y - ey, z - ez, x + ex, y + ey, z + ez);
+    }
+
+    /**
+     * Returns the tight axis-aligned box around a local cone with its base
+     * disc at {@code z = -halfHeight} and its apex at {@code z = +halfHeight}.
+     */
+    BoundingBox coneBounds(double radius, double halfHeight) {
+        double bx = x - m02 * halfHeight;
+        double by = y - m12 * halfHeight;
+        double bz = z - m22 * halfHeight;
+        double ax = x + m02 * halfHeight;
+        double ay = y + m12 * halfHeight;
+        double az = z + m22 * halfHeight;
+        double dx = radius * discExtent(m00, m01);
+        double dy = radius * discExtent(m10, m11);
+        double dz = radius * discExtent(m20, m21);
+        return new BoundingBox(
+                Math.min(bx - dx, ax), Math.min(by - dy, ay), Math.min(bz - dz, az),
+                Math.max(bx + dx, ax), Math.max(by + dy, ay), Math.max(bz + dz, az));
+    }
+
+    /**
+     * Half extent along a world axis of a unit disc in the local
+     * {@code xy} plane, given that axis's row of the rotation matrix. This is
+     * &radic;(1 &minus; a&sup2;) for the axis component {@code a} of the disc normal,
+     * computed from the other two entries so an axis-aligned disc has an
+     * extent of exactly zero.
+     */
+    private static double discExtent(double localX, double localY) {
+        return Math.sqrt(localX * localX + localY * localY);
+    }
+
+    // ---------------------------------------------------------------
+    // Object overrides
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns whether {@code obj} is a placement with the same position and
+     * quaternion. {@code q} and {@code -q} describe the same rotation but are
+     * not considered equal.
+     *
+     * @param obj the object to compare
+     * @return {@code true} if the placements are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Placement other
+                && Double.compare(x, other.x) == 0
+                && Double.compare(y, other.y) == 0
+                && Double.compare(z, other.z) == 0
+                && Double.compare(qw, other.qw) == 0
+                && Double.compare(qx, other.qx) == 0
+                && Double.compare(qy, other.qy) == 0
+                && Double.compare(qz, other.qz) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(x);
+        hash = 31 * hash + Double.hashCode(y);
+        hash = 31 * hash + Double.hashCode(z);
+        hash = 31 * hash + Double.hashCode(qw);
+        hash = 31 * hash + Double.hashCode(qx);
+        hash = 31 * hash + Double.hashCode(qy);
+        return 31 * hash + Double.hashCode(qz);
+    }
+
+    /**
+     * Returns the position and, if rotated, the quaternion.
+     *
+     * @return a human-readable description of this placement
+     */
+    @Override
+    public String toString() {
+        String position = "Placement {x=" + x + ", y=" + y + ", z=" + z;
+        if (isAxisAligned()) {
+            return position + "}";
+        }
+        return position + ", q=(" + qw + ", " + qx + ", " + qy + ", " + qz + ")}";
+    }
+}
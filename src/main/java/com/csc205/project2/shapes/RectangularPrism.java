@@ -1,6 +1,7 @@
 package com.csc205.project2.shapes;
 
-import java.util.logging.Logger;
+import com.csc205.project2.logging.ShapeEvent;
+import com.csc205.project2.logging.ShapeLogger;
 
 /**
  * Represents a three-dimensional rectangular prism (box) defined by its
@@ -26,9 +27,9 @@ import java.util.logging.Logger;
  * @see Shape3D
  * @see ThreeDimensionalShape
  */
-public class RectangularPrism extends Shape3D {
+public final class RectangularPrism extends Shape3D {
 
-    private static final Logger LOGGER = Logger.getLogger(RectangularPrism.class.getName());
+    private static final ShapeLogger LOGGER = ShapeLogger.getLogger(RectangularPrism.class);
 
     private double length;
     private double width;
@@ -54,23 +55,31 @@ public class RectangularPrism extends Shape3D {
      */
     public RectangularPrism(String name, String color, double length, double width, double height) {
         super(name, color);
-        if (length <= 0) {
-            LOGGER.severe("Invalid length (" + length + ") for RectangularPrism '" + name + "'.");
+        if (!ShapeRules.isValidDimension(length)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid length (" + length + ") for RectangularPrism '" + name + "'.");
+            }
             throw new IllegalArgumentException("Length must be greater than zero.");
         }
-        if (width <= 0) {
-            LOGGER.severe("Invalid width (" + width + ") for RectangularPrism '" + name + "'.");
+        if (!ShapeRules.isValidDimension(width)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid width (" + width + ") for RectangularPrism '" + name + "'.");
+            }
             throw new IllegalArgumentException("Width must be greater than zero.");
         }
-        if (height <= 0) {
-            LOGGER.severe("Invalid height (" + height + ") for RectangularPrism '" + name + "'.");
+        if (!ShapeRules.isValidDimension(height)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid height (" + height + ") for RectangularPrism '" + name + "'.");
+            }
             throw new IllegalArgumentException("Height must be greater than zero.");
         }
         this.length = length;
         this.width = width;
         this.height = height;
-        LOGGER.info("Created RectangularPrism '" + name + "' with length=" + length
-                + ", width=" + width + ", height=" + height);
+        if (LOGGER.isLoggable(ShapeEvent.CREATED)) {
+            LOGGER.log(ShapeEvent.CREATED, "Created RectangularPrism '" + name + "' with length=" + length
+                    + ", width=" + width + ", height=" + height);
+        }
     }
 
     // ---------------------------------------------------------------
@@ -85,7 +94,7 @@ public class RectangularPrism extends Shape3D {
      */
     @Override
     public double calculateVolume() {
-        return length * width * height;
+        return ShapeFormulas.rectangularPrismVolume(length, width, height);
     }
 
     /**
@@ -96,7 +105,68 @@ public class RectangularPrism extends Shape3D {
      */
     @Override
     public double calculateSurfaceArea() {
-        return 2.0 * (length * width + length * height + width * height);
+        return ShapeFormulas.rectangularPrismSurfaceArea(length, width, height);
+    }
+
+    /**
+     * Calculates the bounding box of this prism, with length, width and
+     * height along the local {@code x}, {@code y} and {@code z} axes.
+     *
+     * @return the bounding box in world space
+     */
+    @Override
+    public BoundingBox calculateBounds() {
+        return getPlacement().boxBounds(length / 2, width / 2, height / 2);
+    }
+
+    /**
+     * Returns whether a point lies within half the length, width and
+     * height of this prism's center along its local axes.
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the surface
+     */
+    @Override
+    public boolean contains(double x, double y, double z) {
+        Placement placement = getPlacement();
+        return Math.abs(placement.localX(x, y, z)) <= length / 2
+                && Math.abs(placement.localY(x, y, z)) <= width / 2
+                && Math.abs(placement.localZ(x, y, z)) <= height / 2;
+    }
+
+    /**
+     * Returns the distance from a local point to this prism, measured per
+     * axis beyond each face.
+     *
+     * @param x the local {@code x} coordinate
+     * @param y the local {@code y} coordinate
+     * @param z the local {@code z} coordinate
+     * @return the distance, or zero inside
+     */
+    @Override
+    protected double distanceLocal(double x, double y, double z) {
+        return distanceToBox(length / 2, width / 2, height / 2, x, y, z);
+    }
+
+    /**
+     * Intersects a local ray with this prism using the slab method. The
+     * normal is the outward normal of the face that was hit.
+     *
+     * @param ox     the local ray origin {@code x}
+     * @param oy     the local ray origin {@code y}
+     * @param oz     the local ray origin {@code z}
+     * @param dx     the local ray direction {@code x}
+     * @param dy     the local ray direction {@code y}
+     * @param dz     the local ray direction {@code z}
+     * @param normal receives the local normal, or {@code null}
+     * @return the hit distance, or {@link #MISS}
+     */
+    @Override
+    protected double intersectLocal(double ox, double oy, double oz,
+                                    double dx, double dy, double dz, double[] normal) {
+        return intersectBox(length / 2, width / 2, height / 2, ox, oy, oz, dx, dy, dz, normal);
     }
 
     // ---------------------------------------------------------------
@@ -119,12 +189,17 @@ public class RectangularPrism extends Shape3D {
      * @throws IllegalArgumentException if {@code length} is zero or negative
      */
     public void setLength(double length) {
-        if (length <= 0) {
-            LOGGER.warning("Attempted to set invalid length (" + length + ") on RectangularPrism '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(length)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid length (" + length + ") on RectangularPrism '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Length must be greater than zero.");
         }
-        LOGGER.info("Updating length of RectangularPrism '" + getName() + "' from " + this.length + " to " + length);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating length of RectangularPrism '" + getName() + "' from " + this.length + " to " + length);
+        }
         this.length = length;
+        invalidateDerivedValues();
     }
 
     /**
@@ -143,12 +218,17 @@ public class RectangularPrism extends Shape3D {
      * @throws IllegalArgumentException if {@code width} is zero or negative
      */
     public void setWidth(double width) {
-        if (width <= 0) {
-            LOGGER.warning("Attempted to set invalid width (" + width + ") on RectangularPrism '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(width)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid width (" + width + ") on RectangularPrism '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Width must be greater than zero.");
         }
-        LOGGER.info("Updating width of RectangularPrism '" + getName() + "' from " + this.width + " to " + width);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating width of RectangularPrism '" + getName() + "' from " + this.width + " to " + width);
+        }
         this.width = width;
+        invalidateDerivedValues();
     }
 
     /**
@@ -167,12 +247,17 @@ public class RectangularPrism extends Shape3D {
      * @throws IllegalArgumentException if {@code height} is zero or negative
      */
     public void setHeight(double height) {
-        if (height <= 0) {
-            LOGGER.warning("Attempted to set invalid height (" + height + ") on RectangularPrism '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(height)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid height (" + height + ") on RectangularPrism '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Height must be greater than zero.");
         }
-        LOGGER.info("Updating height of RectangularPrism '" + getName() + "' from " + this.height + " to " + height);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating height of RectangularPrism '" + getName() + "' from " + this.height + " to " + height);
+        }
         this.height = height;
+        invalidateDerivedValues();
     }
 
     // ---------------------------------------------------------------
@@ -1,6 +1,9 @@
 package com.csc205.project2.shapes;
 
-import java.util.logging.Logger;
+import java.util.Arrays;
+
+import com.csc205.project2.logging.ShapeEvent;
+import com.csc205.project2.logging.ShapeLogger;
 
 /**
  * Abstract base class for all three-dimensional geometric shapes.
@@ -17,6 +20,46 @@ import java.util.logging.Logger;
  * {@code name} and {@code color} — and enforces that they are never
  * {@code null} or blank at construction time.</p>
  *
+ * <p>Volume and surface area are memoized: the first call to
+ * {@link #getVolume()} or {@link #getSurfaceArea()} runs the subclass
+ * calculation and later calls return the cached result. Because dimensions
+ * can only change through the validated setters of each subclass, every such
+ * setter calls {@link #invalidateDerivedValues()} so the next read
+ * recalculates from the new dimensions. Like the rest of the class, the cache
+ * is not synchronized.</p>
+ *
+ * <p>{@code name} and {@code color} are {@code volatile}, so a rename or
+ * recolor made on one thread is visible to readers on others, for example
+ * when shapes are shared through a
+ * {@link com.csc205.project2.registry.ShapeRegistry}.</p>
+ *
+ * <p>The color is kept as the string passed in. Collections that hold many
+ * shapes, such as {@link com.csc205.project2.store.ShapeStore} and
+ * {@link com.csc205.project2.registry.ShapeRegistry}, dictionary-encode
+ * colors in a {@link StringDictionary} of their own, so the codes live
+ * exactly as long as the collection that uses them.</p>
+ *
+ * <p>Every shape also has a {@link Placement} — a position and orientation
+ * in world space, {@link Placement#ORIGIN} until
+ * {@link #setPlacement(Placement)} is called — and {@link #getBounds()}
+ * returns the tight axis-aligned {@link BoundingBox} of the shape at that
+ * placement. The box is cached like volume and surface area and is
+ * discarded whenever a dimension or the placement changes.
+ * {@link #contains(double, double, double)} tests a world-space point
+ * against the exact solid, {@link #distanceTo} measures how far a point is
+ * from it, and {@link #intersect} casts a ray at it and returns the nearest
+ * hit distance and surface normal.</p>
+ *
+ * <p>The hierarchy is sealed: the five concrete shapes are the only
+ * subclasses, and each of them is {@code final}. A {@code switch} over a
+ * {@code Shape3D} can therefore be exhaustive without a default branch, and
+ * a loop over one concrete type calls a single implementation the JIT can
+ * inline.</p>
+ *
+ * <p>All logging in the shapes package goes through {@link ShapeLogger} and
+ * is guarded by {@link ShapeLogger#isLoggable(ShapeEvent)}, so no message is
+ * built when its level is disabled.</p>
+ *
  * <p><strong>Design patterns demonstrated:</strong></p>
  * <ul>
  *   <li><em>Inheritance</em> — subclasses extend this class to reuse
@@ -27,6 +70,8 @@ import java.util.logging.Logger;
  *       and setters</li>
  *   <li><em>Polymorphism</em> — any {@code Shape3D} reference can hold a
  *       concrete shape and invoke its unique calculations</li>
+ *   <li><em>Sealed hierarchy</em> — the set of subclasses is closed, so
+ *       type switches are checked for exhaustiveness</li>
  * </ul>
  *
  * @see ThreeDimensionalShape
@@ -36,12 +81,32 @@ import java.util.logging.Logger;
  * @see RectangularPrism
  * @see Cone
  */
-public abstract class Shape3D implements ThreeDimensionalShape {
+public abstract sealed class Shape3D implements ThreeDimensionalShape
+        permits Sphere, Cube, Cylinder, RectangularPrism, Cone {
+
+    private static final ShapeLogger LOGGER = ShapeLogger.getLogger(Shape3D.class);
+
+    private volatile String name;
+    private volatile String color;
 
-    private static final Logger LOGGER = Logger.getLogger(Shape3D.class.getName());
+    /** Cached result of {@link #calculateVolume()}, or {@code NaN} if stale. */
+    private double cachedVolume = Double.NaN;
 
-    private String name;
-    private String color;
+    /** Cached result of {@link #calculateSurfaceArea()}, or {@code NaN} if stale. */
+    private double cachedSurfaceArea = Double.NaN;
+
+    private volatile Placement placement = Placement.ORIGIN;
+
+    /** Cached result of {@link #calculateBounds()}, or {@code null} if stale. */
+    private volatile BoundingBox cachedBounds;
+
+    private static final ShapeChangeListener[] NO_LISTENERS = {};
+
+    /** The distance {@link #intersect} returns when a ray misses. */
+    protected static final double MISS = Double.POSITIVE_INFINITY;
+
+    /** Copy-on-write array of listeners, replaced under the instance lock. */
+    private volatile ShapeChangeListener[] listeners = NO_LISTENERS;
 
     /**
      * Constructs a new {@code Shape3D} with the given name and color.
@@ -56,17 +121,23 @@ public abstract class Shape3D implements ThreeDimensionalShape {
      *                                  {@code null} or blank
      */
     public Shape3D(String name, String color) {
-        if (name == null || name.isBlank()) {
-            LOGGER.severe("Attempted to create a Shape3D with a null or blank name.");
+        if (!ShapeRules.isValidText(name)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Attempted to create a Shape3D with a null or blank name.");
+            }
             throw new IllegalArgumentException("Name must not be null or blank.");
         }
-        if (color == null || color.isBlank()) {
-            LOGGER.severe("Attempted to create a Shape3D with a null or blank color.");
+        if (!ShapeRules.isValidText(color)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Attempted to create a Shape3D with a null or blank color.");
+            }
             throw new IllegalArgumentException("Color must not be null or blank.");
         }
         this.name = name;
         this.color = color;
-        LOGGER.info("Created Shape3D: name='" + name + "', color='" + color + "'");
+        if (LOGGER.isLoggable(ShapeEvent.CREATED)) {
+            LOGGER.log(ShapeEvent.CREATED, "Created Shape3D: name='" + name + "', color='" + color + "'");
+        }
     }
 
     // ---------------------------------------------------------------
@@ -77,12 +148,21 @@ public abstract class Shape3D implements ThreeDimensionalShape {
      * Returns the volume of this shape by delegating to the subclass-specific
      * {@link #calculateVolume()} implementation.
      *
+     * <p>The result is cached until a dimension setter invalidates it, so
+     * repeated reads of an unchanged shape do not repeat the calculation.</p>
+     *
      * @return the volume in cubic units
      */
     @Override
     public double getVolume() {
-        double volume = calculateVolume();
-        LOGGER.info("Calculated volume for '" + name + "': " + volume);
+        double volume = cachedVolume;
+        if (Double.isNaN(volume)) {
+            volume = calculateVolume();
+            cachedVolume = volume;
+            if (LOGGER.isLoggable(ShapeEvent.CALCULATED)) {
+                LOGGER.log(ShapeEvent.CALCULATED, "Calculated volume for '" + name + "': " + volume);
+            }
+        }
         return volume;
     }
 
@@ -90,15 +170,209 @@ public abstract class Shape3D implements ThreeDimensionalShape {
      * Returns the surface area of this shape by delegating to the
      * subclass-specific {@link #calculateSurfaceArea()} implementation.
      *
+     * <p>The result is cached until a dimension setter invalidates it, so
+     * repeated reads of an unchanged shape do not repeat the calculation.</p>
+     *
      * @return the surface area in square units
      */
     @Override
     public double getSurfaceArea() {
-        double surfaceArea = calculateSurfaceArea();
-        LOGGER.info("Calculated surface area for '" + name + "': " + surfaceArea);
+        double surfaceArea = cachedSurfaceArea;
+        if (Double.isNaN(surfaceArea)) {
+            surfaceArea = calculateSurfaceArea();
+            cachedSurfaceArea = surfaceArea;
+            if (LOGGER.isLoggable(ShapeEvent.CALCULATED)) {
+                LOGGER.log(ShapeEvent.CALCULATED, "Calculated surface area for '" + name + "': " + surfaceArea);
+            }
+        }
         return surfaceArea;
     }
 
+    /**
+     * Discards every cached derived value so that the next read recalculates
+     * it from the current dimensions.
+     *
+     * <p>Subclasses must call this method from every setter that changes a
+     * dimension. It also notifies the registered
+     * {@link ShapeChangeListener}s. Subclasses that cache additional derived
+     * values (such as {@link Cone#getSlantHeight()}) should override it,
+     * clear their own caches, and then call
+     * {@code super.invalidateDerivedValues()} last, so listeners never see a
+     * stale cache.</p>
+     */
+    protected void invalidateDerivedValues() {
+        cachedVolume = Double.NaN;
+        cachedSurfaceArea = Double.NaN;
+        cachedBounds = null;
+        for (ShapeChangeListener listener : listeners) {
+            listener.dimensionsChanged(this);
+        }
+    }
+
+    /** Returns whether a volume is cached; lets tests observe memoization. */
+    boolean isVolumeCached() {
+        return !Double.isNaN(cachedVolume);
+    }
+
+    /** Returns whether a surface area is cached; lets tests observe memoization. */
+    boolean isSurfaceAreaCached() {
+        return !Double.isNaN(cachedSurfaceArea);
+    }
+
+    // ---------------------------------------------------------------
+    // Placement
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns where this shape is in world space.
+     *
+     * @return the placement; {@link Placement#ORIGIN} if never set
+     */
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Moves and orients this shape and notifies the registered listeners
+     * through {@link ShapeChangeListener#placementChanged}.
+     *
+     * @param placement the new placement
+     * @throws IllegalArgumentException if {@code placement} is {@code null}
+     */
+    public void setPlacement(Placement placement) {
+        if (placement == null) {
+            throw new IllegalArgumentException("Placement must not be null.");
+        }
+        this.placement = placement;
+        cachedBounds = null;
+        for (ShapeChangeListener listener : listeners) {
+            listener.placementChanged(this);
+        }
+    }
+
+    /**
+     * Returns the tight axis-aligned bounding box of this shape at its
+     * current placement, calculating it on first use after a change.
+     *
+     * @return the bounding box in world space
+     */
+    public BoundingBox getBounds() {
+        BoundingBox bounds = cachedBounds;
+        if (bounds == null) {
+            bounds = calculateBounds();
+            cachedBounds = bounds;
+        }
+        return bounds;
+    }
+
+    /**
+     * Casts a ray at this shape and returns the distance to the nearest
+     * point where it meets the surface.
+     *
+     * <p>The ray starts at {@code (ox, oy, oz)} and runs along
+     * {@code (dx, dy, dz)}; the result {@code t} places the hit at
+     * {@code origin + t * direction}, so it is a true distance when the
+     * direction has unit length. Only hits with {@code t >= 0} count: a ray
+     * that starts inside the shape hits the surface on its way out. The ray
+     * is moved into the shape's local frame and intersected analytically
+     * with the exact solid, not its bounding box.</p>
+     *
+     * <p>On a hit, {@code normal} (if not {@code null}) receives the
+     * outward unit surface normal at the hit point in world space. On a miss
+     * it is left unchanged.</p>
+     *
+     * @param ox     the ray origin {@code x}
+     * @param oy     the ray origin {@code y}
+     * @param oz     the ray origin {@code z}
+     * @param dx     the ray direction {@code x}
+     * @param dy     the ray direction {@code y}
+     * @param dz     the ray direction {@code z}
+     * @param normal receives the world-space normal; at least three long, or
+     *               {@code null}
+     * @return the hit distance, or {@link Double#POSITIVE_INFINITY} if the
+     *         ray misses
+     * @throws IllegalArgumentException if a coordinate is not finite or the
+     *                                  direction is zero
+     */
+    public double intersect(double ox, double oy, double oz, double dx, double dy, double dz, double[] normal) {
+        checkRay(ox, oy, oz, dx, dy, dz);
+        Placement placement = getPlacement();
+        double t = intersectLocal(
+                placement.localX(ox, oy, oz), placement.localY(ox, oy, oz), placement.localZ(ox, oy, oz),
+                placement.directionX(dx, dy, dz), placement.directionY(dx, dy, dz),
+                placement.directionZ(dx, dy, dz), normal);
+        if (normal != null && t != MISS) {
+            placement.rotateToWorld(normal);
+        }
+        return t;
+    }
+
+    /**
+     * Checks that a ray has a finite origin and a finite, non-zero
+     * direction.
+     *
+     * @param ox the ray origin {@code x}
+     * @param oy the ray origin {@code y}
+     * @param oz the ray origin {@code z}
+     * @param dx the ray direction {@code x}
+     * @param dy the ray direction {@code y}
+     * @param dz the ray direction {@code z}
+     * @throws IllegalArgumentException if the ray is not valid
+     */
+    public static void checkRay(double ox, double oy, double oz, double dx, double dy, double dz) {
+        if (!Double.isFinite(ox) || !Double.isFinite(oy) || !Double.isFinite(oz)) {
+            throw new IllegalArgumentException("Ray origin must be finite.");
+        }
+        if (!Double.isFinite(dx) || !Double.isFinite(dy) || !Double.isFinite(dz)
+                || (dx == 0.0 && dy == 0.0 && dz == 0.0)) {
+            throw new IllegalArgumentException("Ray direction must be finite and non-zero.");
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Change listeners
+    // ---------------------------------------------------------------
+
+    /**
+     * Registers a listener to be called after every dimension change.
+     * Registering the same listener twice has no effect.
+     *
+     * @param listener the listener to add
+     * @throws IllegalArgumentException if {@code listener} is {@code null}
+     */
+    public synchronized void addChangeListener(ShapeChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null.");
+        }
+        for (ShapeChangeListener existing : listeners) {
+            if (existing == listener) {
+                return;
+            }
+        }
+        ShapeChangeListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregisters a listener added with {@link #addChangeListener}.
+     *
+     * @param listener the listener to remove
+     * @return {@code true} if the listener was registered
+     */
+    public synchronized boolean removeChangeListener(ShapeChangeListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ShapeChangeListener[] updated = new ShapeChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
     // ---------------------------------------------------------------
     // Abstract methods for subclasses
     // ---------------------------------------------------------------
@@ -123,6 +397,211 @@ public abstract class Shape3D implements ThreeDimensionalShape {
      */
     public abstract double calculateSurfaceArea();
 
+    /**
+     * Calculates the tight axis-aligned bounding box of this shape at its
+     * current placement.
+     *
+     * <p>Subclasses describe their local extent (see {@link Placement} for
+     * the local frame) and let the placement rotate and translate it.</p>
+     *
+     * @return the bounding box in world space
+     */
+    public abstract BoundingBox calculateBounds();
+
+    /**
+     * Returns whether a world-space point lies inside this shape at its
+     * current placement. Points on the surface count as inside.
+     *
+     * <p>The point is transformed into the shape's local frame (see
+     * {@link Placement}) and tested against the exact solid, not its
+     * bounding box. Batch classification in
+     * {@link com.csc205.project2.kernels.PointClassifier} evaluates the same
+     * expressions in the same order, so both give the same answer for every
+     * point, including points on the surface.</p>
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the surface
+     */
+    public abstract boolean contains(double x, double y, double z);
+
+    /**
+     * Returns the distance from a world-space point to this shape at its
+     * current placement: zero for a point inside or on the surface, and
+     * otherwise the length of the shortest segment from the point to the
+     * solid.
+     *
+     * <p>Like {@link #contains}, the point is transformed into the local
+     * frame and measured against the exact solid, not its bounding box.</p>
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return the distance, never negative
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public double distanceTo(double x, double y, double z) {
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(z)) {
+            throw new IllegalArgumentException("Point must be finite.");
+        }
+        Placement placement = getPlacement();
+        return distanceLocal(placement.localX(x, y, z), placement.localY(x, y, z), placement.localZ(x, y, z));
+    }
+
+    /**
+     * Returns the distance from a point given in this shape's local frame
+     * (see {@link Placement}) to the solid, or zero if the point is inside.
+     * {@link #distanceTo} takes care of the transform.
+     *
+     * @param x the local {@code x} coordinate
+     * @param y the local {@code y} coordinate
+     * @param z the local {@code z} coordinate
+     * @return the distance, never negative
+     */
+    protected abstract double distanceLocal(double x, double y, double z);
+
+    /**
+     * Intersects a ray given in this shape's local frame (see
+     * {@link Placement}) with the solid.
+     *
+     * <p>Subclasses return the smallest {@code t >= 0} at which the ray
+     * meets the surface, or {@link #MISS}, and on a hit write the outward
+     * unit normal in local coordinates to {@code normal} when it is not
+     * {@code null}. {@link #intersect} takes care of the transforms.</p>
+     *
+     * @param ox     the local ray origin {@code x}
+     * @param oy     the local ray origin {@code y}
+     * @param oz     the local ray origin {@code z}
+     * @param dx     the local ray direction {@code x}
+     * @param dy     the local ray direction {@code y}
+     * @param dz     the local ray direction {@code z}
+     * @param normal receives the local normal, or {@code null}
+     * @return the hit distance, or {@link #MISS}
+     */
+    protected abstract double intersectLocal(double ox, double oy, double oz,
+                                             double dx, double dy, double dz, double[] normal);
+
+    // ---------------------------------------------------------------
+    // Ray helpers shared by the subclasses
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the distance from a local point to the box of half extents
+     * {@code (hx, hy, hz)} around the local origin, or zero inside it.
+     */
+    static double distanceToBox(double hx, double hy, double hz, double x, double y, double z) {
+        double dx = Math.max(0.0, Math.abs(x) - hx);
+        double dy = Math.max(0.0, Math.abs(y) - hy);
+        double dz = Math.max(0.0, Math.abs(z) - hz);
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+     * Intersects a local ray with the box of half extents
+     * {@code (hx, hy, hz)} around the local origin, using the slab method.
+     */
+    static double intersectBox(double hx, double hy, double hz, double ox, double oy, double oz,
+                               double dx, double dy, double dz, double[] normal) {
+        double near = Double.NEGATIVE_INFINITY;
+        double far = Double.POSITIVE_INFINITY;
+        int nearAxis = 0;
+        int farAxis = 0;
+        double nearSign = 0.0;
+        double farSign = 0.0;
+        for (int axis = 0; axis < 3; axis++) {
+            double o = axis == 0 ? ox : axis == 1 ? oy : oz;
+            double d = axis == 0 ? dx : axis == 1 ? dy : dz;
+            double h = axis == 0 ? hx : axis == 1 ? hy : hz;
+            if (d == 0.0) {
+                if (!(o >= -h && o <= h)) {
+                    return MISS;
+                }
+                continue;
+            }
+            // The ray enters through the face it is moving toward first.
+            double enterSign = d > 0.0 ? -1.0 : 1.0;
+            double enter = (enterSign * h - o) / d;
+            double exit = (-enterSign * h - o) / d;
+            if (enter > near) {
+                near = enter;
+                nearAxis = axis;
+                nearSign = enterSign;
+            }
+            if (exit < far) {
+                far = exit;
+                farAxis = axis;
+                farSign = -enterSign;
+            }
+        }
+        if (!(near <= far) || !(far >= 0.0) || far == Double.POSITIVE_INFINITY) {
+            return MISS;
+        }
+        if (near >= 0.0) {
+            setAxisNormal(normal, nearAxis, nearSign);
+            return near;
+        }
+        setAxisNormal(normal, farAxis, farSign);
+        return far;
+    }
+
+    /**
+     * Solves {@code a t² + 2 halfB t + c = 0} without cancellation and
+     * returns {@code q}, such that the roots are {@code q / a} and
+     * {@code c / q}. Returns {@code NaN} if there is no real root. A root
+     * that does not exist (for example {@code q / a} when {@code a == 0})
+     * comes out infinite or {@code NaN}, so callers can test both
+     * candidates with {@code t >= 0} comparisons.
+     */
+    static double quadratic(double a, double halfB, double c) {
+        double discriminant = halfB * halfB - a * c;
+        if (!(discriminant >= 0.0)) {
+            return Double.NaN;
+        }
+        return -(halfB + Math.copySign(Math.sqrt(discriminant), halfB));
+    }
+
+    /** Returns the smaller of two candidate distances that is {@code >= 0}, or {@link #MISS}. */
+    static double nearest(double t0, double t1) {
+        double best = t0 >= 0.0 ? t0 : MISS;
+        return t1 >= 0.0 && t1 < best ? t1 : best;
+    }
+
+    /**
+     * Returns where a local ray crosses the plane {@code z = planeZ} inside
+     * the disc of squared radius {@code limit} around the axis, or
+     * {@link #MISS}.
+     */
+    static double intersectDisc(double planeZ, double limit, double ox, double oy, double oz,
+                                double dx, double dy, double dz) {
+        if (dz == 0.0) {
+            return MISS;
+        }
+        double t = (planeZ - oz) / dz;
+        double x = ox + t * dx;
+        double y = oy + t * dy;
+        return t >= 0.0 && x * x + y * y <= limit ? t : MISS;
+    }
+
+    /** Writes a unit normal along one local axis. */
+    static void setAxisNormal(double[] normal, int axis, double sign) {
+        if (normal != null) {
+            normal[0] = axis == 0 ? sign : 0.0;
+            normal[1] = axis == 1 ? sign : 0.0;
+            normal[2] = axis == 2 ? sign : 0.0;
+        }
+    }
+
+    /** Writes {@code (x, y, z)} scaled to unit length. */
+    static void setNormal(double[] normal, double x, double y, double z) {
+        if (normal != null) {
+            double length = Math.sqrt(x * x + y * y + z * z);
+            normal[0] = x / length;
+            normal[1] = y / length;
+            normal[2] = z / length;
+        }
+    }
+
     // ---------------------------------------------------------------
     // Getters and Setters
     // ---------------------------------------------------------------
@@ -144,11 +623,15 @@ public abstract class Shape3D implements ThreeDimensionalShape {
      *                                  blank
      */
     public void setName(String name) {
-        if (name == null || name.isBlank()) {
-            LOGGER.warning("Attempted to set a null or blank name on '" + this.name + "'.");
+        if (!ShapeRules.isValidText(name)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set a null or blank name on '" + this.name + "'.");
+            }
             throw new IllegalArgumentException("Name must not be null or blank.");
         }
-        LOGGER.info("Updating name from '" + this.name + "' to '" + name + "'");
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating name from '" + this.name + "' to '" + name + "'");
+        }
         this.name = name;
     }
 
@@ -169,11 +652,15 @@ public abstract class Shape3D implements ThreeDimensionalShape {
      *                                  blank
      */
     public void setColor(String color) {
-        if (color == null || color.isBlank()) {
-            LOGGER.warning("Attempted to set a null or blank color on '" + name + "'.");
+        if (!ShapeRules.isValidText(color)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set a null or blank color on '" + name + "'.");
+            }
             throw new IllegalArgumentException("Color must not be null or blank.");
         }
-        LOGGER.info("Updating color from '" + this.color + "' to '" + color + "'");
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating color from '" + this.color + "' to '" + color + "'");
+        }
         this.color = color;
     }
 
@@ -0,0 +1,35 @@
+package com.csc205.project2.shapes;
+
+/**
+ * Callback for dimension and placement changes on a {@link Shape3D}.
+ *
+ * <p>Listeners are registered with {@link Shape3D#addChangeListener} and
+ * called on the thread that ran the setter, after the new value is stored
+ * and every derived-value cache has been cleared, so reading
+ * {@link Shape3D#getVolume()} or {@link Shape3D#getSurfaceArea()} from the
+ * callback returns up-to-date results.</p>
+ *
+ * <p>Only {@link #dimensionsChanged} is abstract, so listeners that care
+ * about size alone can still be lambdas; listeners that track where shapes
+ * are, such as spatial indexes, also override {@link #placementChanged}.</p>
+ */
+@FunctionalInterface
+public interface ShapeChangeListener {
+
+    /**
+     * Called after one of the shape's dimensions changed.
+     *
+     * @param shape the shape whose dimensions changed
+     */
+    void dimensionsChanged(Shape3D shape);
+
+    /**
+     * Called after the shape was given a new {@link Placement}. Does nothing
+     * by default.
+     *
+     * @param shape the shape that moved
+     */
+    default void placementChanged(Shape3D shape) {
+        // size-only listeners ignore moves
+    }
+}
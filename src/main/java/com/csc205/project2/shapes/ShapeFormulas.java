@@ -0,0 +1,162 @@
+package com.csc205.project2.shapes;
+
+/**
+ * The volume and surface-area formulas of the five concrete shapes, as
+ * static functions of primitive dimensions.
+ *
+ * <p>The {@code calculateVolume()} / {@code calculateSurfaceArea()} methods of
+ * {@link Sphere}, {@link Cube}, {@link Cylinder}, {@link RectangularPrism}
+ * and {@link Cone} delegate here, and so does any code that computes the same
+ * values without an object (for example columnar storage). Keeping a single
+ * copy of each expression guarantees that both paths produce bit-for-bit
+ * identical results.</p>
+ *
+ * <p>The methods do not validate their arguments; callers are expected to
+ * pass dimensions that have already passed the shapes' validation.</p>
+ */
+public final class ShapeFormulas {
+
+    private ShapeFormulas() {
+        // static utility
+    }
+
+    // ---------------------------------------------------------------
+    // Sphere
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the volume of a sphere, (4/3) &pi; r&sup3;.
+     *
+     * @param radius the radius
+     * @return the volume in cubic units
+     */
+    public static double sphereVolume(double radius) {
+        return (4.0 / 3.0) * Math.PI * Math.pow(radius, 3);
+    }
+
+    /**
+     * Returns the surface area of a sphere, 4 &pi; r&sup2;.
+     *
+     * @param radius the radius
+     * @return the surface area in square units
+     */
+    public static double sphereSurfaceArea(double radius) {
+        return 4.0 * Math.PI * Math.pow(radius, 2);
+    }
+
+    // ---------------------------------------------------------------
+    // Cube
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the volume of a cube, s&sup3;.
+     *
+     * @param sideLength the side length
+     * @return the volume in cubic units
+     */
+    public static double cubeVolume(double sideLength) {
+        return Math.pow(sideLength, 3);
+    }
+
+    /**
+     * Returns the surface area of a cube, 6 s&sup2;.
+     *
+     * @param sideLength the side length
+     * @return the surface area in square units
+     */
+    public static double cubeSurfaceArea(double sideLength) {
+        return 6.0 * Math.pow(sideLength, 2);
+    }
+
+    // ---------------------------------------------------------------
+    // Cylinder
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the volume of a cylinder, &pi; r&sup2; h.
+     *
+     * @param radius the base radius
+     * @param height the height
+     * @return the volume in cubic units
+     */
+    public static double cylinderVolume(double radius, double height) {
+        return Math.PI * Math.pow(radius, 2) * height;
+    }
+
+    /**
+     * Returns the surface area of a cylinder, 2 &pi; r (r + h).
+     *
+     * @param radius the base radius
+     * @param height the height
+     * @return the surface area in square units
+     */
+    public static double cylinderSurfaceArea(double radius, double height) {
+        return 2.0 * Math.PI * radius * (radius + height);
+    }
+
+    // ---------------------------------------------------------------
+    // Rectangular prism
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the volume of a rectangular prism, l &times; w &times; h.
+     *
+     * @param length the length
+     * @param width  the width
+     * @param height the height
+     * @return the volume in cubic units
+     */
+    public static double rectangularPrismVolume(double length, double width, double height) {
+        return length * width * height;
+    }
+
+    /**
+     * Returns the surface area of a rectangular prism, 2 (lw + lh + wh).
+     *
+     * @param length the length
+     * @param width  the width
+     * @param height the height
+     * @return the surface area in square units
+     */
+    public static double rectangularPrismSurfaceArea(double length, double width, double height) {
+        return 2.0 * (length * width + length * height + width * height);
+    }
+
+    // ---------------------------------------------------------------
+    // Cone
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the volume of a cone, (1/3) &pi; r&sup2; h.
+     *
+     * @param radius the base radius
+     * @param height the height
+     * @return the volume in cubic units
+     */
+    public static double coneVolume(double radius, double height) {
+        return (1.0 / 3.0) * Math.PI * Math.pow(radius, 2) * height;
+    }
+
+    /**
+     * Returns the slant height of a cone, &radic;(h&sup2; + r&sup2;).
+     *
+     * @param radius the base radius
+     * @param height the height
+     * @return the slant height
+     */
+    public static double coneSlantHeight(double radius, double height) {
+        return Math.sqrt(Math.pow(height, 2) + Math.pow(radius, 2));
+    }
+
+    /**
+     * Returns the surface area of a cone given its slant height,
+     * &pi; r (r + s).
+     *
+     * @param radius      the base radius
+     * @param slantHeight the slant height, see {@link #coneSlantHeight}
+     * @return the surface area in square units
+     */
+    public static double coneSurfaceArea(double radius, double slantHeight) {
+        return Math.PI * radius * (radius + slantHeight);
+    }
+}
@@ -0,0 +1,122 @@
+package com.csc205.project2.shapes;
+
+/**
+ * The validation rules for shape names, colors and dimensions, shared by the
+ * shape constructors and setters, {@link BulkShapeBuilder} and the columnar
+ * stores, so every path accepts exactly the same values.
+ *
+ * <p>A name or color is valid when it is non-{@code null} and not blank. A
+ * dimension is valid unless it is zero or negative; as in the original
+ * constructors' {@code value <= 0} check, {@code NaN} is therefore
+ * accepted.</p>
+ *
+ * <p>{@link #check} reports a violation as one of a fixed set of message
+ * strings rather than an exception, for callers that validate many rows and
+ * expect some of them to fail.</p>
+ */
+public final class ShapeRules {
+
+    /** The message for an invalid name. */
+    public static final String NAME_MESSAGE = "Name must not be null or blank.";
+
+    /** The message for an invalid color. */
+    public static final String COLOR_MESSAGE = "Color must not be null or blank.";
+
+    private static final String[][] DIMENSION_MESSAGES = new String[ShapeType.values().length][];
+
+    static {
+        for (ShapeType type : ShapeType.values()) {
+            String[] messages = new String[type.dimensionCount()];
+            for (int d = 0; d < messages.length; d++) {
+                messages[d] = describe(type.dimensionNames().get(d)) + " must be greater than zero.";
+            }
+            DIMENSION_MESSAGES[type.ordinal()] = messages;
+        }
+    }
+
+    private ShapeRules() {
+        // utility class
+    }
+
+    /**
+     * Returns whether a name or color is acceptable.
+     *
+     * @param value the name or color
+     * @return {@code true} if {@code value} is non-{@code null} and not blank
+     */
+    public static boolean isValidText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Returns whether a dimension is acceptable.
+     *
+     * @param value the dimension
+     * @return {@code false} only if {@code value} is zero or negative
+     */
+    public static boolean isValidDimension(double value) {
+        return !(value <= 0);
+    }
+
+    /**
+     * Returns the message for an invalid dimension, e.g.
+     * {@code "Side length must be greater than zero."}.
+     *
+     * @param type      the shape type
+     * @param dimension the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return the message the constructor uses for that dimension
+     * @throws IndexOutOfBoundsException if {@code dimension} is out of range
+     */
+    public static String dimensionMessage(ShapeType type, int dimension) {
+        return DIMENSION_MESSAGES[type.ordinal()][dimension];
+    }
+
+    /**
+     * Checks one candidate shape in the order the constructors do: name,
+     * color, then each dimension. Unused trailing dimensions are ignored.
+     *
+     * @param type  the shape type
+     * @param name  the shape name
+     * @param color the shape color
+     * @param d0    the first dimension
+     * @param d1    the second dimension, if the type has one
+     * @param d2    the third dimension, if the type has one
+     * @return {@code null} if the shape is valid, otherwise the message of
+     *         the first violation, which is the one its constructor would
+     *         throw
+     */
+    public static String check(ShapeType type, String name, String color, double d0, double d1, double d2) {
+        if (!isValidText(name)) {
+            return NAME_MESSAGE;
+        }
+        if (!isValidText(color)) {
+            return COLOR_MESSAGE;
+        }
+        int dimensions = type.dimensionCount();
+        if (!isValidDimension(d0)) {
+            return dimensionMessage(type, 0);
+        }
+        if (dimensions > 1 && !isValidDimension(d1)) {
+            return dimensionMessage(type, 1);
+        }
+        if (dimensions > 2 && !isValidDimension(d2)) {
+            return dimensionMessage(type, 2);
+        }
+        return null;
+    }
+
+    /** Turns a dimension name such as {@code sideLength} into {@code Side length}. */
+    private static String describe(String dimension) {
+        StringBuilder sb = new StringBuilder(dimension.length() + 2);
+        sb.append(Character.toUpperCase(dimension.charAt(0)));
+        for (int i = 1; i < dimension.length(); i++) {
+            char c = dimension.charAt(i);
+            if (Character.isUpperCase(c)) {
+                sb.append(' ').append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
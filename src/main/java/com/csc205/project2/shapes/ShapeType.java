@@ -0,0 +1,134 @@
+package com.csc205.project2.shapes;
+
+import java.util.List;
+
+/**
+ * Enumerates the five concrete shape types together with the names of the
+ * dimensions that define each of them.
+ *
+ * <p>Code that stores or processes shapes without holding {@link Shape3D}
+ * objects (columnar storage, binary formats, ingestion) uses this enum as the
+ * type tag and relies on {@link #dimensionNames()} for the order in which a
+ * type's dimensions are laid out. That order always matches the order of the
+ * corresponding constructor parameters.</p>
+ *
+ * @see Shape3D
+ */
+public enum ShapeType {
+
+    /** {@link Sphere}: radius. */
+    SPHERE("Sphere", "radius"),
+
+    /** {@link Cube}: side length. */
+    CUBE("Cube", "sideLength"),
+
+    /** {@link Cylinder}: radius, height. */
+    CYLINDER("Cylinder", "radius", "height"),
+
+    /** {@link RectangularPrism}: length, width, height. */
+    RECTANGULAR_PRISM("RectangularPrism", "length", "width", "height"),
+
+    /** {@link Cone}: radius, height. */
+    CONE("Cone", "radius", "height");
+
+    private final String displayName;
+    private final List<String> dimensionNames;
+
+    ShapeType(String displayName, String... dimensionNames) {
+        this.displayName = displayName;
+        this.dimensionNames = List.of(dimensionNames);
+    }
+
+    /**
+     * Returns the simple class name of the concrete shape, e.g.
+     * {@code "RectangularPrism"}.
+     *
+     * @return the display name
+     */
+    public String displayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the number of dimensions that define this type.
+     *
+     * @return the dimension count (1 to 3)
+     */
+    public int dimensionCount() {
+        return dimensionNames.size();
+    }
+
+    /**
+     * Returns the dimension names in constructor-parameter order.
+     *
+     * @return an immutable list of dimension names
+     */
+    public List<String> dimensionNames() {
+        return dimensionNames;
+    }
+
+    /**
+     * Creates a new shape of this type.
+     *
+     * @param name       the shape name
+     * @param color      the shape color
+     * @param dimensions the dimensions in {@link #dimensionNames()} order
+     * @return a new shape
+     * @throws IllegalArgumentException if the number of dimensions is wrong
+     *                                  or the shape's constructor rejects an
+     *                                  argument
+     */
+    public Shape3D create(String name, String color, double... dimensions) {
+        if (dimensions == null || dimensions.length != dimensionCount()) {
+            throw new IllegalArgumentException(displayName + " requires " + dimensionCount()
+                    + (dimensionCount() == 1 ? " dimension" : " dimensions") + " but got "
+                    + (dimensions == null ? 0 : dimensions.length) + ".");
+        }
+        return switch (this) {
+            case SPHERE -> new Sphere(name, color, dimensions[0]);
+            case CUBE -> new Cube(name, color, dimensions[0]);
+            case CYLINDER -> new Cylinder(name, color, dimensions[0], dimensions[1]);
+            case RECTANGULAR_PRISM -> new RectangularPrism(name, color, dimensions[0], dimensions[1], dimensions[2]);
+            case CONE -> new Cone(name, color, dimensions[0], dimensions[1]);
+        };
+    }
+
+    /**
+     * Looks up a type by name, ignoring case and underscores, so
+     * {@code "RectangularPrism"}, {@code "rectangular_prism"} and
+     * {@code "RECTANGULAR_PRISM"} all match.
+     *
+     * @param text the type name
+     * @return the matching type
+     * @throws IllegalArgumentException if no type matches
+     */
+    public static ShapeType parse(String text) {
+        if (text != null) {
+            String key = text.trim().replace("_", "");
+            for (ShapeType type : values()) {
+                if (type.displayName.equalsIgnoreCase(key)) {
+                    return type;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown shape type: '" + text + "'.");
+    }
+
+    /**
+     * Returns the type of the given shape.
+     *
+     * @param shape the shape to classify
+     * @return the shape's type
+     * @throws IllegalArgumentException if {@code shape} is {@code null}
+     */
+    public static ShapeType of(Shape3D shape) {
+        return switch (shape) {
+            case Sphere sphere -> SPHERE;
+            case Cube cube -> CUBE;
+            case Cylinder cylinder -> CYLINDER;
+            case RectangularPrism prism -> RECTANGULAR_PRISM;
+            case Cone cone -> CONE;
+            case null -> throw new IllegalArgumentException("Unsupported shape type: null");
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package com.csc205.project2.shapes;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The rule violations found by {@link BulkShapeBuilder}, one entry per
+ * (row, field) pair.
+ *
+ * <p>Entries are stored in parallel primitive arrays and their messages are
+ * looked up from {@link ShapeRules} only when asked for, so a report costs a
+ * few bytes per violation however many there are. Entries are ordered by row
+ * and, within a row, in the order the constructors check fields: name,
+ * color, then each dimension. The first entry of a row therefore carries
+ * the message its constructor would have thrown.</p>
+ */
+public final class ShapeValidationReport {
+
+    /** Field code for the name. */
+    private static final byte NAME = 0;
+
+    /** Field code for the color. */
+    private static final byte COLOR = 1;
+
+    /** Field code for a dimension count that does not match the type. */
+    private static final byte DIMENSION_COUNT = 2;
+
+    /** Field code of dimension 0; dimension {@code d} is {@code FIRST_DIMENSION + d}. */
+    private static final byte FIRST_DIMENSION = 3;
+
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private final BitSet invalidRows = new BitSet();
+    private int[] rows = new int[8];
+    private byte[] types = new byte[8];
+    private byte[] fields = new byte[8];
+    private int[] details = new int[8];
+    private int size;
+
+    ShapeValidationReport() {
+    }
+
+    // ---------------------------------------------------------------
+    // Recording
+    // ---------------------------------------------------------------
+
+    void nameInvalid(int row, ShapeType type) {
+        record(row, type, NAME, 0);
+    }
+
+    void colorInvalid(int row, ShapeType type) {
+        record(row, type, COLOR, 0);
+    }
+
+    void dimensionInvalid(int row, ShapeType type, int dimension) {
+        record(row, type, (byte) (FIRST_DIMENSION + dimension), 0);
+    }
+
+    void dimensionCountInvalid(int row, ShapeType type, int given) {
+        record(row, type, DIMENSION_COUNT, given);
+    }
+
+    private void record(int row, ShapeType type, byte field, int detail) {
+        if (size == rows.length) {
+            int capacity = size + (size >> 1);
+            rows = Arrays.copyOf(rows, capacity);
+            types = Arrays.copyOf(types, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+            details = Arrays.copyOf(details, capacity);
+        }
+        rows[size] = row;
+        types[size] = (byte) type.ordinal();
+        fields[size] = field;
+        details[size] = detail;
+        size++;
+        invalidRows.set(row);
+    }
+
+    // ---------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of violations.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether no candidate broke a rule.
+     *
+     * @return {@code true} if the report has no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether a candidate passed every rule.
+     *
+     * @param row the candidate's row
+     * @return {@code true} if the row has no entries
+     */
+    public boolean isValid(int row) {
+        return !invalidRows.get(row);
+    }
+
+    /**
+     * Returns the number of candidates with at least one violation.
+     *
+     * @return the invalid row count
+     */
+    public int getInvalidRowCount() {
+        return invalidRows.cardinality();
+    }
+
+    /**
+     * Returns the row of an entry.
+     *
+     * @param index the entry index
+     * @return the 0-based candidate row
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int getRow(int index) {
+        checkIndex(index);
+        return rows[index];
+    }
+
+    /**
+     * Returns the field of an entry: {@code "name"}, {@code "color"},
+     * {@code "dimensions"} for a wrong dimension count, or a dimension name
+     * such as {@code "radius"}.
+     *
+     * @param index the entry index
+     * @return the field name
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public String getField(int index) {
+        checkIndex(index);
+        return switch (fields[index]) {
+            case NAME -> "name";
+            case COLOR -> "color";
+            case DIMENSION_COUNT -> "dimensions";
+            default -> TYPES[types[index]].dimensionNames().get(fields[index] - FIRST_DIMENSION);
+        };
+    }
+
+    /**
+     * Returns the reason for an entry, worded as the constructors word it.
+     *
+     * @param index the entry index
+     * @return the message
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public String getReason(int index) {
+        checkIndex(index);
+        ShapeType type = TYPES[types[index]];
+        return switch (fields[index]) {
+            case NAME -> ShapeRules.NAME_MESSAGE;
+            case COLOR -> ShapeRules.COLOR_MESSAGE;
+            case DIMENSION_COUNT -> type.displayName() + " requires " + type.dimensionCount()
+                    + (type.dimensionCount() == 1 ? " dimension" : " dimensions") + " but got "
+                    + details[index] + ".";
+            default -> ShapeRules.dimensionMessage(type, fields[index] - FIRST_DIMENSION);
+        };
+    }
+
+    /**
+     * Returns one line per entry, e.g.
+     * {@code "Row 3, radius: Radius must be greater than zero."}.
+     *
+     * @return the report as text
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append("Row ").append(rows[i]).append(", ").append(getField(i)).append(": ")
+                    .append(getReason(i)).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Entry " + index + " out of range [0, " + size + ").");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.csc205.project2.shapes;
 
-import java.util.logging.Logger;
+import com.csc205.project2.logging.ShapeEvent;
+import com.csc205.project2.logging.ShapeLogger;
 
 /**
  * Represents a three-dimensional sphere defined by its radius.
@@ -26,9 +27,9 @@ import java.util.logging.Logger;
  * @see Shape3D
  * @see ThreeDimensionalShape
  */
-public class Sphere extends Shape3D {
+public final class Sphere extends Shape3D {
 
-    private static final Logger LOGGER = Logger.getLogger(Sphere.class.getName());
+    private static final ShapeLogger LOGGER = ShapeLogger.getLogger(Sphere.class);
 
     private double radius;
 
@@ -49,12 +50,16 @@ public class Sphere extends Shape3D {
      */
     public Sphere(String name, String color, double radius) {
         super(name, color);
-        if (radius <= 0) {
-            LOGGER.severe("Invalid radius (" + radius + ") for Sphere '" + name + "'.");
+        if (!ShapeRules.isValidDimension(radius)) {
+            if (LOGGER.isLoggable(ShapeEvent.CREATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.CREATE_REJECTED, "Invalid radius (" + radius + ") for Sphere '" + name + "'.");
+            }
             throw new IllegalArgumentException("Radius must be greater than zero.");
         }
         this.radius = radius;
-        LOGGER.info("Created Sphere '" + name + "' with radius=" + radius);
+        if (LOGGER.isLoggable(ShapeEvent.CREATED)) {
+            LOGGER.log(ShapeEvent.CREATED, "Created Sphere '" + name + "' with radius=" + radius);
+        }
     }
 
     // ---------------------------------------------------------------
@@ -69,7 +74,7 @@ public class Sphere extends Shape3D {
      */
     @Override
     public double calculateVolume() {
-        return (4.0 / 3.0) * Math.PI * Math.pow(radius, 3);
+        return ShapeFormulas.sphereVolume(radius);
     }
 
     /**
@@ -80,7 +85,80 @@ public class Sphere extends Shape3D {
      */
     @Override
     public double calculateSurfaceArea() {
-        return 4.0 * Math.PI * Math.pow(radius, 2);
+        return ShapeFormulas.sphereSurfaceArea(radius);
+    }
+
+    /**
+     * Calculates the bounding box of this sphere: its center plus or minus
+     * the radius on every axis. Orientation does not affect a sphere.
+     *
+     * @return the bounding box in world space
+     */
+    @Override
+    public BoundingBox calculateBounds() {
+        Placement placement = getPlacement();
+        return new BoundingBox(
+                placement.getX() - radius, placement.getY() - radius, placement.getZ() - radius,
+                placement.getX() + radius, placement.getY() + radius, placement.getZ() + radius);
+    }
+
+    /**
+     * Returns whether a point lies within the radius of this sphere's
+     * center.
+     *
+     * @param x the world {@code x} coordinate
+     * @param y the world {@code y} coordinate
+     * @param z the world {@code z} coordinate
+     * @return {@code true} if the point is inside or on the surface
+     */
+    @Override
+    public boolean contains(double x, double y, double z) {
+        Placement placement = getPlacement();
+        double dx = x - placement.getX();
+        double dy = y - placement.getY();
+        double dz = z - placement.getZ();
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Returns how far a local point lies beyond the radius.
+     *
+     * @param x the local {@code x} coordinate
+     * @param y the local {@code y} coordinate
+     * @param z the local {@code z} coordinate
+     * @return the distance, or zero inside
+     */
+    @Override
+    protected double distanceLocal(double x, double y, double z) {
+        return Math.max(0.0, Math.sqrt(x * x + y * y + z * z) - radius);
+    }
+
+    /**
+     * Intersects a local ray with this sphere by solving
+     * |o + t&middot;d|&sup2; = r&sup2; for {@code t}. The normal points from
+     * the center through the hit point.
+     *
+     * @param ox     the local ray origin {@code x}
+     * @param oy     the local ray origin {@code y}
+     * @param oz     the local ray origin {@code z}
+     * @param dx     the local ray direction {@code x}
+     * @param dy     the local ray direction {@code y}
+     * @param dz     the local ray direction {@code z}
+     * @param normal receives the local normal, or {@code null}
+     * @return the hit distance, or {@link #MISS}
+     */
+    @Override
+    protected double intersectLocal(double ox, double oy, double oz,
+                                    double dx, double dy, double dz, double[] normal) {
+        double a = dx * dx + dy * dy + dz * dz;
+        double halfB = ox * dx + oy * dy + oz * dz;
+        double c = ox * ox + oy * oy + oz * oz - radius * radius;
+        double q = quadratic(a, halfB, c);
+        double t = nearest(q / a, c / q);
+        if (t != MISS) {
+            setNormal(normal, ox + t * dx, oy + t * dy, oz + t * dz);
+        }
+        return t;
     }
 
     // ---------------------------------------------------------------
@@ -103,12 +181,17 @@ public class Sphere extends Shape3D {
      * @throws IllegalArgumentException if {@code radius} is zero or negative
      */
     public void setRadius(double radius) {
-        if (radius <= 0) {
-            LOGGER.warning("Attempted to set invalid radius (" + radius + ") on Sphere '" + getName() + "'.");
+        if (!ShapeRules.isValidDimension(radius)) {
+            if (LOGGER.isLoggable(ShapeEvent.UPDATE_REJECTED)) {
+                LOGGER.log(ShapeEvent.UPDATE_REJECTED, "Attempted to set invalid radius (" + radius + ") on Sphere '" + getName() + "'.");
+            }
             throw new IllegalArgumentException("Radius must be greater than zero.");
         }
-        LOGGER.info("Updating radius of Sphere '" + getName() + "' from " + this.radius + " to " + radius);
+        if (LOGGER.isLoggable(ShapeEvent.UPDATED)) {
+            LOGGER.log(ShapeEvent.UPDATED, "Updating radius of Sphere '" + getName() + "' from " + this.radius + " to " + radius);
+        }
         this.radius = radius;
+        invalidateDerivedValues();
     }
 
     // ---------------------------------------------------------------
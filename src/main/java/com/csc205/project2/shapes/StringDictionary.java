@@ -0,0 +1,112 @@
+package com.csc205.project2.shapes;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense integer codes to strings, so repeated names and colors are
+ * stored once and referenced by code.
+ *
+ * <p>Codes are assigned in first-seen order starting at zero and never
+ * change or get reused. Looking up a string that is already known is a
+ * single {@link ConcurrentHashMap} read; assigning a new code takes a lock.
+ * {@link #decode(int)} is lock-free, so every thread can turn codes back into
+ * strings while others keep encoding.</p>
+ *
+ * <p>Nothing is ever removed from a dictionary, so there is no process-wide
+ * instance: each store, catalog or registry owns the dictionaries for its
+ * own names and colors, and they are reclaimed together with it. Within one
+ * owner two rows have the same color exactly when their codes are equal, so
+ * a color filter can compare ints instead of strings.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Flyweight</em> — each distinct string is held once and shared by
+ *       every shape or row that uses it</li>
+ * </ul>
+ */
+public final class StringDictionary {
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+
+    /** Decoding table; replaced by a larger copy under the lock when full. */
+    private volatile String[] values = new String[16];
+
+    /** Number of assigned codes; written after the value it publishes. */
+    private volatile int size;
+
+    /**
+     * Creates an empty dictionary.
+     */
+    public StringDictionary() {
+        // starts empty
+    }
+
+    /**
+     * Returns the code of {@code value}, assigning the next code if it has
+     * not been seen before.
+     *
+     * @param value the string to encode
+     * @return its code
+     * @throws IllegalArgumentException if {@code value} is {@code null}
+     */
+    public int encode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null.");
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : assign(value);
+    }
+
+    private synchronized int assign(String value) {
+        Integer existing = codes.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        int code = size;
+        String[] table = values;
+        if (code == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+            values = table;
+        }
+        table[code] = value;
+        size = code + 1;
+        codes.put(value, code);
+        return code;
+    }
+
+    /**
+     * Returns the code of {@code value} without assigning one.
+     *
+     * @param value the string to look up
+     * @return its code, or {@code -1} if it has never been encoded
+     */
+    public int lookup(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code != null ? code : -1;
+    }
+
+    /**
+     * Returns the string with the given code.
+     *
+     * @param code a code returned by {@link #encode(String)}
+     * @return the string
+     * @throws IndexOutOfBoundsException if the code was never assigned
+     */
+    public String decode(int code) {
+        int assigned = size;
+        if (code < 0 || code >= assigned) {
+            throw new IndexOutOfBoundsException("Code " + code + " out of range [0, " + assigned + ").");
+        }
+        return values[code];
+    }
+
+    /**
+     * Returns the number of distinct strings.
+     *
+     * @return the number of assigned codes
+     */
+    public int size() {
+        return size;
+    }
+}
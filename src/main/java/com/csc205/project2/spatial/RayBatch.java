@@ -0,0 +1,180 @@
+package com.csc205.project2.spatial;
+
+import java.util.Arrays;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * A batch of rays to cast into a {@link ShapeSpatialIndex} in one call,
+ * together with the nearest hit of each.
+ *
+ * <p>Rays and results are stored as parallel primitive arrays — one array
+ * per coordinate — so a batch of a million rays is a dozen arrays rather
+ * than millions of objects. Fill the batch with {@link #setRay}, pass it to
+ * {@link ShapeSpatialIndex#raycast(RayBatch)}, then read the results by ray
+ * index. A batch can be refilled and cast again; every cast overwrites all
+ * results.</p>
+ *
+ * <p>A batch is not thread-safe, but a single cast may process its rays on
+ * several threads.</p>
+ *
+ * @see ShapeSpatialIndex#raycast(RayBatch)
+ * @see RayHit
+ */
+public final class RayBatch {
+
+    final double[] originX;
+    final double[] originY;
+    final double[] originZ;
+    final double[] directionX;
+    final double[] directionY;
+    final double[] directionZ;
+
+    final Shape3D[] shapes;
+    final double[] distances;
+    final double[] normalX;
+    final double[] normalY;
+    final double[] normalZ;
+
+    /**
+     * Creates a batch of {@code size} rays. Every ray starts at the origin
+     * and points along {@code +z} until {@link #setRay} is called.
+     *
+     * @param size the number of rays
+     * @throws IllegalArgumentException if {@code size} is negative
+     */
+    public RayBatch(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Batch size must not be negative, but got " + size + ".");
+        }
+        originX = new double[size];
+        originY = new double[size];
+        originZ = new double[size];
+        directionX = new double[size];
+        directionY = new double[size];
+        directionZ = new double[size];
+        Arrays.fill(directionZ, 1.0);
+        shapes = new Shape3D[size];
+        distances = new double[size];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        normalX = new double[size];
+        normalY = new double[size];
+        normalZ = new double[size];
+    }
+
+    /**
+     * Returns the number of rays in this batch.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return shapes.length;
+    }
+
+    /**
+     * Sets ray {@code i}.
+     *
+     * @param i  the ray index
+     * @param ox the origin {@code x}
+     * @param oy the origin {@code y}
+     * @param oz the origin {@code z}
+     * @param dx the direction {@code x}
+     * @param dy the direction {@code y}
+     * @param dz the direction {@code z}
+     * @throws IllegalArgumentException  if a coordinate is not finite or the
+     *                                   direction is zero
+     * @throws IndexOutOfBoundsException if {@code i} is not a ray index
+     */
+    public void setRay(int i, double ox, double oy, double oz, double dx, double dy, double dz) {
+        Shape3D.checkRay(ox, oy, oz, dx, dy, dz);
+        originX[i] = ox;
+        originY[i] = oy;
+        originZ[i] = oz;
+        directionX[i] = dx;
+        directionY[i] = dy;
+        directionZ[i] = dz;
+    }
+
+    // ---------------------------------------------------------------
+    // Results
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the shape ray {@code i} hit first.
+     *
+     * @param i the ray index
+     * @return the nearest shape, or {@code null} if the ray missed
+     */
+    public Shape3D getShape(int i) {
+        return shapes[i];
+    }
+
+    /**
+     * Returns how far along ray {@code i} the nearest hit is, in multiples
+     * of its direction's length.
+     *
+     * @param i the ray index
+     * @return the hit distance, or {@link Double#POSITIVE_INFINITY} if the
+     *         ray missed
+     */
+    public double getDistance(int i) {
+        return distances[i];
+    }
+
+    /**
+     * Returns the {@code x} component of the surface normal at the hit of
+     * ray {@code i}.
+     *
+     * @param i the ray index
+     * @return the normal {@code x}, or {@code 0} if the ray missed
+     */
+    public double getNormalX(int i) {
+        return normalX[i];
+    }
+
+    /**
+     * Returns the {@code y} component of the surface normal at the hit of
+     * ray {@code i}.
+     *
+     * @param i the ray index
+     * @return the normal {@code y}, or {@code 0} if the ray missed
+     */
+    public double getNormalY(int i) {
+        return normalY[i];
+    }
+
+    /**
+     * Returns the {@code z} component of the surface normal at the hit of
+     * ray {@code i}.
+     *
+     * @param i the ray index
+     * @return the normal {@code z}, or {@code 0} if the ray missed
+     */
+    public double getNormalZ(int i) {
+        return normalZ[i];
+    }
+
+    /**
+     * Returns how many rays hit a shape in the last cast.
+     *
+     * @return the number of hits
+     */
+    public int hitCount() {
+        int hits = 0;
+        for (Shape3D shape : shapes) {
+            if (shape != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /** Records the result of ray {@code i}; {@code hit} holds the distance and normal. */
+    void record(int i, Shape3D shape, double[] hit) {
+        shapes[i] = shape;
+        distances[i] = shape == null ? Double.POSITIVE_INFINITY : hit[0];
+        normalX[i] = shape == null ? 0.0 : hit[1];
+        normalY[i] = shape == null ? 0.0 : hit[2];
+        normalZ[i] = shape == null ? 0.0 : hit[3];
+    }
+}
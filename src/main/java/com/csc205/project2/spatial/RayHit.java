@@ -0,0 +1,120 @@
+package com.csc205.project2.spatial;
+
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * The nearest hit of a ray cast into a {@link ShapeSpatialIndex}: the shape
+ * that was hit, how far along the ray, and the surface normal there.
+ *
+ * <p>Instances are immutable. The hit point is derived from the ray, so it
+ * is exact to the precision of {@link Shape3D#intersect}.</p>
+ *
+ * @see ShapeSpatialIndex#raycast
+ */
+public final class RayHit {
+
+    private final Shape3D shape;
+    private final double distance;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final double normalX;
+    private final double normalY;
+    private final double normalZ;
+
+    RayHit(Shape3D shape, double distance, double x, double y, double z,
+           double normalX, double normalY, double normalZ) {
+        this.shape = shape;
+        this.distance = distance;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.normalZ = normalZ;
+    }
+
+    /**
+     * Returns the shape that was hit.
+     *
+     * @return the nearest shape along the ray
+     */
+    public Shape3D getShape() {
+        return shape;
+    }
+
+    /**
+     * Returns the hit distance in multiples of the ray direction's length.
+     *
+     * @return the distance along the ray
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Returns the {@code x} coordinate of the hit point.
+     *
+     * @return the hit point {@code x}
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Returns the {@code y} coordinate of the hit point.
+     *
+     * @return the hit point {@code y}
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Returns the {@code z} coordinate of the hit point.
+     *
+     * @return the hit point {@code z}
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Returns the {@code x} component of the outward unit surface normal.
+     *
+     * @return the normal {@code x}
+     */
+    public double getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Returns the {@code y} component of the outward unit surface normal.
+     *
+     * @return the normal {@code y}
+     */
+    public double getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * Returns the {@code z} component of the outward unit surface normal.
+     *
+     * @return the normal {@code z}
+     */
+    public double getNormalZ() {
+        return normalZ;
+    }
+
+    /**
+     * Returns the shape name, distance, hit point and normal.
+     *
+     * @return a human-readable description of this hit
+     */
+    @Override
+    public String toString() {
+        return "RayHit {shape=" + shape.getName() + ", distance=" + distance
+                + ", point=(" + x + ", " + y + ", " + z
+                + "), normal=(" + normalX + ", " + normalY + ", " + normalZ + ")}";
+    }
+}
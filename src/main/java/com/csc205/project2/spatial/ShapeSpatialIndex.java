@@ -0,0 +1,1031 @@
+package com.csc205.project2.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+import com.csc205.project2.shapes.BoundingBox;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeChangeListener;
+
+/**
+ * Bounding-volume hierarchy over the {@link Shape3D#getBounds() bounding
+ * boxes} of placed shapes.
+ *
+ * <p>The hierarchy is a binary tree: every leaf holds one shape and its box,
+ * and every inner node holds the union of its two children's boxes. Region,
+ * point and nearest queries descend only into nodes whose box can still
+ * contain an answer, so on a tree of height {@code O(log n)} they visit
+ * {@code O(log n + k)} nodes for {@code k} results instead of testing every
+ * shape.</p>
+ *
+ * <p>There are two ways to fill the index:</p>
+ * <ul>
+ *   <li>{@link #build} sorts a whole collection top-down, splitting each
+ *       range at the median of the box centers along its widest axis. The
+ *       two halves of a large range are built in parallel on the common
+ *       {@link ForkJoinPool}, and the result is perfectly balanced.</li>
+ *   <li>{@link #add} and {@link #remove} update the tree one shape at a
+ *       time. A new leaf is paired with the sibling that grows the total
+ *       box surface area least, and the path back to the root is
+ *       rebalanced with tree rotations so the height stays logarithmic
+ *       whatever the insertion order.</li>
+ * </ul>
+ *
+ * <p>{@link #intersecting} tests bounding boxes only: it returns every
+ * shape whose box meets the region, which may include shapes whose actual
+ * surface does not. {@link #containing}, {@link #nearest} and
+ * {@link #raycast} are exact: they use the boxes to find the few candidate
+ * shapes and then test the point with {@link Shape3D#contains}, measure it
+ * with {@link Shape3D#distanceTo} or intersect the ray with the actual
+ * surfaces.</p>
+ *
+ * <p>Nodes live in parallel primitive arrays indexed by node number rather
+ * than as objects, so a tree over millions of shapes is a handful of large
+ * arrays the garbage collector never has to trace. Freed nodes are chained
+ * into a free list and reused.</p>
+ *
+ * <p>The index registers a {@link ShapeChangeListener} on every shape it
+ * holds, so resizing or moving an indexed shape re-files it under its new
+ * box. Like {@link com.csc205.project2.index.ShapeRangeIndex}, instances are
+ * not thread-safe: shapes must be changed on the thread that owns the index,
+ * and {@link #clear()} detaches the index from its shapes.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Composite</em> — inner nodes bound their subtrees the way
+ *       leaves bound their shapes</li>
+ *   <li><em>Observer</em> — shapes push size and placement changes to the
+ *       index</li>
+ *   <li><em>Fork/join</em> — independent subtrees of a bulk build are
+ *       built on separate threads</li>
+ * </ul>
+ *
+ * @see BoundingBox
+ * @see com.csc205.project2.shapes.Placement
+ */
+public final class ShapeSpatialIndex {
+
+    private static final int NULL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Ranges at least this long are split across fork/join tasks during a bulk build. */
+    private static final int PARALLEL_THRESHOLD = 8_192;
+
+    /** Rays per parallel chunk of a batch {@link #raycast(RayBatch)}. */
+    private static final int RAY_CHUNK = 256;
+
+    /** Per node: the box as six consecutive doubles {@code minX..minZ, maxX..maxZ}. */
+    private double[] boxes;
+    private int[] parents;
+    private int[] firstChildren;
+    private int[] secondChildren;
+    /** Height of the subtree; {@code 0} for a leaf, {@code -1} for a free node. */
+    private int[] heights;
+    /** The shape held by a leaf, {@code null} for inner and free nodes. */
+    private Shape3D[] leafShapes;
+
+    private int root = NULL;
+    private int nodeCount;
+    private int freeList = NULL;
+
+    private final Map<Shape3D, Integer> leavesByShape;
+
+    private final ShapeChangeListener listener = new ShapeChangeListener() {
+        @Override
+        public void dimensionsChanged(Shape3D shape) {
+            refresh(shape);
+        }
+
+        @Override
+        public void placementChanged(Shape3D shape) {
+            refresh(shape);
+        }
+    };
+
+    /**
+     * Creates an empty index.
+     */
+    public ShapeSpatialIndex() {
+        this(INITIAL_CAPACITY, new IdentityHashMap<>());
+    }
+
+    private ShapeSpatialIndex(int capacity, Map<Shape3D, Integer> leavesByShape) {
+        this.leavesByShape = leavesByShape;
+        boxes = new double[capacity * 6];
+        parents = new int[capacity];
+        firstChildren = new int[capacity];
+        secondChildren = new int[capacity];
+        heights = new int[capacity];
+        leafShapes = new Shape3D[capacity];
+    }
+
+    // ---------------------------------------------------------------
+    // Bulk build
+    // ---------------------------------------------------------------
+
+    /**
+     * Builds a balanced index over the given shapes. The bounding boxes are
+     * computed and the tree is built in parallel; a shape that appears more
+     * than once is indexed once.
+     *
+     * @param shapes the shapes to index
+     * @return the new index
+     * @throws IllegalArgumentException if a shape is {@code null} or its
+     *                                  bounding box is not finite
+     */
+    public static ShapeSpatialIndex build(Collection<? extends Shape3D> shapes) {
+        // The leaf map doubles as the duplicate filter; its values are
+        // replaced by leaf node numbers once the tree is built.
+        Map<Shape3D, Integer> leaves = new IdentityHashMap<>(shapes.size());
+        List<Shape3D> distinct = new ArrayList<>(shapes.size());
+        for (Shape3D shape : shapes) {
+            if (shape == null) {
+                throw new IllegalArgumentException("Shape must not be null.");
+            }
+            if (leaves.putIfAbsent(shape, NULL) == null) {
+                distinct.add(shape);
+            }
+        }
+        int count = distinct.size();
+        ShapeSpatialIndex index = new ShapeSpatialIndex(Math.max(INITIAL_CAPACITY, 2 * count - 1), leaves);
+        if (count == 0) {
+            return index;
+        }
+
+        Shape3D[] items = distinct.toArray(new Shape3D[0]);
+        double[] itemBoxes = new double[count * 6];
+        double[][] centers = new double[3][count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            BoundingBox box = checkedBounds(items[i]);
+            copyBox(box, itemBoxes, i);
+            centers[0][i] = (box.getMinX() + box.getMaxX()) / 2;
+            centers[1][i] = (box.getMinY() + box.getMaxY()) / 2;
+            centers[2][i] = (box.getMinZ() + box.getMaxZ()) / 2;
+        });
+
+        int[] order = new int[count];
+        Arrays.setAll(order, i -> i);
+        BuildTask task = index.new BuildTask(items, itemBoxes, centers, order, 0, count, 0, NULL);
+        if (count >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+        index.root = 0;
+        index.nodeCount = 2 * count - 1;
+
+        for (int node = 0; node < index.nodeCount; node++) {
+            Shape3D shape = index.leafShapes[node];
+            if (shape != null) {
+                leaves.put(shape, node);
+                shape.addChangeListener(index.listener);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Builds the subtree for items {@code [from, to)} into the node block
+     * starting at {@code node}. A range of {@code n} items uses exactly
+     * {@code 2n - 1} nodes: the node itself, then the left subtree, then the
+     * right subtree. Every task therefore knows its node numbers in advance
+     * and writes a disjoint part of the arrays.
+     *
+     * <p>The three center arrays are permuted together with {@code order},
+     * so the median selection reads one contiguous array per axis instead of
+     * chasing item numbers. Ranges below {@link #PARALLEL_THRESHOLD} recurse
+     * directly without creating further tasks.</p>
+     */
+    private final class BuildTask extends RecursiveAction {
+
+        private final Shape3D[] items;
+        private final double[] itemBoxes;
+        private final double[][] centers;
+        private final int[] order;
+        private final int from;
+        private final int to;
+        private final int node;
+        private final int parent;
+
+        BuildTask(Shape3D[] items, double[] itemBoxes, double[][] centers, int[] order,
+                  int from, int to, int node, int parent) {
+            this.items = items;
+            this.itemBoxes = itemBoxes;
+            this.centers = centers;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.node = node;
+            this.parent = parent;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                build(from, to, node, parent);
+                return;
+            }
+            parents[node] = parent;
+            int mid = split(from, to);
+            int left = node + 1;
+            int right = node + 2 * (mid - from);
+            invokeAll(new BuildTask(items, itemBoxes, centers, order, from, mid, left, node),
+                    new BuildTask(items, itemBoxes, centers, order, mid, to, right, node));
+            join(node, left, right);
+        }
+
+        private void build(int from, int to, int node, int parent) {
+            parents[node] = parent;
+            if (to - from == 1) {
+                int item = order[from];
+                System.arraycopy(itemBoxes, item * 6, boxes, node * 6, 6);
+                firstChildren[node] = NULL;
+                secondChildren[node] = NULL;
+                heights[node] = 0;
+                leafShapes[node] = items[item];
+                return;
+            }
+            int mid = split(from, to);
+            int left = node + 1;
+            int right = node + 2 * (mid - from);
+            build(from, mid, left, node);
+            build(mid, to, right, node);
+            join(node, left, right);
+        }
+
+        private void join(int node, int left, int right) {
+            firstChildren[node] = left;
+            secondChildren[node] = right;
+            heights[node] = 1 + Math.max(heights[left], heights[right]);
+            unionInto(node, left, right);
+        }
+
+        /** Partitions {@code [from, to)} about the median center on its widest axis. */
+        private int split(int from, int to) {
+            int mid = (from + to) >>> 1;
+            selectMedian(centers[widestCenterAxis(from, to)], from, to, mid);
+            return mid;
+        }
+
+        private int widestCenterAxis(int from, int to) {
+            int widest = 0;
+            double widestExtent = -1.0;
+            for (int axis = 0; axis < 3; axis++) {
+                double[] c = centers[axis];
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = from; i < to; i++) {
+                    min = Math.min(min, c[i]);
+                    max = Math.max(max, c[i]);
+                }
+                if (max - min > widestExtent) {
+                    widestExtent = max - min;
+                    widest = axis;
+                }
+            }
+            return widest;
+        }
+
+        /**
+         * Reorders {@code [from, to)} so the item with the {@code k}-th
+         * smallest key is at {@code k}, with smaller keys before it and
+         * larger ones after (Hoare selection).
+         */
+        private void selectMedian(double[] keys, int from, int to, int k) {
+            int left = from;
+            int right = to - 1;
+            while (right > left) {
+                double pivot = keys[(left + right) >>> 1];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (keys[i] < pivot) {
+                        i++;
+                    }
+                    while (keys[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void swap(int i, int j) {
+            int item = order[i];
+            order[i] = order[j];
+            order[j] = item;
+            for (double[] c : centers) {
+                double value = c[i];
+                c[i] = c[j];
+                c[j] = value;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Updates
+    // ---------------------------------------------------------------
+
+    /**
+     * Adds a shape to the index.
+     *
+     * @param shape the shape to add
+     * @return {@code true} if the shape was added, {@code false} if this
+     *         exact instance is already indexed
+     * @throws IllegalArgumentException if {@code shape} is {@code null} or
+     *                                  its bounding box is not finite
+     */
+    public boolean add(Shape3D shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        if (leavesByShape.containsKey(shape)) {
+            return false;
+        }
+        BoundingBox box = checkedBounds(shape);
+        int leaf = allocateNode();
+        copyBox(box, boxes, leaf);
+        heights[leaf] = 0;
+        leafShapes[leaf] = shape;
+        insertLeaf(leaf);
+        leavesByShape.put(shape, leaf);
+        shape.addChangeListener(listener);
+        return true;
+    }
+
+    /**
+     * Removes a shape from the index.
+     *
+     * @param shape the shape to remove
+     * @return {@code true} if the shape was indexed
+     */
+    public boolean remove(Shape3D shape) {
+        Integer leaf = leavesByShape.remove(shape);
+        if (leaf == null) {
+            return false;
+        }
+        shape.removeChangeListener(listener);
+        removeLeaf(leaf);
+        freeNode(leaf);
+        return true;
+    }
+
+    /**
+     * Removes every shape and detaches the index from them.
+     */
+    public void clear() {
+        for (Shape3D shape : leavesByShape.keySet()) {
+            shape.removeChangeListener(listener);
+        }
+        leavesByShape.clear();
+        Arrays.fill(leafShapes, 0, nodeCount, null);
+        root = NULL;
+        nodeCount = 0;
+        freeList = NULL;
+    }
+
+    /**
+     * Re-files an indexed shape under its current bounding box. Called
+     * automatically when a dimension setter or
+     * {@link Shape3D#setPlacement} runs.
+     *
+     * @param shape the shape to refresh
+     * @throws IllegalArgumentException if the shape's new bounding box is not
+     *                                  finite; the shape is then no longer
+     *                                  indexed
+     */
+    public void refresh(Shape3D shape) {
+        Integer leaf = leavesByShape.get(shape);
+        if (leaf == null) {
+            return;
+        }
+        removeLeaf(leaf);
+        BoundingBox box = shape.getBounds();
+        if (!box.isFinite()) {
+            leavesByShape.remove(shape);
+            shape.removeChangeListener(listener);
+            freeNode(leaf);
+            throw new IllegalArgumentException("Shape '" + shape.getName() + "' has no finite bounding box.");
+        }
+        copyBox(box, boxes, leaf);
+        insertLeaf(leaf);
+    }
+
+    private int allocateNode() {
+        if (freeList != NULL) {
+            int node = freeList;
+            freeList = parents[node];
+            return node;
+        }
+        if (nodeCount == parents.length) {
+            int capacity = parents.length * 2;
+            boxes = Arrays.copyOf(boxes, capacity * 6);
+            parents = Arrays.copyOf(parents, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            secondChildren = Arrays.copyOf(secondChildren, capacity);
+            heights = Arrays.copyOf(heights, capacity);
+            leafShapes = Arrays.copyOf(leafShapes, capacity);
+        }
+        return nodeCount++;
+    }
+
+    /** Returns a node to the free list, which is chained through {@code parents}. */
+    private void freeNode(int node) {
+        leafShapes[node] = null;
+        heights[node] = -1;
+        parents[node] = freeList;
+        freeList = node;
+    }
+
+    private void insertLeaf(int leaf) {
+        firstChildren[leaf] = NULL;
+        secondChildren[leaf] = NULL;
+        if (root == NULL) {
+            root = leaf;
+            parents[leaf] = NULL;
+            return;
+        }
+
+        // Descend towards the sibling whose pairing costs least, where cost is
+        // the surface area of the new parent plus the growth of every ancestor.
+        int index = root;
+        while (!isLeaf(index)) {
+            int first = firstChildren[index];
+            int second = secondChildren[index];
+            double area = surfaceArea(index);
+            double combinedArea = unionArea(index, leaf);
+            double cost = 2.0 * combinedArea;
+            double inheritanceCost = 2.0 * (combinedArea - area);
+            double firstCost = descendCost(first, leaf) + inheritanceCost;
+            double secondCost = descendCost(second, leaf) + inheritanceCost;
+            if (cost < firstCost && cost < secondCost) {
+                break;
+            }
+            index = firstCost < secondCost ? first : second;
+        }
+        int sibling = index;
+
+        int oldParent = parents[sibling];
+        int newParent = allocateNode();
+        leafShapes[newParent] = null;
+        parents[newParent] = oldParent;
+        unionInto(newParent, sibling, leaf);
+        heights[newParent] = heights[sibling] + 1;
+        firstChildren[newParent] = sibling;
+        secondChildren[newParent] = leaf;
+        parents[sibling] = newParent;
+        parents[leaf] = newParent;
+        if (oldParent == NULL) {
+            root = newParent;
+        } else if (firstChildren[oldParent] == sibling) {
+            firstChildren[oldParent] = newParent;
+        } else {
+            secondChildren[oldParent] = newParent;
+        }
+        refitFrom(parents[leaf]);
+    }
+
+    private double descendCost(int child, int leaf) {
+        double combined = unionArea(child, leaf);
+        return isLeaf(child) ? combined : combined - surfaceArea(child);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NULL;
+            return;
+        }
+        int parent = parents[leaf];
+        int grandParent = parents[parent];
+        int sibling = firstChildren[parent] == leaf ? secondChildren[parent] : firstChildren[parent];
+        if (grandParent == NULL) {
+            root = sibling;
+            parents[sibling] = NULL;
+            freeNode(parent);
+            return;
+        }
+        if (firstChildren[grandParent] == parent) {
+            firstChildren[grandParent] = sibling;
+        } else {
+            secondChildren[grandParent] = sibling;
+        }
+        parents[sibling] = grandParent;
+        freeNode(parent);
+        refitFrom(grandParent);
+    }
+
+    /** Rebalances and recomputes boxes and heights from {@code node} up to the root. */
+    private void refitFrom(int node) {
+        while (node != NULL) {
+            node = balance(node);
+            int first = firstChildren[node];
+            int second = secondChildren[node];
+            heights[node] = 1 + Math.max(heights[first], heights[second]);
+            unionInto(node, first, second);
+            node = parents[node];
+        }
+    }
+
+    /**
+     * Rotates the taller grandchild of {@code a} up if its children's heights
+     * differ by more than one, and returns the node now at {@code a}'s
+     * position.
+     */
+    private int balance(int a) {
+        if (isLeaf(a) || heights[a] < 2) {
+            return a;
+        }
+        int b = firstChildren[a];
+        int c = secondChildren[a];
+        int difference = heights[c] - heights[b];
+        if (difference > 1) {
+            rotateUp(a, c, b, false);
+            return c;
+        }
+        if (difference < -1) {
+            rotateUp(a, b, c, true);
+            return b;
+        }
+        return a;
+    }
+
+    /**
+     * Makes {@code up}, a child of {@code a}, the parent of {@code a}.
+     * {@code up} keeps its taller child; its shorter child replaces
+     * {@code up} under {@code a}, next to {@code other}.
+     */
+    private void rotateUp(int a, int up, int other, boolean upWasFirst) {
+        int f = firstChildren[up];
+        int g = secondChildren[up];
+
+        firstChildren[up] = a;
+        parents[up] = parents[a];
+        parents[a] = up;
+        int upParent = parents[up];
+        if (upParent == NULL) {
+            root = up;
+        } else if (firstChildren[upParent] == a) {
+            firstChildren[upParent] = up;
+        } else {
+            secondChildren[upParent] = up;
+        }
+
+        int keep = heights[f] > heights[g] ? f : g;
+        int move = keep == f ? g : f;
+        secondChildren[up] = keep;
+        if (upWasFirst) {
+            firstChildren[a] = move;
+        } else {
+            secondChildren[a] = move;
+        }
+        parents[move] = a;
+
+        unionInto(a, other, move);
+        unionInto(up, a, keep);
+        heights[a] = 1 + Math.max(heights[other], heights[move]);
+        heights[up] = 1 + Math.max(heights[a], heights[keep]);
+    }
+
+    // ---------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of indexed shapes.
+     *
+     * @return the shape count
+     */
+    public int size() {
+        return leavesByShape.size();
+    }
+
+    /**
+     * Returns whether this exact shape instance is indexed.
+     *
+     * @param shape the shape to look up
+     * @return {@code true} if it is indexed
+     */
+    public boolean contains(Shape3D shape) {
+        return leavesByShape.containsKey(shape);
+    }
+
+    /**
+     * Returns the height of the tree: {@code 0} for one shape, about
+     * {@code log2(size())} for a balanced tree, and {@code -1} when empty.
+     *
+     * @return the tree height
+     */
+    public int height() {
+        return root == NULL ? -1 : heights[root];
+    }
+
+    /**
+     * Returns the box around every indexed shape.
+     *
+     * @return the overall bounding box, or {@code null} if the index is empty
+     */
+    public BoundingBox getBounds() {
+        if (root == NULL) {
+            return null;
+        }
+        int base = root * 6;
+        return BoundingBox.of(boxes[base], boxes[base + 1], boxes[base + 2],
+                boxes[base + 3], boxes[base + 4], boxes[base + 5]);
+    }
+
+    /**
+     * Returns every shape whose bounding box intersects {@code region}.
+     *
+     * @param region the region to search
+     * @return an unmodifiable list of the matching shapes, in no particular
+     *         order
+     * @throws IllegalArgumentException if {@code region} is {@code null}
+     */
+    public List<Shape3D> intersecting(BoundingBox region) {
+        if (region == null) {
+            throw new IllegalArgumentException("Region must not be null.");
+        }
+        return search(region.getMinX(), region.getMinY(), region.getMinZ(),
+                region.getMaxX(), region.getMaxY(), region.getMaxZ(), false);
+    }
+
+    /**
+     * Returns every shape that contains the given point, surface included.
+     * Boxes select the candidates and each one is confirmed with
+     * {@link Shape3D#contains}, so a point in a sphere's box but outside
+     * the sphere does not match it.
+     *
+     * @param x the point {@code x}
+     * @param y the point {@code y}
+     * @param z the point {@code z}
+     * @return an unmodifiable list of the matching shapes, in no particular
+     *         order
+     */
+    public List<Shape3D> containing(double x, double y, double z) {
+        return search(x, y, z, x, y, z, true);
+    }
+
+    /**
+     * Collects the leaves whose box meets the region; with {@code exact},
+     * the region is a point and each leaf's shape must also contain it.
+     */
+    private List<Shape3D> search(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                                 boolean exact) {
+        List<Shape3D> result = new ArrayList<>();
+        if (root == NULL) {
+            return Collections.unmodifiableList(result);
+        }
+        int[] stack = new int[heights[root] + 2];
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            int node = stack[--top];
+            int base = node * 6;
+            if (boxes[base] > maxX || boxes[base + 3] < minX
+                    || boxes[base + 1] > maxY || boxes[base + 4] < minY
+                    || boxes[base + 2] > maxZ || boxes[base + 5] < minZ) {
+                continue;
+            }
+            if (isLeaf(node)) {
+                if (!exact || leafShapes[node].contains(minX, minY, minZ)) {
+                    result.add(leafShapes[node]);
+                }
+            } else {
+                stack[top++] = firstChildren[node];
+                stack[top++] = secondChildren[node];
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the shape closest to the given point, measured to the actual
+     * solid with {@link Shape3D#distanceTo}. A point inside one or more
+     * shapes is at distance zero from each of them; ties are broken
+     * arbitrarily.
+     *
+     * <p>A box is never farther than the shape it bounds, so box distances
+     * order the descent and prune every subtree whose box is farther than
+     * the best shape found so far; only leaves that survive are measured
+     * exactly.</p>
+     *
+     * @param x the point {@code x}
+     * @param y the point {@code y}
+     * @param z the point {@code z}
+     * @return the nearest shape, or {@code null} if the index is empty
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public Shape3D nearest(double x, double y, double z) {
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(z)) {
+            throw new IllegalArgumentException("Point must be finite.");
+        }
+        if (root == NULL) {
+            return null;
+        }
+        int[] stack = new int[heights[root] + 2];
+        double[] distances = new double[stack.length];
+        int top = 0;
+        stack[top] = root;
+        distances[top++] = distanceSquared(root, x, y, z);
+        double best = Double.POSITIVE_INFINITY;
+        int bestLeaf = NULL;
+        while (top > 0) {
+            int node = stack[--top];
+            if (bestLeaf != NULL && distances[top] >= best) {
+                continue;
+            }
+            if (isLeaf(node)) {
+                double distance = leafShapes[node].distanceTo(x, y, z);
+                if (bestLeaf == NULL || distance * distance < best) {
+                    best = distance * distance;
+                    bestLeaf = node;
+                }
+                continue;
+            }
+            // Push the farther child first so the nearer one is searched first
+            // and tightens the bound before the farther one is popped.
+            int first = firstChildren[node];
+            int second = secondChildren[node];
+            double firstDistance = distanceSquared(first, x, y, z);
+            double secondDistance = distanceSquared(second, x, y, z);
+            if (firstDistance < secondDistance) {
+                stack[top] = second;
+                distances[top++] = secondDistance;
+                stack[top] = first;
+                distances[top++] = firstDistance;
+            } else {
+                stack[top] = first;
+                distances[top++] = firstDistance;
+                stack[top] = second;
+                distances[top++] = secondDistance;
+            }
+        }
+        return leafShapes[bestLeaf];
+    }
+
+    // ---------------------------------------------------------------
+    // Ray casting
+    // ---------------------------------------------------------------
+
+    /**
+     * Casts a ray into the index and returns the nearest shape surface it
+     * hits.
+     *
+     * <p>Unlike the other queries, the answer is exact: boxes only prune
+     * the search, and each candidate shape is tested with
+     * {@link Shape3D#intersect}. Subtrees are visited front to back and
+     * skipped once a closer hit is known, so a ray typically tests a few
+     * dozen boxes and a handful of shapes whatever the size of the index.</p>
+     *
+     * @param ox the ray origin {@code x}
+     * @param oy the ray origin {@code y}
+     * @param oz the ray origin {@code z}
+     * @param dx the ray direction {@code x}
+     * @param dy the ray direction {@code y}
+     * @param dz the ray direction {@code z}
+     * @return the nearest hit, or {@code null} if the ray hits nothing
+     * @throws IllegalArgumentException if a coordinate is not finite or the
+     *                                  direction is zero
+     */
+    public RayHit raycast(double ox, double oy, double oz, double dx, double dy, double dz) {
+        Shape3D.checkRay(ox, oy, oz, dx, dy, dz);
+        if (root == NULL) {
+            return null;
+        }
+        double[] hit = new double[4];
+        int leaf = trace(ox, oy, oz, dx, dy, dz,
+                new int[heights[root] + 2], new double[heights[root] + 2], new double[3], hit);
+        if (leaf == NULL) {
+            return null;
+        }
+        double t = hit[0];
+        return new RayHit(leafShapes[leaf], t, ox + t * dx, oy + t * dy, oz + t * dz, hit[1], hit[2], hit[3]);
+    }
+
+    /**
+     * Casts every ray of a batch into the index and stores each nearest hit
+     * in the batch.
+     *
+     * <p>Rays are traced in chunks of {@value #RAY_CHUNK} on the common
+     * {@link ForkJoinPool}. Each chunk reuses one traversal stack, so a cast
+     * allocates a few small arrays per chunk rather than any per ray. The
+     * index must not be modified while the cast runs.</p>
+     *
+     * @param rays the rays to cast; receives the results
+     * @throws IllegalArgumentException if {@code rays} is {@code null}
+     */
+    public void raycast(RayBatch rays) {
+        if (rays == null) {
+            throw new IllegalArgumentException("Ray batch must not be null.");
+        }
+        int count = rays.size();
+        if (root == NULL) {
+            for (int i = 0; i < count; i++) {
+                rays.record(i, null, null);
+            }
+            return;
+        }
+        int stackSize = heights[root] + 2;
+        int chunks = (count + RAY_CHUNK - 1) / RAY_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] stack = new int[stackSize];
+            double[] entries = new double[stackSize];
+            double[] normal = new double[3];
+            double[] hit = new double[4];
+            int end = Math.min(count, (chunk + 1) * RAY_CHUNK);
+            for (int i = chunk * RAY_CHUNK; i < end; i++) {
+                int leaf = trace(rays.originX[i], rays.originY[i], rays.originZ[i],
+                        rays.directionX[i], rays.directionY[i], rays.directionZ[i], stack, entries, normal, hit);
+                rays.record(i, leaf == NULL ? null : leafShapes[leaf], hit);
+            }
+        });
+    }
+
+    /**
+     * Finds the leaf whose shape the ray hits first. On a hit, {@code hit}
+     * receives the distance followed by the normal; {@code normal} is
+     * scratch space for {@link Shape3D#intersect}.
+     *
+     * @return the leaf, or {@link #NULL} on a miss
+     */
+    private int trace(double ox, double oy, double oz, double dx, double dy, double dz,
+                      int[] stack, double[] entries, double[] normal, double[] hit) {
+        // Division by a zero component gives an infinite slab, which is
+        // what a ray parallel to the slab needs.
+        double ix = 1.0 / dx;
+        double iy = 1.0 / dy;
+        double iz = 1.0 / dz;
+        double best = Double.POSITIVE_INFINITY;
+        int bestLeaf = NULL;
+        int top = 0;
+        double rootEntry = entryDistance(root, ox, oy, oz, ix, iy, iz, best);
+        if (rootEntry == Double.POSITIVE_INFINITY) {
+            return NULL;
+        }
+        stack[top] = root;
+        entries[top++] = rootEntry;
+        while (top > 0) {
+            int node = stack[--top];
+            if (entries[top] > best) {
+                continue;
+            }
+            if (isLeaf(node)) {
+                double t = leafShapes[node].intersect(ox, oy, oz, dx, dy, dz, normal);
+                if (t < best) {
+                    best = t;
+                    bestLeaf = node;
+                    hit[0] = t;
+                    hit[1] = normal[0];
+                    hit[2] = normal[1];
+                    hit[3] = normal[2];
+                }
+                continue;
+            }
+            // Push the farther child first so the nearer one is traced
+            // first and can rule the farther one out.
+            int first = firstChildren[node];
+            int second = secondChildren[node];
+            double firstEntry = entryDistance(first, ox, oy, oz, ix, iy, iz, best);
+            double secondEntry = entryDistance(second, ox, oy, oz, ix, iy, iz, best);
+            if (firstEntry > secondEntry) {
+                int swapNode = first;
+                first = second;
+                second = swapNode;
+                double swapEntry = firstEntry;
+                firstEntry = secondEntry;
+                secondEntry = swapEntry;
+            }
+            if (secondEntry != Double.POSITIVE_INFINITY) {
+                stack[top] = second;
+                entries[top++] = secondEntry;
+            }
+            if (firstEntry != Double.POSITIVE_INFINITY) {
+                stack[top] = first;
+                entries[top++] = firstEntry;
+            }
+        }
+        return bestLeaf;
+    }
+
+    /**
+     * Returns where a ray enters a node's box, clamped to {@code 0} for a
+     * ray that starts inside, or positive infinity if it misses the box or enters
+     * beyond {@code limit}. Slabs the ray runs exactly along give
+     * {@code NaN} distances; they are ignored, which keeps the test
+     * conservative.
+     */
+    private double entryDistance(int node, double ox, double oy, double oz,
+                                 double ix, double iy, double iz, double limit) {
+        int base = node * 6;
+        double enter = 0.0;
+        double exit = limit;
+        double near = ((ix >= 0.0 ? boxes[base] : boxes[base + 3]) - ox) * ix;
+        double far = ((ix >= 0.0 ? boxes[base + 3] : boxes[base]) - ox) * ix;
+        if (near > enter) {
+            enter = near;
+        }
+        if (far < exit) {
+            exit = far;
+        }
+        near = ((iy >= 0.0 ? boxes[base + 1] : boxes[base + 4]) - oy) * iy;
+        far = ((iy >= 0.0 ? boxes[base + 4] : boxes[base + 1]) - oy) * iy;
+        if (near > enter) {
+            enter = near;
+        }
+        if (far < exit) {
+            exit = far;
+        }
+        near = ((iz >= 0.0 ? boxes[base + 2] : boxes[base + 5]) - oz) * iz;
+        far = ((iz >= 0.0 ? boxes[base + 5] : boxes[base + 2]) - oz) * iz;
+        if (near > enter) {
+            enter = near;
+        }
+        if (far < exit) {
+            exit = far;
+        }
+        return enter <= exit ? enter : Double.POSITIVE_INFINITY;
+    }
+
+    // ---------------------------------------------------------------
+    // Node helpers
+    // ---------------------------------------------------------------
+
+    private boolean isLeaf(int node) {
+        return firstChildren[node] == NULL;
+    }
+
+    private double surfaceArea(int node) {
+        int base = node * 6;
+        double dx = boxes[base + 3] - boxes[base];
+        double dy = boxes[base + 4] - boxes[base + 1];
+        double dz = boxes[base + 5] - boxes[base + 2];
+        return 2.0 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    private double unionArea(int a, int b) {
+        int ba = a * 6;
+        int bb = b * 6;
+        double dx = Math.max(boxes[ba + 3], boxes[bb + 3]) - Math.min(boxes[ba], boxes[bb]);
+        double dy = Math.max(boxes[ba + 4], boxes[bb + 4]) - Math.min(boxes[ba + 1], boxes[bb + 1]);
+        double dz = Math.max(boxes[ba + 5], boxes[bb + 5]) - Math.min(boxes[ba + 2], boxes[bb + 2]);
+        return 2.0 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    private void unionInto(int target, int a, int b) {
+        int bt = target * 6;
+        int ba = a * 6;
+        int bb = b * 6;
+        for (int i = 0; i < 3; i++) {
+            boxes[bt + i] = Math.min(boxes[ba + i], boxes[bb + i]);
+            boxes[bt + 3 + i] = Math.max(boxes[ba + 3 + i], boxes[bb + 3 + i]);
+        }
+    }
+
+    private double distanceSquared(int node, double x, double y, double z) {
+        int base = node * 6;
+        double dx = Math.max(0.0, Math.max(boxes[base] - x, x - boxes[base + 3]));
+        double dy = Math.max(0.0, Math.max(boxes[base + 1] - y, y - boxes[base + 4]));
+        double dz = Math.max(0.0, Math.max(boxes[base + 2] - z, z - boxes[base + 5]));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static BoundingBox checkedBounds(Shape3D shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape must not be null.");
+        }
+        BoundingBox box = shape.getBounds();
+        if (!box.isFinite()) {
+            throw new IllegalArgumentException("Shape '" + shape.getName() + "' has no finite bounding box.");
+        }
+        return box;
+    }
+
+    private static void copyBox(BoundingBox box, double[] target, int slot) {
+        int base = slot * 6;
+        target[base] = box.getMinX();
+        target[base + 1] = box.getMinY();
+        target[base + 2] = box.getMinZ();
+        target[base + 3] = box.getMaxX();
+        target[base + 4] = box.getMaxY();
+        target[base + 5] = box.getMaxZ();
+    }
+}
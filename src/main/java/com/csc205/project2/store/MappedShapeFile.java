@@ -0,0 +1,341 @@
+package com.csc205.project2.store;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeFormulas;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Read-only view of a {@link ShapeFileFormat} file, memory-mapped with
+ * {@link FileChannel#map(FileChannel.MapMode, long, long, Arena)}.
+ *
+ * <p>Opening a file only maps it and validates the header, so the cost does
+ * not depend on the number of shapes. Values are read from the mapping on
+ * demand: {@link #dimensionColumn(ShapeType, int)} returns a slice of the
+ * mapped file rather than a copy, and names and colors are decoded from the
+ * dictionary only when asked for. {@link #toShape(ShapeType, long)} and
+ * {@link #toList()} materialise regular {@code Shape3D} objects when they
+ * are needed.</p>
+ *
+ * <p>Rows are addressed by type and row, in the order they were written,
+ * as in {@link ShapeStore}. Instances are safe to read from several threads.
+ * {@link #close()} unmaps the file; any later access fails with
+ * {@link IllegalStateException}.</p>
+ *
+ * @see ShapeFileWriter
+ */
+public final class MappedShapeFile implements AutoCloseable {
+
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final long shapeCount;
+    private final long[] sectionOffsets = new long[TYPES.length];
+    private final long[] sectionRows = new long[TYPES.length];
+    private final int stringCount;
+    private final long stringOffsetsStart;
+    private final long stringBytesStart;
+
+    private MappedShapeFile(Arena arena, MemorySegment segment) throws IOException {
+        this.arena = arena;
+        this.segment = segment;
+
+        long length = segment.byteSize();
+        if (length < ShapeFileFormat.HEADER_BYTES || segment.get(ShapeFileFormat.INT, 0) != ShapeFileFormat.MAGIC) {
+            throw new IOException("Not a shape file.");
+        }
+        int version = segment.get(ShapeFileFormat.INT, ShapeFileFormat.VERSION_OFFSET);
+        if (version != ShapeFileFormat.VERSION) {
+            throw new IOException("Unsupported shape file version " + version
+                    + " (expected " + ShapeFileFormat.VERSION + ").");
+        }
+        int typeCount = segment.get(ShapeFileFormat.INT, ShapeFileFormat.TYPE_COUNT_OFFSET);
+        if (typeCount != TYPES.length) {
+            throw new IOException("Shape file declares " + typeCount + " shape types (expected "
+                    + TYPES.length + ").");
+        }
+        long recordedLength = segment.get(ShapeFileFormat.LONG, ShapeFileFormat.FILE_LENGTH_OFFSET);
+        if (recordedLength != length) {
+            throw new IOException("Shape file is " + length + " bytes but its header records "
+                    + recordedLength + ".");
+        }
+
+        long total = 0;
+        for (ShapeType type : TYPES) {
+            long entry = ShapeFileFormat.SECTION_TABLE_OFFSET + type.ordinal() * ShapeFileFormat.SECTION_ENTRY_BYTES;
+            long offset = segment.get(ShapeFileFormat.LONG, entry);
+            long rows = segment.get(ShapeFileFormat.LONG, entry + Long.BYTES);
+            if (rows < 0 || offset < ShapeFileFormat.HEADER_BYTES || offset % Double.BYTES != 0 || offset > length
+                    || rows > (length - offset) / ShapeFileFormat.rowBytes(type.dimensionCount())) {
+                throw new IOException("Corrupt section table entry for " + type.displayName() + ".");
+            }
+            sectionOffsets[type.ordinal()] = offset;
+            sectionRows[type.ordinal()] = rows;
+            total += rows;
+        }
+        shapeCount = segment.get(ShapeFileFormat.LONG, ShapeFileFormat.SHAPE_COUNT_OFFSET);
+        if (shapeCount != total) {
+            throw new IOException("Shape file header records " + shapeCount + " shapes but its sections hold "
+                    + total + ".");
+        }
+
+        long dictionary = segment.get(ShapeFileFormat.LONG, ShapeFileFormat.DICTIONARY_OFFSET_OFFSET);
+        if (dictionary < ShapeFileFormat.HEADER_BYTES || dictionary % Long.BYTES != 0
+                || dictionary > length - 2L * Integer.BYTES) {
+            throw new IOException("Corrupt dictionary offset.");
+        }
+        stringCount = segment.get(ShapeFileFormat.INT, dictionary);
+        stringOffsetsStart = dictionary + 2L * Integer.BYTES;
+        stringBytesStart = stringOffsetsStart + (stringCount + 1L) * Long.BYTES;
+        if (stringCount < 0 || stringBytesStart > length
+                || stringBytesStart + segment.get(ShapeFileFormat.LONG, stringOffsetsStart
+                        + (long) stringCount * Long.BYTES) != length) {
+            throw new IOException("Corrupt string dictionary.");
+        }
+    }
+
+    /**
+     * Maps and validates a shape file.
+     *
+     * @param path the file to open
+     * @return the mapped file
+     * @throws IOException if the file cannot be read or is not a valid shape
+     *                     file of a supported version
+     */
+    public static MappedShapeFile open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new MappedShapeFile(arena, segment);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Size and per-row access
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the total number of shapes in the file.
+     *
+     * @return the number of shapes across all types
+     */
+    public long size() {
+        return shapeCount;
+    }
+
+    /**
+     * Returns the number of shapes of the given type.
+     *
+     * @param type the shape type
+     * @return the number of rows for {@code type}
+     */
+    public long size(ShapeType type) {
+        return sectionRows[type.ordinal()];
+    }
+
+    /**
+     * Returns one dimension column as a read-only slice of the mapped file.
+     * Element {@code i} is read with
+     * {@code column.getAtIndex(ShapeFileFormat.DOUBLE, i)}.
+     *
+     * @param type      the shape type
+     * @param dimension the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return the column, holding {@link #size(ShapeType)} doubles
+     * @throws IndexOutOfBoundsException if {@code dimension} is out of range
+     */
+    public MemorySegment dimensionColumn(ShapeType type, int dimension) {
+        checkDimension(type, dimension);
+        long rows = sectionRows[type.ordinal()];
+        return segment.asSlice(columnStart(type, dimension), rows * Double.BYTES);
+    }
+
+    /**
+     * Returns one dimension of one shape.
+     *
+     * @param type      the shape type
+     * @param row       the row within {@code type}
+     * @param dimension the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return the dimension value
+     * @throws IndexOutOfBoundsException if {@code row} or {@code dimension} is
+     *                                   out of range
+     */
+    public double dimension(ShapeType type, long row, int dimension) {
+        checkRow(type, row);
+        checkDimension(type, dimension);
+        return dimensionAt(type, row, dimension);
+    }
+
+    /**
+     * Returns the name of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the shape name
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public String name(ShapeType type, long row) {
+        checkRow(type, row);
+        return string(segment.get(ShapeFileFormat.INT, sectionOffsets[type.ordinal()] + row * Integer.BYTES));
+    }
+
+    /**
+     * Returns the color of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the shape color
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public String color(ShapeType type, long row) {
+        checkRow(type, row);
+        long colors = sectionOffsets[type.ordinal()] + sectionRows[type.ordinal()] * Integer.BYTES;
+        return string(segment.get(ShapeFileFormat.INT, colors + row * Integer.BYTES));
+    }
+
+    /**
+     * Returns the volume of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the volume in cubic units
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public double volume(ShapeType type, long row) {
+        checkRow(type, row);
+        return switch (type) {
+            case SPHERE -> ShapeFormulas.sphereVolume(dimensionAt(type, row, 0));
+            case CUBE -> ShapeFormulas.cubeVolume(dimensionAt(type, row, 0));
+            case CYLINDER -> ShapeFormulas.cylinderVolume(dimensionAt(type, row, 0), dimensionAt(type, row, 1));
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismVolume(dimensionAt(type, row, 0),
+                    dimensionAt(type, row, 1), dimensionAt(type, row, 2));
+            case CONE -> ShapeFormulas.coneVolume(dimensionAt(type, row, 0), dimensionAt(type, row, 1));
+        };
+    }
+
+    /**
+     * Returns the surface area of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the surface area in square units
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public double surfaceArea(ShapeType type, long row) {
+        checkRow(type, row);
+        double d0 = dimensionAt(type, row, 0);
+        return switch (type) {
+            case SPHERE -> ShapeFormulas.sphereSurfaceArea(d0);
+            case CUBE -> ShapeFormulas.cubeSurfaceArea(d0);
+            case CYLINDER -> ShapeFormulas.cylinderSurfaceArea(d0, dimensionAt(type, row, 1));
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismSurfaceArea(d0,
+                    dimensionAt(type, row, 1), dimensionAt(type, row, 2));
+            case CONE -> ShapeFormulas.coneSurfaceArea(d0,
+                    ShapeFormulas.coneSlantHeight(d0, dimensionAt(type, row, 1)));
+        };
+    }
+
+    /**
+     * Builds a new {@link Shape3D} from one row.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return a new shape object
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public Shape3D toShape(ShapeType type, long row) {
+        String name = name(type, row);
+        String color = color(type, row);
+        double[] dimensions = new double[type.dimensionCount()];
+        for (int d = 0; d < dimensions.length; d++) {
+            dimensions[d] = dimensionAt(type, row, d);
+        }
+        return type.create(name, color, dimensions);
+    }
+
+    /**
+     * Materialises every shape in the file, grouped by type in
+     * {@link ShapeType} order.
+     *
+     * @return a new mutable list of shapes
+     * @throws IllegalStateException if the file holds more shapes than a list
+     *                               can
+     */
+    public List<Shape3D> toList() {
+        if (shapeCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Shape file holds " + shapeCount + " shapes, too many for a list.");
+        }
+        List<Shape3D> shapes = new ArrayList<>((int) shapeCount);
+        for (ShapeType type : TYPES) {
+            for (long row = 0; row < sectionRows[type.ordinal()]; row++) {
+                shapes.add(toShape(type, row));
+            }
+        }
+        return shapes;
+    }
+
+    /**
+     * Unmaps the file.
+     */
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------
+
+    private long columnStart(ShapeType type, int dimension) {
+        long rows = sectionRows[type.ordinal()];
+        return sectionOffsets[type.ordinal()] + rows * 2L * Integer.BYTES + dimension * rows * Double.BYTES;
+    }
+
+    private double dimensionAt(ShapeType type, long row, int dimension) {
+        return segment.get(ShapeFileFormat.DOUBLE, columnStart(type, dimension) + row * Double.BYTES);
+    }
+
+    private String string(int id) {
+        if (id < 0 || id >= stringCount) {
+            throw new IllegalStateException("Corrupt shape file: string id " + id + " out of range.");
+        }
+        long offsets = stringOffsetsStart + (long) id * Long.BYTES;
+        long start = segment.get(ShapeFileFormat.LONG, offsets);
+        long end = segment.get(ShapeFileFormat.LONG, offsets + Long.BYTES);
+        if (start < 0 || end < start || end - start > Integer.MAX_VALUE
+                || stringBytesStart + end > segment.byteSize()) {
+            throw new IllegalStateException("Corrupt shape file: bad offsets for string " + id + ".");
+        }
+        byte[] bytes = segment.asSlice(stringBytesStart + start, end - start).toArray(ValueLayout.JAVA_BYTE);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void checkRow(ShapeType type, long row) {
+        long rows = sectionRows[type.ordinal()];
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range [0, " + rows + ").");
+        }
+    }
+
+    private static void checkDimension(ShapeType type, int dimension) {
+        if (dimension < 0 || dimension >= type.dimensionCount()) {
+            throw new IndexOutOfBoundsException("Dimension " + dimension + " out of range [0, "
+                    + type.dimensionCount() + ").");
+        }
+    }
+}
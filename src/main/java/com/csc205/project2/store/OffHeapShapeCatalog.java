@@ -0,0 +1,610 @@
+package com.csc205.project2.store;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeFormulas;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+import com.csc205.project2.shapes.StringDictionary;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+
+/**
+ * Shape catalog stored outside the Java heap as fixed-layout records in a
+ * {@link MemorySegment}.
+ *
+ * <p>Every shape occupies one {@value #RECORD_BYTES}-byte record laid out as
+ * {@link #RECORD_LAYOUT}: the offset of the shape's name in a separate
+ * off-heap region of UTF-8 bytes, a dictionary id for the color, the
+ * {@link ShapeType} ordinal, the name's length in bytes, and three dimension
+ * slots (unused slots are zero). Shapes are addressed by a {@code long} index
+ * in insertion order, so a catalog can hold far more than
+ * {@link Integer#MAX_VALUE} shapes. Names are usually unique, so they are
+ * stored once per shape off the heap; colors repeat, so the heap holds each
+ * distinct color string once in a dictionary. Nothing else is kept per shape
+ * on the heap. A name may be at most {@value #MAX_NAME_BYTES} bytes long in
+ * UTF-8.</p>
+ *
+ * <p>The batch kernels ({@link #volumes}, {@link #surfaceAreas},
+ * {@link #totalVolume()}, {@link #totalSurfaceArea()}) read the segment
+ * directly, use {@link ShapeFormulas} so results match the {@code Shape3D}
+ * classes exactly, and never allocate per shape. Totals are summed in
+ * fixed-size chunks on the common fork-join pool and combined in chunk order,
+ * so they do not depend on the number of threads. {@link #toShape(long)}
+ * materialises a regular {@code Sphere}, {@code Cube}, etc. on demand.</p>
+ *
+ * <p>Records are validated with the shape constructors' rules. Appends are
+ * not thread-safe; concurrent reads are safe once all writes have completed
+ * and been published. The memory is released by {@link #close()}, after
+ * which every access fails with {@link IllegalStateException}.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Flyweight</em> — colors are shared through a dictionary</li>
+ *   <li><em>Factory method</em> — {@link #toShape(long)} rebuilds the
+ *       concrete shape for a record</li>
+ * </ul>
+ *
+ * @see ShapeStore
+ */
+public final class OffHeapShapeCatalog implements AutoCloseable {
+
+    /** Layout of one shape record. */
+    public static final StructLayout RECORD_LAYOUT = MemoryLayout.structLayout(
+            ValueLayout.JAVA_LONG.withName("nameOffset"),
+            ValueLayout.JAVA_INT.withName("colorId"),
+            ValueLayout.JAVA_SHORT.withName("type"),
+            ValueLayout.JAVA_SHORT.withName("nameLength"),
+            MemoryLayout.sequenceLayout(3, ValueLayout.JAVA_DOUBLE).withName("dimensions"))
+            .withName("shape");
+
+    /** Size of one record in bytes. */
+    public static final int RECORD_BYTES = 40;
+
+    /** Longest name, in UTF-8 bytes, that fits the record's length field. */
+    public static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private static final long TYPE_OFFSET = RECORD_LAYOUT.byteOffset(groupElement("type"));
+    private static final long NAME_OFFSET = RECORD_LAYOUT.byteOffset(groupElement("nameOffset"));
+    private static final long NAME_LENGTH_OFFSET = RECORD_LAYOUT.byteOffset(groupElement("nameLength"));
+    private static final long COLOR_OFFSET = RECORD_LAYOUT.byteOffset(groupElement("colorId"));
+    private static final long DIMENSIONS_OFFSET = RECORD_LAYOUT.byteOffset(groupElement("dimensions"));
+
+    private static final long DEFAULT_CAPACITY = 1024;
+    private static final long AVERAGE_NAME_BYTES = 16;
+    private static final int CHUNK_RECORDS = 1 << 16;
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    static {
+        if (RECORD_LAYOUT.byteSize() != RECORD_BYTES) {
+            throw new ExceptionInInitializerError("Record layout is " + RECORD_LAYOUT.byteSize() + " bytes.");
+        }
+    }
+
+    private final StringDictionary colors = new StringDictionary();
+    private final long[] countsByType = new long[TYPES.length];
+    private Arena arena;
+    private MemorySegment segment;
+    private long capacity;
+    private long size;
+    private Arena nameArena;
+    private MemorySegment names;
+    private long nameBytes;
+
+    /**
+     * Creates an empty catalog with a small initial capacity.
+     */
+    public OffHeapShapeCatalog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty catalog with room for {@code initialCapacity} shapes
+     * before it has to grow.
+     *
+     * @param initialCapacity the number of records to reserve; must be
+     *                        positive
+     * @throws IllegalArgumentException if {@code initialCapacity} is not
+     *                                  positive
+     */
+    public OffHeapShapeCatalog(long initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be greater than zero.");
+        }
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(initialCapacity * RECORD_BYTES, Double.BYTES);
+        this.capacity = initialCapacity;
+        this.nameArena = Arena.ofShared();
+        this.names = nameArena.allocate(initialCapacity * AVERAGE_NAME_BYTES);
+    }
+
+    /**
+     * Creates a catalog holding copies of the given shapes, in iteration
+     * order.
+     *
+     * @param shapes the shapes to copy
+     * @return a new catalog
+     */
+    public static OffHeapShapeCatalog of(Iterable<? extends Shape3D> shapes) {
+        OffHeapShapeCatalog catalog = new OffHeapShapeCatalog();
+        for (Shape3D shape : shapes) {
+            catalog.add(shape);
+        }
+        return catalog;
+    }
+
+    // ---------------------------------------------------------------
+    // Appending
+    // ---------------------------------------------------------------
+
+    /**
+     * Appends a copy of an existing shape.
+     *
+     * @param shape the shape to copy
+     * @return the index of the new record
+     */
+    public long add(Shape3D shape) {
+        return switch (ShapeType.of(shape)) {
+            case SPHERE -> addSphere(shape.getName(), shape.getColor(), ((Sphere) shape).getRadius());
+            case CUBE -> addCube(shape.getName(), shape.getColor(), ((Cube) shape).getSideLength());
+            case CYLINDER -> {
+                Cylinder cylinder = (Cylinder) shape;
+                yield addCylinder(shape.getName(), shape.getColor(), cylinder.getRadius(), cylinder.getHeight());
+            }
+            case RECTANGULAR_PRISM -> {
+                RectangularPrism prism = (RectangularPrism) shape;
+                yield addRectangularPrism(shape.getName(), shape.getColor(),
+                        prism.getLength(), prism.getWidth(), prism.getHeight());
+            }
+            case CONE -> {
+                Cone cone = (Cone) shape;
+                yield addCone(shape.getName(), shape.getColor(), cone.getRadius(), cone.getHeight());
+            }
+        };
+    }
+
+    /**
+     * Appends a sphere.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param radius the radius; must be greater than zero
+     * @return the index of the new record
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public long addSphere(String name, String color, double radius) {
+        return append(ShapeType.SPHERE, name, color, radius, 0.0, 0.0);
+    }
+
+    /**
+     * Appends a cube.
+     *
+     * @param name       the shape name
+     * @param color      the shape color
+     * @param sideLength the side length; must be greater than zero
+     * @return the index of the new record
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public long addCube(String name, String color, double sideLength) {
+        return append(ShapeType.CUBE, name, color, sideLength, 0.0, 0.0);
+    }
+
+    /**
+     * Appends a cylinder.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param radius the base radius; must be greater than zero
+     * @param height the height; must be greater than zero
+     * @return the index of the new record
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public long addCylinder(String name, String color, double radius, double height) {
+        return append(ShapeType.CYLINDER, name, color, radius, height, 0.0);
+    }
+
+    /**
+     * Appends a rectangular prism.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param length the length; must be greater than zero
+     * @param width  the width; must be greater than zero
+     * @param height the height; must be greater than zero
+     * @return the index of the new record
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public long addRectangularPrism(String name, String color, double length, double width, double height) {
+        return append(ShapeType.RECTANGULAR_PRISM, name, color, length, width, height);
+    }
+
+    /**
+     * Appends a cone.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param radius the base radius; must be greater than zero
+     * @param height the height; must be greater than zero
+     * @return the index of the new record
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public long addCone(String name, String color, double radius, double height) {
+        return append(ShapeType.CONE, name, color, radius, height, 0.0);
+    }
+
+    private long append(ShapeType type, String name, String color, double d0, double d1, double d2) {
+        ShapeStore.validate(type, name, color, d0, d1, d2);
+        byte[] nameUtf8 = name.getBytes(StandardCharsets.UTF_8);
+        if (nameUtf8.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name must not be longer than " + MAX_NAME_BYTES
+                    + " bytes in UTF-8, but got " + nameUtf8.length + ".");
+        }
+        if (size == capacity) {
+            grow();
+        }
+        if (nameBytes > names.byteSize() - nameUtf8.length) {
+            growNames(nameUtf8.length);
+        }
+        MemorySegment.copy(nameUtf8, 0, names, ValueLayout.JAVA_BYTE, nameBytes, nameUtf8.length);
+        long base = size * RECORD_BYTES;
+        segment.set(ValueLayout.JAVA_LONG, base + NAME_OFFSET, nameBytes);
+        segment.set(ValueLayout.JAVA_INT, base + COLOR_OFFSET, colors.encode(color));
+        segment.set(ValueLayout.JAVA_SHORT, base + TYPE_OFFSET, (short) type.ordinal());
+        segment.set(ValueLayout.JAVA_SHORT, base + NAME_LENGTH_OFFSET, (short) nameUtf8.length);
+        nameBytes += nameUtf8.length;
+        segment.set(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET, d0);
+        segment.set(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + Double.BYTES, d1);
+        segment.set(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + 2 * Double.BYTES, d2);
+        countsByType[type.ordinal()]++;
+        return size++;
+    }
+
+    /**
+     * Moves the records into a segment 1.5 times larger and frees the old
+     * one.
+     */
+    private void grow() {
+        long newCapacity = Math.max(capacity + 1, capacity + (capacity >> 1));
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment = newArena.allocate(newCapacity * RECORD_BYTES, Double.BYTES);
+        MemorySegment.copy(segment, 0, newSegment, 0, size * RECORD_BYTES);
+        arena.close();
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Moves the name bytes into a region 1.5 times larger, or large enough
+     * for {@code needed} more bytes, and frees the old one.
+     */
+    private void growNames(int needed) {
+        long newCapacity = Math.max(nameBytes + needed, names.byteSize() + (names.byteSize() >> 1));
+        Arena newArena = Arena.ofShared();
+        MemorySegment newNames = newArena.allocate(newCapacity);
+        MemorySegment.copy(names, 0, newNames, 0, nameBytes);
+        nameArena.close();
+        nameArena = newArena;
+        names = newNames;
+    }
+
+    // ---------------------------------------------------------------
+    // Size and per-record access
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the number of shapes in the catalog.
+     *
+     * @return the number of records
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of shapes of one type.
+     *
+     * @param type the shape type
+     * @return the number of records of that type
+     */
+    public long size(ShapeType type) {
+        return countsByType[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory currently reserved,
+     * for records and names together.
+     *
+     * @return the reserved size in bytes
+     */
+    public long byteSize() {
+        return segment.byteSize() + names.byteSize();
+    }
+
+    /**
+     * Returns the type of a record.
+     *
+     * @param index the record index
+     * @return the shape type
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public ShapeType type(long index) {
+        return TYPES[segment.get(ValueLayout.JAVA_SHORT, base(index) + TYPE_OFFSET)];
+    }
+
+    /**
+     * Returns the name of a record.
+     *
+     * @param index the record index
+     * @return the shape name
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public String name(long index) {
+        long base = base(index);
+        long offset = segment.get(ValueLayout.JAVA_LONG, base + NAME_OFFSET);
+        byte[] utf8 = new byte[Short.toUnsignedInt(segment.get(ValueLayout.JAVA_SHORT, base + NAME_LENGTH_OFFSET))];
+        MemorySegment.copy(names, ValueLayout.JAVA_BYTE, offset, utf8, 0, utf8.length);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the color of a record.
+     *
+     * @param index the record index
+     * @return the shape color
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public String color(long index) {
+        return colors.decode(colorId(index));
+    }
+
+    /**
+     * Returns the dictionary id of a record's color. Records with equal
+     * colors share an id.
+     *
+     * @param index the record index
+     * @return the color id
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int colorId(long index) {
+        return segment.get(ValueLayout.JAVA_INT, base(index) + COLOR_OFFSET);
+    }
+
+    /**
+     * Returns the number of distinct colors in the catalog.
+     *
+     * @return the color dictionary size
+     */
+    public int distinctColors() {
+        return colors.size();
+    }
+
+    /**
+     * Returns one dimension of a record.
+     *
+     * @param index     the record index
+     * @param dimension the dimension, in {@link ShapeType#dimensionNames()}
+     *                  order of the record's type
+     * @return the dimension value
+     * @throws IndexOutOfBoundsException if either index is out of range
+     */
+    public double dimension(long index, int dimension) {
+        long base = base(index);
+        int count = TYPES[segment.get(ValueLayout.JAVA_SHORT, base + TYPE_OFFSET)].dimensionCount();
+        if (dimension < 0 || dimension >= count) {
+            throw new IndexOutOfBoundsException("Dimension " + dimension + " out of range [0, " + count + ").");
+        }
+        return segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + (long) dimension * Double.BYTES);
+    }
+
+    /**
+     * Returns the volume of a record.
+     *
+     * @param index the record index
+     * @return the volume
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double volume(long index) {
+        return volumeAt(base(index));
+    }
+
+    /**
+     * Returns the surface area of a record.
+     *
+     * @param index the record index
+     * @return the surface area
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double surfaceArea(long index) {
+        return surfaceAreaAt(base(index));
+    }
+
+    /**
+     * Builds a new, independent {@link Shape3D} from a record.
+     *
+     * @param index the record index
+     * @return a new {@code Sphere}, {@code Cube}, {@code Cylinder},
+     *         {@code RectangularPrism} or {@code Cone}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Shape3D toShape(long index) {
+        long base = base(index);
+        ShapeType type = TYPES[segment.get(ValueLayout.JAVA_SHORT, base + TYPE_OFFSET)];
+        double[] dimensions = new double[type.dimensionCount()];
+        for (int d = 0; d < dimensions.length; d++) {
+            dimensions[d] = segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + (long) d * Double.BYTES);
+        }
+        return type.create(name(index), color(index), dimensions);
+    }
+
+    // ---------------------------------------------------------------
+    // Batch kernels
+    // ---------------------------------------------------------------
+
+    /**
+     * Computes the volumes of a range of records.
+     *
+     * @param from   the index of the first record
+     * @param out    receives the volumes
+     * @param offset the position in {@code out} of the first volume
+     * @param length the number of records
+     * @throws IndexOutOfBoundsException if the range exceeds the catalog or
+     *                                   {@code out}
+     */
+    public void volumes(long from, double[] out, int offset, int length) {
+        checkRange(from, out, offset, length);
+        long base = from * RECORD_BYTES;
+        for (int i = 0; i < length; i++, base += RECORD_BYTES) {
+            out[offset + i] = volumeAt(base);
+        }
+    }
+
+    /**
+     * Computes the surface areas of a range of records.
+     *
+     * @param from   the index of the first record
+     * @param out    receives the surface areas
+     * @param offset the position in {@code out} of the first surface area
+     * @param length the number of records
+     * @throws IndexOutOfBoundsException if the range exceeds the catalog or
+     *                                   {@code out}
+     */
+    public void surfaceAreas(long from, double[] out, int offset, int length) {
+        checkRange(from, out, offset, length);
+        long base = from * RECORD_BYTES;
+        for (int i = 0; i < length; i++, base += RECORD_BYTES) {
+            out[offset + i] = surfaceAreaAt(base);
+        }
+    }
+
+    /**
+     * Returns the sum of all volumes.
+     *
+     * @return the total volume
+     */
+    public double totalVolume() {
+        return chunkedSum(true);
+    }
+
+    /**
+     * Returns the sum of all surface areas.
+     *
+     * @return the total surface area
+     */
+    public double totalSurfaceArea() {
+        return chunkedSum(false);
+    }
+
+    /**
+     * Sums a metric with Neumaier compensation, per chunk in parallel and
+     * then across chunks in order. A total that overflows is positive
+     * infinity, never {@code NaN}.
+     */
+    private double chunkedSum(boolean volume) {
+        int chunks = (int) ((size + CHUNK_RECORDS - 1) / CHUNK_RECORDS);
+        double[] partials = new double[chunks];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long start = (long) chunk * CHUNK_RECORDS;
+            long end = Math.min(size, start + CHUNK_RECORDS);
+            double sum = 0.0;
+            double compensation = 0.0;
+            for (long base = start * RECORD_BYTES; base < end * RECORD_BYTES; base += RECORD_BYTES) {
+                double value = volume ? volumeAt(base) : surfaceAreaAt(base);
+                double t = sum + value;
+                compensation += compensation(sum, value, t);
+                sum = t;
+            }
+            partials[chunk] = sum + compensation;
+        });
+
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (double value : partials) {
+            double t = sum + value;
+            compensation += compensation(sum, value, t);
+            sum = t;
+        }
+        return sum + compensation;
+    }
+
+    /**
+     * Returns the rounding error of {@code a + b}, or zero once the sum has
+     * overflowed, so an infinite total stays infinite instead of {@code NaN}.
+     */
+    private static double compensation(double a, double b, double sum) {
+        if (!Double.isFinite(sum)) {
+            return 0.0;
+        }
+        return Math.abs(a) >= Math.abs(b) ? (a - sum) + b : (b - sum) + a;
+    }
+
+    private double volumeAt(long base) {
+        double d0 = segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET);
+        double d1 = segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + Double.BYTES);
+        return switch (TYPES[segment.get(ValueLayout.JAVA_SHORT, base + TYPE_OFFSET)]) {
+            case SPHERE -> ShapeFormulas.sphereVolume(d0);
+            case CUBE -> ShapeFormulas.cubeVolume(d0);
+            case CYLINDER -> ShapeFormulas.cylinderVolume(d0, d1);
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismVolume(d0, d1,
+                    segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + 2 * Double.BYTES));
+            case CONE -> ShapeFormulas.coneVolume(d0, d1);
+        };
+    }
+
+    private double surfaceAreaAt(long base) {
+        double d0 = segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET);
+        double d1 = segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + Double.BYTES);
+        return switch (TYPES[segment.get(ValueLayout.JAVA_SHORT, base + TYPE_OFFSET)]) {
+            case SPHERE -> ShapeFormulas.sphereSurfaceArea(d0);
+            case CUBE -> ShapeFormulas.cubeSurfaceArea(d0);
+            case CYLINDER -> ShapeFormulas.cylinderSurfaceArea(d0, d1);
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismSurfaceArea(d0, d1,
+                    segment.get(ValueLayout.JAVA_DOUBLE, base + DIMENSIONS_OFFSET + 2 * Double.BYTES));
+            case CONE -> ShapeFormulas.coneSurfaceArea(d0, ShapeFormulas.coneSlantHeight(d0, d1));
+        };
+    }
+
+    // ---------------------------------------------------------------
+    // Lifecycle and internals
+    // ---------------------------------------------------------------
+
+    /**
+     * Frees the off-heap memory. The catalog cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+            nameArena.close();
+        }
+    }
+
+    private long base(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + size + ").");
+        }
+        return index * RECORD_BYTES;
+    }
+
+    private void checkRange(long from, double[] out, int offset, int length) {
+        if (from < 0 || length < 0 || from > size - length) {
+            throw new IndexOutOfBoundsException("Records [" + from + ", " + (from + length)
+                    + ") out of range [0, " + size + ").");
+        }
+        if (offset < 0 || offset > out.length - length) {
+            throw new IndexOutOfBoundsException("Output range [" + offset + ", " + (offset + length)
+                    + ") out of range [0, " + out.length + ").");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.csc205.project2.store;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Constants describing the binary shape file format written by
+ * {@link ShapeFileWriter} and read by {@link MappedShapeFile}.
+ *
+ * <p>All values are little-endian and every section starts on an 8-byte
+ * boundary, so a mapped file can be read in place with aligned accesses.
+ * A file consists of:</p>
+ * <ol>
+ *   <li><strong>Header</strong> ({@value #HEADER_BYTES} bytes):
+ *       <pre>
+ *   0  int   magic            "SHP3"
+ *   4  int   version          {@value #VERSION}
+ *   8  int   type count       5
+ *  12  int   reserved         0
+ *  16  long  shape count
+ *  24  long  dictionary offset
+ *  32  long  file length
+ *  40  long  section offset   } one pair per ShapeType,
+ *  48  long  section rows     } in ordinal order
+ *  ...
+ *       </pre></li>
+ *   <li><strong>One section per type</strong>, columnar: an {@code int} name
+ *       id and an {@code int} color id column, followed by one
+ *       {@code double} column per dimension in
+ *       {@link com.csc205.project2.shapes.ShapeType#dimensionNames()}
+ *       order. A section of {@code n} rows and {@code k} dimensions is
+ *       {@code 8n + 8kn} bytes.</li>
+ *   <li><strong>String dictionary</strong> shared by names and colors: an
+ *       {@code int} string count, an {@code int} reserved, {@code count + 1}
+ *       {@code long} offsets relative to the start of the string bytes, then
+ *       the UTF-8 bytes of every string back to back.</li>
+ * </ol>
+ *
+ * <p>Readers reject files whose magic number, version, type count or
+ * recorded length do not match.</p>
+ */
+public final class ShapeFileFormat {
+
+    /** The bytes {@code "SHP3"} read as a little-endian {@code int}. */
+    public static final int MAGIC = 0x33504853;
+
+    /** The format version written by this release. */
+    public static final int VERSION = 1;
+
+    /** Size of the fixed header in bytes, including padding. */
+    public static final int HEADER_BYTES = 128;
+
+    /** Byte order of every value in the file. */
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** Layout of the {@code int} values in the file. */
+    public static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(BYTE_ORDER);
+
+    /** Layout of the {@code long} values in the file. */
+    public static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(BYTE_ORDER);
+
+    /** Layout of the {@code double} values in the file, including dimension columns. */
+    public static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(BYTE_ORDER);
+
+    static final long VERSION_OFFSET = 4;
+    static final long TYPE_COUNT_OFFSET = 8;
+    static final long SHAPE_COUNT_OFFSET = 16;
+    static final long DICTIONARY_OFFSET_OFFSET = 24;
+    static final long FILE_LENGTH_OFFSET = 32;
+    static final long SECTION_TABLE_OFFSET = 40;
+    static final long SECTION_ENTRY_BYTES = 16;
+
+    private ShapeFileFormat() {
+    }
+
+    /**
+     * Returns the size in bytes of one row of a section with the given shape.
+     */
+    static long rowBytes(int dimensionCount) {
+        return 2L * Integer.BYTES + (long) dimensionCount * Double.BYTES;
+    }
+
+    /**
+     * Returns the size in bytes of a section with the given shape.
+     */
+    static long sectionBytes(long rows, int dimensionCount) {
+        return Math.multiplyExact(rows, rowBytes(dimensionCount));
+    }
+}
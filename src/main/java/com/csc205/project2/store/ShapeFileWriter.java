@@ -0,0 +1,154 @@
+package com.csc205.project2.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.StringDictionary;
+
+/**
+ * Writes shapes in the binary {@link ShapeFileFormat}.
+ *
+ * <p>The sections are streamed through a single buffer, so writing needs no
+ * more heap than the string dictionary. The header is written last, once
+ * the dictionary size is known.</p>
+ *
+ * @see MappedShapeFile
+ */
+public final class ShapeFileWriter {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private ShapeFileWriter() {
+    }
+
+    /**
+     * Writes the given shapes to {@code path}, replacing any existing file.
+     *
+     * @param shapes the shapes to write
+     * @param path   the destination file
+     * @throws IOException              if the file cannot be written
+     */
+    public static void write(Iterable<? extends Shape3D> shapes, Path path) throws IOException {
+        write(ShapeStore.of(shapes), path);
+    }
+
+    /**
+     * Writes every shape in a store to {@code path}, replacing any existing
+     * file. Rows keep their per-type order.
+     *
+     * @param store the shapes to write
+     * @param path  the destination file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(ShapeStore store, Path path) throws IOException {
+        long[] sectionOffsets = new long[TYPES.length];
+        long offset = ShapeFileFormat.HEADER_BYTES;
+        for (ShapeType type : TYPES) {
+            sectionOffsets[type.ordinal()] = offset;
+            offset += ShapeFileFormat.sectionBytes(store.size(type), type.dimensionCount());
+        }
+        long dictionaryOffset = offset;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ShapeFileFormat.BYTE_ORDER);
+            channel.position(ShapeFileFormat.HEADER_BYTES);
+
+            StringDictionary dictionary = new StringDictionary();
+            for (ShapeType type : TYPES) {
+                int rows = store.size(type);
+                for (int row = 0; row < rows; row++) {
+                    ensure(channel, buffer, Integer.BYTES);
+                    buffer.putInt(dictionary.encode(store.name(type, row)));
+                }
+                for (int row = 0; row < rows; row++) {
+                    ensure(channel, buffer, Integer.BYTES);
+                    buffer.putInt(dictionary.encode(store.color(type, row)));
+                }
+                for (int d = 0; d < type.dimensionCount(); d++) {
+                    for (int row = 0; row < rows; row++) {
+                        ensure(channel, buffer, Double.BYTES);
+                        buffer.putDouble(store.dimension(type, row, d));
+                    }
+                }
+            }
+
+            long fileLength = dictionaryOffset + writeDictionary(channel, buffer, dictionary);
+            drain(channel, buffer);
+
+            buffer.putInt(ShapeFileFormat.MAGIC)
+                    .putInt(ShapeFileFormat.VERSION)
+                    .putInt(TYPES.length)
+                    .putInt(0)
+                    .putLong(store.size())
+                    .putLong(dictionaryOffset)
+                    .putLong(fileLength);
+            for (ShapeType type : TYPES) {
+                buffer.putLong(sectionOffsets[type.ordinal()]).putLong(store.size(type));
+            }
+            while (buffer.position() < ShapeFileFormat.HEADER_BYTES) {
+                buffer.put((byte) 0);
+            }
+            buffer.flip();
+            long position = 0;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+    }
+
+    /**
+     * Writes the dictionary at the channel's current position and returns
+     * its length in bytes.
+     */
+    private static long writeDictionary(FileChannel channel, ByteBuffer buffer, StringDictionary dictionary)
+            throws IOException {
+        int count = dictionary.size();
+        byte[][] encoded = new byte[count][];
+        for (int id = 0; id < count; id++) {
+            encoded[id] = dictionary.decode(id).getBytes(StandardCharsets.UTF_8);
+        }
+
+        ensure(channel, buffer, 2 * Integer.BYTES);
+        buffer.putInt(count).putInt(0);
+        long stringOffset = 0;
+        for (int id = 0; id <= count; id++) {
+            ensure(channel, buffer, Long.BYTES);
+            buffer.putLong(stringOffset);
+            if (id < count) {
+                stringOffset += encoded[id].length;
+            }
+        }
+        for (byte[] bytes : encoded) {
+            int written = 0;
+            while (written < bytes.length) {
+                ensure(channel, buffer, 1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - written);
+                buffer.put(bytes, written, chunk);
+                written += chunk;
+            }
+        }
+        return 2L * Integer.BYTES + (count + 1L) * Long.BYTES + stringOffset;
+    }
+
+    private static void ensure(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain(channel, buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,693 @@
+package com.csc205.project2.store;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.csc205.project2.kernels.GeometryKernels;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeFormulas;
+import com.csc205.project2.shapes.ShapeRules;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+import com.csc205.project2.shapes.StringDictionary;
+
+/**
+ * Columnar (structure-of-arrays) storage for large numbers of shapes.
+ *
+ * <p>Instead of one {@link Shape3D} object per shape, a {@code ShapeStore}
+ * keeps one set of parallel columns per {@link ShapeType}: a primitive
+ * {@code double[]} for each dimension (in {@link ShapeType#dimensionNames()}
+ * order) plus name and color columns. A shape is identified by its type and
+ * its row within that type's columns; rows are assigned in insertion order
+ * starting at zero.</p>
+ *
+ * <p>Names are usually unique and are kept as plain strings. Colors repeat,
+ * so they are dictionary-encoded: the color column holds {@code int} codes
+ * into a {@link StringDictionary} private to the store. Each distinct color
+ * is kept once, and {@link #rowsWithColor} and {@link #countsByColor()}
+ * compare codes instead of strings.</p>
+ *
+ * <p>{@link #volumes(ShapeType, double[])} and
+ * {@link #surfaceAreas(ShapeType, double[])} evaluate a whole column in one
+ * tight, monomorphic loop. By default they use the scalar
+ * {@link GeometryKernels}, whose results are bit-for-bit identical to
+ * {@link Shape3D#calculateVolume()} and {@link Shape3D#calculateSurfaceArea()}
+ * on equivalent objects; overloads accept other kernels such as the SIMD
+ * implementation from {@link GeometryKernels#best()}.</p>
+ *
+ * <p>Existing code written against {@link com.csc205.project2.shapes.ThreeDimensionalShape}
+ * can read the store through {@link ShapeView}, a repositionable flyweight
+ * that holds only a store reference, a type, and a row.</p>
+ *
+ * <p>Rows are validated with the same rules as the shape constructors. The
+ * store is append-only and not thread-safe; concurrent reads are safe once
+ * all writes have completed and been published.</p>
+ *
+ * @see ShapeView
+ * @see ShapeFormulas
+ */
+public class ShapeStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ShapeType[] TYPES = ShapeType.values();
+
+    private final TypeColumns[] columns = new TypeColumns[TYPES.length];
+    private final StringDictionary colors = new StringDictionary();
+
+    /**
+     * Creates an empty store.
+     */
+    public ShapeStore() {
+        for (ShapeType type : TYPES) {
+            columns[type.ordinal()] = new TypeColumns(type.dimensionCount());
+        }
+    }
+
+    /**
+     * Creates a store containing a copy of every shape in {@code shapes}.
+     *
+     * @param shapes the shapes to copy, in insertion order
+     * @return a new store
+     */
+    public static ShapeStore of(Iterable<? extends Shape3D> shapes) {
+        ShapeStore store = new ShapeStore();
+        for (Shape3D shape : shapes) {
+            store.add(shape);
+        }
+        return store;
+    }
+
+    // ---------------------------------------------------------------
+    // Appending
+    // ---------------------------------------------------------------
+
+    /**
+     * Copies the name, color and dimensions of {@code shape} into the store.
+     *
+     * @param shape the shape to copy
+     * @return the row assigned within the shape's type
+     */
+    public int add(Shape3D shape) {
+        return switch (ShapeType.of(shape)) {
+            case SPHERE -> addSphere(shape.getName(), shape.getColor(), ((Sphere) shape).getRadius());
+            case CUBE -> addCube(shape.getName(), shape.getColor(), ((Cube) shape).getSideLength());
+            case CYLINDER -> {
+                Cylinder cylinder = (Cylinder) shape;
+                yield addCylinder(shape.getName(), shape.getColor(), cylinder.getRadius(), cylinder.getHeight());
+            }
+            case RECTANGULAR_PRISM -> {
+                RectangularPrism prism = (RectangularPrism) shape;
+                yield addRectangularPrism(shape.getName(), shape.getColor(),
+                        prism.getLength(), prism.getWidth(), prism.getHeight());
+            }
+            case CONE -> {
+                Cone cone = (Cone) shape;
+                yield addCone(shape.getName(), shape.getColor(), cone.getRadius(), cone.getHeight());
+            }
+        };
+    }
+
+    /**
+     * Appends a sphere.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param radius the radius; must be greater than zero
+     * @return the row assigned within {@link ShapeType#SPHERE}
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public int addSphere(String name, String color, double radius) {
+        return append(ShapeType.SPHERE, name, color, radius, 0.0, 0.0);
+    }
+
+    /**
+     * Appends a cube.
+     *
+     * @param name       the shape name
+     * @param color      the shape color
+     * @param sideLength the side length; must be greater than zero
+     * @return the row assigned within {@link ShapeType#CUBE}
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public int addCube(String name, String color, double sideLength) {
+        return append(ShapeType.CUBE, name, color, sideLength, 0.0, 0.0);
+    }
+
+    /**
+     * Appends a cylinder.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param radius the base radius; must be greater than zero
+     * @param height the height; must be greater than zero
+     * @return the row assigned within {@link ShapeType#CYLINDER}
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public int addCylinder(String name, String color, double radius, double height) {
+        return append(ShapeType.CYLINDER, name, color, radius, height, 0.0);
+    }
+
+    /**
+     * Appends a rectangular prism.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param length the length; must be greater than zero
+     * @param width  the width; must be greater than zero
+     * @param height the height; must be greater than zero
+     * @return the row assigned within {@link ShapeType#RECTANGULAR_PRISM}
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public int addRectangularPrism(String name, String color, double length, double width, double height) {
+        return append(ShapeType.RECTANGULAR_PRISM, name, color, length, width, height);
+    }
+
+    /**
+     * Appends a cone.
+     *
+     * @param name   the shape name
+     * @param color  the shape color
+     * @param radius the base radius; must be greater than zero
+     * @param height the height; must be greater than zero
+     * @return the row assigned within {@link ShapeType#CONE}
+     * @throws IllegalArgumentException if any argument fails validation
+     */
+    public int addCone(String name, String color, double radius, double height) {
+        return append(ShapeType.CONE, name, color, radius, height, 0.0);
+    }
+
+    /**
+     * Appends every row of {@code other} after this store's rows, type by
+     * type. The rows were validated when they entered {@code other}, so they
+     * are copied column-wise without being checked again.
+     *
+     * @param other the store to copy from; must not be this store
+     * @throws IllegalArgumentException if {@code other} is this store
+     */
+    public void addAll(ShapeStore other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a store to itself.");
+        }
+        int[] colorCodes = remap(other.colors, colors);
+        for (ShapeType type : TYPES) {
+            columns[type.ordinal()].appendAll(other.columns[type.ordinal()], colorCodes);
+        }
+    }
+
+    /** Maps every code of {@code from} to the code of the same string in {@code to}. */
+    private static int[] remap(StringDictionary from, StringDictionary to) {
+        int[] codes = new int[from.size()];
+        for (int code = 0; code < codes.length; code++) {
+            codes[code] = to.encode(from.decode(code));
+        }
+        return codes;
+    }
+
+    private int append(ShapeType type, String name, String color, double d0, double d1, double d2) {
+        validate(type, name, color, d0, d1, d2);
+        return columns[type.ordinal()].append(name, colors.encode(color),
+                d0, d1, d2);
+    }
+
+    /**
+     * Applies {@link ShapeRules} to one row and throws its first violation,
+     * as the shape constructors do; unused trailing dimensions are ignored.
+     */
+    static void validate(ShapeType type, String name, String color, double d0, double d1, double d2) {
+        String error = ShapeRules.check(type, name, color, d0, d1, d2);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Size and per-row access
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns the total number of shapes in the store.
+     *
+     * @return the number of shapes across all types
+     */
+    public long size() {
+        long total = 0;
+        for (TypeColumns column : columns) {
+            total += column.size;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of shapes of the given type.
+     *
+     * @param type the shape type
+     * @return the number of rows for {@code type}
+     */
+    public int size(ShapeType type) {
+        return columns[type.ordinal()].size;
+    }
+
+    /**
+     * Returns one dimension of one shape.
+     *
+     * @param type      the shape type
+     * @param row       the row within {@code type}
+     * @param dimension the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return the dimension value
+     * @throws IndexOutOfBoundsException if {@code row} or {@code dimension} is
+     *                                   out of range
+     */
+    public double dimension(ShapeType type, int row, int dimension) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        return column.dimensions[dimension][row];
+    }
+
+    /**
+     * Returns the name of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the shape name
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public String name(ShapeType type, int row) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        return column.names[row];
+    }
+
+    /**
+     * Returns the color of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the shape color
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public String color(ShapeType type, int row) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        return colors.decode(column.colors[row]);
+    }
+
+    /**
+     * Returns the code of one shape's color in this store's color
+     * dictionary. Two rows have equal colors exactly when their codes are
+     * equal.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the color code
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int colorCode(ShapeType type, int row) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        return column.colors[row];
+    }
+
+    /**
+     * Returns the rows of one type whose color equals {@code color}. The
+     * color is looked up once; the scan compares codes.
+     *
+     * @param type  the shape type
+     * @param color the color to match
+     * @return the matching rows in ascending order
+     */
+    public int[] rowsWithColor(ShapeType type, String color) {
+        int code = colors.lookup(color);
+        TypeColumns column = columns[type.ordinal()];
+        if (code < 0) {
+            return new int[0];
+        }
+        int[] codes = column.colors;
+        int[] rows = new int[column.size];
+        int matches = 0;
+        for (int row = 0; row < column.size; row++) {
+            if (codes[row] == code) {
+                rows[matches++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, matches);
+    }
+
+    /**
+     * Counts the shapes of every color, across all types.
+     *
+     * @return a map from color to count, ordered by first use of each color
+     *         in this store
+     */
+    public Map<String, Long> countsByColor() {
+        long[] counts = new long[colors.size()];
+        for (TypeColumns column : columns) {
+            int[] codes = column.colors;
+            for (int row = 0; row < column.size; row++) {
+                counts[codes[row]]++;
+            }
+        }
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                result.put(colors.decode(code), counts[code]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies one dimension column into a new array of length
+     * {@link #size(ShapeType)}.
+     *
+     * @param type      the shape type
+     * @param dimension the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return a copy of the column
+     */
+    public double[] dimensionColumn(ShapeType type, int dimension) {
+        TypeColumns column = columns[type.ordinal()];
+        return Arrays.copyOf(column.dimensions[dimension], column.size);
+    }
+
+    /**
+     * Returns the volume of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the volume in cubic units
+     */
+    public double volume(ShapeType type, int row) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        double[][] d = column.dimensions;
+        return switch (type) {
+            case SPHERE -> ShapeFormulas.sphereVolume(d[0][row]);
+            case CUBE -> ShapeFormulas.cubeVolume(d[0][row]);
+            case CYLINDER -> ShapeFormulas.cylinderVolume(d[0][row], d[1][row]);
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismVolume(d[0][row], d[1][row], d[2][row]);
+            case CONE -> ShapeFormulas.coneVolume(d[0][row], d[1][row]);
+        };
+    }
+
+    /**
+     * Returns the surface area of one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return the surface area in square units
+     */
+    public double surfaceArea(ShapeType type, int row) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        double[][] d = column.dimensions;
+        return switch (type) {
+            case SPHERE -> ShapeFormulas.sphereSurfaceArea(d[0][row]);
+            case CUBE -> ShapeFormulas.cubeSurfaceArea(d[0][row]);
+            case CYLINDER -> ShapeFormulas.cylinderSurfaceArea(d[0][row], d[1][row]);
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismSurfaceArea(d[0][row], d[1][row], d[2][row]);
+            case CONE -> ShapeFormulas.coneSurfaceArea(d[0][row],
+                    ShapeFormulas.coneSlantHeight(d[0][row], d[1][row]));
+        };
+    }
+
+    // ---------------------------------------------------------------
+    // Batch kernels
+    // ---------------------------------------------------------------
+
+    /**
+     * Computes the volume of every shape of the given type.
+     *
+     * <p>Equivalent to {@code volumes(type, out, GeometryKernels.scalar())},
+     * so the results match {@link Shape3D#calculateVolume()} exactly.</p>
+     *
+     * @param type the shape type
+     * @param out  receives the volume of row {@code i} at index {@code i};
+     *             must hold at least {@link #size(ShapeType)} elements
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public void volumes(ShapeType type, double[] out) {
+        volumes(type, out, GeometryKernels.scalar());
+    }
+
+    /**
+     * Computes the volume of every shape of the given type with the given
+     * kernels, e.g. {@link GeometryKernels#best()} for SIMD throughput.
+     *
+     * @param type    the shape type
+     * @param out     receives the volume of row {@code i} at index {@code i};
+     *                must hold at least {@link #size(ShapeType)} elements
+     * @param kernels the kernels to evaluate the column with
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public void volumes(ShapeType type, double[] out, GeometryKernels kernels) {
+        TypeColumns column = columns[type.ordinal()];
+        int n = column.size;
+        checkOutput(out, n);
+        double[][] d = column.dimensions;
+        switch (type) {
+            case SPHERE -> kernels.sphereVolumes(d[0], out, n);
+            case CUBE -> kernels.cubeVolumes(d[0], out, n);
+            case CYLINDER -> kernels.cylinderVolumes(d[0], d[1], out, n);
+            case RECTANGULAR_PRISM -> kernels.rectangularPrismVolumes(d[0], d[1], d[2], out, n);
+            case CONE -> kernels.coneVolumes(d[0], d[1], out, n);
+        }
+    }
+
+    /**
+     * Computes the surface area of every shape of the given type.
+     *
+     * <p>Equivalent to {@code surfaceAreas(type, out, GeometryKernels.scalar())},
+     * so the results match {@link Shape3D#calculateSurfaceArea()} exactly.</p>
+     *
+     * @param type the shape type
+     * @param out  receives the surface area of row {@code i} at index
+     *             {@code i}; must hold at least {@link #size(ShapeType)}
+     *             elements
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public void surfaceAreas(ShapeType type, double[] out) {
+        surfaceAreas(type, out, GeometryKernels.scalar());
+    }
+
+    /**
+     * Computes the surface area of every shape of the given type with the
+     * given kernels, e.g. {@link GeometryKernels#best()} for SIMD throughput.
+     *
+     * @param type    the shape type
+     * @param out     receives the surface area of row {@code i} at index
+     *                {@code i}; must hold at least {@link #size(ShapeType)}
+     *                elements
+     * @param kernels the kernels to evaluate the column with
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public void surfaceAreas(ShapeType type, double[] out, GeometryKernels kernels) {
+        TypeColumns column = columns[type.ordinal()];
+        int n = column.size;
+        checkOutput(out, n);
+        double[][] d = column.dimensions;
+        switch (type) {
+            case SPHERE -> kernels.sphereSurfaceAreas(d[0], out, n);
+            case CUBE -> kernels.cubeSurfaceAreas(d[0], out, n);
+            case CYLINDER -> kernels.cylinderSurfaceAreas(d[0], d[1], out, n);
+            case RECTANGULAR_PRISM -> kernels.rectangularPrismSurfaceAreas(d[0], d[1], d[2], out, n);
+            case CONE -> kernels.coneSurfaceAreas(d[0], d[1], out, n);
+        }
+    }
+
+    /**
+     * Computes the volume and surface area of {@code count} consecutive rows
+     * of one type with the given kernels, so a caller can walk a large
+     * column in blocks without allocating arrays for the whole column.
+     * Values for row {@code from + i} are written at index {@code i}. The
+     * kernels read the dimension columns in place, starting at {@code from}.
+     *
+     * @param type         the shape type
+     * @param from         the first row
+     * @param count        the number of rows
+     * @param volumes      receives the volumes; must hold {@code count} elements
+     * @param surfaceAreas receives the surface areas; must hold {@code count}
+     *                     elements
+     * @param kernels      the kernels to evaluate the block with
+     * @throws IndexOutOfBoundsException if the rows are out of range
+     * @throws IllegalArgumentException  if an output array is too short
+     */
+    public void measure(ShapeType type, int from, int count, double[] volumes, double[] surfaceAreas,
+                        GeometryKernels kernels) {
+        TypeColumns column = columns[type.ordinal()];
+        Objects.checkFromIndexSize(from, count, column.size);
+        checkOutput(volumes, count);
+        checkOutput(surfaceAreas, count);
+        double[][] d = column.dimensions;
+        switch (type) {
+            case SPHERE -> {
+                kernels.sphereVolumes(d[0], from, volumes, count);
+                kernels.sphereSurfaceAreas(d[0], from, surfaceAreas, count);
+            }
+            case CUBE -> {
+                kernels.cubeVolumes(d[0], from, volumes, count);
+                kernels.cubeSurfaceAreas(d[0], from, surfaceAreas, count);
+            }
+            case CYLINDER -> {
+                kernels.cylinderVolumes(d[0], d[1], from, volumes, count);
+                kernels.cylinderSurfaceAreas(d[0], d[1], from, surfaceAreas, count);
+            }
+            case RECTANGULAR_PRISM -> {
+                kernels.rectangularPrismVolumes(d[0], d[1], d[2], from, volumes, count);
+                kernels.rectangularPrismSurfaceAreas(d[0], d[1], d[2], from, surfaceAreas, count);
+            }
+            case CONE -> {
+                kernels.coneVolumes(d[0], d[1], from, volumes, count);
+                kernels.coneSurfaceAreas(d[0], d[1], from, surfaceAreas, count);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Object views
+    // ---------------------------------------------------------------
+
+    /**
+     * Returns a flyweight view positioned on one shape.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return a new view of the shape
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public ShapeView view(ShapeType type, int row) {
+        return new ShapeView(this).moveTo(type, row);
+    }
+
+    /**
+     * Visits every shape of the given type in row order through a single
+     * reused view. The view must not be retained beyond the callback.
+     *
+     * @param type   the shape type
+     * @param action the action to run for each row
+     */
+    public void forEach(ShapeType type, Consumer<? super ShapeView> action) {
+        int n = size(type);
+        ShapeView view = new ShapeView(this);
+        for (int row = 0; row < n; row++) {
+            action.accept(view.moveTo(type, row));
+        }
+    }
+
+    /**
+     * Builds a new, independent {@link Shape3D} with the stored name, color
+     * and dimensions of one row.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return a new shape object
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public Shape3D toShape(ShapeType type, int row) {
+        TypeColumns column = columns[type.ordinal()];
+        checkRow(column, row);
+        String name = column.names[row];
+        String color = colors.decode(column.colors[row]);
+        double[][] d = column.dimensions;
+        return switch (type) {
+            case SPHERE -> new Sphere(name, color, d[0][row]);
+            case CUBE -> new Cube(name, color, d[0][row]);
+            case CYLINDER -> new Cylinder(name, color, d[0][row], d[1][row]);
+            case RECTANGULAR_PRISM -> new RectangularPrism(name, color, d[0][row], d[1][row], d[2][row]);
+            case CONE -> new Cone(name, color, d[0][row], d[1][row]);
+        };
+    }
+
+    // ---------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------
+
+    void checkRow(ShapeType type, int row) {
+        checkRow(columns[type.ordinal()], row);
+    }
+
+    private static void checkRow(TypeColumns column, int row) {
+        if (row < 0 || row >= column.size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range [0, " + column.size + ").");
+        }
+    }
+
+    private static void checkOutput(double[] out, int required) {
+        if (out.length < required) {
+            throw new IllegalArgumentException("Output array holds " + out.length
+                    + " elements but " + required + " are required.");
+        }
+    }
+
+    /**
+     * Parallel columns for a single shape type.
+     */
+    private static final class TypeColumns {
+
+        private final double[][] dimensions;
+        private String[] names = new String[INITIAL_CAPACITY];
+        private int[] colors = new int[INITIAL_CAPACITY];
+        private int size;
+
+        TypeColumns(int dimensionCount) {
+            dimensions = new double[dimensionCount][INITIAL_CAPACITY];
+        }
+
+        int append(String name, int color, double d0, double d1, double d2) {
+            if (size == names.length) {
+                grow();
+            }
+            int row = size;
+            names[row] = name;
+            colors[row] = color;
+            dimensions[0][row] = d0;
+            if (dimensions.length > 1) {
+                dimensions[1][row] = d1;
+            }
+            if (dimensions.length > 2) {
+                dimensions[2][row] = d2;
+            }
+            size = row + 1;
+            return row;
+        }
+
+        void appendAll(TypeColumns other, int[] colorCodes) {
+            int required = size + other.size;
+            if (required < 0 || required > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("ShapeStore column capacity exhausted.");
+            }
+            if (required > names.length) {
+                names = Arrays.copyOf(names, required);
+                colors = Arrays.copyOf(colors, required);
+                for (int i = 0; i < dimensions.length; i++) {
+                    dimensions[i] = Arrays.copyOf(dimensions[i], required);
+                }
+            }
+            System.arraycopy(other.names, 0, names, size, other.size);
+            for (int row = 0; row < other.size; row++) {
+                colors[size + row] = colorCodes[other.colors[row]];
+            }
+            for (int i = 0; i < dimensions.length; i++) {
+                System.arraycopy(other.dimensions[i], 0, dimensions[i], size, other.size);
+            }
+            size = required;
+        }
+
+        private void grow() {
+            int capacity = (int) Math.min(names.length + (names.length >> 1) + 1L, Integer.MAX_VALUE - 8);
+            if (capacity <= names.length) {
+                throw new IllegalStateException("ShapeStore column capacity exhausted.");
+            }
+            names = Arrays.copyOf(names, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            for (int i = 0; i < dimensions.length; i++) {
+                dimensions[i] = Arrays.copyOf(dimensions[i], capacity);
+            }
+        }
+    }
+}
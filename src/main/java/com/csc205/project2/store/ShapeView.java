@@ -0,0 +1,127 @@
+package com.csc205.project2.store;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.ThreeDimensionalShape;
+
+/**
+ * A flyweight {@link ThreeDimensionalShape} that reads one row of a
+ * {@link ShapeStore}.
+ *
+ * <p>A view holds nothing but its store, a type and a row, so a single
+ * instance can be repositioned with {@link #moveTo(ShapeType, int)} and
+ * reused for every shape in a scan. Volume and surface area are evaluated
+ * from the stored dimensions on each call and match the per-object
+ * {@code calculateVolume()} / {@code calculateSurfaceArea()} results
+ * exactly.</p>
+ *
+ * @see ShapeStore
+ */
+public final class ShapeView implements ThreeDimensionalShape {
+
+    private final ShapeStore store;
+    private ShapeType type;
+    private int row;
+
+    ShapeView(ShapeStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Repositions this view on another shape in the same store.
+     *
+     * @param type the shape type
+     * @param row  the row within {@code type}
+     * @return this view
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public ShapeView moveTo(ShapeType type, int row) {
+        store.checkRow(type, row);
+        this.type = type;
+        this.row = row;
+        return this;
+    }
+
+    /**
+     * Returns the type of the shape this view is positioned on.
+     *
+     * @return the shape type
+     */
+    public ShapeType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the row this view is positioned on.
+     *
+     * @return the row within {@link #getType()}
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the stored name.
+     *
+     * @return the shape name
+     */
+    public String getName() {
+        return store.name(type, row);
+    }
+
+    /**
+     * Returns the stored color.
+     *
+     * @return the shape color
+     */
+    public String getColor() {
+        return store.color(type, row);
+    }
+
+    /**
+     * Returns one stored dimension.
+     *
+     * @param dimension the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return the dimension value
+     */
+    public double getDimension(int dimension) {
+        return store.dimension(type, row, dimension);
+    }
+
+    @Override
+    public double getSurfaceArea() {
+        return store.surfaceArea(type, row);
+    }
+
+    @Override
+    public double getVolume() {
+        return store.volume(type, row);
+    }
+
+    /**
+     * Builds an independent {@link Shape3D} copy of the current row.
+     *
+     * @return a new shape object
+     */
+    public Shape3D toShape() {
+        return store.toShape(type, row);
+    }
+
+    /**
+     * Returns the same text as {@code toString()} on the equivalent
+     * {@link Shape3D}.
+     *
+     * @return a human-readable description of the current row
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(64)
+                .append(type.displayName())
+                .append(" {name='").append(getName()).append('\'')
+                .append(", color='").append(getColor()).append('\'');
+        for (int i = 0; i < type.dimensionCount(); i++) {
+            sb.append(", ").append(type.dimensionNames().get(i)).append('=').append(getDimension(i));
+        }
+        return sb.append('}').toString();
+    }
+}
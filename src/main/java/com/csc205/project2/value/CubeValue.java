@@ -0,0 +1,30 @@
+package com.csc205.project2.value;
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Immutable cube value. See {@link ShapeValue} for the shared contract.
+ */
+public final class CubeValue extends ShapeValue {
+
+    /**
+     * Creates a cube value.
+     *
+     * @param color      the color
+     * @param sideLength the side length
+     * @throws IllegalArgumentException if the color is {@code null} or blank,
+     *                                  or a dimension is zero or negative
+     */
+    public CubeValue(String color, double sideLength) {
+        super(ShapeType.CUBE, color, sideLength, 0.0, 0.0);
+    }
+
+    /**
+     * Returns the side length.
+     *
+     * @return the side length
+     */
+    public double sideLength() {
+        return dimension(0);
+    }
+}
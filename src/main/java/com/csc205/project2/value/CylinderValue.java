@@ -0,0 +1,40 @@
+package com.csc205.project2.value;
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Immutable cylinder value. See {@link ShapeValue} for the shared contract.
+ */
+public final class CylinderValue extends ShapeValue {
+
+    /**
+     * Creates a cylinder value.
+     *
+     * @param color  the color
+     * @param radius the radius
+     * @param height the height
+     * @throws IllegalArgumentException if the color is {@code null} or blank,
+     *                                  or a dimension is zero or negative
+     */
+    public CylinderValue(String color, double radius, double height) {
+        super(ShapeType.CYLINDER, color, radius, height, 0.0);
+    }
+
+    /**
+     * Returns the radius.
+     *
+     * @return the radius
+     */
+    public double radius() {
+        return dimension(0);
+    }
+
+    /**
+     * Returns the height.
+     *
+     * @return the height
+     */
+    public double height() {
+        return dimension(1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.csc205.project2.value;
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Immutable rectangular prism value. See {@link ShapeValue} for the shared contract.
+ */
+public final class RectangularPrismValue extends ShapeValue {
+
+    /**
+     * Creates a rectangular prism value.
+     *
+     * @param color  the color
+     * @param length the length
+     * @param width  the width
+     * @param height the height
+     * @throws IllegalArgumentException if the color is {@code null} or blank,
+     *                                  or a dimension is zero or negative
+     */
+    public RectangularPrismValue(String color, double length, double width, double height) {
+        super(ShapeType.RECTANGULAR_PRISM, color, length, width, height);
+    }
+
+    /**
+     * Returns the length.
+     *
+     * @return the length
+     */
+    public double length() {
+        return dimension(0);
+    }
+
+    /**
+     * Returns the width.
+     *
+     * @return the width
+     */
+    public double width() {
+        return dimension(1);
+    }
+
+    /**
+     * Returns the height.
+     *
+     * @return the height
+     */
+    public double height() {
+        return dimension(2);
+    }
+}
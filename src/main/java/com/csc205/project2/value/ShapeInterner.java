@@ -0,0 +1,160 @@
+package com.csc205.project2.value;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Factory that hands out one shared {@link ShapeValue} instance per distinct
+ * type, color and set of dimensions.
+ *
+ * <p>Catalogs of standard parts contain the same few shapes many thousands
+ * of times. Interning them means each distinct part is allocated, validated
+ * and measured once, and identical parts can be compared with {@code ==}.
+ * Lookups go through a {@link ConcurrentHashMap}, so one interner can be
+ * shared by every thread; when two threads intern equal values at the same
+ * time, both receive the same instance.</p>
+ *
+ * <p>Interned values are held until {@link #clear()} is called, so an
+ * interner should be scoped to a catalog or an import rather than kept for
+ * the life of the program when the set of parts is open-ended.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Flyweight</em> — identical parts share one immutable
+ *       instance</li>
+ *   <li><em>Factory</em> — callers ask for a part and never learn whether it
+ *       was created or reused</li>
+ * </ul>
+ *
+ * @see ShapeValue
+ */
+public final class ShapeInterner {
+
+    private final ConcurrentHashMap<ShapeValue, ShapeValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty interner.
+     */
+    public ShapeInterner() {
+        // starts empty
+    }
+
+    /**
+     * Returns the shared instance equal to {@code value}, registering
+     * {@code value} itself if it is the first of its kind.
+     *
+     * @param value the value to intern
+     * @return the canonical instance
+     * @throws IllegalArgumentException if {@code value} is {@code null}
+     */
+    public ShapeValue intern(ShapeValue value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null.");
+        }
+        ShapeValue existing = values.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * Returns the shared value for a type, color and dimensions in
+     * {@link ShapeType#dimensionNames()} order.
+     *
+     * @param type       the shape type
+     * @param color      the color
+     * @param dimensions the dimensions
+     * @return the canonical instance
+     * @throws IllegalArgumentException if the number of dimensions is wrong or
+     *                                  a value is invalid
+     */
+    public ShapeValue of(ShapeType type, String color, double... dimensions) {
+        return intern(ShapeValue.of(type, color, dimensions));
+    }
+
+    /**
+     * Returns the shared value equivalent to a mutable shape.
+     *
+     * @param shape the shape to convert
+     * @return the canonical instance
+     */
+    public ShapeValue of(Shape3D shape) {
+        return intern(ShapeValue.of(shape));
+    }
+
+    /**
+     * Returns the shared sphere value.
+     *
+     * @param color  the color
+     * @param radius the radius
+     * @return the canonical instance
+     */
+    public SphereValue sphere(String color, double radius) {
+        return (SphereValue) intern(new SphereValue(color, radius));
+    }
+
+    /**
+     * Returns the shared cube value.
+     *
+     * @param color      the color
+     * @param sideLength the side length
+     * @return the canonical instance
+     */
+    public CubeValue cube(String color, double sideLength) {
+        return (CubeValue) intern(new CubeValue(color, sideLength));
+    }
+
+    /**
+     * Returns the shared cylinder value.
+     *
+     * @param color  the color
+     * @param radius the radius
+     * @param height the height
+     * @return the canonical instance
+     */
+    public CylinderValue cylinder(String color, double radius, double height) {
+        return (CylinderValue) intern(new CylinderValue(color, radius, height));
+    }
+
+    /**
+     * Returns the shared rectangular prism value.
+     *
+     * @param color  the color
+     * @param length the length
+     * @param width  the width
+     * @param height the height
+     * @return the canonical instance
+     */
+    public RectangularPrismValue rectangularPrism(String color, double length, double width, double height) {
+        return (RectangularPrismValue) intern(new RectangularPrismValue(color, length, width, height));
+    }
+
+    /**
+     * Returns the shared cone value.
+     *
+     * @param color  the color
+     * @param radius the base radius
+     * @param height the height
+     * @return the canonical instance
+     */
+    public ConeValue cone(String color, double radius, double height) {
+        return (ConeValue) intern(new ConeValue(color, radius, height));
+    }
+
+    /**
+     * Returns the number of distinct values held.
+     *
+     * @return the number of interned values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Forgets every interned value. Instances already handed out stay valid
+     * but are no longer shared with later requests.
+     */
+    public void clear() {
+        values.clear();
+    }
+}
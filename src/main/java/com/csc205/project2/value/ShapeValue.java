@@ -0,0 +1,256 @@
+package com.csc205.project2.value;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeFormulas;
+import com.csc205.project2.shapes.ShapeRules;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+import com.csc205.project2.shapes.ThreeDimensionalShape;
+
+/**
+ * Immutable value counterpart of a {@link Shape3D}: a shape type, a color
+ * and the dimensions, with volume and surface area computed once at
+ * construction.
+ *
+ * <p>Two values are equal when they have the same type, color and
+ * dimensions; dimensions are compared like record components, with
+ * {@link Double#compare}. A value has no name, because it describes a part
+ * rather than one placed instance of it, which is what lets
+ * {@link ShapeInterner} share a single instance between every identical
+ * part in a catalog. {@link #toShape(String)} and {@link #of(Shape3D)}
+ * convert to and from the mutable classes.</p>
+ *
+ * <p>Values are validated with the same {@link ShapeRules} and messages as
+ * the mutable constructors. Because every field is final, values are safe
+ * to cache and to share between threads without synchronization.</p>
+ *
+ * <p>Java records cannot carry fields beyond their components, so the
+ * variants are final classes with record-style accessors instead; the
+ * hierarchy is sealed, so a {@code switch} over a {@code ShapeValue} can be
+ * exhaustive.</p>
+ *
+ * <p><strong>Design patterns demonstrated:</strong></p>
+ * <ul>
+ *   <li><em>Value object</em> — identity is defined by content, not by
+ *       reference</li>
+ *   <li><em>Template method</em> — the base class validates, computes and
+ *       compares; each variant only names its dimensions</li>
+ * </ul>
+ *
+ * @see ShapeInterner
+ */
+public abstract sealed class ShapeValue implements ThreeDimensionalShape
+        permits SphereValue, CubeValue, CylinderValue, RectangularPrismValue, ConeValue {
+
+    private final ShapeType type;
+    private final String color;
+    private final double d0;
+    private final double d1;
+    private final double d2;
+    private final double volume;
+    private final double surfaceArea;
+    private final int hash;
+
+    ShapeValue(ShapeType type, String color, double d0, double d1, double d2) {
+        if (!ShapeRules.isValidText(color)) {
+            throw new IllegalArgumentException(ShapeRules.COLOR_MESSAGE);
+        }
+        double[] dimensions = {d0, d1, d2};
+        for (int i = 0; i < type.dimensionCount(); i++) {
+            if (!ShapeRules.isValidDimension(dimensions[i])) {
+                throw new IllegalArgumentException(ShapeRules.dimensionMessage(type, i));
+            }
+        }
+        this.type = type;
+        this.color = color;
+        this.d0 = d0;
+        this.d1 = d1;
+        this.d2 = d2;
+        this.volume = switch (type) {
+            case SPHERE -> ShapeFormulas.sphereVolume(d0);
+            case CUBE -> ShapeFormulas.cubeVolume(d0);
+            case CYLINDER -> ShapeFormulas.cylinderVolume(d0, d1);
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismVolume(d0, d1, d2);
+            case CONE -> ShapeFormulas.coneVolume(d0, d1);
+        };
+        this.surfaceArea = switch (type) {
+            case SPHERE -> ShapeFormulas.sphereSurfaceArea(d0);
+            case CUBE -> ShapeFormulas.cubeSurfaceArea(d0);
+            case CYLINDER -> ShapeFormulas.cylinderSurfaceArea(d0, d1);
+            case RECTANGULAR_PRISM -> ShapeFormulas.rectangularPrismSurfaceArea(d0, d1, d2);
+            case CONE -> ShapeFormulas.coneSurfaceArea(d0, ShapeFormulas.coneSlantHeight(d0, d1));
+        };
+        int h = type.hashCode();
+        h = 31 * h + this.color.hashCode();
+        h = 31 * h + Double.hashCode(d0);
+        h = 31 * h + Double.hashCode(d1);
+        this.hash = 31 * h + Double.hashCode(d2);
+    }
+
+    /**
+     * Creates the value equivalent of a mutable shape. The shape's name is
+     * not part of the value.
+     *
+     * @param shape the shape to convert
+     * @return a value with the same type, color and dimensions
+     */
+    public static ShapeValue of(Shape3D shape) {
+        return switch (ShapeType.of(shape)) {
+            case SPHERE -> new SphereValue(shape.getColor(), ((Sphere) shape).getRadius());
+            case CUBE -> new CubeValue(shape.getColor(), ((Cube) shape).getSideLength());
+            case CYLINDER -> {
+                Cylinder cylinder = (Cylinder) shape;
+                yield new CylinderValue(shape.getColor(), cylinder.getRadius(), cylinder.getHeight());
+            }
+            case RECTANGULAR_PRISM -> {
+                RectangularPrism prism = (RectangularPrism) shape;
+                yield new RectangularPrismValue(shape.getColor(), prism.getLength(), prism.getWidth(),
+                        prism.getHeight());
+            }
+            case CONE -> {
+                Cone cone = (Cone) shape;
+                yield new ConeValue(shape.getColor(), cone.getRadius(), cone.getHeight());
+            }
+        };
+    }
+
+    /**
+     * Creates a value from a type tag and dimensions in
+     * {@link ShapeType#dimensionNames()} order.
+     *
+     * @param type       the shape type
+     * @param color      the color
+     * @param dimensions exactly {@link ShapeType#dimensionCount()} dimensions
+     * @return the new value
+     * @throws IllegalArgumentException if the number of dimensions is wrong or
+     *                                  a value is invalid
+     */
+    public static ShapeValue of(ShapeType type, String color, double... dimensions) {
+        if (dimensions.length != type.dimensionCount()) {
+            throw new IllegalArgumentException(type.displayName() + " requires " + type.dimensionCount()
+                    + " dimension(s) but " + dimensions.length + " were given.");
+        }
+        return switch (type) {
+            case SPHERE -> new SphereValue(color, dimensions[0]);
+            case CUBE -> new CubeValue(color, dimensions[0]);
+            case CYLINDER -> new CylinderValue(color, dimensions[0], dimensions[1]);
+            case RECTANGULAR_PRISM -> new RectangularPrismValue(color, dimensions[0], dimensions[1], dimensions[2]);
+            case CONE -> new ConeValue(color, dimensions[0], dimensions[1]);
+        };
+    }
+
+    /**
+     * Returns the shape type.
+     *
+     * @return the type tag
+     */
+    public ShapeType type() {
+        return type;
+    }
+
+    /**
+     * Returns the color, exactly as given when the value was created.
+     *
+     * @return the color
+     */
+    public String color() {
+        return color;
+    }
+
+    /**
+     * Returns one dimension.
+     *
+     * @param index the dimension index in {@link ShapeType#dimensionNames()} order
+     * @return the dimension value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double dimension(int index) {
+        return switch (index < type.dimensionCount() ? index : -1) {
+            case 0 -> d0;
+            case 1 -> d1;
+            case 2 -> d2;
+            default -> throw new IndexOutOfBoundsException("Dimension " + index + " out of range for "
+                    + type.displayName() + ".");
+        };
+    }
+
+    /**
+     * Returns the volume computed at construction.
+     *
+     * @return the volume in cubic units
+     */
+    @Override
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * Returns the surface area computed at construction.
+     *
+     * @return the surface area in square units
+     */
+    @Override
+    public double getSurfaceArea() {
+        return surfaceArea;
+    }
+
+    /**
+     * Creates a new mutable shape with this value's color and dimensions.
+     *
+     * @param name the name of the new shape
+     * @return a new, independent {@link Shape3D}
+     * @throws IllegalArgumentException if {@code name} is {@code null} or blank
+     */
+    public Shape3D toShape(String name) {
+        return switch (type) {
+            case SPHERE -> new Sphere(name, color, d0);
+            case CUBE -> new Cube(name, color, d0);
+            case CYLINDER -> new Cylinder(name, color, d0, d1);
+            case RECTANGULAR_PRISM -> new RectangularPrism(name, color, d0, d1, d2);
+            case CONE -> new Cone(name, color, d0, d1);
+        };
+    }
+
+    // ---------------------------------------------------------------
+    // Object overrides
+    // ---------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof ShapeValue that
+                && type == that.type
+                && hash == that.hash
+                && color.equals(that.color)
+                && Double.compare(d0, that.d0) == 0
+                && Double.compare(d1, that.d1) == 0
+                && Double.compare(d2, that.d2) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns the value in record notation, e.g.
+     * {@code CylinderValue[color=Red, radius=1.0, height=2.0]}.
+     *
+     * @return a human-readable description of this value
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(getClass().getSimpleName())
+                .append("[color=").append(color);
+        for (int i = 0; i < type.dimensionCount(); i++) {
+            text.append(", ").append(type.dimensionNames().get(i)).append('=').append(dimension(i));
+        }
+        return text.append(']').toString();
+    }
+}
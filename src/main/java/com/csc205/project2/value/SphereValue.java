@@ -0,0 +1,30 @@
+package com.csc205.project2.value;
+
+import com.csc205.project2.shapes.ShapeType;
+
+/**
+ * Immutable sphere value. See {@link ShapeValue} for the shared contract.
+ */
+public final class SphereValue extends ShapeValue {
+
+    /**
+     * Creates a sphere value.
+     *
+     * @param color  the color
+     * @param radius the radius
+     * @throws IllegalArgumentException if the color is {@code null} or blank,
+     *                                  or a dimension is zero or negative
+     */
+    public SphereValue(String color, double radius) {
+        super(ShapeType.SPHERE, color, radius, 0.0, 0.0);
+    }
+
+    /**
+     * Returns the radius.
+     *
+     * @return the radius
+     */
+    public double radius() {
+        return dimension(0);
+    }
+}
@@ -2,15 +2,21 @@ package com.csc205.project2;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.csc205.project2.shapes.Cone;
 import com.csc205.project2.shapes.Cube;
@@ -52,6 +58,27 @@ class ShapeDriverTest {
         return baos.toString();
     }
 
+    /**
+     * Runs {@code ShapeDriver.main} with the given arguments while capturing
+     * {@code System.out} and {@code System.err}; returns both, separated by
+     * a form feed.
+     */
+    private String runMainWithArgs(String... args) {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        System.setErr(new PrintStream(err));
+        try {
+            ShapeDriver.main(args);
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        return out + "\f" + err;
+    }
+
     /**
      * Runs {@code ShapeDriver.displayShapesAndAnalysis} directly and
      * captures its output — no interactive menu involved.
@@ -264,5 +291,87 @@ class ShapeDriverTest {
             assertTrue(output.contains("6."));
             assertTrue(output.contains("Extra Ball"));
         }
+
+        @Test
+        @DisplayName("Rankings option lists top and bottom shapes by each metric")
+        void rankingsOption() {
+            String output = runMainWithInput("4\n2\n3\n");
+            assertTrue(output.contains("=== Rankings ==="));
+            assertTrue(output.contains("Top 2 by Volume:"));
+            assertTrue(output.contains("  1. Red Ball (523.60)"));
+            assertTrue(output.contains("  2. Green Pipe (197.92)"));
+            assertTrue(output.contains("Bottom 2 by Volume:"));
+            assertTrue(output.contains("  1. Yellow Brick (36.00)"));
+            assertTrue(output.contains("Top 2 by Efficiency (V/SA):"));
+        }
+
+        @Test
+        @DisplayName("Rankings option rejects a non-positive size")
+        void rankingsRejectsBadSize() {
+            String output = runMainWithInput("4\n0\n4\nabc\n3\n");
+            assertTrue(output.contains("Ranking size must be greater than zero"));
+            assertTrue(output.contains("Invalid number format"));
+        }
+
+        @Test
+        @DisplayName("Distribution option prints percentiles per shape type")
+        void distributionOption() {
+            String output = runMainWithInput("5\n3\n");
+            assertTrue(output.contains("=== Distribution Statistics ==="));
+            assertTrue(output.contains("Sphere (1 shape):"));
+            assertTrue(output.contains("   - Volume: p50="));
+            assertTrue(output.contains("max=523.60"));
+        }
+    }
+
+    // =================================================================
+    // Batch mode
+    // =================================================================
+    @Nested
+    @DisplayName("Batch mode")
+    class BatchModeTests {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("Batch file is analysed without entering the menu")
+        void batchFile() throws IOException {
+            Path file = tempDir.resolve("shapes.csv");
+            Files.writeString(file, "Sphere,Red Ball,Red,5.0\nCube,Blue Box,Blue,4.0\n");
+            String output = runMainWithArgs("--batch", file.toString());
+            assertTrue(output.contains("1. Sphere {name='Red Ball', color='Red', radius=5.0}"));
+            assertTrue(output.contains("- Largest Volume: Red Ball (523.60)"));
+            assertFalse(output.contains("Interactive Shape Creator"));
+        }
+
+        @Test
+        @DisplayName("Batch mode reads standard input with a dash")
+        void batchStdin() {
+            InputStream originalIn = System.in;
+            System.setIn(new ByteArrayInputStream("Cube,Box,Blue,2\n".getBytes(StandardCharsets.UTF_8)));
+            try {
+                String output = runMainWithArgs("--batch", "-", "--summary-only");
+                assertTrue(output.contains("- Largest Volume: Box (8.00)"));
+                assertFalse(output.contains("1. Cube"));
+            } finally {
+                System.setIn(originalIn);
+            }
+        }
+
+        @Test
+        @DisplayName("Invalid arguments print usage")
+        void invalidArguments() {
+            String output = runMainWithArgs("--bogus");
+            assertTrue(output.contains("Invalid arguments: Unknown argument: --bogus"));
+            assertTrue(output.contains("Usage: ShapeDriver"));
+        }
+
+        @Test
+        @DisplayName("Missing file is reported")
+        void missingFile() {
+            String output = runMainWithArgs("--batch", tempDir.resolve("absent.csv").toString());
+            assertTrue(output.contains("Cannot read batch input"));
+        }
     }
 }
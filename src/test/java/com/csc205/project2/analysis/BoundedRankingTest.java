@@ -0,0 +1,136 @@
+package com.csc205.project2.analysis;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedRanking}.
+ */
+@DisplayName("BoundedRanking")
+class BoundedRankingTest {
+
+    /** Ordinals of the best {@code k} values by full sort, ties by ordinal. */
+    private long[] expectedOrdinals(double[] values, int k, BoundedRanking.Order order) {
+        Comparator<Integer> byValue = Comparator.comparingDouble(i -> values[i]);
+        if (order == BoundedRanking.Order.HIGHEST) {
+            byValue = byValue.reversed();
+        }
+        return IntStream.range(0, values.length).boxed()
+                .sorted(byValue.thenComparingInt(i -> i))
+                .limit(k)
+                .mapToLong(Integer::longValue)
+                .toArray();
+    }
+
+    private double[] randomValues(int n, int distinct, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(distinct) * 0.5;
+        }
+        return values;
+    }
+
+    // =================================================================
+    // Ranking
+    // =================================================================
+    @Nested
+    @DisplayName("Ranking")
+    class RankingTests {
+
+        @Test
+        @DisplayName("Keeps the same top-K as a full sort, ties by ordinal")
+        void highestMatchesSort() {
+            double[] values = randomValues(20_000, 50, 1);
+            BoundedRanking ranking = new BoundedRanking(100, BoundedRanking.Order.HIGHEST);
+            for (int i = 0; i < values.length; i++) {
+                ranking.offer(values[i], i);
+            }
+            assertArrayEquals(expectedOrdinals(values, 100, BoundedRanking.Order.HIGHEST), ranking.ordinals());
+        }
+
+        @Test
+        @DisplayName("Keeps the same bottom-K as a full sort, ties by ordinal")
+        void lowestMatchesSort() {
+            double[] values = randomValues(20_000, 50, 2);
+            BoundedRanking ranking = new BoundedRanking(100, BoundedRanking.Order.LOWEST);
+            for (int i = 0; i < values.length; i++) {
+                ranking.offer(values[i], i);
+            }
+            assertArrayEquals(expectedOrdinals(values, 100, BoundedRanking.Order.LOWEST), ranking.ordinals());
+        }
+
+        @Test
+        @DisplayName("Values are returned best first")
+        void valuesSorted() {
+            BoundedRanking ranking = new BoundedRanking(3, BoundedRanking.Order.HIGHEST);
+            for (double value : new double[]{4, 9, 1, 7, 3}) {
+                ranking.offer(value, (long) value);
+            }
+            assertArrayEquals(new double[]{9, 7, 4}, ranking.values());
+            assertEquals(3, ranking.size());
+        }
+
+        @Test
+        @DisplayName("NaN values are ignored")
+        void nanIgnored() {
+            BoundedRanking ranking = new BoundedRanking(5, BoundedRanking.Order.LOWEST);
+            ranking.offer(Double.NaN, 0);
+            ranking.offer(2.0, 1);
+            assertArrayEquals(new long[]{1}, ranking.ordinals());
+        }
+    }
+
+    // =================================================================
+    // Merging
+    // =================================================================
+    @Nested
+    @DisplayName("Merging")
+    class MergeTests {
+
+        @Test
+        @DisplayName("Merging partitions in any order equals a single pass")
+        void mergeIndependentOfPartitioning() {
+            double[] values = randomValues(10_000, 20, 3);
+            BoundedRanking whole = new BoundedRanking(64, BoundedRanking.Order.HIGHEST);
+            BoundedRanking[] parts = new BoundedRanking[7];
+            for (int p = 0; p < parts.length; p++) {
+                parts[p] = new BoundedRanking(64, BoundedRanking.Order.HIGHEST);
+            }
+            for (int i = 0; i < values.length; i++) {
+                whole.offer(values[i], i);
+                parts[i % parts.length].offer(values[i], i);
+            }
+            BoundedRanking merged = new BoundedRanking(64, BoundedRanking.Order.HIGHEST);
+            for (int p = parts.length - 1; p >= 0; p--) {
+                merged.merge(parts[p]);
+            }
+            assertArrayEquals(whole.ordinals(), merged.ordinals());
+            assertEquals(Arrays.toString(whole.values()), Arrays.toString(merged.values()));
+        }
+
+        @Test
+        @DisplayName("Merging rankings with different orders is rejected")
+        void mergeDifferentOrders() {
+            BoundedRanking highest = new BoundedRanking(1, BoundedRanking.Order.HIGHEST);
+            BoundedRanking lowest = new BoundedRanking(1, BoundedRanking.Order.LOWEST);
+            assertThrows(IllegalArgumentException.class, () -> highest.merge(lowest));
+        }
+
+        @Test
+        @DisplayName("Non-positive capacity is rejected")
+        void invalidCapacity() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BoundedRanking(0, BoundedRanking.Order.HIGHEST));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.csc205.project2.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link DistributionStats}.
+ */
+@DisplayName("DistributionStats")
+class DistributionStatsTest {
+
+    private List<Shape3D> buildShapes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double a = 0.5 + 20 * random.nextDouble();
+            double b = 0.5 + 20 * random.nextDouble();
+            shapes.add(switch (random.nextInt(5)) {
+                case 0 -> new Sphere("S" + i, "Red", a);
+                case 1 -> new Cube("C" + i, "Blue", a);
+                case 2 -> new Cylinder("Y" + i, "Green", a, b);
+                case 3 -> new RectangularPrism("P" + i, "Yellow", a, b, 2.0);
+                default -> new Cone("K" + i, "Purple", a, b);
+            });
+        }
+        return shapes;
+    }
+
+    @Nested
+    @DisplayName("Per-type statistics")
+    class PerTypeTests {
+
+        @Test
+        @DisplayName("Percentiles are within 1% of exact per-type quantiles")
+        void accurateAgainstExact() {
+            List<Shape3D> shapes = buildShapes(20_000, 1);
+            DistributionStats stats = DistributionStats.of(shapes);
+            for (ShapeType type : ShapeType.values()) {
+                for (Metric metric : Metric.values()) {
+                    double[] values = shapes.stream()
+                            .filter(s -> ShapeType.of(s) == type)
+                            .mapToDouble(metric::of)
+                            .sorted()
+                            .toArray();
+                    QuantileSketch sketch = stats.getSketch(type, metric);
+                    assertEquals(values.length, stats.getCount(type));
+                    for (double q : new double[]{0.5, 0.9, 0.99}) {
+                        double exact = values[(int) Math.floor(q * (values.length - 1))];
+                        assertTrue(Math.abs(sketch.quantile(q) - exact) <= 0.01 * exact * (1 + 1e-9),
+                                type + " " + metric + " q=" + q);
+                    }
+                    assertEquals(values[values.length - 1], sketch.getMax(), 0.0);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Parallel and sequential statistics are identical")
+        void parallelMatchesSequential() {
+            List<Shape3D> shapes = buildShapes(30_000, 2);
+            DistributionStats sequential = new DistributionStats();
+            shapes.forEach(sequential::accept);
+            DistributionStats parallel = shapes.parallelStream().collect(DistributionStats.collector());
+            for (ShapeType type : ShapeType.values()) {
+                assertEquals(sequential.getCount(type), parallel.getCount(type));
+                for (Metric metric : Metric.values()) {
+                    assertEquals(sequential.getSketch(type, metric).quantile(0.9),
+                            parallel.getSketch(type, metric).quantile(0.9), 0.0);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Absent types have empty sketches and the all-type sketch counts everything")
+        void absentTypesAndTotals() {
+            DistributionStats stats = DistributionStats.of(List.of(
+                    new Sphere("A", "Red", 1.0), new Sphere("B", "Red", 2.0), new Cube("C", "Blue", 3.0)));
+            assertEquals(0, stats.getCount(ShapeType.CONE));
+            assertTrue(stats.getSketch(ShapeType.CONE, Metric.VOLUME).isEmpty());
+            assertEquals(3, stats.getSketch(Metric.VOLUME).getCount());
+            double largestSphere = new Sphere("B", "Red", 2.0).getVolume();
+            assertEquals(largestSphere, stats.getSketch(Metric.VOLUME).getMax(), 0.0);
+            assertEquals(largestSphere, stats.getSketch(ShapeType.SPHERE, Metric.VOLUME).getMax(), 0.0);
+            assertEquals(27.0, stats.getSketch(ShapeType.CUBE, Metric.VOLUME).getMax(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Counts include shapes whose metrics the sketches drop as NaN")
+        void countsIncludeNaNMetrics() {
+            Sphere huge = new Sphere("Huge", "Red", 1e200);
+            assertTrue(Double.isNaN(huge.getVolume() / huge.getSurfaceArea()));
+            DistributionStats stats = DistributionStats.of(List.of(huge, new Sphere("Unit", "Red", 1.0)));
+            assertEquals(1, stats.getSketch(ShapeType.SPHERE, Metric.EFFICIENCY).getCount());
+            assertEquals(2, stats.getCount(ShapeType.SPHERE));
+
+            stats.merge(DistributionStats.of(List.of(huge)));
+            assertEquals(3, stats.getCount(ShapeType.SPHERE));
+            assertEquals(0, stats.getCount(ShapeType.CUBE));
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.csc205.project2.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link IncrementalShapeAnalysis}.
+ *
+ * <p>After any sequence of additions, removals and resizes, the summary must
+ * match a fresh {@link ShapeAnalyzer#analyze} of the same shapes in the same
+ * order.</p>
+ */
+@DisplayName("IncrementalShapeAnalysis")
+class IncrementalShapeAnalysisTest {
+
+    /** Builds shapes with few distinct sizes so every metric has ties. */
+    private List<Shape3D> buildTiedShapes(Random random, int count) {
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double size = 1.0 + random.nextInt(5);
+            shapes.add(switch (random.nextInt(5)) {
+                case 0 -> new Sphere("S" + i, "Red", size);
+                case 1 -> new Cube("C" + i, "Blue", size);
+                case 2 -> new Cylinder("Y" + i, "Green", size, size);
+                case 3 -> new RectangularPrism("P" + i, "Yellow", size, size, size);
+                default -> new Cone("K" + i, "Purple", size, size);
+            });
+        }
+        return shapes;
+    }
+
+    private static void resize(Shape3D shape, double size) {
+        if (shape instanceof Sphere sphere) {
+            sphere.setRadius(size);
+        } else if (shape instanceof Cube cube) {
+            cube.setSideLength(size);
+        } else if (shape instanceof Cylinder cylinder) {
+            cylinder.setHeight(size);
+        } else if (shape instanceof RectangularPrism prism) {
+            prism.setWidth(size);
+        } else if (shape instanceof Cone cone) {
+            cone.setRadius(size);
+        }
+    }
+
+    private static void assertMatchesRescan(List<Shape3D> shapes, ShapeAnalysis actual) {
+        ShapeAnalysis expected = ShapeAnalyzer.analyzeSequential(shapes);
+        assertSame(expected.getLargestVolumeShape(), actual.getLargestVolumeShape());
+        assertEquals(expected.getLargestVolume(), actual.getLargestVolume());
+        assertSame(expected.getLargestSurfaceAreaShape(), actual.getLargestSurfaceAreaShape());
+        assertEquals(expected.getLargestSurfaceArea(), actual.getLargestSurfaceArea());
+        assertSame(expected.getMostEfficientShape(), actual.getMostEfficientShape());
+        assertEquals(expected.getBestEfficiency(), actual.getBestEfficiency());
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getCountsByType(), actual.getCountsByType());
+        assertEquals(expected.getTotalVolume(), actual.getTotalVolume(), 1e-9 * expected.getTotalVolume());
+        assertEquals(expected.getTotalSurfaceArea(), actual.getTotalSurfaceArea(),
+                1e-9 * expected.getTotalSurfaceArea());
+    }
+
+    // =================================================================
+    // Equivalence with a full rescan
+    // =================================================================
+    @Nested
+    @DisplayName("Equivalence with a full rescan")
+    class Equivalence {
+
+        @Test
+        @DisplayName("Summary of added shapes matches the analyzer, including ties")
+        void testAddedShapes() {
+            List<Shape3D> shapes = buildTiedShapes(new Random(5), 2_000);
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(shapes);
+            assertEquals(shapes.size(), analysis.getCount());
+            assertMatchesRescan(shapes, analysis.summary());
+        }
+
+        @Test
+        @DisplayName("Random adds, removes and resizes keep the summary in step")
+        void testRandomUpdates() {
+            Random random = new Random(11);
+            List<Shape3D> shapes = buildTiedShapes(random, 500);
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(shapes);
+            int created = 0;
+
+            for (int step = 0; step < 1_500; step++) {
+                int action = random.nextInt(3);
+                if (action == 0) {
+                    Shape3D shape = buildTiedShapes(random, 1).get(0);
+                    shape.setName("N" + created++);
+                    shapes.add(shape);
+                    analysis.add(shape);
+                } else if (action == 1 && !shapes.isEmpty()) {
+                    Shape3D shape = shapes.remove(random.nextInt(shapes.size()));
+                    assertTrue(analysis.remove(shape));
+                } else if (!shapes.isEmpty()) {
+                    resize(shapes.get(random.nextInt(shapes.size())), 1.0 + random.nextInt(6));
+                }
+                if (step % 100 == 0) {
+                    assertMatchesRescan(shapes, analysis.summary());
+                }
+            }
+            assertMatchesRescan(shapes, analysis.summary());
+        }
+
+        @Test
+        @DisplayName("Resizing the winner hands the title to the next shape")
+        void testResizeWinner() {
+            Sphere big = new Sphere("Big", "Red", 10.0);
+            Cube small = new Cube("Small", "Blue", 2.0);
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(List.of(big, small));
+            assertSame(big, analysis.summary().getLargestVolumeShape());
+
+            big.setRadius(0.5);
+            ShapeAnalysis summary = analysis.summary();
+            assertSame(small, summary.getLargestVolumeShape());
+            assertEquals(8.0, summary.getLargestVolume(), 1e-12);
+            assertMatchesRescan(List.of(big, small), summary);
+        }
+    }
+
+    // =================================================================
+    // Tracking
+    // =================================================================
+    @Nested
+    @DisplayName("Tracking")
+    class Tracking {
+
+        @Test
+        @DisplayName("An empty analysis has no winners and zero totals")
+        void testEmpty() {
+            ShapeAnalysis summary = new IncrementalShapeAnalysis().summary();
+            assertTrue(summary.isEmpty());
+            assertNull(summary.getLargestVolumeShape());
+            assertEquals(Double.NEGATIVE_INFINITY, summary.getLargestVolume());
+            assertEquals(0.0, summary.getTotalVolume());
+        }
+
+        @Test
+        @DisplayName("The same instance is only tracked once")
+        void testDuplicateAdd() {
+            Cube cube = new Cube("Box", "Blue", 2.0);
+            IncrementalShapeAnalysis analysis = new IncrementalShapeAnalysis();
+            assertTrue(analysis.add(cube));
+            assertFalse(analysis.add(cube));
+            assertEquals(1, analysis.getCount());
+            assertEquals(1, analysis.summary().getCount(ShapeType.CUBE));
+        }
+
+        @Test
+        @DisplayName("Removing every shape returns to an empty summary")
+        void testRemoveAll() {
+            List<Shape3D> shapes = buildTiedShapes(new Random(2), 50);
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(shapes);
+            for (Shape3D shape : shapes) {
+                assertTrue(analysis.remove(shape));
+            }
+            assertFalse(analysis.remove(shapes.get(0)));
+            ShapeAnalysis summary = analysis.summary();
+            assertTrue(summary.isEmpty());
+            assertNull(summary.getMostEfficientShape());
+            assertEquals(0.0, summary.getTotalSurfaceArea(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Removed and cleared shapes no longer update the analysis")
+        void testDetach() {
+            Sphere removed = new Sphere("Gone", "Red", 1.0);
+            Cube kept = new Cube("Kept", "Blue", 1.0);
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(List.of(removed, kept));
+            analysis.remove(removed);
+            removed.setRadius(100.0);
+            assertSame(kept, analysis.summary().getLargestVolumeShape());
+
+            analysis.clear();
+            kept.setSideLength(3.0);
+            assertEquals(0, analysis.getCount());
+            assertFalse(analysis.contains(kept));
+            assertTrue(analysis.summary().isEmpty());
+        }
+
+        @Test
+        @DisplayName("A non-finite total is restored once the shape is removed")
+        void testNonFiniteTotal() {
+            Cube cube = new Cube("Box", "Blue", 2.0);
+            Sphere huge = new Sphere("Huge", "Red", 1e200);
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(List.of(cube, huge));
+            assertEquals(Double.POSITIVE_INFINITY, analysis.summary().getTotalVolume());
+
+            analysis.remove(huge);
+            assertEquals(8.0, analysis.summary().getTotalVolume(), 1e-12);
+        }
+
+        @Test
+        @DisplayName("A total that overflows from finite volumes recovers when one is removed")
+        void testOverflowingTotal() {
+            RectangularPrism first = new RectangularPrism("First", "Red", 1e154, 1e154, 1.5);
+            RectangularPrism second = new RectangularPrism("Second", "Red", 1e154, 1e154, 1.5);
+            double volume = first.calculateVolume();
+            assertTrue(Double.isFinite(volume) && volume > Double.MAX_VALUE / 2);
+
+            IncrementalShapeAnalysis analysis = IncrementalShapeAnalysis.of(List.of(first, second));
+            assertEquals(Double.POSITIVE_INFINITY, analysis.summary().getTotalVolume());
+
+            analysis.remove(second);
+            assertEquals(volume, analysis.summary().getTotalVolume());
+            analysis.add(new Cube("Box", "Blue", 2.0));
+            assertEquals(volume + 8.0, analysis.summary().getTotalVolume());
+        }
+
+        @Test
+        @DisplayName("Null shapes are rejected")
+        void testNull() {
+            assertThrows(IllegalArgumentException.class, () -> new IncrementalShapeAnalysis().add(null));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.csc205.project2.analysis;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QuantileSketch}, including accuracy against exact
+ * quantiles.
+ */
+@DisplayName("QuantileSketch")
+class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999};
+
+    /** The exact value of rank {@code q * (n - 1)} in sorted order. */
+    private static double exactQuantile(double[] sorted, double q) {
+        return sorted[(int) Math.floor(q * (sorted.length - 1))];
+    }
+
+    private void assertAccurate(DoubleSupplier source, int n, double accuracy) {
+        QuantileSketch sketch = new QuantileSketch(accuracy);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = source.getAsDouble();
+            sketch.accept(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : QUANTILES) {
+            double exact = exactQuantile(values, q);
+            double estimate = sketch.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= accuracy * exact * (1 + 1e-9),
+                    "q=" + q + " exact=" + exact + " estimate=" + estimate);
+        }
+        assertEquals(values[0], sketch.getMin(), 0.0);
+        assertEquals(values[n - 1], sketch.getMax(), 0.0);
+        assertEquals(values[n - 1], sketch.quantile(1.0), 0.0);
+    }
+
+    // =================================================================
+    // Accuracy
+    // =================================================================
+    @Nested
+    @DisplayName("Accuracy against exact quantiles")
+    class AccuracyTests {
+
+        @Test
+        @DisplayName("Uniform values stay within 1%")
+        void uniform() {
+            Random random = new Random(1);
+            assertAccurate(() -> 1 + 999 * random.nextDouble(), 100_000, 0.01);
+        }
+
+        @Test
+        @DisplayName("Log-normal values spanning many magnitudes stay within 1%")
+        void logNormal() {
+            Random random = new Random(2);
+            assertAccurate(() -> Math.exp(4 * random.nextGaussian()), 100_000, 0.01);
+        }
+
+        @Test
+        @DisplayName("Cubed radii, as in sphere volumes, stay within 0.5%")
+        void cubedRadii() {
+            Random random = new Random(3);
+            assertAccurate(() -> {
+                double r = 0.1 + 50 * random.nextDouble();
+                return 4.0 / 3.0 * Math.PI * r * r * r;
+            }, 50_000, 0.005);
+        }
+
+        @Test
+        @DisplayName("A handful of repeated values is answered within accuracy")
+        void repeatedValues() {
+            double[] choices = {1.5, 2.0, 523.6};
+            Random random = new Random(4);
+            assertAccurate(() -> choices[random.nextInt(choices.length)], 1_000, 0.01);
+        }
+    }
+
+    // =================================================================
+    // Merging and edge cases
+    // =================================================================
+    @Nested
+    @DisplayName("Merging and edge cases")
+    class MergeTests {
+
+        @Test
+        @DisplayName("Merged partial sketches answer exactly like one sketch")
+        void mergeIsExact() {
+            Random random = new Random(5);
+            QuantileSketch whole = new QuantileSketch();
+            QuantileSketch[] parts = {new QuantileSketch(), new QuantileSketch(), new QuantileSketch()};
+            for (int i = 0; i < 30_000; i++) {
+                double value = Math.exp(3 * random.nextGaussian());
+                whole.accept(value);
+                parts[i % 3].accept(value);
+            }
+            QuantileSketch merged = parts[2].copy().merge(parts[0]).merge(parts[1]);
+            for (double q : QUANTILES) {
+                assertEquals(whole.quantile(q), merged.quantile(q), 0.0);
+            }
+            assertEquals(whole.getCount(), merged.getCount());
+        }
+
+        @Test
+        @DisplayName("Empty sketch returns NaN")
+        void empty() {
+            QuantileSketch sketch = new QuantileSketch();
+            assertTrue(sketch.isEmpty());
+            assertTrue(Double.isNaN(sketch.quantile(0.5)));
+            assertTrue(Double.isNaN(sketch.getMax()));
+        }
+
+        @Test
+        @DisplayName("Out-of-range values are clamped to the exact min and max")
+        void outOfRange() {
+            QuantileSketch sketch = new QuantileSketch();
+            sketch.accept(0.0);
+            sketch.accept(1e30);
+            sketch.accept(2e30);
+            sketch.accept(Double.NaN);
+            assertEquals(3, sketch.getCount());
+            assertEquals(0.0, sketch.quantile(0.0), 0.0);
+            assertEquals(0.0, sketch.quantile(0.4), 0.0);
+            assertEquals(2e30, sketch.quantile(0.9), 0.0);
+        }
+
+        @Test
+        @DisplayName("Invalid arguments are rejected")
+        void invalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0.0));
+            assertThrows(IllegalArgumentException.class, () -> new QuantileSketch().quantile(1.5));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new QuantileSketch(0.01).merge(new QuantileSketch(0.02)));
+        }
+    }
+}
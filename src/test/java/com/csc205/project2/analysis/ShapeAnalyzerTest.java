@@ -0,0 +1,205 @@
+package com.csc205.project2.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeAnalyzer} and {@link ShapeAnalysis}.
+ *
+ * <p>The parallel path must select exactly the same shapes as a sequential
+ * pass, including the first-wins rule among ties.</p>
+ */
+@DisplayName("ShapeAnalyzer")
+class ShapeAnalyzerTest {
+
+    /**
+     * Builds a large list in which only a handful of distinct sizes occur,
+     * so every metric has many tied shapes scattered across the list.
+     */
+    private List<Shape3D> buildTiedShapes(int count) {
+        Random random = new Random(3);
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double size = 1.0 + random.nextInt(5);
+            shapes.add(switch (random.nextInt(5)) {
+                case 0 -> new Sphere("S" + i, "Red", size);
+                case 1 -> new Cube("C" + i, "Blue", size);
+                case 2 -> new Cylinder("Y" + i, "Green", size, size);
+                case 3 -> new RectangularPrism("P" + i, "Yellow", size, size, size);
+                default -> new Cone("K" + i, "Purple", size, size);
+            });
+        }
+        return shapes;
+    }
+
+    // =================================================================
+    // Equivalence with the original sequential loop
+    // =================================================================
+    @Nested
+    @DisplayName("Sequential and parallel equivalence")
+    class Equivalence {
+
+        @Test
+        @DisplayName("Sequential analysis matches the original driver loop")
+        void sequentialMatchesLegacyLoop() {
+            List<Shape3D> shapes = buildTiedShapes(2_000);
+
+            Shape3D largestVolumeShape = null;
+            double largestVolume = Double.NEGATIVE_INFINITY;
+            Shape3D mostEfficientShape = null;
+            double bestEfficiency = Double.NEGATIVE_INFINITY;
+            for (Shape3D shape : shapes) {
+                double volume = shape.getVolume();
+                double efficiency = volume / shape.getSurfaceArea();
+                if (volume > largestVolume) {
+                    largestVolume = volume;
+                    largestVolumeShape = shape;
+                }
+                if (efficiency > bestEfficiency) {
+                    bestEfficiency = efficiency;
+                    mostEfficientShape = shape;
+                }
+            }
+
+            ShapeAnalysis analysis = ShapeAnalyzer.analyzeSequential(shapes);
+            assertSame(largestVolumeShape, analysis.getLargestVolumeShape());
+            assertSame(mostEfficientShape, analysis.getMostEfficientShape());
+            assertEquals(largestVolume, analysis.getLargestVolume(), 0.0);
+            assertEquals(bestEfficiency, analysis.getBestEfficiency(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Parallel analysis picks the same tied winners as sequential")
+        void parallelMatchesSequential() {
+            List<Shape3D> shapes = buildTiedShapes(50_000);
+            ShapeAnalysis sequential = ShapeAnalyzer.analyzeSequential(shapes);
+            ShapeAnalysis parallel = ShapeAnalyzer.analyzeParallel(shapes);
+
+            assertSame(sequential.getLargestVolumeShape(), parallel.getLargestVolumeShape());
+            assertSame(sequential.getLargestSurfaceAreaShape(), parallel.getLargestSurfaceAreaShape());
+            assertSame(sequential.getMostEfficientShape(), parallel.getMostEfficientShape());
+            assertEquals(sequential.getCount(), parallel.getCount());
+            assertEquals(sequential.getCountsByType(), parallel.getCountsByType());
+            assertEquals(sequential.getTotalVolume(), parallel.getTotalVolume(),
+                    sequential.getTotalVolume() * 1e-12);
+            assertEquals(sequential.getTotalSurfaceArea(), parallel.getTotalSurfaceArea(),
+                    sequential.getTotalSurfaceArea() * 1e-12);
+        }
+
+        @Test
+        @DisplayName("analyze() returns the same winners on either side of the threshold")
+        void analyzeUsesEitherPath() {
+            List<Shape3D> shapes = buildTiedShapes(ShapeAnalyzer.PARALLEL_THRESHOLD + 1);
+            assertSame(ShapeAnalyzer.analyzeSequential(shapes).getMostEfficientShape(),
+                    ShapeAnalyzer.analyze(shapes).getMostEfficientShape());
+        }
+    }
+
+    // =================================================================
+    // Accumulator semantics
+    // =================================================================
+    @Nested
+    @DisplayName("Accumulator semantics")
+    class AccumulatorTests {
+
+        @Test
+        @DisplayName("Merge keeps the earlier shape when values tie")
+        void mergeKeepsEarlierOnTie() {
+            Sphere first = new Sphere("First", "Red", 2.0);
+            Sphere second = new Sphere("Second", "Red", 2.0);
+            ShapeAnalysis left = new ShapeAnalysis();
+            left.accept(first);
+            ShapeAnalysis right = new ShapeAnalysis();
+            right.accept(second);
+
+            assertSame(first, left.merge(right).getLargestVolumeShape());
+        }
+
+        @Test
+        @DisplayName("Merge takes the later shape when it is strictly larger")
+        void mergeTakesStrictlyLarger() {
+            ShapeAnalysis left = new ShapeAnalysis();
+            left.accept(new Cube("Small", "Blue", 1.0));
+            ShapeAnalysis right = new ShapeAnalysis();
+            Cube big = new Cube("Big", "Blue", 3.0);
+            right.accept(big);
+
+            ShapeAnalysis merged = left.merge(right);
+            assertSame(big, merged.getLargestVolumeShape());
+            assertEquals(28.0, merged.getTotalVolume(), 1e-12);
+            assertEquals(2, merged.getCount(ShapeType.CUBE));
+        }
+
+        @Test
+        @DisplayName("Merging with an empty analysis changes nothing")
+        void mergeWithEmpty() {
+            ShapeAnalysis analysis = new ShapeAnalysis();
+            Cone cone = new Cone("Hat", "Purple", 4.0, 9.0);
+            analysis.accept(cone);
+            analysis.merge(new ShapeAnalysis());
+            assertSame(cone, analysis.getMostEfficientShape());
+            assertEquals(1, analysis.getCount());
+        }
+
+        @Test
+        @DisplayName("Empty analysis has no winners")
+        void emptyAnalysis() {
+            ShapeAnalysis analysis = ShapeAnalyzer.analyze(List.of());
+            assertTrue(analysis.isEmpty());
+            assertNull(analysis.getLargestVolumeShape());
+            assertEquals(0.0, analysis.getTotalVolume(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Totals that overflow are infinite on every path, never NaN")
+        void overflowingTotals() {
+            List<Shape3D> infiniteTerm = List.of(new Sphere("Huge", "Red", 1e200), new Cube("Unit", "Blue", 1.0));
+            assertEquals(Double.POSITIVE_INFINITY, ShapeAnalyzer.analyzeSequential(infiniteTerm).getTotalVolume());
+            assertEquals(Double.POSITIVE_INFINITY, IncrementalShapeAnalysis.of(infiniteTerm).summary().getTotalVolume());
+
+            // Each volume is finite, but their sum is not.
+            List<Shape3D> finiteTerms = List.of(new Cube("A", "Blue", 5e102), new Cube("B", "Blue", 5e102),
+                    new Cube("C", "Blue", 1.0));
+            assertEquals(Double.POSITIVE_INFINITY, ShapeAnalyzer.analyzeSequential(finiteTerms).getTotalVolume());
+
+            ShapeAnalysis first = ShapeAnalyzer.analyzeSequential(infiniteTerm);
+            first.merge(ShapeAnalyzer.analyzeSequential(finiteTerms));
+            assertEquals(Double.POSITIVE_INFINITY, first.getTotalVolume());
+            ShapeAnalysis finite = ShapeAnalyzer.analyzeSequential(List.of(new Cube("D", "Blue", 2.0)));
+            finite.merge(ShapeAnalyzer.analyzeSequential(infiniteTerm));
+            assertEquals(Double.POSITIVE_INFINITY, finite.getTotalVolume());
+            assertEquals(8.0, ShapeAnalyzer.analyzeSequential(List.of(new Cube("E", "Blue", 2.0)))
+                    .getTotalVolume(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Counts are tracked per type")
+        void countsPerType() {
+            ShapeAnalysis analysis = ShapeAnalyzer.analyze(List.of(
+                    new Sphere("A", "Red", 1.0),
+                    new Sphere("B", "Red", 2.0),
+                    new Cylinder("C", "Green", 1.0, 2.0)));
+            assertEquals(3, analysis.getCount());
+            assertEquals(2, analysis.getCount(ShapeType.SPHERE));
+            assertEquals(1, analysis.getCount(ShapeType.CYLINDER));
+            assertEquals(0, analysis.getCount(ShapeType.CONE));
+        }
+    }
+}
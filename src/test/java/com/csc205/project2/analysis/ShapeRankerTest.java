@@ -0,0 +1,154 @@
+package com.csc205.project2.analysis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+import com.csc205.project2.store.ShapeStore;
+import com.csc205.project2.store.ShapeView;
+
+/**
+ * Unit tests for {@link ShapeRanker} and {@link ShapeRankings}.
+ */
+@DisplayName("ShapeRanker")
+class ShapeRankerTest {
+
+    private List<Shape3D> buildShapes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double size = 1.0 + random.nextInt(40) * 0.25;
+            shapes.add(switch (i % 5) {
+                case 0 -> new Sphere("S" + i, "Red", size);
+                case 1 -> new Cube("C" + i, "Blue", size);
+                case 2 -> new Cylinder("Y" + i, "Green", size, 2.0);
+                case 3 -> new RectangularPrism("P" + i, "Yellow", size, 1.0, 2.0);
+                default -> new Cone("K" + i, "Purple", size, 3.0);
+            });
+        }
+        return shapes;
+    }
+
+    private List<Shape3D> items(List<Ranked<Shape3D>> entries) {
+        List<Shape3D> shapes = new ArrayList<>();
+        for (Ranked<Shape3D> entry : entries) {
+            shapes.add(entry.getItem());
+        }
+        return shapes;
+    }
+
+    // =================================================================
+    // Object lists
+    // =================================================================
+    @Nested
+    @DisplayName("Object lists")
+    class ListTests {
+
+        @Test
+        @DisplayName("Top-K matches a stable full sort for every metric")
+        void matchesFullSort() {
+            List<Shape3D> shapes = buildShapes(3_000, 4);
+            ShapeRankings<Shape3D> rankings = ShapeRanker.rankSequential(shapes, 50);
+            for (Metric metric : Metric.values()) {
+                List<Shape3D> descending = new ArrayList<>(shapes);
+                descending.sort(Comparator.comparingDouble((Shape3D s) -> metric.of(s)).reversed());
+                List<Shape3D> ascending = new ArrayList<>(shapes);
+                ascending.sort(Comparator.comparingDouble(metric::of));
+
+                assertEquals(descending.subList(0, 50), items(rankings.highest(metric)), metric.name());
+                assertEquals(ascending.subList(0, 50), items(rankings.lowest(metric)), metric.name());
+            }
+        }
+
+        @Test
+        @DisplayName("Parallel and sequential rankings are identical")
+        void parallelMatchesSequential() {
+            List<Shape3D> shapes = buildShapes(40_000, 5);
+            ShapeRankings<Shape3D> sequential = ShapeRanker.rankSequential(shapes, 100);
+            ShapeRankings<Shape3D> parallel = ShapeRanker.rankParallel(shapes, 100);
+            for (Metric metric : Metric.values()) {
+                assertEquals(items(sequential.highest(metric)), items(parallel.highest(metric)));
+                assertEquals(items(sequential.lowest(metric)), items(parallel.lowest(metric)));
+            }
+        }
+
+        @Test
+        @DisplayName("The first entries agree with ShapeAnalysis winners")
+        void agreesWithAnalysis() {
+            List<Shape3D> shapes = buildShapes(2_000, 6);
+            ShapeRankings<Shape3D> rankings = ShapeRanker.rank(shapes, 1);
+            ShapeAnalysis analysis = ShapeAnalyzer.analyze(shapes);
+            assertSame(analysis.getLargestVolumeShape(), rankings.highest(Metric.VOLUME).get(0).getItem());
+            assertSame(analysis.getLargestSurfaceAreaShape(),
+                    rankings.highest(Metric.SURFACE_AREA).get(0).getItem());
+            assertSame(analysis.getMostEfficientShape(), rankings.highest(Metric.EFFICIENCY).get(0).getItem());
+        }
+
+        @Test
+        @DisplayName("Rankings are shorter than K for small inputs and numbered from 1")
+        void smallInput() {
+            List<Shape3D> shapes = buildShapes(3, 7);
+            ShapeRankings<Shape3D> rankings = ShapeRanker.rank(shapes, 10);
+            List<Ranked<Shape3D>> top = rankings.highest(Metric.VOLUME);
+            assertEquals(3, top.size());
+            assertEquals(1, top.get(0).getRank());
+            assertEquals(3, top.get(2).getRank());
+            assertEquals(top.get(0).getItem().getVolume(), top.get(0).getValue(), 0.0);
+            assertEquals(10, rankings.getLimit());
+        }
+
+        @Test
+        @DisplayName("Empty input produces empty rankings")
+        void emptyInput() {
+            assertTrue(ShapeRanker.rank(List.of(), 5).lowest(Metric.EFFICIENCY).isEmpty());
+        }
+    }
+
+    // =================================================================
+    // Columnar storage
+    // =================================================================
+    @Nested
+    @DisplayName("Columnar storage")
+    class StoreTests {
+
+        @Test
+        @DisplayName("Store rankings match the rankings of the equivalent objects")
+        void storeMatchesObjects() {
+            List<Shape3D> shapes = buildShapes(30_000, 8);
+            ShapeStore store = ShapeStore.of(shapes);
+
+            // The store enumerates by type, then row; rank the objects in that order.
+            List<Shape3D> storeOrder = new ArrayList<>(shapes);
+            storeOrder.sort(Comparator.comparingInt(s -> ShapeType.of(s).ordinal()));
+
+            ShapeRankings<Shape3D> expected = ShapeRanker.rank(storeOrder, 25);
+            ShapeRankings<ShapeView> actual = ShapeRanker.rank(store, 25);
+            for (Metric metric : Metric.values()) {
+                List<Ranked<ShapeView>> top = actual.highest(metric);
+                List<Ranked<Shape3D>> expectedTop = expected.highest(metric);
+                assertEquals(expectedTop.size(), top.size());
+                for (int i = 0; i < top.size(); i++) {
+                    assertEquals(expectedTop.get(i).getItem().getName(), top.get(i).getItem().getName());
+                    assertEquals(expectedTop.get(i).getValue(), top.get(i).getValue(), 0.0);
+                }
+                assertEquals(expected.lowest(metric).get(0).getItem().getName(),
+                        actual.lowest(metric).get(0).getItem().getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.csc205.project2.batch;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.analysis.ShapeAnalysis;
+import com.csc205.project2.analysis.ShapeAnalyzer;
+import com.csc205.project2.ingest.IngestFormat;
+import com.csc205.project2.shapes.Shape3D;
+
+/**
+ * Unit tests for {@link BatchProcessor} and {@link BatchOptions}.
+ */
+@DisplayName("BatchProcessor")
+class BatchProcessorTest {
+
+    private static final String DEFAULT_SHAPES = String.join("\n",
+            "# the five demo shapes",
+            "Sphere,Red Ball,Red,5.0",
+            "Cube,Blue Box,Blue,4.0",
+            "",
+            "Cylinder,Green Pipe,Green,3.0,7.0",
+            "RectangularPrism,Yellow Brick,Yellow,6.0,3.0,2.0",
+            "Cone,Purple Party Hat,Purple,4.0,9.0");
+
+    /** Output and error text of one run. */
+    private static final class Run {
+        String out;
+        String err;
+        BatchSummary summary;
+    }
+
+    private Run run(Reader input, BatchOptions options) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        Run run = new Run();
+        run.summary = new BatchProcessor(options).run(new BufferedReader(input),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+        run.out = out.toString(StandardCharsets.UTF_8);
+        run.err = err.toString(StandardCharsets.UTF_8);
+        return run;
+    }
+
+    /**
+     * A reader that generates {@code lines} shape lines on the fly, so very
+     * long inputs can be streamed without being held in memory by the test.
+     */
+    private static final class GeneratedReader extends Reader {
+
+        private final long lines;
+        private long next;
+        private String pending = "";
+        private int position;
+
+        GeneratedReader(long lines) {
+            this.lines = lines;
+        }
+
+        static String line(long i) {
+            double size = 1.0 + (i * 7919 % 1000) / 100.0;
+            return switch ((int) (i % 5)) {
+                case 0 -> "Sphere,S" + i + ",Red," + size;
+                case 1 -> "Cube,C" + i + ",Blue," + size;
+                case 2 -> "Cylinder,Y" + i + ",Green," + size + ",2.5";
+                case 3 -> "RectangularPrism,P" + i + ",Yellow," + size + ",1.5,2.0";
+                default -> "Cone,K" + i + ",Purple," + size + ",3.0";
+            };
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == pending.length()) {
+                if (next == lines) {
+                    return -1;
+                }
+                pending = line(next++) + "\n";
+                position = 0;
+            }
+            int n = Math.min(length, pending.length() - position);
+            pending.getChars(position, position + n, buffer, offset);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+
+    // =================================================================
+    // Report
+    // =================================================================
+    @Nested
+    @DisplayName("Report")
+    class ReportTests {
+
+        @Test
+        @DisplayName("Report lists every shape in order and the analysis")
+        void fullReport() throws IOException {
+            Run run = run(new StringReader(DEFAULT_SHAPES), new BatchOptions("-", false, 3, 2));
+            assertTrue(run.out.startsWith("=== 3D Shape Analysis System ==="));
+            assertTrue(run.out.contains("Created Shapes:"));
+            assertTrue(run.out.contains("1. Sphere {name='Red Ball', color='Red', radius=5.0}"));
+            assertTrue(run.out.contains("5. Cone {name='Purple Party Hat'"));
+            assertTrue(run.out.indexOf("1. Sphere") < run.out.indexOf("2. Cube"));
+            assertTrue(run.out.contains("- Largest Volume: Red Ball (523.60)"));
+            assertTrue(run.out.contains("Processed 5 shapes (0 lines skipped)."));
+            assertEquals("", run.err);
+        }
+
+        @Test
+        @DisplayName("Summary-only omits the per-shape entries")
+        void summaryOnly() throws IOException {
+            Run run = run(new StringReader(DEFAULT_SHAPES), new BatchOptions("-", true, 2, 4));
+            assertFalse(run.out.contains("Created Shapes:"));
+            assertFalse(run.out.contains("   - Surface Area:"));
+            assertTrue(run.out.contains("Analysis Results:"));
+        }
+
+        @Test
+        @DisplayName("Invalid lines are reported with line numbers and skipped")
+        void invalidLines() throws IOException {
+            String input = "Sphere,A,Red,1\nCube,B,Blue,abc\nPyramid,C,Red,1\nCone,D,Purple,1,2\n";
+            Run run = run(new StringReader(input), new BatchOptions("-", false, 2, 1));
+            assertEquals(2, run.summary.getShapeCount());
+            assertEquals(2, run.summary.getRejectedCount());
+            assertTrue(run.err.contains("Skipped line 2: Invalid number for sideLength: 'abc'."));
+            assertTrue(run.err.contains("Skipped line 3: Unknown shape type: 'Pyramid'."));
+            assertTrue(run.out.contains("2. Cone {name='D'"));
+        }
+
+        @Test
+        @DisplayName("Empty input reports no shapes")
+        void emptyInput() throws IOException {
+            Run run = run(new StringReader("# nothing\n"), new BatchOptions("-", false, 1, 8));
+            assertTrue(run.out.contains("No shapes to display."));
+            assertEquals(0, run.summary.getShapeCount());
+        }
+    }
+
+    // =================================================================
+    // Streaming
+    // =================================================================
+    @Nested
+    @DisplayName("Streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Analysis of a streamed input matches the in-memory analyzer")
+        void matchesInMemoryAnalysis() throws IOException {
+            int lines = 20_000;
+            List<Shape3D> shapes = new ArrayList<>();
+            for (long i = 0; i < lines; i++) {
+                shapes.add(IngestFormat.CSV.parseLine(GeneratedReader.line(i)));
+            }
+            ShapeAnalysis expected = ShapeAnalyzer.analyzeSequential(shapes);
+
+            Run run = run(new GeneratedReader(lines), new BatchOptions("-", true, 4, 512));
+            ShapeAnalysis actual = run.summary.getAnalysis();
+            assertEquals(lines, run.summary.getShapeCount());
+            assertEquals(expected.getLargestVolumeShape().getName(), actual.getLargestVolumeShape().getName());
+            assertEquals(expected.getMostEfficientShape().getName(), actual.getMostEfficientShape().getName());
+            assertEquals(expected.getTotalVolume(), actual.getTotalVolume(), expected.getTotalVolume() * 1e-12);
+        }
+
+        @Test
+        @DisplayName("Per-shape numbering is continuous across work units")
+        void numberingAcrossUnits() throws IOException {
+            Run run = run(new GeneratedReader(1_000), new BatchOptions("-", false, 4, 7));
+            assertTrue(run.out.contains("1000. Cone {name='K999'"));
+            assertTrue(run.out.contains("8. Cylinder {name='Y7'"));
+        }
+
+        @Test
+        @DisplayName("A long input streams through with bounded work in flight")
+        void longInput() throws IOException {
+            Run run = run(new GeneratedReader(100_000), new BatchOptions("-", true, 2, 1024));
+            assertEquals(100_000, run.summary.getShapeCount());
+        }
+    }
+
+    // =================================================================
+    // Logging
+    // =================================================================
+    @Nested
+    @DisplayName("Logging")
+    class LoggingTests {
+
+        /** Counts the INFO records the shapes logger publishes during one run. */
+        private int infoRecords(BatchOptions options) throws IOException {
+            Logger shapesLogger = Logger.getLogger(BatchProcessor.SHAPES_LOGGER);
+            AtomicInteger count = new AtomicInteger();
+            Handler handler = new Handler() {
+                @Override
+                public void publish(LogRecord record) {
+                    if (record.getLevel() == Level.INFO) {
+                        count.incrementAndGet();
+                    }
+                }
+
+                @Override
+                public void flush() {
+                    // nothing buffered
+                }
+
+                @Override
+                public void close() {
+                    // nothing to release
+                }
+            };
+            shapesLogger.addHandler(handler);
+            try {
+                run(new StringReader(DEFAULT_SHAPES), options);
+            } finally {
+                shapesLogger.removeHandler(handler);
+            }
+            assertNull(shapesLogger.getLevel());
+            return count.get();
+        }
+
+        @Test
+        @DisplayName("The per-shape log is silenced for the run and the level restored")
+        void silencedByDefault() throws IOException {
+            assertEquals(0, infoRecords(new BatchOptions("-", true, 2, 2)));
+        }
+
+        @Test
+        @DisplayName("--log-shapes keeps the per-shape log")
+        void keptOnRequest() throws IOException {
+            assertTrue(infoRecords(new BatchOptions("-", true, 2, 2, true)) >= 5);
+        }
+    }
+
+    // =================================================================
+    // Options
+    // =================================================================
+    @Nested
+    @DisplayName("Options")
+    class OptionTests {
+
+        @Test
+        @DisplayName("Parses every flag")
+        void parsesFlags() {
+            BatchOptions options = BatchOptions.parse(new String[]{
+                "--batch", "shapes.csv", "--summary-only", "--threads", "3", "--batch-size", "10", "--log-shapes"});
+            assertEquals("shapes.csv", options.getInput());
+            assertFalse(options.isStdin());
+            assertTrue(options.isSummaryOnly());
+            assertEquals(3, options.getThreads());
+            assertEquals(10, options.getBatchSize());
+            assertTrue(options.isLogShapes());
+            assertFalse(BatchOptions.parse(new String[]{"--batch", "-"}).isLogShapes());
+        }
+
+        @Test
+        @DisplayName("Dash selects standard input")
+        void dashIsStdin() {
+            assertTrue(BatchOptions.parse(new String[]{"--batch", "-"}).isStdin());
+        }
+
+        @Test
+        @DisplayName("Invalid arguments are rejected")
+        void invalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[]{"--summary-only"}));
+            assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[]{"--batch"}));
+            assertThrows(IllegalArgumentException.class,
+                    () -> BatchOptions.parse(new String[]{"--batch", "-", "--threads", "0"}));
+            assertThrows(IllegalArgumentException.class,
+                    () -> BatchOptions.parse(new String[]{"--batch", "-", "--threads", "x"}));
+            assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[]{"--verbose"}));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.csc205.project2.csg;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.kernels.ContainmentKernels;
+import com.csc205.project2.shapes.BoundingBox;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link CompositeShape}.
+ */
+@DisplayName("CompositeShape")
+class CompositeShapeTest {
+
+    private static Shape3D sphereAt(String name, double x, double radius) {
+        Shape3D sphere = new Sphere(name, "Red", radius);
+        sphere.setPlacement(Placement.at(x, 0.0, 0.0));
+        return sphere;
+    }
+
+    // =================================================================
+    // Containment
+    // =================================================================
+    @Nested
+    @DisplayName("Containment")
+    class Containment {
+
+        private final CompositeShape a = CompositeShape.of(sphereAt("A", 0.0, 1.0));
+        private final CompositeShape b = CompositeShape.of(sphereAt("B", 1.5, 1.0));
+
+        @Test
+        @DisplayName("Union, intersection and difference combine the operands' answers")
+        void operations() {
+            CompositeShape union = a.union(b);
+            CompositeShape both = a.intersect(b);
+            CompositeShape cut = a.subtract(b);
+
+            assertTrue(union.contains(-0.9, 0.0, 0.0));
+            assertTrue(union.contains(2.4, 0.0, 0.0));
+            assertFalse(union.contains(0.75, 0.9, 0.0));
+
+            assertTrue(both.contains(0.75, 0.0, 0.0));
+            assertFalse(both.contains(-0.5, 0.0, 0.0));
+
+            assertTrue(cut.contains(-0.5, 0.0, 0.0));
+            assertFalse(cut.contains(0.75, 0.0, 0.0));
+            assertFalse(cut.contains(2.0, 0.0, 0.0));
+        }
+
+        @Test
+        @DisplayName("Composites see later changes to their primitives")
+        void livePrimitives() {
+            Shape3D moving = sphereAt("Moving", 10.0, 1.0);
+            CompositeShape composite = a.union(CompositeShape.of(moving));
+            assertFalse(composite.contains(5.0, 0.0, 0.0));
+            moving.setPlacement(Placement.at(5.0, 0.0, 0.0));
+            assertTrue(composite.contains(5.0, 0.0, 0.0));
+            assertEquals(6.0, composite.getBounds().getMaxX(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Batch classification in scratch buffers matches contains point by point")
+        void batchClassification() {
+            CompositeShape c = CompositeShape.of(sphereAt("C", 0.5, 0.8));
+            CompositeShape d = CompositeShape.of(new Cube("D", "Blue", 1.2));
+            CompositeShape tree = a.subtract(b.union(c.intersect(d)));
+            assertEquals(1, a.scratchDepth());
+            assertEquals(4, tree.scratchDepth());
+
+            Random random = new Random(11);
+            int count = 200;
+            double[] x = new double[count];
+            double[] y = new double[count];
+            double[] z = new double[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = -1.5 + 4.0 * random.nextDouble();
+                y[i] = -1.5 + 3.0 * random.nextDouble();
+                z[i] = -1.5 + 3.0 * random.nextDouble();
+            }
+            long[][] scratch = new long[tree.scratchDepth()][4];
+            tree.classify(x, y, z, count, tree.getBounds(), ContainmentKernels.scalar(), scratch, 0);
+            for (int i = 0; i < count; i++) {
+                boolean inside = (scratch[0][i >>> 6] & (1L << i)) != 0;
+                assertEquals(tree.contains(x[i], y[i], z[i]), inside, "point " + i);
+            }
+        }
+    }
+
+    // =================================================================
+    // Bounds and structure
+    // =================================================================
+    @Nested
+    @DisplayName("Bounds and structure")
+    class BoundsAndStructure {
+
+        @Test
+        @DisplayName("Bounds follow the operation and disjoint intersections are empty")
+        void bounds() {
+            CompositeShape a = CompositeShape.of(sphereAt("A", 0.0, 1.0));
+            CompositeShape b = CompositeShape.of(sphereAt("B", 1.5, 1.0));
+            CompositeShape far = CompositeShape.of(sphereAt("Far", 10.0, 1.0));
+
+            assertEquals(BoundingBox.of(-1.0, -1.0, -1.0, 2.5, 1.0, 1.0), a.union(b).getBounds());
+            assertEquals(BoundingBox.of(0.5, -1.0, -1.0, 1.0, 1.0, 1.0), a.intersect(b).getBounds());
+            assertEquals(a.getBounds(), a.subtract(b).getBounds());
+            assertNull(a.intersect(far).getBounds());
+            assertEquals(far.getBounds(), a.intersect(far).union(far).getBounds());
+            assertNull(a.intersect(far).subtract(b).getBounds());
+        }
+
+        @Test
+        @DisplayName("Leaves, operations, shapes and toString describe the tree")
+        void structure() {
+            Shape3D block = new Cube("Block", "Gray", 2.0);
+            Shape3D hole = new Sphere("Hole", "Gray", 0.5);
+            CompositeShape leaf = CompositeShape.of(block);
+            CompositeShape part = leaf.subtract(CompositeShape.of(hole)).union(leaf);
+
+            assertTrue(leaf.isLeaf());
+            assertNull(leaf.getOperation());
+            assertFalse(part.isLeaf());
+            assertEquals(CompositeShape.Operation.UNION, part.getOperation());
+            assertEquals(List.of(block, hole, block), part.getShapes());
+            assertEquals("UNION(DIFFERENCE(Cube 'Block', Sphere 'Hole'), Cube 'Block')", part.toString());
+        }
+
+        @Test
+        @DisplayName("Null shapes and operands are rejected")
+        void validation() {
+            CompositeShape leaf = CompositeShape.of(new Cube("Block", "Gray", 2.0));
+            assertThrows(IllegalArgumentException.class, () -> CompositeShape.of(null));
+            assertThrows(IllegalArgumentException.class, () -> leaf.union(null));
+            assertThrows(IllegalArgumentException.class, () -> leaf.intersect(null));
+            assertThrows(IllegalArgumentException.class, () -> leaf.subtract(null));
+        }
+    }
+}
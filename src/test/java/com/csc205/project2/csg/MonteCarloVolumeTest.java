@@ -0,0 +1,151 @@
+package com.csc205.project2.csg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link MonteCarloVolume}.
+ *
+ * <p>Estimates are compared with closed-form volumes. An estimate passes
+ * when it met its tolerance and lies within five standard errors of the
+ * exact value, which a correct estimator fails about once in two million
+ * runs; the seeds are fixed, so the outcome is the same on every run.</p>
+ */
+@DisplayName("MonteCarloVolume")
+class MonteCarloVolumeTest {
+
+    private final MonteCarloVolume estimator = new MonteCarloVolume();
+
+    private static Shape3D sphereAt(double x, double radius) {
+        Shape3D sphere = new Sphere("S", "Red", radius);
+        sphere.setPlacement(Placement.at(x, 0.0, 0.0));
+        return sphere;
+    }
+
+    private static void assertEstimates(double exact, double tolerance, VolumeEstimate estimate) {
+        assertTrue(estimate.isConverged(), estimate.toString());
+        assertTrue(estimate.getStandardError() <= tolerance, estimate.toString());
+        assertEquals(exact, estimate.getVolume(), 5 * estimate.getStandardError() + 1e-12, estimate.toString());
+    }
+
+    /** Volume of the lens shared by two spheres of radius {@code r} whose centers are {@code d} apart. */
+    private static double lens(double r, double d) {
+        return Math.PI * (4 * r + d) * (2 * r - d) * (2 * r - d) / 12;
+    }
+
+    // =================================================================
+    // Accuracy
+    // =================================================================
+    @Nested
+    @DisplayName("Accuracy")
+    class Accuracy {
+
+        @Test
+        @DisplayName("Single rotated primitives match their analytic volumes")
+        void primitives() {
+            Placement tilted = Placement.at(1.0, 2.0, 3.0).rotated(1.0, 1.0, 0.0, 0.6);
+            for (Shape3D shape : new Shape3D[] {new Sphere("S", "Red", 2.0),
+                    new Cylinder("Y", "Green", 1.0, 3.0), new Cone("K", "Blue", 1.5, 2.0)}) {
+                shape.setPlacement(tilted);
+                double tolerance = shape.getVolume() * 1e-3;
+                assertEstimates(shape.getVolume(), tolerance, estimator.estimate(shape, tolerance));
+            }
+        }
+
+        @Test
+        @DisplayName("Overlaps are counted once in unions and alone in intersections")
+        void overlappingSpheres() {
+            CompositeShape a = CompositeShape.of(sphereAt(0.0, 1.0));
+            CompositeShape b = CompositeShape.of(sphereAt(1.2, 1.0));
+            double sphere = 4.0 / 3.0 * Math.PI;
+            double lens = lens(1.0, 1.2);
+
+            assertEstimates(2 * sphere - lens, 2e-3, estimator.estimate(a.union(b), 2e-3));
+            assertEstimates(lens, 1e-3, estimator.estimate(a.intersect(b), 1e-3));
+            assertEstimates(sphere - lens, 2e-3, estimator.estimate(a.subtract(b), 2e-3));
+        }
+
+        @Test
+        @DisplayName("A cube with an inscribed sphere removed")
+        void drilledCube() {
+            CompositeShape block = CompositeShape.of(new Cube("Block", "Gray", 4.0))
+                    .subtract(CompositeShape.of(new Sphere("Hole", "Gray", 2.0)));
+            assertEstimates(64.0 - 32.0 * Math.PI / 3.0, 0.01, estimator.estimate(block, 0.01));
+        }
+
+        @Test
+        @DisplayName("An axis-aligned box fills every cell and is measured exactly")
+        void exactBox() {
+            VolumeEstimate estimate = estimator.estimate(new Cube("Block", "Gray", 3.0), 1e-9);
+            assertEquals(27.0, estimate.getVolume(), 1e-12);
+            assertEquals(0.0, estimate.getStandardError(), 0.0);
+            assertEquals(MonteCarloVolume.MIN_SAMPLES, estimate.getSamples());
+        }
+
+        @Test
+        @DisplayName("Disjoint intersections are empty without sampling")
+        void emptyIntersection() {
+            VolumeEstimate estimate = estimator.estimate(
+                    CompositeShape.of(sphereAt(0.0, 1.0)).intersect(CompositeShape.of(sphereAt(5.0, 1.0))), 1e-6);
+            assertEquals(0.0, estimate.getVolume(), 0.0);
+            assertEquals(0L, estimate.getSamples());
+            assertTrue(estimate.isConverged());
+        }
+    }
+
+    // =================================================================
+    // Determinism and budget
+    // =================================================================
+    @Nested
+    @DisplayName("Determinism and budget")
+    class DeterminismAndBudget {
+
+        @Test
+        @DisplayName("Equal seeds give identical estimates and different seeds do not")
+        void seeded() {
+            CompositeShape shape = CompositeShape.of(sphereAt(0.0, 1.0)).union(CompositeShape.of(sphereAt(1.0, 1.0)));
+            VolumeEstimate first = new MonteCarloVolume(7L, MonteCarloVolume.DEFAULT_MAX_SAMPLES).estimate(shape, 0.01);
+            VolumeEstimate second = new MonteCarloVolume(7L, MonteCarloVolume.DEFAULT_MAX_SAMPLES).estimate(shape, 0.01);
+            VolumeEstimate other = new MonteCarloVolume(8L, MonteCarloVolume.DEFAULT_MAX_SAMPLES).estimate(shape, 0.01);
+            assertEquals(first.getVolume(), second.getVolume(), 0.0);
+            assertEquals(first.getHits(), second.getHits());
+            assertNotEquals(first.getHits(), other.getHits());
+        }
+
+        @Test
+        @DisplayName("A spent budget returns the best estimate so far, marked unconverged")
+        void budget() {
+            MonteCarloVolume small = new MonteCarloVolume(1L, MonteCarloVolume.MIN_SAMPLES);
+            VolumeEstimate estimate = small.estimate(new Sphere("S", "Red", 1.0), 1e-9);
+            assertFalse(estimate.isConverged());
+            assertEquals(MonteCarloVolume.MIN_SAMPLES, estimate.getSamples());
+            assertEquals(4.0 / 3.0 * Math.PI, estimate.getVolume(), 5 * estimate.getStandardError());
+        }
+
+        @Test
+        @DisplayName("Invalid tolerances, budgets and shapes are rejected")
+        void validation() {
+            Shape3D sphere = new Sphere("S", "Red", 1.0);
+            assertThrows(IllegalArgumentException.class, () -> estimator.estimate(sphere, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> estimator.estimate(sphere, Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> estimator.estimate((CompositeShape) null, 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> estimator.estimate(new Sphere("NaN", "Red", Double.NaN), 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new MonteCarloVolume(1L, MonteCarloVolume.MIN_SAMPLES - 1));
+        }
+    }
+}
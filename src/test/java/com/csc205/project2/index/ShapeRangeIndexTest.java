@@ -0,0 +1,200 @@
+package com.csc205.project2.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.analysis.Metric;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeRangeIndex}.
+ *
+ * <p>Every query is checked against a linear scan over the same shapes.</p>
+ */
+@DisplayName("ShapeRangeIndex")
+class ShapeRangeIndexTest {
+
+    private static Shape3D randomShape(Random random, int i) {
+        double a = 0.5 + random.nextInt(20) * 0.5;
+        double b = 0.5 + random.nextInt(20) * 0.5;
+        return switch (random.nextInt(5)) {
+            case 0 -> new Sphere("S" + i, "Red", a);
+            case 1 -> new Cube("C" + i, "Blue", a);
+            case 2 -> new Cylinder("Y" + i, "Green", a, b);
+            case 3 -> new RectangularPrism("P" + i, "Yellow", a, b, a);
+            default -> new Cone("K" + i, "Purple", a, b);
+        };
+    }
+
+    private static List<Shape3D> scan(List<Shape3D> shapes, Metric metric, double min, double max) {
+        List<Shape3D> result = new ArrayList<>();
+        for (Shape3D shape : shapes) {
+            double value = metric.of(shape);
+            if (value >= min && value <= max) {
+                result.add(shape);
+            }
+        }
+        result.sort((x, y) -> Double.compare(metric.of(x), metric.of(y)));
+        return result;
+    }
+
+    private static void assertMatchesScan(ShapeRangeIndex index, List<Shape3D> shapes, Random random) {
+        assertEquals(shapes.size(), index.size());
+        for (Metric metric : Metric.values()) {
+            for (int q = 0; q < 20; q++) {
+                double x = metric.of(shapes.get(random.nextInt(shapes.size())));
+                double y = metric.of(shapes.get(random.nextInt(shapes.size())));
+                double min = Math.min(x, y);
+                double max = Math.max(x, y);
+                List<Shape3D> expected = scan(shapes, metric, min, max);
+                assertEquals(expected, index.range(metric, min, max));
+                assertEquals(expected.size(), index.count(metric, min, max));
+
+                int below = 0;
+                for (Shape3D shape : shapes) {
+                    if (metric.of(shape) < min) {
+                        below++;
+                    }
+                }
+                assertEquals(below, index.rank(metric, min));
+            }
+        }
+    }
+
+    // =================================================================
+    // Queries
+    // =================================================================
+    @Nested
+    @DisplayName("Queries")
+    class Queries {
+
+        @Test
+        @DisplayName("Range, count and rank match a linear scan, ties in insertion order")
+        void testAgainstScan() {
+            Random random = new Random(17);
+            List<Shape3D> shapes = new ArrayList<>();
+            for (int i = 0; i < 3_000; i++) {
+                shapes.add(randomShape(random, i));
+            }
+            assertMatchesScan(ShapeRangeIndex.of(shapes), shapes, random);
+        }
+
+        @Test
+        @DisplayName("Positions run from smallest to largest")
+        void testPositions() {
+            Cube small = new Cube("Small", "Blue", 1.0);
+            Cube medium = new Cube("Medium", "Blue", 2.0);
+            Cube large = new Cube("Large", "Blue", 3.0);
+            ShapeRangeIndex index = ShapeRangeIndex.of(List.of(large, small, medium));
+
+            assertSame(small, index.get(Metric.VOLUME, 0));
+            assertSame(large, index.get(Metric.VOLUME, 2));
+            assertEquals(27.0, index.valueAt(Metric.VOLUME, 2), 1e-12);
+            assertEquals(List.of(medium, large), index.range(Metric.VOLUME, 8.0, Double.POSITIVE_INFINITY));
+            assertEquals(1, index.count(Metric.VOLUME, Math.nextUp(8.0), Double.POSITIVE_INFINITY));
+            assertEquals(3, index.rank(Metric.VOLUME, 100.0));
+            assertThrows(IndexOutOfBoundsException.class, () -> index.get(Metric.VOLUME, 3));
+        }
+
+        @Test
+        @DisplayName("Invalid ranges are rejected")
+        void testInvalidRanges() {
+            ShapeRangeIndex index = new ShapeRangeIndex();
+            assertThrows(IllegalArgumentException.class, () -> index.range(Metric.VOLUME, 5.0, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> index.count(Metric.VOLUME, Double.NaN, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> index.rank(Metric.VOLUME, Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> index.add(null));
+        }
+    }
+
+    // =================================================================
+    // Updates
+    // =================================================================
+    @Nested
+    @DisplayName("Updates")
+    class Updates {
+
+        @Test
+        @DisplayName("Resizing, removing and adding keep the index in step")
+        void testMutations() {
+            Random random = new Random(23);
+            List<Shape3D> shapes = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                shapes.add(randomShape(random, i));
+            }
+            ShapeRangeIndex index = ShapeRangeIndex.of(shapes);
+
+            for (int step = 0; step < 1_000; step++) {
+                Shape3D shape = shapes.get(random.nextInt(shapes.size()));
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        shapes.remove(shape);
+                        assertTrue(index.remove(shape));
+                        Shape3D replacement = randomShape(random, 1_000 + step);
+                        shapes.add(replacement);
+                        assertTrue(index.add(replacement));
+                    }
+                    case 1 -> {
+                        if (shape instanceof Sphere sphere) {
+                            sphere.setRadius(0.5 + random.nextInt(20));
+                        } else if (shape instanceof Cube cube) {
+                            cube.setSideLength(0.5 + random.nextInt(20));
+                        } else if (shape instanceof Cylinder cylinder) {
+                            cylinder.setRadius(0.5 + random.nextInt(20));
+                        } else if (shape instanceof RectangularPrism prism) {
+                            prism.setLength(0.5 + random.nextInt(20));
+                        } else if (shape instanceof Cone cone) {
+                            cone.setHeight(0.5 + random.nextInt(20));
+                        }
+                    }
+                    default -> assertFalse(index.add(shape));
+                }
+            }
+            assertMatchesScan(index, shapes, random);
+        }
+
+        @Test
+        @DisplayName("Cleared and removed shapes are detached")
+        void testDetach() {
+            Sphere sphere = new Sphere("Ball", "Red", 1.0);
+            Cube cube = new Cube("Box", "Blue", 1.0);
+            ShapeRangeIndex index = ShapeRangeIndex.of(List.of(sphere, cube));
+            assertTrue(index.remove(sphere));
+            assertFalse(index.remove(sphere));
+            sphere.setRadius(10.0);
+            assertEquals(1, index.count(Metric.VOLUME, 0.0, Double.POSITIVE_INFINITY));
+
+            index.clear();
+            cube.setSideLength(2.0);
+            assertEquals(0, index.size());
+            assertFalse(index.contains(cube));
+            assertEquals(0, index.count(Metric.VOLUME, 0.0, Double.POSITIVE_INFINITY));
+        }
+
+        @Test
+        @DisplayName("NaN values are kept last and never match a range")
+        void testNaN() {
+            Cube nan = new Cube("Nan", "Blue", Double.NaN);
+            Cube one = new Cube("One", "Blue", 1.0);
+            ShapeRangeIndex index = ShapeRangeIndex.of(List.of(nan, one));
+            assertEquals(List.of(one), index.range(Metric.VOLUME,
+                    Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+            assertSame(nan, index.get(Metric.VOLUME, 1));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.csc205.project2.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SortedMetricColumn}.
+ *
+ * <p>Columns are driven across many blocks and compared entry by entry with
+ * a sorted reference list, so block splits, dropped blocks and the running
+ * counts are all exercised.</p>
+ */
+@DisplayName("SortedMetricColumn")
+class SortedMetricColumnTest {
+
+    /** Reference entry: value, sequence and slot. */
+    private static final class Entry {
+
+        final double value;
+        final long sequence;
+        final int slot;
+
+        Entry(double value, long sequence, int slot) {
+            this.value = value;
+            this.sequence = sequence;
+            this.slot = slot;
+        }
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.<Entry>comparingDouble(e -> e.value)
+            .thenComparingLong(e -> e.sequence);
+
+    private static void assertMatches(List<Entry> expected, SortedMetricColumn column, Random random) {
+        expected.sort(ORDER);
+        assertEquals(expected.size(), column.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).value, column.value(i), "value at " + i);
+            assertEquals(expected.get(i).slot, column.slot(i), "slot at " + i);
+        }
+        int[] slots = new int[expected.size()];
+        column.copySlots(0, slots.length, slots);
+        for (int i = 0; i < slots.length; i++) {
+            assertEquals(expected.get(i).slot, slots[i]);
+        }
+        for (int q = 0; q < 50; q++) {
+            double probe = random.nextInt(200) * 0.5;
+            int below = 0;
+            int atMost = 0;
+            for (Entry entry : expected) {
+                below += Double.compare(entry.value, probe) < 0 ? 1 : 0;
+                atMost += Double.compare(entry.value, probe) <= 0 ? 1 : 0;
+            }
+            assertEquals(below, column.lowerBound(probe), "lower bound of " + probe);
+            assertEquals(atMost, column.upperBound(probe), "upper bound of " + probe);
+        }
+    }
+
+    // =================================================================
+    // Updates
+    // =================================================================
+    @Nested
+    @DisplayName("Updates")
+    class Updates {
+
+        @Test
+        @DisplayName("Inserts and removals across many blocks match a sorted list")
+        void insertsAndRemovals() {
+            Random random = new Random(3);
+            SortedMetricColumn column = new SortedMetricColumn();
+            List<Entry> expected = new ArrayList<>();
+            long sequence = 0;
+            for (int i = 0; i < 6 * SortedMetricColumn.BLOCK_CAPACITY; i++) {
+                Entry entry = new Entry(random.nextInt(200) * 0.5, sequence++, i);
+                expected.add(entry);
+                column.insert(entry.value, entry.sequence, entry.slot);
+            }
+            assertMatches(expected, column, random);
+
+            for (int i = 0; i < 4 * SortedMetricColumn.BLOCK_CAPACITY; i++) {
+                Entry entry = expected.remove(random.nextInt(expected.size()));
+                assertTrue(column.remove(entry.value, entry.sequence));
+            }
+            assertFalse(column.remove(-1.0, 0L));
+            assertMatches(expected, column, random);
+
+            while (!expected.isEmpty()) {
+                Entry entry = expected.remove(expected.size() - 1);
+                assertTrue(column.remove(entry.value, entry.sequence));
+            }
+            assertEquals(0, column.size());
+            column.insert(Double.NaN, sequence, 7);
+            column.insert(1.0, sequence + 1, 8);
+            assertEquals(8, column.slot(0));
+            assertEquals(1, column.upperBound(Double.POSITIVE_INFINITY));
+        }
+
+        @Test
+        @DisplayName("A bulk load sorts once, keeps sequence order among ties and accepts later inserts")
+        void bulkLoad() {
+            Random random = new Random(5);
+            int count = 5 * SortedMetricColumn.BLOCK_CAPACITY + 17;
+            double[] values = new double[count];
+            long[] sequences = new long[count];
+            List<Entry> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                values[i] = random.nextInt(100) == 0 ? Double.NaN : random.nextInt(200) * 0.5;
+                sequences[i] = i;
+                expected.add(new Entry(values[i], i, i));
+            }
+            SortedMetricColumn column = new SortedMetricColumn();
+            column.load(values, sequences, count);
+            assertMatches(expected, column, random);
+
+            for (int i = 0; i < 2 * SortedMetricColumn.BLOCK_CAPACITY; i++) {
+                Entry entry = new Entry(random.nextInt(200) * 0.5, count + i, count + i);
+                expected.add(entry);
+                column.insert(entry.value, entry.sequence, entry.slot);
+            }
+            assertMatches(expected, column, random);
+
+            column.clear();
+            assertEquals(0, column.size());
+            assertEquals(0, column.lowerBound(1.0));
+        }
+    }
+}
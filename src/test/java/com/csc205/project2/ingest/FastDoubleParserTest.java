@@ -0,0 +1,54 @@
+package com.csc205.project2.ingest;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FastDoubleParser}: every input must parse to the same
+ * bits as {@link Double#parseDouble(String)}.
+ */
+@DisplayName("FastDoubleParser")
+class FastDoubleParserTest {
+
+    private static void assertSameAsJdk(String text) {
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(text)),
+                Double.doubleToRawLongBits(FastDoubleParser.parse(text)), text);
+    }
+
+    @Test
+    @DisplayName("Edge cases match Double.parseDouble")
+    void edgeCases() {
+        for (String text : new String[] {
+            "0", "-0", "+0.0", "1", "12.5", "-3.75", "0.1", "0.30000000000000004", ".5", "7.",
+            "6.02e23", "6.02E+23", "1e-7", "9007199254740993", "123456789012345678901234",
+            "1e22", "1e23", "4.9e-324", "1.7976931348623157e308", "1e400", "1e-400",
+            "NaN", "-Infinity", "0x1.8p1", "2.5d", "000000000000000000000001.5"}) {
+            assertSameAsJdk(text);
+        }
+    }
+
+    @Test
+    @DisplayName("Random decimals match Double.parseDouble")
+    void randomDecimals() {
+        Random random = new Random(3);
+        for (int i = 0; i < 100_000; i++) {
+            double value = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            assertSameAsJdk(Double.toString(value));
+            assertSameAsJdk(String.format(Locale.ROOT, "%.4f", value));
+            assertSameAsJdk(Long.toString(random.nextLong() >>> random.nextInt(64)));
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed numbers are rejected")
+    void malformed() {
+        for (String text : new String[] {"", "-", ".", "1.2.3", "abc", "1e", "1e+", "--1", "1,5"}) {
+            assertThrows(NumberFormatException.class, () -> FastDoubleParser.parse(text), text);
+        }
+    }
+}
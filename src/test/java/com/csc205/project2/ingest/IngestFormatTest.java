@@ -0,0 +1,114 @@
+package com.csc205.project2.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link IngestFormat}, in particular the single-line
+ * {@link IngestFormat#parseLine(String)} used by batch mode.
+ */
+@DisplayName("IngestFormat")
+class IngestFormatTest {
+
+    @Nested
+    @DisplayName("Valid lines")
+    class ValidLines {
+
+        @Test
+        @DisplayName("Parses every field and trims whitespace")
+        void parsesFields() {
+            Shape3D shape = IngestFormat.CSV.parseLine(" Cylinder , Green Pipe , Green , 3.0 , 7 ");
+            Cylinder cylinder = (Cylinder) shape;
+            assertEquals("Green Pipe", cylinder.getName());
+            assertEquals("Green", cylinder.getColor());
+            assertEquals(3.0, cylinder.getRadius(), 0.0);
+            assertEquals(7.0, cylinder.getHeight(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Accepts enum-style type names")
+        void enumStyleTypes() {
+            assertTrue(IngestFormat.CSV.parseLine("RECTANGULAR_PRISM,Brick,Yellow,6,3,2") instanceof RectangularPrism);
+            assertTrue(IngestFormat.CSV.parseLine("sphere,Ball,Red,5") instanceof Sphere);
+        }
+
+        @Test
+        @DisplayName("Blank and comment lines yield no shape")
+        void skippable() {
+            assertNull(IngestFormat.CSV.parseLine(""));
+            assertNull(IngestFormat.CSV.parseLine("   "));
+            assertNull(IngestFormat.CSV.parseLine("\t # comment"));
+            assertNull(IngestFormat.CSV.parseLine("\u0000#control characters are blank, as in String.trim"));
+            assertTrue(IngestFormat.CSV.parseLine("Cube,Box,Blue,4") instanceof Cube);
+        }
+
+        @Test
+        @DisplayName("JSON lines parse with the same dimensions")
+        void jsonLines() {
+            Cylinder cylinder = (Cylinder) IngestFormat.JSON_LINES.parseLine(
+                    "{\"type\": \"Cylinder\", \"name\": \"Pipe\", \"color\": \"Green\", \"dimensions\": [3, 7]}");
+            assertEquals(3.0, cylinder.getRadius(), 0.0);
+            assertEquals(7.0, cylinder.getHeight(), 0.0);
+            assertNull(IngestFormat.JSON_LINES.parseLine(" "));
+        }
+
+        @Test
+        @DisplayName("The format is chosen from the file extension")
+        void forPath() {
+            assertEquals(IngestFormat.JSON_LINES, IngestFormat.forPath(Path.of("shapes.NDJSON")));
+            assertEquals(IngestFormat.CSV, IngestFormat.forPath(Path.of("dir", "shapes.txt")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid lines")
+    class InvalidLines {
+
+        @Test
+        @DisplayName("Unknown type is rejected")
+        void unknownType() {
+            assertThrows(IllegalArgumentException.class, () -> IngestFormat.CSV.parseLine("Pyramid,P,Red,1"));
+        }
+
+        @Test
+        @DisplayName("Wrong field count is rejected with the expected count")
+        void wrongFieldCount() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> IngestFormat.CSV.parseLine("Cone,Hat,Purple,4"));
+            assertEquals("Cone expects 5 fields but found 4.", e.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> IngestFormat.CSV.parseLine("Cube"));
+            assertThrows(IllegalArgumentException.class, () -> IngestFormat.CSV.parseLine(null));
+        }
+
+        @Test
+        @DisplayName("Malformed number names the dimension")
+        void badNumber() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> IngestFormat.CSV.parseLine("Cube,Box,Blue,four"));
+            assertEquals("Invalid number for sideLength: 'four'.", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Constructor validation messages are passed through")
+        void constructorValidation() {
+            String expected = assertThrows(IllegalArgumentException.class,
+                    () -> new Sphere("Ball", "Red", -5)).getMessage();
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> IngestFormat.CSV.parseLine("Sphere,Ball,Red,-5"));
+            assertEquals(expected, e.getMessage());
+        }
+    }
+}
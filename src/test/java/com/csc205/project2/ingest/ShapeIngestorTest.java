@@ -0,0 +1,242 @@
+package com.csc205.project2.ingest;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.store.ShapeStore;
+
+/**
+ * Unit tests for {@link ShapeIngestor} and its record parsers.
+ */
+@DisplayName("ShapeIngestor")
+class ShapeIngestorTest {
+
+    @TempDir
+    Path directory;
+
+    private static MemorySegment utf8(String text) {
+        return MemorySegment.ofArray(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static IngestResult<ShapeStoreSink> ingestCsv(ShapeIngestor ingestor, String text) throws IOException {
+        return ingestor.ingest(utf8(text), IngestFormat.CSV, ShapeStoreSink::new);
+    }
+
+    /** Builds {@code count} CSV lines cycling through the five types, with a bad line every 97. */
+    private static String generatedCsv(int count) {
+        Random random = new Random(5);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double a = 0.5 + random.nextInt(10_000) / 100.0;
+            double b = 0.5 + random.nextInt(10_000) / 100.0;
+            if (i % 97 == 0) {
+                text.append("Sphere,Bad ").append(i).append(",Red,-1\n");
+                continue;
+            }
+            text.append(switch (i % 5) {
+                case 0 -> "Sphere,S" + i + ",Red," + a;
+                case 1 -> "cube , C" + i + " ,Blue," + a;
+                case 2 -> "Cylinder,Y" + i + ",Green," + a + "," + b;
+                case 3 -> "RECTANGULAR_PRISM,P" + i + ",Yellow," + a + "," + b + "," + (a + b);
+                default -> "Cone,K" + i + ",Purple," + a + "," + b + "\r";
+            }).append('\n');
+        }
+        return text.toString();
+    }
+
+    // ---------------------------------------------------------------
+    // CSV
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Chunked ingestion matches parseLine line by line")
+        void matchesLineParser() throws IOException {
+            String text = generatedCsv(2000);
+            List<Shape3D> expected = new ArrayList<>();
+            List<String> expectedErrors = new ArrayList<>();
+            String[] lines = text.split("\n");
+            for (int i = 0; i < lines.length; i++) {
+                try {
+                    Shape3D shape = IngestFormat.CSV.parseLine(lines[i]);
+                    if (shape != null) {
+                        expected.add(shape);
+                    }
+                } catch (IllegalArgumentException e) {
+                    expectedErrors.add("Line " + (i + 1) + ": " + e.getMessage());
+                }
+            }
+
+            IngestResult<ShapeListSink> result = new ShapeIngestor(4, 1024, 1000)
+                    .ingest(utf8(text), IngestFormat.CSV, ShapeListSink::new);
+
+            List<Shape3D> actual = result.getSink().getShapes();
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            }
+            List<String> actualErrors = result.getErrors().stream().map(IngestError::toString).toList();
+            assertEquals(expectedErrors, actualErrors);
+            assertEquals(lines.length, result.getLineCount());
+        }
+
+        @Test
+        @DisplayName("The result does not depend on thread count or chunk size")
+        void deterministic() throws IOException {
+            String text = generatedCsv(5000);
+            ShapeStore sequential = ingestCsv(new ShapeIngestor(1, Integer.MAX_VALUE, 10), text).getSink().getStore();
+            ShapeStore parallel = ingestCsv(new ShapeIngestor(8, 257, 10), text).getSink().getStore();
+            assertEquals(sequential.size(), parallel.size());
+            for (ShapeType type : ShapeType.values()) {
+                assertEquals(sequential.size(type), parallel.size(type));
+                for (int row = 0; row < sequential.size(type); row++) {
+                    assertEquals(sequential.name(type, row), parallel.name(type, row));
+                    assertEquals(sequential.volume(type, row), parallel.volume(type, row));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Comments, blank lines and a byte-order mark are skipped")
+        void skipsNonShapes() throws IOException {
+            IngestResult<ShapeStoreSink> result = ingestCsv(new ShapeIngestor(),
+                    "﻿# header\n\n   \nSphere,Ball,Red,2\nCube,Box,Blue,3");
+            assertEquals(5, result.getLineCount());
+            assertEquals(2, result.getShapeCount());
+            assertEquals(0, result.getRejectedCount());
+        }
+
+        @Test
+        @DisplayName("Bad lines are reported with their line numbers and messages")
+        void errors() throws IOException {
+            IngestResult<ShapeStoreSink> result = ingestCsv(new ShapeIngestor(),
+                    "Sphere,Ball,Red,2\nPyramid,P,Red,1\nCube,Box,Blue,four\nCone,C,Red,1\nCube,,Red,1\n");
+            assertEquals(1, result.getShapeCount());
+            assertEquals(4, result.getRejectedCount());
+            assertEquals(List.of(
+                    "Line 2: Unknown shape type: 'Pyramid'.",
+                    "Line 3: Invalid number for sideLength: 'four'.",
+                    "Line 4: Cone expects 5 fields but found 4.",
+                    "Line 5: Name must not be null or blank."),
+                    result.getErrors().stream().map(IngestError::toString).toList());
+        }
+
+        @Test
+        @DisplayName("Only the first errors are kept but all are counted")
+        void errorLimit() throws IOException {
+            IngestResult<ShapeStoreSink> result = ingestCsv(new ShapeIngestor(2, 16, 3),
+                    "x\n".repeat(50));
+            assertEquals(50, result.getRejectedCount());
+            assertEquals(3, result.getErrors().size());
+            assertEquals(3, result.getErrors().get(2).getLine());
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // JSON lines
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("JSON lines")
+    class JsonTests {
+
+        @Test
+        @DisplayName("Objects are parsed in any member order with escapes")
+        void parsesObjects() throws IOException {
+            String text = """
+                    {"type": "Cylinder", "name": "Pipe", "color": "Green", "dimensions": [3.0, 7.0]}
+                    {"dimensions":[1,2,3],"color":"Sky \\"Blue\\"","name":"Crate \\u00e9","type":"rectangular_prism"}
+
+                    """;
+            IngestResult<ShapeListSink> result = new ShapeIngestor()
+                    .ingest(utf8(text), IngestFormat.JSON_LINES, ShapeListSink::new);
+            assertEquals(0, result.getRejectedCount(), () -> result.getErrors().toString());
+            List<Shape3D> shapes = result.getSink().getShapes();
+            assertEquals(2, shapes.size());
+            assertEquals(ShapeType.CYLINDER.create("Pipe", "Green", 3.0, 7.0).toString(), shapes.get(0).toString());
+            assertEquals("Crate é", shapes.get(1).getName());
+            assertEquals("Sky \"Blue\"", shapes.get(1).getColor());
+        }
+
+        @Test
+        @DisplayName("Malformed objects are rejected with a message")
+        void errors() throws IOException {
+            String text = """
+                    {"type":"Sphere","name":"A","color":"Red"}
+                    {"type":"Sphere","name":"A","color":"Red","dimensions":[1,2]}
+                    {"type":"Sphere","name":"A","color":"Red","dimensions":[1],"size":3}
+                    {"type":"Sphere","name":"A","color":"Red","dimensions":[x]}
+                    {"type":"Sphere","name":"A","color":"Red","dimensions":[0]}
+                    not json
+                    """;
+            IngestResult<ShapeStoreSink> result = new ShapeIngestor()
+                    .ingest(utf8(text), IngestFormat.JSON_LINES, ShapeStoreSink::new);
+            assertEquals(List.of(
+                    "Line 1: Missing \"dimensions\" field.",
+                    "Line 2: Sphere requires 1 dimension but got 2.",
+                    "Line 3: Unknown field \"size\".",
+                    "Line 4: Invalid number for radius: 'x'.",
+                    "Line 5: Radius must be greater than zero.",
+                    "Line 6: Malformed JSON: expected '{'."),
+                    result.getErrors().stream().map(IngestError::toString).toList());
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Files and options
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Files and options")
+    class FileTests {
+
+        @Test
+        @DisplayName("Files are memory-mapped and the format follows the extension")
+        void readsFiles() throws IOException {
+            Path csv = Files.writeString(directory.resolve("shapes.csv"), generatedCsv(1000));
+            Path json = Files.writeString(directory.resolve("shapes.jsonl"),
+                    "{\"type\":\"Cube\",\"name\":\"Box\",\"color\":\"Red\",\"dimensions\":[2]}\n");
+            ShapeIngestor ingestor = new ShapeIngestor(3, 4096, 10);
+            assertEquals(IngestFormat.JSON_LINES, IngestFormat.forPath(json));
+            assertEquals(1000 - 11, ingestor.ingest(csv, ShapeStoreSink::new).getShapeCount());
+            assertEquals(8.0, ingestor.ingest(json, ShapeStoreSink::new).getSink().getStore()
+                    .volume(ShapeType.CUBE, 0));
+        }
+
+        @Test
+        @DisplayName("An empty input yields an empty sink")
+        void emptyInput() throws IOException {
+            IngestResult<ShapeStoreSink> result = ingestCsv(new ShapeIngestor(), "");
+            assertEquals(0, result.getLineCount());
+            assertEquals(0, result.getSink().getStore().size());
+        }
+
+        @Test
+        @DisplayName("Invalid settings are rejected")
+        void invalidSettings() {
+            assertThrows(IllegalArgumentException.class, () -> new ShapeIngestor(0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new ShapeIngestor(1, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> new ShapeIngestor(1, 1, -1));
+            assertTrue(new ShapeIngestor().getThreads() >= 1);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.csc205.project2.kernels;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Conformance tests for {@link GeometryKernels}.
+ *
+ * <p>Both implementations are checked against the per-shape
+ * {@code calculateVolume()} / {@code calculateSurfaceArea()} methods: the
+ * scalar kernels exactly, the vector kernels to within a few units in the
+ * last place. Array lengths deliberately leave a scalar tail.</p>
+ */
+@DisplayName("GeometryKernels")
+class GeometryKernelsTest {
+
+    private static final int COUNT = 1003;
+    private static final double RELATIVE_TOLERANCE = 1e-14;
+
+    private final double[] a = new double[COUNT];
+    private final double[] b = new double[COUNT];
+    private final double[] c = new double[COUNT];
+    private final double[] out = new double[COUNT];
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (int i = 0; i < COUNT; i++) {
+            a[i] = 1e-3 + random.nextDouble() * 1e3;
+            b[i] = 1e-3 + random.nextDouble() * 1e3;
+            c[i] = 1e-3 + random.nextDouble() * 1e3;
+        }
+    }
+
+    /** Runs every kernel of {@code kernels} and compares with the objects. */
+    private void assertConforms(GeometryKernels kernels, double relativeTolerance) {
+        List<Shape3D> spheres = new ArrayList<>();
+        List<Shape3D> cubes = new ArrayList<>();
+        List<Shape3D> cylinders = new ArrayList<>();
+        List<Shape3D> prisms = new ArrayList<>();
+        List<Shape3D> cones = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            spheres.add(new Sphere("S", "R", a[i]));
+            cubes.add(new Cube("C", "R", a[i]));
+            cylinders.add(new Cylinder("Y", "R", a[i], b[i]));
+            prisms.add(new RectangularPrism("P", "R", a[i], b[i], c[i]));
+            cones.add(new Cone("K", "R", a[i], b[i]));
+        }
+
+        kernels.sphereVolumes(a, out, COUNT);
+        assertVolumes(spheres, relativeTolerance);
+        kernels.sphereSurfaceAreas(a, out, COUNT);
+        assertSurfaceAreas(spheres, relativeTolerance);
+
+        kernels.cubeVolumes(a, out, COUNT);
+        assertVolumes(cubes, relativeTolerance);
+        kernels.cubeSurfaceAreas(a, out, COUNT);
+        assertSurfaceAreas(cubes, relativeTolerance);
+
+        kernels.cylinderVolumes(a, b, out, COUNT);
+        assertVolumes(cylinders, relativeTolerance);
+        kernels.cylinderSurfaceAreas(a, b, out, COUNT);
+        assertSurfaceAreas(cylinders, relativeTolerance);
+
+        kernels.rectangularPrismVolumes(a, b, c, out, COUNT);
+        assertVolumes(prisms, relativeTolerance);
+        kernels.rectangularPrismSurfaceAreas(a, b, c, out, COUNT);
+        assertSurfaceAreas(prisms, relativeTolerance);
+
+        kernels.coneVolumes(a, b, out, COUNT);
+        assertVolumes(cones, relativeTolerance);
+        kernels.coneSurfaceAreas(a, b, out, COUNT);
+        assertSurfaceAreas(cones, relativeTolerance);
+    }
+
+    private void assertVolumes(List<Shape3D> shapes, double relativeTolerance) {
+        for (int i = 0; i < COUNT; i++) {
+            double expected = shapes.get(i).calculateVolume();
+            assertEquals(expected, out[i], Math.abs(expected) * relativeTolerance, "volume at " + i);
+        }
+    }
+
+    private void assertSurfaceAreas(List<Shape3D> shapes, double relativeTolerance) {
+        for (int i = 0; i < COUNT; i++) {
+            double expected = shapes.get(i).calculateSurfaceArea();
+            assertEquals(expected, out[i], Math.abs(expected) * relativeTolerance, "surface area at " + i);
+        }
+    }
+
+    // =================================================================
+    // Conformance
+    // =================================================================
+    @Nested
+    @DisplayName("Conformance with per-shape methods")
+    class Conformance {
+
+        @Test
+        @DisplayName("Scalar kernels match exactly")
+        void scalarMatchesExactly() {
+            assertConforms(GeometryKernels.scalar(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Vector kernels match within a few ulps")
+        void vectorMatchesClosely() {
+            assertConforms(GeometryKernels.vector(), RELATIVE_TOLERANCE);
+        }
+
+        @Test
+        @DisplayName("Only the requested length is written")
+        void respectsLength() {
+            out[10] = -1.0;
+            GeometryKernels.vector().sphereVolumes(a, out, 10);
+            assertEquals(-1.0, out[10], 0.0);
+        }
+
+        @Test
+        @DisplayName("An offset reads a block in place and gives the same values")
+        void offsetBlocks() {
+            int offset = 17;
+            int length = 501;
+            double[] full = new double[COUNT];
+            for (GeometryKernels kernels : List.of(GeometryKernels.scalar(), GeometryKernels.vector())) {
+                kernels.sphereVolumes(a, full, COUNT);
+                kernels.sphereVolumes(a, offset, out, length);
+                assertBlock(full, offset, length);
+
+                kernels.coneSurfaceAreas(a, b, full, COUNT);
+                kernels.coneSurfaceAreas(a, b, offset, out, length);
+                assertBlock(full, offset, length);
+
+                kernels.rectangularPrismSurfaceAreas(a, b, c, full, COUNT);
+                kernels.rectangularPrismSurfaceAreas(a, b, c, offset, out, length);
+                assertBlock(full, offset, length);
+            }
+        }
+
+        private void assertBlock(double[] full, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                assertEquals(full[offset + i], out[i], 0.0, "element " + i);
+            }
+        }
+    }
+
+    // =================================================================
+    // Selection
+    // =================================================================
+    @Nested
+    @DisplayName("Implementation selection")
+    class Selection {
+
+        @Test
+        @DisplayName("Scalar kernels report not vectorized")
+        void scalarIsNotVectorized() {
+            assertFalse(GeometryKernels.scalar().isVectorized());
+        }
+
+        @Test
+        @DisplayName("best() picks the vector kernels when the module is present")
+        void bestPrefersVector() {
+            boolean modulePresent = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+            assertEquals(modulePresent, GeometryKernels.best().isVectorized());
+            assertTrue(modulePresent, "tests are expected to run with --add-modules jdk.incubator.vector");
+        }
+    }
+}
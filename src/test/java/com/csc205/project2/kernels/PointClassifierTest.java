@@ -0,0 +1,169 @@
+package com.csc205.project2.kernels;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Conformance tests for {@link ContainmentKernels} and
+ * {@link PointClassifier}.
+ *
+ * <p>Every bit is compared with {@link Shape3D#contains} for the same point.
+ * Half of the sample points are placed exactly on a shape's surface in
+ * local space, so rounding differences between the kernels and
+ * {@code contains} would show up as mismatched bits.</p>
+ */
+@DisplayName("PointClassifier")
+class PointClassifierTest {
+
+    private static final Placement TILTED = Placement.at(1.0, -2.0, 3.0)
+            .rotated(1.0, 0.0, 0.0, 0.7)
+            .rotated(0.0, 1.0, 1.0, -1.1);
+
+    private static List<Shape3D> shapes() {
+        return List.of(
+                new Sphere("Ball", "Red", 2.5),
+                new Cube("Box", "Blue", 3.0),
+                new Cylinder("Pipe", "Green", 1.5, 4.0),
+                new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0),
+                new Cone("Hat", "Purple", 3.0, 4.0));
+    }
+
+    /** Random points around {@code shape}; odd points lie on a face plane. */
+    private static double[][] cloud(Shape3D shape, int count, long seed) {
+        Random random = new Random(seed);
+        double[][] points = new double[3][count];
+        double[] world = new double[3];
+        for (int i = 0; i < count; i++) {
+            double lx = random.nextDouble() * 8 - 4;
+            double ly = random.nextDouble() * 8 - 4;
+            double lz = random.nextDouble() * 8 - 4;
+            if ((i & 1) == 1) {
+                lz = random.nextBoolean() ? 1.5 : -2.0;
+            }
+            shape.getPlacement().toWorld(lx, ly, lz, world);
+            points[0][i] = world[0];
+            points[1][i] = world[1];
+            points[2][i] = world[2];
+        }
+        return points;
+    }
+
+    private static void assertMatchesContains(Shape3D shape, double[][] points, BitSet bits) {
+        int inside = 0;
+        for (int i = 0; i < points[0].length; i++) {
+            boolean expected = shape.contains(points[0][i], points[1][i], points[2][i]);
+            assertEquals(expected, bits.get(i), shape + " point " + i);
+            inside += expected ? 1 : 0;
+        }
+        assertTrue(inside > 0 && inside < points[0].length, shape + " cloud should straddle the surface");
+        assertTrue(bits.length() <= points[0].length);
+    }
+
+    // =================================================================
+    // Kernels
+    // =================================================================
+    @Nested
+    @DisplayName("Kernels")
+    class Kernels {
+
+        @Test
+        @DisplayName("Scalar kernels match contains for every shape type")
+        void scalarMatchesContains() {
+            for (Shape3D shape : shapes()) {
+                shape.setPlacement(TILTED);
+                double[][] points = cloud(shape, 1_003, 11);
+                assertMatchesContains(shape, points,
+                        PointClassifier.classify(shape, points[0], points[1], points[2], ContainmentKernels.scalar()));
+            }
+        }
+
+        @Test
+        @DisplayName("Vector kernels agree bit for bit, including surface points and the tail")
+        void vectorMatchesContains() {
+            ContainmentKernels vector = ContainmentKernels.vector();
+            assertTrue(vector.isVectorized());
+            assertFalse(ContainmentKernels.scalar().isVectorized());
+            for (Shape3D shape : shapes()) {
+                for (Placement placement : List.of(Placement.ORIGIN, TILTED)) {
+                    shape.setPlacement(placement);
+                    double[][] points = cloud(shape, 1_003, 13);
+                    assertMatchesContains(shape, points,
+                            PointClassifier.classify(shape, points[0], points[1], points[2], vector));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("A range only replaces the words that cover it")
+        void rangeWritesItsOwnWords() {
+            Shape3D cube = new Cube("Box", "Blue", 100.0);
+            double[] zeros = new double[256];
+            for (ContainmentKernels kernels : List.of(ContainmentKernels.scalar(), ContainmentKernels.vector())) {
+                long[] words = {-1L, 0L, 0L, -1L};
+                kernels.classify(cube, zeros, zeros, zeros, 64, 160, words);
+                assertEquals(List.of(-1L, -1L, (1L << 32) - 1, -1L),
+                        List.of(words[0], words[1], words[2], words[3]));
+            }
+        }
+    }
+
+    // =================================================================
+    // PointClassifier
+    // =================================================================
+    @Nested
+    @DisplayName("Classification")
+    class Classification {
+
+        @Test
+        @DisplayName("Large clouds are classified in parallel chunks with the same result")
+        void parallelChunks() {
+            Shape3D cone = new Cone("Hat", "Purple", 3.0, 4.0);
+            cone.setPlacement(TILTED);
+            int count = PointClassifier.PARALLEL_THRESHOLD + PointClassifier.CHUNK_POINTS / 2 + 17;
+            double[][] points = cloud(cone, count, 17);
+            BitSet bits = PointClassifier.classify(cone, points[0], points[1], points[2]);
+            assertMatchesContains(cone, points, bits);
+            assertEquals(bits.cardinality(), PointClassifier.countInside(cone, points[0], points[1], points[2]));
+        }
+
+        @Test
+        @DisplayName("Empty clouds give an empty set and NaN points are outside")
+        void emptyAndNaN() {
+            Shape3D sphere = new Sphere("Ball", "Red", 1.0);
+            assertTrue(PointClassifier.classify(sphere, new double[0], new double[0], new double[0]).isEmpty());
+            double[] nan = {Double.NaN, 0.0};
+            double[] zero = {0.0, 0.0};
+            assertEquals(BitSet.valueOf(new long[] {2L}), PointClassifier.classify(sphere, nan, zero, zero));
+        }
+
+        @Test
+        @DisplayName("Null arguments and mismatched arrays are rejected")
+        void validation() {
+            Shape3D sphere = new Sphere("Ball", "Red", 1.0);
+            double[] two = new double[2];
+            double[] three = new double[3];
+            assertThrows(IllegalArgumentException.class, () -> PointClassifier.classify(null, two, two, two));
+            assertThrows(IllegalArgumentException.class, () -> PointClassifier.classify(sphere, two, null, two));
+            assertThrows(IllegalArgumentException.class, () -> PointClassifier.classify(sphere, two, two, three));
+            assertThrows(IllegalArgumentException.class,
+                    () -> PointClassifier.classify(sphere, two, two, two, null));
+        }
+    }
+}
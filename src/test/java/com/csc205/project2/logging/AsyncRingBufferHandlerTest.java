@@ -0,0 +1,191 @@
+package com.csc205.project2.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AsyncRingBufferHandler}.
+ */
+@DisplayName("AsyncRingBufferHandler")
+class AsyncRingBufferHandlerTest {
+
+    @Test
+    @DisplayName("Records reach the delegate in order on another thread")
+    void deliversInOrderOffThread() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncRingBufferHandler handler = new AsyncRingBufferHandler(delegate, 64);
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+        handler.close();
+
+        assertEquals(50, delegate.records.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("message " + i, delegate.records.get(i).getMessage());
+        }
+        assertNotEquals(Thread.currentThread(), delegate.lastThread);
+        assertTrue(delegate.closed);
+    }
+
+    @Test
+    @DisplayName("Full buffer drops records instead of blocking")
+    void fullBufferDrops() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler(release);
+        AsyncRingBufferHandler handler = new AsyncRingBufferHandler(delegate, 4);
+        for (int i = 0; i < 20; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        release.countDown();
+        handler.close();
+
+        assertTrue(handler.getDroppedCount() > 0);
+        assertEquals(20, delegate.records.size() + handler.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Records below the handler level are ignored")
+    void respectsHandlerLevel() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncRingBufferHandler handler = new AsyncRingBufferHandler(delegate, 8);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "quiet"));
+        handler.publish(new LogRecord(Level.SEVERE, "loud"));
+        handler.close();
+
+        assertEquals(1, delegate.records.size());
+        assertEquals("loud", delegate.records.get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("flush returns only after the delegate has published, and never overlaps a publish")
+    void flushWaitsForDelegate() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        delegate.publishDelayMillis = 5;
+        AsyncRingBufferHandler handler = new AsyncRingBufferHandler(delegate, 64);
+        for (int round = 1; round <= 5; round++) {
+            for (int i = 0; i < 4; i++) {
+                handler.publish(new LogRecord(Level.INFO, "message " + i));
+            }
+            handler.flush();
+            assertEquals(4 * round, delegate.records.size());
+        }
+        handler.close();
+
+        assertEquals(0, delegate.overlaps.get());
+    }
+
+    @Test
+    @DisplayName("A record accepted while close() runs is still delivered")
+    void publishRacingClose() throws InterruptedException {
+        CountDownLatch inPublish = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncRingBufferHandler handler = new AsyncRingBufferHandler(delegate, 8) {
+            @Override
+            public boolean isLoggable(LogRecord record) {
+                inPublish.countDown();
+                try {
+                    proceed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.isLoggable(record);
+            }
+        };
+        Thread publisher = new Thread(() -> handler.publish(new LogRecord(Level.INFO, "late")));
+        publisher.start();
+        assertTrue(inPublish.await(5, TimeUnit.SECONDS));
+
+        Thread closer = new Thread(handler::close);
+        closer.start();
+        // close() marks the handler closed before it joins the worker.
+        for (int i = 0; i < 5_000 && closer.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, closer.getState());
+        proceed.countDown();
+        publisher.join(5_000);
+        closer.join(5_000);
+
+        assertEquals(1, delegate.records.size());
+        assertEquals("late", delegate.records.get(0).getMessage());
+        assertTrue(delegate.closed);
+    }
+
+    @Test
+    @DisplayName("Invalid construction arguments are rejected")
+    void invalidArgumentsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncRingBufferHandler(null, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncRingBufferHandler(new RecordingHandler(null), 0));
+    }
+
+    /**
+     * Delegate that records what it receives, optionally blocking on the
+     * first record until released or sleeping in every publish, and counts
+     * flushes that arrive while a publish is running.
+     */
+    private static final class RecordingHandler extends Handler {
+
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private final AtomicInteger overlaps = new AtomicInteger();
+        private volatile Thread lastThread;
+        private volatile boolean closed;
+        private volatile boolean publishing;
+        private volatile long publishDelayMillis;
+
+        RecordingHandler(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            publishing = true;
+            try {
+                if (publishDelayMillis > 0) {
+                    Thread.sleep(publishDelayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lastThread = Thread.currentThread();
+            records.add(record);
+            publishing = false;
+        }
+
+        @Override
+        public void flush() {
+            if (publishing) {
+                overlaps.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
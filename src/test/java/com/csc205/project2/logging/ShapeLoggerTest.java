@@ -0,0 +1,183 @@
+package com.csc205.project2.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeLogger}.
+ *
+ * <p>Covers level gating, per-event-type sampling, and the records that the
+ * shapes package publishes through the logger.</p>
+ */
+@DisplayName("ShapeLogger")
+class ShapeLoggerTest {
+
+    private final CapturingHandler handler = new CapturingHandler();
+    private ShapeLogger shapeLogger;
+    private Logger sphereLogger;
+    private Level originalSphereLevel;
+
+    @BeforeEach
+    void setUp() {
+        shapeLogger = ShapeLogger.getLogger(ShapeLoggerTest.class);
+        Logger delegate = shapeLogger.getDelegate();
+        delegate.setUseParentHandlers(false);
+        delegate.addHandler(handler);
+        delegate.setLevel(Level.ALL);
+
+        sphereLogger = Logger.getLogger(Sphere.class.getName());
+        originalSphereLevel = sphereLogger.getLevel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        shapeLogger.getDelegate().removeHandler(handler);
+        sphereLogger.removeHandler(handler);
+        sphereLogger.setLevel(originalSphereLevel);
+        sphereLogger.setUseParentHandlers(true);
+        for (ShapeEvent event : ShapeEvent.values()) {
+            ShapeLogger.setSamplingInterval(event, 1);
+        }
+    }
+
+    // =================================================================
+    // Level gating
+    // =================================================================
+    @Nested
+    @DisplayName("Level gating")
+    class LevelGating {
+
+        @Test
+        @DisplayName("Enabled level is loggable and published at the event's level")
+        void enabledLevelPublishes() {
+            assertTrue(shapeLogger.isLoggable(ShapeEvent.UPDATE_REJECTED));
+            shapeLogger.log(ShapeEvent.UPDATE_REJECTED, "bad value");
+            assertEquals(1, handler.records.size());
+            assertEquals(Level.WARNING, handler.records.get(0).getLevel());
+            assertEquals("bad value", handler.records.get(0).getMessage());
+        }
+
+        @Test
+        @DisplayName("Record carries an explicit source class")
+        void recordHasSourceClass() {
+            shapeLogger.log(ShapeEvent.CREATED, "made");
+            assertEquals(ShapeLoggerTest.class.getName(), handler.records.get(0).getSourceClassName());
+        }
+
+        @Test
+        @DisplayName("Disabled level is not loggable")
+        void disabledLevelIsNotLoggable() {
+            shapeLogger.getDelegate().setLevel(Level.WARNING);
+            assertFalse(shapeLogger.isLoggable(ShapeEvent.CALCULATED));
+            assertTrue(shapeLogger.isLoggable(ShapeEvent.CREATE_REJECTED));
+        }
+
+        @Test
+        @DisplayName("Shapes publish nothing when their logger is off")
+        void shapesSilentWhenOff() {
+            sphereLogger.setUseParentHandlers(false);
+            sphereLogger.addHandler(handler);
+            sphereLogger.setLevel(Level.OFF);
+            Sphere sphere = new Sphere("Quiet", "Grey", 2.0);
+            sphere.setRadius(3.0);
+            sphere.getVolume();
+            assertTrue(handler.records.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Shapes publish creation, update and calculation events when on")
+        void shapesPublishWhenOn() {
+            sphereLogger.setUseParentHandlers(false);
+            sphereLogger.addHandler(handler);
+            sphereLogger.setLevel(Level.ALL);
+            Sphere sphere = new Sphere("Loud", "Grey", 2.0);
+            sphere.setRadius(3.0);
+            assertEquals(2, handler.records.size());
+            assertTrue(handler.records.get(0).getMessage().startsWith("Created Sphere 'Loud'"));
+            assertTrue(handler.records.get(1).getMessage().startsWith("Updating radius of Sphere 'Loud'"));
+        }
+    }
+
+    // =================================================================
+    // Sampling
+    // =================================================================
+    @Nested
+    @DisplayName("Sampling")
+    class Sampling {
+
+        @Test
+        @DisplayName("Default interval logs every event")
+        void defaultLogsEverything() {
+            assertEquals(1, ShapeLogger.getSamplingInterval(ShapeEvent.CALCULATED));
+            for (int i = 0; i < 10; i++) {
+                assertTrue(shapeLogger.isLoggable(ShapeEvent.CALCULATED));
+            }
+        }
+
+        @Test
+        @DisplayName("Interval n admits one in every n events")
+        void intervalAdmitsOneInN() {
+            ShapeLogger.setSamplingInterval(ShapeEvent.CALCULATED, 4);
+            int admitted = 0;
+            for (int i = 0; i < 100; i++) {
+                if (shapeLogger.isLoggable(ShapeEvent.CALCULATED)) {
+                    admitted++;
+                }
+            }
+            assertEquals(25, admitted);
+        }
+
+        @Test
+        @DisplayName("Sampling is independent per event type")
+        void samplingIsPerEventType() {
+            ShapeLogger.setSamplingInterval(ShapeEvent.CALCULATED, 1000);
+            shapeLogger.isLoggable(ShapeEvent.CALCULATED);
+            assertFalse(shapeLogger.isLoggable(ShapeEvent.CALCULATED));
+            assertTrue(shapeLogger.isLoggable(ShapeEvent.UPDATED));
+        }
+
+        @Test
+        @DisplayName("Interval below one is rejected")
+        void invalidIntervalRejected() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShapeLogger.setSamplingInterval(ShapeEvent.CREATED, 0));
+        }
+    }
+
+    /**
+     * Handler that keeps every record it receives.
+     */
+    private static final class CapturingHandler extends Handler {
+
+        private final List<LogRecord> records = new ArrayList<>();
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
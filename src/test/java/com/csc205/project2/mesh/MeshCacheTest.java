@@ -0,0 +1,116 @@
+package com.csc205.project2.mesh;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link MeshCache}.
+ */
+@DisplayName("MeshCache")
+class MeshCacheTest {
+
+    // =================================================================
+    // Lookups
+    // =================================================================
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("Shapes with equal type and dimensions share one mesh whatever their name or placement")
+        void sharesEqualParts() {
+            MeshCache cache = new MeshCache();
+            Cylinder first = new Cylinder("First", "Red", 1.0, 2.0);
+            Cylinder second = new Cylinder("Second", "Blue", 1.0, 2.0);
+            second.setPlacement(Placement.at(5.0, 0.0, 0.0).rotated(1.0, 0.0, 0.0, 0.3));
+
+            TriangleMesh mesh = cache.get(first, 1);
+            assertSame(mesh, cache.get(second, 1));
+            assertSame(mesh, cache.get(ShapeType.CYLINDER, 1, 1.0, 2.0));
+            assertEquals(1, cache.size());
+            assertEquals(2, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+
+        @Test
+        @DisplayName("Type, every dimension and the level of detail are part of the key")
+        void keyCoversTypeDimensionsAndLevel() {
+            MeshCache cache = new MeshCache();
+            TriangleMesh mesh = cache.get(ShapeType.CYLINDER, 1, 1.0, 2.0);
+            assertNotSame(mesh, cache.get(ShapeType.CYLINDER, 2, 1.0, 2.0));
+            assertNotSame(mesh, cache.get(ShapeType.CYLINDER, 1, 1.0, 3.0));
+            assertNotSame(mesh, cache.get(ShapeType.CONE, 1, 1.0, 2.0));
+            assertEquals(4, cache.size());
+            assertEquals(0, cache.getHits());
+        }
+
+        @Test
+        @DisplayName("A resized shape gets the mesh of its new dimensions")
+        void followsResizes() {
+            MeshCache cache = new MeshCache();
+            Sphere sphere = new Sphere("Ball", "Red", 1.0);
+            TriangleMesh small = cache.get(sphere, 0);
+            sphere.setRadius(2.0);
+            TriangleMesh large = cache.get(sphere, 0);
+            assertNotSame(small, large);
+            assertEquals(8.0 * small.getVolume(), large.getVolume(), 1e-4);
+        }
+    }
+
+    // =================================================================
+    // Capacity
+    // =================================================================
+    @Nested
+    @DisplayName("Capacity")
+    class Capacity {
+
+        @Test
+        @DisplayName("A full cache still returns meshes but stops storing new ones")
+        void fullCacheBuildsWithoutStoring() {
+            MeshCache cache = new MeshCache(1);
+            TriangleMesh kept = cache.get(ShapeType.SPHERE, 0, 1.0);
+            TriangleMesh transient1 = cache.get(ShapeType.SPHERE, 0, 2.0);
+            TriangleMesh transient2 = cache.get(ShapeType.SPHERE, 0, 2.0);
+            assertNotSame(transient1, transient2);
+            assertEquals(transient1.getVolume(), transient2.getVolume());
+            assertSame(kept, cache.get(ShapeType.SPHERE, 0, 1.0));
+            assertEquals(1, cache.size());
+            assertEquals(1, cache.getHits());
+            assertEquals(3, cache.getMisses());
+        }
+
+        @Test
+        @DisplayName("Clearing empties the cache and resets the counters")
+        void clear() {
+            MeshCache cache = new MeshCache();
+            cache.get(ShapeType.CUBE, 0, 1.0);
+            cache.get(ShapeType.CUBE, 0, 1.0);
+            cache.clear();
+            assertEquals(0, cache.size());
+            assertEquals(0, cache.getHits());
+            assertEquals(0, cache.getMisses());
+        }
+
+        @Test
+        @DisplayName("Negative capacities and invalid lookups are rejected")
+        void validation() {
+            MeshCache cache = new MeshCache(0);
+            assertThrows(IllegalArgumentException.class, () -> new MeshCache(-1));
+            assertThrows(IllegalArgumentException.class, () -> cache.get(null, 0));
+            assertThrows(IllegalArgumentException.class, () -> cache.get(new Sphere("Ball", "Red", 1.0), 9));
+            assertThrows(IllegalArgumentException.class, () -> cache.get(ShapeType.SPHERE, 0, 0.0));
+            assertEquals(12, cache.get(ShapeType.CUBE, 0, 1.0).getTriangleCount());
+            assertEquals(0, cache.size());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.csc205.project2.mesh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link StlWriter}.
+ *
+ * <p>Exports are parsed back with a plain little-endian reader and checked
+ * against the layout of binary STL and the placed shapes.</p>
+ */
+@DisplayName("StlWriter")
+class StlWriterTest {
+
+    private static final Placement TILTED = Placement.at(1.0, -2.0, 3.0)
+            .rotated(1.0, 0.0, 0.0, 0.7)
+            .rotated(0.0, 1.0, 1.0, -1.1);
+
+    @TempDir
+    Path directory;
+
+    private static List<Shape3D> assembly() {
+        List<Shape3D> shapes = List.of(
+                new Sphere("Ball", "Red", 2.5),
+                new Cube("Box", "Blue", 3.0),
+                new Cylinder("Pipe", "Green", 1.5, 4.0),
+                new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0),
+                new Cone("Hat", "Purple", 3.0, 4.0));
+        for (int i = 0; i < shapes.size(); i++) {
+            shapes.get(i).setPlacement(TILTED.movedTo(i * 10.0, 0.0, -i));
+        }
+        return shapes;
+    }
+
+    private static byte[] toBytes(StlWriter writer, List<Shape3D> shapes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(shapes, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    /** Returns the signed volume enclosed by the triangles of an export. */
+    private static double volume(ByteBuffer stl) {
+        double sixfold = 0.0;
+        int count = stl.getInt(StlWriter.HEADER_BYTES);
+        for (int t = 0; t < count; t++) {
+            int at = StlWriter.HEADER_BYTES + Integer.BYTES + t * StlWriter.TRIANGLE_BYTES + 12;
+            double ax = stl.getFloat(at);
+            double ay = stl.getFloat(at + 4);
+            double az = stl.getFloat(at + 8);
+            double bx = stl.getFloat(at + 12);
+            double by = stl.getFloat(at + 16);
+            double bz = stl.getFloat(at + 20);
+            double cx = stl.getFloat(at + 24);
+            double cy = stl.getFloat(at + 28);
+            double cz = stl.getFloat(at + 32);
+            sixfold += ax * (by * cz - bz * cy) + ay * (bz * cx - bx * cz) + az * (bx * cy - by * cx);
+        }
+        return sixfold / 6.0;
+    }
+
+    // =================================================================
+    // Layout
+    // =================================================================
+    @Nested
+    @DisplayName("Layout")
+    class Layout {
+
+        @Test
+        @DisplayName("Header, triangle count and records follow the binary STL layout")
+        void binaryLayout() throws IOException {
+            StlWriter writer = new StlWriter(1);
+            List<Shape3D> shapes = assembly();
+            byte[] bytes = toBytes(writer, shapes);
+            ByteBuffer stl = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+            long triangles = writer.triangleCount(shapes);
+            assertEquals(16 * 7 * 2 + 12 + 16 * 4 + 12 + 16 * 2, triangles);
+            assertEquals(writer.byteSize(shapes), bytes.length);
+            assertEquals(84 + 50 * triangles, bytes.length);
+            assertEquals(triangles, stl.getInt(StlWriter.HEADER_BYTES));
+            String header = new String(bytes, 0, StlWriter.HEADER_BYTES, StandardCharsets.US_ASCII);
+            assertFalse(header.startsWith("solid"));
+            for (int t = 0; t < triangles; t++) {
+                assertEquals(0, stl.getShort(StlWriter.HEADER_BYTES + Integer.BYTES
+                        + t * StlWriter.TRIANGLE_BYTES + 48));
+            }
+        }
+
+        @Test
+        @DisplayName("Corners are placed in world space and normals are unit length and outward")
+        void placedCornersAndOutwardNormals() throws IOException {
+            Shape3D cone = new Cone("Hat", "Purple", 3.0, 4.0);
+            cone.setPlacement(TILTED);
+            ByteBuffer stl = ByteBuffer.wrap(toBytes(new StlWriter(2), List.of(cone))).order(ByteOrder.LITTLE_ENDIAN);
+            double[] local = new double[3];
+            for (int t = 0; t < stl.getInt(StlWriter.HEADER_BYTES); t++) {
+                int at = StlWriter.HEADER_BYTES + Integer.BYTES + t * StlWriter.TRIANGLE_BYTES;
+                double nx = stl.getFloat(at);
+                double ny = stl.getFloat(at + 4);
+                double nz = stl.getFloat(at + 8);
+                assertEquals(1.0, Math.sqrt(nx * nx + ny * ny + nz * nz), 1e-6);
+                double cx = 0.0;
+                double cy = 0.0;
+                double cz = 0.0;
+                for (int corner = 0; corner < 3; corner++) {
+                    int c = at + 12 + corner * 12;
+                    cone.getPlacement().toLocal(stl.getFloat(c), stl.getFloat(c + 4), stl.getFloat(c + 8), local);
+                    assertTrue(Math.abs(local[2]) <= 2.0 + 1e-5);
+                    double radial = Math.hypot(local[0], local[1]);
+                    assertTrue(radial <= 3.0 * (2.0 - local[2]) / 4.0 + 1e-5, "corner off the cone");
+                    cx += stl.getFloat(c) / 3.0;
+                    cy += stl.getFloat(c + 4) / 3.0;
+                    cz += stl.getFloat(c + 8) / 3.0;
+                }
+                double outward = nx * (cx - TILTED.getX()) + ny * (cy - TILTED.getY()) + nz * (cz - TILTED.getZ());
+                assertTrue(outward > 0.0, "triangle " + t + " faces inward");
+            }
+        }
+
+        @Test
+        @DisplayName("The exported solid encloses the same volume as the local meshes")
+        void rigidMotionKeepsVolume() throws IOException {
+            StlWriter writer = new StlWriter(2);
+            List<Shape3D> shapes = assembly();
+            double expected = 0.0;
+            for (Shape3D shape : shapes) {
+                expected += writer.getCache().get(shape, 2).getVolume();
+            }
+            ByteBuffer stl = ByteBuffer.wrap(toBytes(writer, shapes)).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(expected, volume(stl), expected * 1e-5);
+        }
+    }
+
+    // =================================================================
+    // Destinations
+    // =================================================================
+    @Nested
+    @DisplayName("Destinations")
+    class Destinations {
+
+        @Test
+        @DisplayName("Channel, file and buffer exports are byte for byte identical across buffer drains")
+        void identicalAcrossDestinations() throws IOException {
+            StlWriter writer = new StlWriter(2);
+            List<Shape3D> shapes = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Shape3D sphere = new Sphere("Ball " + i, "Red", 1.0 + (i % 2));
+                sphere.setPlacement(Placement.at(i, -i, 2.0 * i));
+                shapes.add(sphere);
+            }
+            assertTrue(writer.triangleCount(shapes) > 2 * StlWriter.BUFFER_TRIANGLES);
+
+            byte[] streamed = toBytes(writer, shapes);
+            Path file = directory.resolve("assembly.stl");
+            assertEquals(writer.triangleCount(shapes), writer.write(shapes, file));
+            assertArrayEquals(streamed, Files.readAllBytes(file));
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(streamed.length + 3);
+            direct.position(3);
+            writer.write(shapes, direct);
+            assertEquals(streamed.length + 3, direct.position());
+            assertEquals(ByteOrder.BIG_ENDIAN, direct.order());
+            byte[] buffered = new byte[streamed.length];
+            direct.get(3, buffered);
+            assertArrayEquals(streamed, buffered);
+
+            assertEquals(2, writer.getCache().size());
+        }
+
+        @Test
+        @DisplayName("An empty assembly is a header and a zero count")
+        void emptyAssembly() throws IOException {
+            byte[] bytes = toBytes(new StlWriter(0), List.of());
+            assertEquals(84, bytes.length);
+            assertTrue(Arrays.equals(new byte[4], Arrays.copyOfRange(bytes, 80, 84)));
+        }
+
+        @Test
+        @DisplayName("Small buffers, null arguments and bad levels are rejected")
+        void validation() {
+            StlWriter writer = new StlWriter(0);
+            List<Shape3D> shapes = assembly();
+            ByteBuffer small = ByteBuffer.allocate((int) writer.byteSize(shapes) - 1);
+            assertThrows(IllegalArgumentException.class, () -> writer.write(shapes, small));
+            assertEquals(0, small.position());
+            assertThrows(IllegalArgumentException.class, () -> writer.write(null, ByteBuffer.allocate(100)));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(shapes, (Path) null));
+            assertThrows(IllegalArgumentException.class, () -> new StlWriter(null, 0));
+            assertThrows(IllegalArgumentException.class, () -> new StlWriter(Tessellator.MAX_LOD + 1));
+            MeshCache cache = new MeshCache();
+            assertSame(cache, new StlWriter(cache, 3).getCache());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.csc205.project2.mesh;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link Tessellator} and {@link TriangleMesh}.
+ *
+ * <p>Every mesh is checked for being closed and wound outward, and curved
+ * meshes are checked to converge on the exact volume and area as the level
+ * of detail rises.</p>
+ */
+@DisplayName("Tessellator")
+class TessellatorTest {
+
+    private static List<Shape3D> shapes() {
+        return List.of(
+                new Sphere("Ball", "Red", 2.5),
+                new Cube("Box", "Blue", 3.0),
+                new Cylinder("Pipe", "Green", 1.5, 4.0),
+                new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0),
+                new Cone("Hat", "Purple", 3.0, 4.0));
+    }
+
+    /**
+     * Asserts that every edge is shared by exactly two triangles that run
+     * along it in opposite directions, so the mesh is closed and
+     * consistently wound.
+     */
+    private static void assertClosed(TriangleMesh mesh, String label) {
+        Map<Long, Integer> edges = new HashMap<>();
+        for (int t = 0; t < mesh.getTriangleCount(); t++) {
+            for (int corner = 0; corner < 3; corner++) {
+                long from = mesh.getIndex(t, corner);
+                long to = mesh.getIndex(t, (corner + 1) % 3);
+                edges.merge(from << 32 | to, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<Long, Integer> edge : edges.entrySet()) {
+            long reverse = (edge.getKey() & 0xFFFF_FFFFL) << 32 | edge.getKey() >>> 32;
+            assertEquals(1, edge.getValue(), label + " repeats a directed edge");
+            assertEquals(1, edges.getOrDefault(reverse, 0), label + " has an open edge");
+        }
+    }
+
+    /** Asserts that every triangle faces away from the origin, which all five shapes contain. */
+    private static void assertOutward(TriangleMesh mesh, String label) {
+        for (int t = 0; t < mesh.getTriangleCount(); t++) {
+            int a = mesh.getIndex(t, 0);
+            int b = mesh.getIndex(t, 1);
+            int c = mesh.getIndex(t, 2);
+            double ux = mesh.getX(b) - mesh.getX(a);
+            double uy = mesh.getY(b) - mesh.getY(a);
+            double uz = mesh.getZ(b) - mesh.getZ(a);
+            double vx = mesh.getX(c) - mesh.getX(a);
+            double vy = mesh.getY(c) - mesh.getY(a);
+            double vz = mesh.getZ(c) - mesh.getZ(a);
+            double nx = uy * vz - uz * vy;
+            double ny = uz * vx - ux * vz;
+            double nz = ux * vy - uy * vx;
+            double dot = nx * (mesh.getX(a) + mesh.getX(b) + mesh.getX(c))
+                    + ny * (mesh.getY(a) + mesh.getY(b) + mesh.getY(c))
+                    + nz * (mesh.getZ(a) + mesh.getZ(b) + mesh.getZ(c));
+            assertTrue(dot > 0.0, label + " triangle " + t + " faces inward");
+        }
+    }
+
+    // =================================================================
+    // Topology
+    // =================================================================
+    @Nested
+    @DisplayName("Topology")
+    class Topology {
+
+        @Test
+        @DisplayName("Triangle counts match triangleCount and grow with the level of detail")
+        void triangleCounts() {
+            assertEquals(8, Tessellator.segments(Tessellator.MIN_LOD));
+            assertEquals(512, Tessellator.segments(Tessellator.MAX_LOD));
+            for (Shape3D shape : shapes()) {
+                ShapeType type = ShapeType.of(shape);
+                for (int lod = Tessellator.MIN_LOD; lod <= 3; lod++) {
+                    TriangleMesh mesh = Tessellator.tessellate(shape, lod);
+                    assertEquals(Tessellator.triangleCount(type, lod), mesh.getTriangleCount(), type + " " + lod);
+                }
+            }
+            assertEquals(12, Tessellator.triangleCount(ShapeType.CUBE, Tessellator.MAX_LOD));
+            assertEquals(48, Tessellator.triangleCount(ShapeType.SPHERE, 0));
+            assertEquals(32, Tessellator.triangleCount(ShapeType.CYLINDER, 0));
+            assertEquals(16, Tessellator.triangleCount(ShapeType.CONE, 0));
+        }
+
+        @Test
+        @DisplayName("Every mesh is closed and wound counter-clockwise seen from outside")
+        void closedAndOutward() {
+            for (Shape3D shape : shapes()) {
+                for (int lod = Tessellator.MIN_LOD; lod <= 2; lod++) {
+                    TriangleMesh mesh = Tessellator.tessellate(shape, lod);
+                    String label = ShapeType.of(shape) + " at " + lod;
+                    assertClosed(mesh, label);
+                    assertOutward(mesh, label);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Meshes use the shapes' local frame")
+        void localFrame() {
+            TriangleMesh sphere = Tessellator.tessellate(ShapeType.SPHERE, 1, 2.0);
+            for (int v = 0; v < sphere.getVertexCount(); v++) {
+                double r = Math.sqrt(sphere.getX(v) * sphere.getX(v) + sphere.getY(v) * sphere.getY(v)
+                        + sphere.getZ(v) * sphere.getZ(v));
+                assertEquals(2.0, r, 1e-6);
+            }
+            TriangleMesh cone = Tessellator.tessellate(ShapeType.CONE, 0, 1.0, 6.0);
+            float minZ = Float.MAX_VALUE;
+            float maxZ = -Float.MAX_VALUE;
+            for (int v = 0; v < cone.getVertexCount(); v++) {
+                minZ = Math.min(minZ, cone.getZ(v));
+                maxZ = Math.max(maxZ, cone.getZ(v));
+            }
+            assertEquals(-3.0f, minZ);
+            assertEquals(3.0f, maxZ);
+            assertEquals("TriangleMesh {vertices=10, triangles=16}", cone.toString());
+        }
+    }
+
+    // =================================================================
+    // Measurements
+    // =================================================================
+    @Nested
+    @DisplayName("Measurements")
+    class Measurements {
+
+        @Test
+        @DisplayName("Boxes are exact at every level of detail")
+        void boxesAreExact() {
+            TriangleMesh prism = Tessellator.tessellate(ShapeType.RECTANGULAR_PRISM, 0, 2.0, 3.0, 4.0);
+            assertEquals(24.0, prism.getVolume(), 1e-9);
+            assertEquals(52.0, prism.getSurfaceArea(), 1e-9);
+            assertEquals(27.0, Tessellator.tessellate(new Cube("Box", "Blue", 3.0), 4).getVolume(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Curved meshes approach the exact volume and area from below")
+        void curvedMeshesConverge() {
+            for (Shape3D shape : shapes()) {
+                double previous = Double.MAX_VALUE;
+                for (int lod = Tessellator.MIN_LOD; lod <= 4; lod++) {
+                    TriangleMesh mesh = Tessellator.tessellate(shape, lod);
+                    double volumeError = (shape.getVolume() - mesh.getVolume()) / shape.getVolume();
+                    double areaError = (shape.getSurfaceArea() - mesh.getSurfaceArea()) / shape.getSurfaceArea();
+                    assertTrue(volumeError > -1e-6 && areaError > -1e-6, shape + " overshoots at " + lod);
+                    assertTrue(volumeError <= previous, shape + " does not converge at " + lod);
+                    previous = Math.max(volumeError, 1e-6);
+                }
+                assertTrue(previous < 2e-3, shape + " error at level 4 is " + previous);
+            }
+        }
+    }
+
+    // =================================================================
+    // Validation
+    // =================================================================
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Invalid levels, shapes and dimensions are rejected")
+        void rejectsInvalidInput() {
+            Shape3D sphere = new Sphere("Ball", "Red", 1.0);
+            assertThrows(IllegalArgumentException.class, () -> Tessellator.tessellate(sphere, -1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Tessellator.tessellate(sphere, Tessellator.MAX_LOD + 1));
+            assertThrows(IllegalArgumentException.class, () -> Tessellator.tessellate((Shape3D) null, 0));
+            assertThrows(IllegalArgumentException.class, () -> Tessellator.tessellate(ShapeType.CONE, 0, 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Tessellator.tessellate(ShapeType.CYLINDER, 0, 1.0, -2.0));
+            assertThrows(IllegalArgumentException.class, () -> Tessellator.tessellate(null, 0, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> Tessellator.triangleCount(null, 0));
+        }
+
+        @Test
+        @DisplayName("Indices outside the mesh are rejected")
+        void rejectsBadIndices() {
+            TriangleMesh cube = Tessellator.tessellate(ShapeType.CUBE, 0, 1.0);
+            assertThrows(IndexOutOfBoundsException.class, () -> cube.getX(8));
+            assertThrows(IndexOutOfBoundsException.class, () -> cube.getIndex(12, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> cube.getIndex(0, 3));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.csc205.project2.registry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeRegistry}.
+ */
+@DisplayName("ShapeRegistry")
+class ShapeRegistryTest {
+
+    private ShapeRegistry registry;
+    private Sphere ball;
+    private Cube box;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ShapeRegistry();
+        ball = new Sphere("Ball", "Red", 1.0);
+        box = new Cube("Box", "Red", 2.0);
+        registry.register(ball);
+        registry.register(box);
+        registry.register(new Cylinder("Pipe", "Green", 1.0, 3.0));
+    }
+
+    /** Asserts that every index agrees with the shapes' current names and colors. */
+    private static void assertIndexesConsistent(ShapeRegistry registry) {
+        List<Shape3D> shapes = registry.snapshot();
+        int colored = 0;
+        for (String color : registry.colors()) {
+            for (Shape3D shape : registry.byColor(color)) {
+                assertEquals(color, shape.getColor());
+                colored++;
+            }
+        }
+        int typed = 0;
+        for (ShapeType type : ShapeType.values()) {
+            typed += registry.byType(type).size();
+        }
+        assertEquals(shapes.size(), colored);
+        assertEquals(shapes.size(), typed);
+        for (Shape3D shape : shapes) {
+            assertSame(shape, registry.get(shape.getName()).orElseThrow());
+            assertTrue(registry.byColor(shape.getColor()).contains(shape));
+            assertTrue(registry.byType(ShapeType.of(shape)).contains(shape));
+        }
+    }
+
+    // =================================================================
+    // Single-threaded behavior
+    // =================================================================
+    @Nested
+    @DisplayName("Lookups and updates")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Shapes are found by name, color and type")
+        void lookups() {
+            assertSame(ball, registry.get("Ball").orElseThrow());
+            assertEquals(Set.of(ball, box), registry.byColor("Red"));
+            assertEquals(Set.of(box), registry.byType(ShapeType.CUBE));
+            assertEquals(Set.of("Red", "Green"), registry.colors());
+            assertTrue(registry.byColor("Blue").isEmpty());
+            assertFalse(registry.get(null).isPresent());
+            assertEquals(3, registry.size());
+        }
+
+        @Test
+        @DisplayName("Duplicate names are rejected")
+        void duplicateNames() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> registry.register(new Sphere("Ball", "Blue", 2.0)));
+            assertEquals("A shape named 'Ball' is already registered.", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("rename moves the shape in the name index")
+        void rename() {
+            registry.rename("Ball", "Globe");
+            assertEquals("Globe", ball.getName());
+            assertFalse(registry.contains("Ball"));
+            assertSame(ball, registry.get("Globe").orElseThrow());
+            assertThrows(IllegalArgumentException.class, () -> registry.rename("Globe", "Box"));
+            assertThrows(IllegalArgumentException.class, () -> registry.rename("Globe", " "));
+            assertThrows(IllegalArgumentException.class, () -> registry.rename("Missing", "Other"));
+            assertEquals("Globe", ball.getName());
+            assertIndexesConsistent(registry);
+        }
+
+        @Test
+        @DisplayName("recolor moves the shape in the color index and live views follow")
+        void recolor() {
+            Set<Shape3D> red = registry.byColor("Red");
+            registry.recolor("Ball", "Blue");
+            assertEquals("Blue", ball.getColor());
+            assertEquals(Set.of(box), red);
+            assertEquals(Set.of(ball), registry.byColor("Blue"));
+            registry.recolor("Ball", "Red");
+            assertEquals(Set.of(ball, box), red);
+            assertFalse(registry.colors().contains("Blue"));
+            assertIndexesConsistent(registry);
+        }
+
+        @Test
+        @DisplayName("remove drops the shape from every index")
+        void remove() {
+            assertSame(box, registry.remove("Box").orElseThrow());
+            assertFalse(registry.remove("Box").isPresent());
+            assertEquals(Set.of(ball), registry.byColor("Red"));
+            assertTrue(registry.byType(ShapeType.CUBE).isEmpty());
+            assertIndexesConsistent(registry);
+        }
+    }
+
+    // =================================================================
+    // Concurrency
+    // =================================================================
+    @Nested
+    @DisplayName("Concurrency")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Indexes stay consistent under mixed concurrent reads and writes")
+        void mixedLoad() throws Exception {
+            ShapeRegistry shared = new ShapeRegistry(8);
+            String[] colors = {"Red", "Green", "Blue", "Yellow"};
+            int threads = 8;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                futures.add(pool.submit(() -> {
+                    Random random = new Random(id);
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        String name = "S" + id + "-" + i;
+                        shared.register(new Sphere(name, colors[random.nextInt(colors.length)], 1.0));
+                        String target = "S" + random.nextInt(threads) + "-" + random.nextInt(i + 1);
+                        try {
+                            switch (random.nextInt(4)) {
+                                case 0 -> shared.recolor(target, colors[random.nextInt(colors.length)]);
+                                case 1 -> shared.rename(target, target + "'");
+                                case 2 -> shared.remove(target);
+                                default -> shared.byColor(colors[random.nextInt(colors.length)]).size();
+                            }
+                        } catch (IllegalArgumentException e) {
+                            // the target was renamed, removed or not yet registered
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+            assertIndexesConsistent(shared);
+        }
+    }
+}
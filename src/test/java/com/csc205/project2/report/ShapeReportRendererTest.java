@@ -0,0 +1,251 @@
+package com.csc205.project2.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.analysis.ShapeAnalyzer;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeReportRenderer}.
+ *
+ * <p>Every test compares the renderer's bytes with what the equivalent
+ * {@code printf} / {@code toString()} calls produce.</p>
+ */
+@DisplayName("ShapeReportRenderer")
+class ShapeReportRendererTest {
+
+    // =================================================================
+    // Helpers
+    // =================================================================
+
+    /** Renders a single fixed-point value through a fresh renderer. */
+    private String renderFixed2(double value, Locale locale) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ShapeReportRenderer renderer = new ShapeReportRenderer(
+                Channels.newChannel(bytes), StandardCharsets.UTF_8, locale);
+        renderer.appendFixed2(value).flush();
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /** Renders a shape description through a fresh renderer. */
+    private String renderShape(Shape3D shape) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ShapeReportRenderer renderer = new ShapeReportRenderer(
+                Channels.newChannel(bytes), StandardCharsets.UTF_8, Locale.US);
+        renderer.appendShape(shape).flush();
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /** The per-shape lines exactly as the driver printed them with printf. */
+    private byte[] printfReport(List<Shape3D> shapes, Charset charset) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, charset);
+        int index = 1;
+        for (Shape3D shape : shapes) {
+            double volume = shape.getVolume();
+            double surfaceArea = shape.getSurfaceArea();
+            out.printf("%d. %s%n", index++, shape);
+            out.printf("   - Surface Area: %.2f square units%n", surfaceArea);
+            out.printf("   - Volume: %.2f cubic units%n", volume);
+            out.printf("   - Efficiency (V/SA): %.2f%n", volume / surfaceArea);
+            out.println();
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /** The same lines rendered by {@link ShapeReportRenderer}. */
+    private byte[] rendererReport(List<Shape3D> shapes, Charset charset) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ShapeReportRenderer renderer = new ShapeReportRenderer(new PrintStream(bytes, false, charset));
+        int index = 1;
+        for (Shape3D shape : shapes) {
+            renderer.appendShapeEntry(index++, shape);
+        }
+        renderer.flush();
+        return bytes.toByteArray();
+    }
+
+    private List<Shape3D> randomShapes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double a = Math.pow(10, random.nextInt(14) - 5) * random.nextDouble() + 1e-9;
+            double b = random.nextBoolean() ? Math.rint(a * 3) + 1 : a * 1.7;
+            double c = random.nextInt(1000) / 8.0 + 0.125;
+            String name = (i % 7 == 0 ? "Fläche 中 " : "Shape ") + i;
+            shapes.add(switch (i % 5) {
+                case 0 -> new Sphere(name, "Red", a);
+                case 1 -> new Cube(name, "Blue", b);
+                case 2 -> new Cylinder(name, "Grün", a, c);
+                case 3 -> new RectangularPrism(name, "Yellow", a, b, c);
+                default -> new Cone(name, "Purple", c, b);
+            });
+        }
+        return shapes;
+    }
+
+    // =================================================================
+    // Fixed-point formatting
+    // =================================================================
+    @Nested
+    @DisplayName("Fixed-point formatting")
+    class Fixed2Tests {
+
+        @Test
+        @DisplayName("Matches %.2f on rounding ties and special values")
+        void edgeCases() {
+            double[] values = {
+                0.0, -0.0, 0.005, 0.015, 0.125, 1.005, 2.675, 1.115, 0.995, 9.995,
+                99.995, -1.005, -0.001, 1e-300, 123456789.125, 1e10, 1e15, 1e300,
+                Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+            };
+            for (double value : values) {
+                assertEquals(String.format(Locale.US, "%.2f", value), renderFixed2(value, Locale.US),
+                        "value " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("Matches %.2f on random values across magnitudes")
+        void randomValues() {
+            Random random = new Random(11);
+            for (int i = 0; i < 200_000; i++) {
+                double value = (random.nextDouble() - 0.1) * Math.pow(10, random.nextInt(16) - 4);
+                assertEquals(String.format(Locale.US, "%.2f", value), renderFixed2(value, Locale.US),
+                        "value " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("Matches %.2f on values with few decimal digits")
+        void shortDecimals() {
+            for (int i = 0; i < 100_000; i++) {
+                double value = i / 1000.0;
+                assertEquals(String.format(Locale.US, "%.2f", value), renderFixed2(value, Locale.US),
+                        "value " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("Uses the locale's decimal separator and digits")
+        void localized() {
+            Locale[] locales = {
+                Locale.GERMANY, Locale.FRANCE, Locale.forLanguageTag("ar-EG"),
+                Locale.forLanguageTag("th-TH-u-nu-thai"), Locale.forLanguageTag("hi-IN-u-nu-deva")
+            };
+            for (Locale locale : locales) {
+                for (double value : new double[]{3.14159, -2.5, 1234.567, 0.004}) {
+                    assertEquals(String.format(locale, "%.2f", value), renderFixed2(value, locale),
+                            locale + " " + value);
+                }
+            }
+        }
+    }
+
+    // =================================================================
+    // Shape descriptions
+    // =================================================================
+    @Nested
+    @DisplayName("Shape descriptions")
+    class DescriptionTests {
+
+        @Test
+        @DisplayName("Matches toString() for every shape type")
+        void matchesToString() {
+            for (Shape3D shape : randomShapes(5_000, 5)) {
+                assertEquals(shape.toString(), renderShape(shape));
+            }
+        }
+
+        @Test
+        @DisplayName("Matches toString() for integral dimensions at the plain/scientific boundary")
+        void integralBoundaries() {
+            double[] sizes = {1.0, 9_999_999.0, 10_000_000.0, 1e-3, 1e-4, 1e21, 123.0};
+            for (double size : sizes) {
+                Sphere sphere = new Sphere("Ball", "Red", size);
+                assertEquals(sphere.toString(), renderShape(sphere));
+            }
+        }
+    }
+
+    // =================================================================
+    // Whole report
+    // =================================================================
+    @Nested
+    @DisplayName("Report output")
+    class ReportTests {
+
+        @Test
+        @DisplayName("Shape entries are byte-identical to printf in UTF-8")
+        void identicalUtf8() {
+            List<Shape3D> shapes = randomShapes(3_000, 17);
+            assertArrayEquals(printfReport(shapes, StandardCharsets.UTF_8),
+                    rendererReport(shapes, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Shape entries are byte-identical to printf in charsets without CJK")
+        void identicalLatin1AndAscii() {
+            List<Shape3D> shapes = randomShapes(500, 23);
+            assertArrayEquals(printfReport(shapes, StandardCharsets.ISO_8859_1),
+                    rendererReport(shapes, StandardCharsets.ISO_8859_1));
+            assertArrayEquals(printfReport(shapes, StandardCharsets.US_ASCII),
+                    rendererReport(shapes, StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        @DisplayName("Shape entries are byte-identical to printf in a non-ASCII-compatible charset")
+        void identicalUtf16() {
+            List<Shape3D> shapes = randomShapes(200, 29);
+            assertArrayEquals(printfReport(shapes, StandardCharsets.UTF_16LE),
+                    rendererReport(shapes, StandardCharsets.UTF_16LE));
+        }
+
+        @Test
+        @DisplayName("Analysis section matches the printf layout")
+        void analysisSection() {
+            List<Shape3D> shapes = randomShapes(50, 31);
+            var analysis = ShapeAnalyzer.analyze(shapes);
+            String expected = "Analysis Results:" + System.lineSeparator()
+                    + String.format("- Largest Volume: %s (%.2f)%n",
+                            analysis.getLargestVolumeShape().getName(), analysis.getLargestVolume())
+                    + String.format("- Largest Surface Area: %s (%.2f)%n",
+                            analysis.getLargestSurfaceAreaShape().getName(), analysis.getLargestSurfaceArea())
+                    + String.format("- Most Efficient (Volume/Surface): %s (%.2f)%n",
+                            analysis.getMostEfficientShape().getName(), analysis.getBestEfficiency());
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ShapeReportRenderer renderer = new ShapeReportRenderer(new PrintStream(bytes, false, StandardCharsets.UTF_8));
+            renderer.appendAnalysis(analysis).flush();
+            assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Null stream is rejected")
+        void nullStream() {
+            assertThrows(IllegalArgumentException.class, () -> new ShapeReportRenderer((PrintStream) null));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.csc205.project2.shapes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BulkShapeBuilder}, {@link ShapeValidationReport} and
+ * {@link ShapeRules}.
+ *
+ * <p>The central property is that a candidate is accepted in bulk exactly
+ * when its constructor would accept it, and that its first reported reason
+ * is the message the constructor would throw.</p>
+ */
+@DisplayName("BulkShapeBuilder")
+class BulkShapeBuilderTest {
+
+    private static final String[] TEXTS = {"Ball", "Red", "", "   ", null, "x"};
+    private static final double[] VALUES = {
+        1.0, 2.5, 0.0, -0.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE
+    };
+
+    /** Returns the constructor's message, or {@code null} if it accepts the candidate. */
+    private static String constructorMessage(ShapeType type, String name, String color, double[] dimensions) {
+        try {
+            type.create(name, color, dimensions);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    // =================================================================
+    // Equivalence with the constructors
+    // =================================================================
+    @Nested
+    @DisplayName("Equivalence with the constructors")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("Random candidates are accepted and rejected exactly as the constructors do")
+        void matchesConstructors() {
+            Random random = new Random(17);
+            BulkShapeBuilder builder = new BulkShapeBuilder();
+            List<String> expected = new ArrayList<>();
+            for (int row = 0; row < 2000; row++) {
+                ShapeType type = ShapeType.values()[random.nextInt(5)];
+                String name = TEXTS[random.nextInt(TEXTS.length)];
+                String color = TEXTS[random.nextInt(TEXTS.length)];
+                double[] dimensions = new double[type.dimensionCount()];
+                for (int d = 0; d < dimensions.length; d++) {
+                    dimensions[d] = VALUES[random.nextInt(VALUES.length)];
+                }
+                builder.add(type, name, color, dimensions);
+                expected.add(constructorMessage(type, name, color, dimensions));
+            }
+
+            BulkShapeBuilder.Result result = builder.build();
+            ShapeValidationReport report = result.getReport();
+            int entry = 0;
+            int built = 0;
+            for (int row = 0; row < expected.size(); row++) {
+                if (expected.get(row) == null) {
+                    assertTrue(report.isValid(row), "row " + row);
+                    built++;
+                } else {
+                    assertFalse(report.isValid(row), "row " + row);
+                    assertEquals(row, report.getRow(entry));
+                    assertEquals(expected.get(row), report.getReason(entry));
+                    while (entry < report.size() && report.getRow(entry) == row) {
+                        entry++;
+                    }
+                }
+            }
+            assertEquals(report.size(), entry);
+            assertEquals(built, result.getShapes().size());
+        }
+
+        @Test
+        @DisplayName("ShapeRules.check returns the constructor's first message")
+        void checkMatchesConstructors() {
+            assertNull(ShapeRules.check(ShapeType.CONE, "Cone", "Red", 1.0, Double.NaN, 0.0));
+            assertEquals(ShapeRules.NAME_MESSAGE, ShapeRules.check(ShapeType.CUBE, " ", null, -1.0, 0.0, 0.0));
+            assertEquals("Side length must be greater than zero.",
+                    ShapeRules.check(ShapeType.CUBE, "Box", "Red", 0.0, 0.0, 0.0));
+            assertEquals("Width must be greater than zero.",
+                    ShapeRules.check(ShapeType.RECTANGULAR_PRISM, "Box", "Red", 1.0, -2.0, -3.0));
+        }
+    }
+
+    // =================================================================
+    // Report contents
+    // =================================================================
+    @Nested
+    @DisplayName("Report contents")
+    class ReportTests {
+
+        @Test
+        @DisplayName("Every violating field of a row is listed")
+        void listsEveryField() {
+            ShapeValidationReport report = new BulkShapeBuilder()
+                    .add(ShapeType.SPHERE, "Ball", "Red", 1.0)
+                    .add(ShapeType.CYLINDER, "", "Green", -1.0, 0.0)
+                    .add(ShapeType.SPHERE, "Ball", "Red", 1.0, 2.0)
+                    .validate();
+            assertEquals(4, report.size());
+            assertEquals(2, report.getInvalidRowCount());
+            assertEquals("name", report.getField(0));
+            assertEquals("radius", report.getField(1));
+            assertEquals("height", report.getField(2));
+            assertEquals("Height must be greater than zero.", report.getReason(2));
+            assertEquals("dimensions", report.getField(3));
+            assertEquals("Sphere requires 1 dimension but got 2.", report.getReason(3));
+            assertTrue(report.toString().startsWith("Row 1, name: Name must not be null or blank."));
+            assertThrows(IndexOutOfBoundsException.class, () -> report.getRow(4));
+        }
+
+        @Test
+        @DisplayName("Only the valid rows are built, in order")
+        void buildsValidRows() {
+            BulkShapeBuilder.Result result = BulkShapeBuilder.of(ShapeType.CUBE,
+                    new String[] {"A", "B", "C"}, new String[] {"Red", "Red", ""},
+                    new double[] {1.0, -1.0, 2.0}).build();
+            assertEquals(1, result.getShapes().size());
+            assertEquals("A", result.getShapes().get(0).getName());
+            assertEquals(2, result.getReport().size());
+        }
+
+        @Test
+        @DisplayName("Mismatched array lengths are rejected")
+        void mismatchedArrays() {
+            assertThrows(IllegalArgumentException.class, () -> BulkShapeBuilder.of(ShapeType.CYLINDER,
+                    new String[] {"A"}, new String[] {"Red"}, new double[] {1.0}));
+            assertThrows(IllegalArgumentException.class, () -> BulkShapeBuilder.of(ShapeType.SPHERE,
+                    new String[] {"A"}, new String[] {"Red", "Blue"}, new double[] {1.0}));
+        }
+
+        @Test
+        @DisplayName("An empty builder yields an empty report")
+        void emptyBuilder() {
+            BulkShapeBuilder.Result result = new BulkShapeBuilder(0).build();
+            assertTrue(result.getReport().isEmpty());
+            assertTrue(result.getShapes().isEmpty());
+        }
+    }
+}
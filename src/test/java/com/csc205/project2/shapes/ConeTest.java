@@ -279,4 +279,87 @@ class ConeTest {
             assertTrue(s.contains("9.0"));
         }
     }
+
+    // =================================================================
+    // Cached derived values
+    // =================================================================
+    @Nested
+    @DisplayName("Cached derived values")
+    class CacheTests {
+
+        @Test
+        @DisplayName("setRadius invalidates volume, surface area and slant height")
+        void setRadiusInvalidatesCache() {
+            cone.getVolume();
+            cone.getSurfaceArea();
+            cone.getSlantHeight();
+            cone.setRadius(3.0);
+            Cone fresh = new Cone("Fresh", "Purple", 3.0, 9.0);
+            assertEquals(fresh.getVolume(), cone.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), cone.getSurfaceArea(), 0.0);
+            assertEquals(fresh.getSlantHeight(), cone.getSlantHeight(), 0.0);
+        }
+
+        @Test
+        @DisplayName("setHeight invalidates volume, surface area and slant height")
+        void setHeightInvalidatesCache() {
+            cone.getVolume();
+            cone.getSurfaceArea();
+            cone.getSlantHeight();
+            cone.setHeight(3.0);
+            Cone fresh = new Cone("Fresh", "Purple", 4.0, 3.0);
+            assertEquals(5.0, cone.getSlantHeight(), 1e-9);
+            assertEquals(fresh.getVolume(), cone.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), cone.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Slant height read first does not leave surface area stale")
+        void slantHeightThenSurfaceArea() {
+            cone.getSlantHeight();
+            cone.setRadius(3.0);
+            cone.setHeight(4.0);
+            assertEquals(5.0, cone.getSlantHeight(), 1e-9);
+            assertEquals(Math.PI * 3.0 * 8.0, cone.getSurfaceArea(), 1e-9);
+        }
+    }
+
+    // =================================================================
+    // Ray intersection
+    // =================================================================
+    @Nested
+    @DisplayName("Ray intersection")
+    class RayTests {
+
+        private final double[] normal = new double[3];
+
+        private void assertHit(double expected, double nx, double ny, double nz,
+                               double ox, double oy, double oz, double dx, double dy, double dz) {
+            assertEquals(expected, cone.intersect(ox, oy, oz, dx, dy, dz, normal), 1e-12);
+            assertEquals(nx, normal[0], 1e-12, "normal x");
+            assertEquals(ny, normal[1], 1e-12, "normal y");
+            assertEquals(nz, normal[2], 1e-12, "normal z");
+        }
+
+        @Test
+        @DisplayName("Rays hit the apex, the base and the slanted side")
+        void hits() {
+            assertHit(5.5, 0.0, 0.0, 1.0, 0.0, 0.0, 10.0, 0.0, 0.0, -1.0);
+            assertHit(5.5, 0.0, 0.0, -1.0, 0.0, 0.0, -10.0, 0.0, 0.0, 1.0);
+            double length = Math.sqrt(97.0);
+            assertHit(8.0, 9.0 / length, 0.0, 4.0 / length, 10.0, 0.0, 0.0, -1.0, 0.0, 0.0);
+        }
+
+        @Test
+        @DisplayName("The mirrored half of the double cone above the apex is ignored")
+        void aboveApex() {
+            assertEquals(Double.POSITIVE_INFINITY, cone.intersect(10.0, 0.0, 6.0, -1.0, 0.0, 0.0, null));
+        }
+
+        @Test
+        @DisplayName("A ray from inside leaves through the side")
+        void fromInside() {
+            assertEquals(2.0, cone.intersect(0.0, 0.0, 0.0, 1.0, 0.0, 0.0, null), 1e-12);
+        }
+    }
 }
@@ -231,4 +231,72 @@ class CubeTest {
             assertTrue(cube.toString().contains("4.0"));
         }
     }
+
+    // =================================================================
+    // Cached derived values
+    // =================================================================
+    @Nested
+    @DisplayName("Cached derived values")
+    class CacheTests {
+
+        @Test
+        @DisplayName("setSideLength invalidates cached volume and surface area")
+        void setSideLengthInvalidatesCache() {
+            cube.getVolume();
+            cube.getSurfaceArea();
+            cube.setSideLength(7.0);
+            Cube fresh = new Cube("Fresh", "Blue", 7.0);
+            assertEquals(fresh.getVolume(), cube.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), cube.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Every read after a sequence of mutations is current")
+        void readsTrackEveryMutation() {
+            for (double side = 1.0; side <= 10.0; side += 1.5) {
+                cube.setSideLength(side);
+                assertEquals(cube.calculateVolume(), cube.getVolume(), 0.0);
+                assertEquals(cube.calculateSurfaceArea(), cube.getSurfaceArea(), 0.0);
+            }
+        }
+    }
+
+    // =================================================================
+    // Ray intersection
+    // =================================================================
+    @Nested
+    @DisplayName("Ray intersection")
+    class RayTests {
+
+        private final double[] normal = new double[3];
+
+        private void assertHit(double expected, double nx, double ny, double nz,
+                               double ox, double oy, double oz, double dx, double dy, double dz) {
+            assertEquals(expected, cube.intersect(ox, oy, oz, dx, dy, dz, normal), 1e-12);
+            assertEquals(nx, normal[0], 1e-12, "normal x");
+            assertEquals(ny, normal[1], 1e-12, "normal y");
+            assertEquals(nz, normal[2], 1e-12, "normal z");
+        }
+
+        @Test
+        @DisplayName("A ray hits the face it meets first")
+        void hitFace() {
+            assertHit(8.0, -1.0, 0.0, 0.0, -10.0, 1.0, 1.5, 1.0, 0.0, 0.0);
+            assertHit(2.0, 0.0, 0.0, -1.0, 0.0, 0.0, 0.0, 0.0, 0.0, -1.0);
+        }
+
+        @Test
+        @DisplayName("A ray sliding along a face touches it")
+        void grazingFace() {
+            assertEquals(8.0, cube.intersect(-10.0, 2.0, 0.0, 1.0, 0.0, 0.0, null), 1e-12);
+            assertEquals(Double.POSITIVE_INFINITY, cube.intersect(-10.0, 2.001, 0.0, 1.0, 0.0, 0.0, null));
+        }
+
+        @Test
+        @DisplayName("A rotated cube is hit on its leading edge")
+        void rotated() {
+            cube.setPlacement(Placement.ORIGIN.rotated(0.0, 0.0, 1.0, Math.PI / 4));
+            assertEquals(10.0 - 2.0 * Math.sqrt(2.0), cube.intersect(-10.0, 0.0, 0.0, 1.0, 0.0, 0.0, null), 1e-12);
+        }
+    }
 }
@@ -262,4 +262,74 @@ class CylinderTest {
             assertTrue(s.contains("7.0"));
         }
     }
+
+    // =================================================================
+    // Cached derived values
+    // =================================================================
+    @Nested
+    @DisplayName("Cached derived values")
+    class CacheTests {
+
+        @Test
+        @DisplayName("setRadius invalidates cached volume and surface area")
+        void setRadiusInvalidatesCache() {
+            cylinder.getVolume();
+            cylinder.getSurfaceArea();
+            cylinder.setRadius(5.0);
+            Cylinder fresh = new Cylinder("Fresh", "Green", 5.0, cylinder.getHeight());
+            assertEquals(fresh.getVolume(), cylinder.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), cylinder.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("setHeight invalidates cached volume and surface area")
+        void setHeightInvalidatesCache() {
+            cylinder.getVolume();
+            cylinder.getSurfaceArea();
+            cylinder.setHeight(11.0);
+            Cylinder fresh = new Cylinder("Fresh", "Green", cylinder.getRadius(), 11.0);
+            assertEquals(fresh.getVolume(), cylinder.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), cylinder.getSurfaceArea(), 0.0);
+        }
+    }
+
+    // =================================================================
+    // Ray intersection
+    // =================================================================
+    @Nested
+    @DisplayName("Ray intersection")
+    class RayTests {
+
+        private final double[] normal = new double[3];
+
+        private void assertHit(double expected, double nx, double ny, double nz,
+                               double ox, double oy, double oz, double dx, double dy, double dz) {
+            assertEquals(expected, cylinder.intersect(ox, oy, oz, dx, dy, dz, normal), 1e-12);
+            assertEquals(nx, normal[0], 1e-12, "normal x");
+            assertEquals(ny, normal[1], 1e-12, "normal y");
+            assertEquals(nz, normal[2], 1e-12, "normal z");
+        }
+
+        @Test
+        @DisplayName("Rays hit the curved side and the end discs")
+        void sideAndCaps() {
+            assertHit(7.0, 1.0, 0.0, 0.0, 10.0, 0.0, 0.0, -1.0, 0.0, 0.0);
+            assertHit(6.5, 0.0, 0.0, 1.0, 0.0, 1.0, 10.0, 0.0, 0.0, -1.0);
+            assertHit(3.5, 0.0, 0.0, -1.0, 0.0, 0.0, 0.0, 0.0, 0.0, -1.0);
+        }
+
+        @Test
+        @DisplayName("A ray parallel to the axis outside the radius misses")
+        void parallelMiss() {
+            assertEquals(Double.POSITIVE_INFINITY, cylinder.intersect(5.0, 0.0, 10.0, 0.0, 0.0, -1.0, null));
+            assertEquals(Double.POSITIVE_INFINITY, cylinder.intersect(10.0, 0.0, 3.6, -1.0, 0.0, 0.0, null));
+        }
+
+        @Test
+        @DisplayName("The normal follows the placement")
+        void rotated() {
+            cylinder.setPlacement(Placement.alignedTo(0.0, 0.0, 0.0, 1.0, 0.0, 0.0));
+            assertHit(16.5, 1.0, 0.0, 0.0, 20.0, 0.0, 0.0, -1.0, 0.0, 0.0);
+        }
+    }
 }
@@ -0,0 +1,467 @@
+package com.csc205.project2.shapes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Placement}, {@link BoundingBox} and the bounding
+ * boxes and point-containment tests the five shapes build on them.
+ */
+@DisplayName("Placement and bounding boxes")
+class PlacementTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static final Placement TILTED = Placement.at(1.0, -2.0, 3.0)
+            .rotated(1.0, 0.0, 0.0, 0.7)
+            .rotated(0.0, 1.0, 1.0, -1.1);
+
+    /**
+     * Samples points on the surface of a shape in its local frame, maps them
+     * to world space and returns the box around them.
+     */
+    private static double[] sampledBox(Shape3D shape) {
+        double[] box = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        double[] world = new double[3];
+        Placement placement = shape.getPlacement();
+        int steps = 720;
+        for (int i = 0; i < steps; i++) {
+            double angle = 2 * Math.PI * i / steps;
+            double c = Math.cos(angle);
+            double s = Math.sin(angle);
+            for (double[] local : localOutline(shape, c, s)) {
+                placement.toWorld(local[0], local[1], local[2], world);
+                for (int axis = 0; axis < 3; axis++) {
+                    box[axis] = Math.min(box[axis], world[axis]);
+                    box[axis + 3] = Math.max(box[axis + 3], world[axis]);
+                }
+            }
+        }
+        return box;
+    }
+
+    private static List<double[]> localOutline(Shape3D shape, double c, double s) {
+        return switch (shape) {
+            case Cylinder cylinder -> List.of(
+                    new double[] {cylinder.getRadius() * c, cylinder.getRadius() * s, -cylinder.getHeight() / 2},
+                    new double[] {cylinder.getRadius() * c, cylinder.getRadius() * s, cylinder.getHeight() / 2});
+            case Cone cone -> List.of(
+                    new double[] {cone.getRadius() * c, cone.getRadius() * s, -cone.getHeight() / 2},
+                    new double[] {0.0, 0.0, cone.getHeight() / 2});
+            case RectangularPrism prism -> corners(prism.getLength() / 2, prism.getWidth() / 2, prism.getHeight() / 2);
+            case Cube cube -> corners(cube.getSideLength() / 2, cube.getSideLength() / 2, cube.getSideLength() / 2);
+            case Sphere sphere -> List.of(
+                    new double[] {sphere.getRadius() * c, sphere.getRadius() * s, 0.0},
+                    new double[] {0.0, sphere.getRadius() * c, sphere.getRadius() * s});
+        };
+    }
+
+    private static List<double[]> corners(double hx, double hy, double hz) {
+        return List.of(
+                new double[] {-hx, -hy, -hz}, new double[] {hx, -hy, -hz},
+                new double[] {-hx, hy, -hz}, new double[] {hx, hy, -hz},
+                new double[] {-hx, -hy, hz}, new double[] {hx, -hy, hz},
+                new double[] {-hx, hy, hz}, new double[] {hx, hy, hz});
+    }
+
+    private static List<Shape3D> shapes() {
+        return List.of(
+                new Sphere("Ball", "Red", 2.5),
+                new Cube("Box", "Blue", 3.0),
+                new Cylinder("Pipe", "Green", 1.5, 4.0),
+                new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0),
+                new Cone("Hat", "Purple", 3.0, 4.0));
+    }
+
+    private static void assertTight(Shape3D shape, double tolerance) {
+        BoundingBox bounds = shape.getBounds();
+        double[] sampled = sampledBox(shape);
+        double[] actual = {bounds.getMinX(), bounds.getMinY(), bounds.getMinZ(),
+                bounds.getMaxX(), bounds.getMaxY(), bounds.getMaxZ()};
+        for (int i = 0; i < 6; i++) {
+            assertEquals(sampled[i], actual[i], tolerance, shape + " bound " + i);
+        }
+    }
+
+    // =================================================================
+    // Placement
+    // =================================================================
+    @Nested
+    @DisplayName("Placement")
+    class PlacementTests {
+
+        @Test
+        @DisplayName("Shapes start at the origin, unrotated")
+        void defaultPlacement() {
+            Placement placement = new Cube("C", "Red", 1.0).getPlacement();
+            assertEquals(Placement.ORIGIN, placement);
+            assertTrue(placement.isAxisAligned());
+        }
+
+        @Test
+        @DisplayName("toLocal inverts toWorld")
+        void roundTrip() {
+            double[] world = new double[3];
+            double[] local = new double[3];
+            TILTED.toWorld(0.3, -1.2, 2.5, world);
+            TILTED.toLocal(world[0], world[1], world[2], local);
+            assertEquals(0.3, local[0], EPSILON);
+            assertEquals(-1.2, local[1], EPSILON);
+            assertEquals(2.5, local[2], EPSILON);
+            assertFalse(TILTED.isAxisAligned());
+        }
+
+        @Test
+        @DisplayName("alignedTo points the local z axis along the direction")
+        void alignedTo() {
+            double[] world = new double[3];
+            Placement placement = Placement.alignedTo(5.0, 0.0, 0.0, 0.0, 3.0, 4.0);
+            placement.toWorld(0.0, 0.0, 1.0, world);
+            assertEquals(5.0, world[0], EPSILON);
+            assertEquals(0.6, world[1], EPSILON);
+            assertEquals(0.8, world[2], EPSILON);
+
+            Placement flipped = Placement.alignedTo(0.0, 0.0, 0.0, 0.0, 0.0, -2.0);
+            assertEquals(-1.0, flipped.rotation(2, 2), EPSILON);
+        }
+
+        @Test
+        @DisplayName("A quarter turn about z maps x onto y")
+        void rotated() {
+            Placement placement = Placement.ORIGIN.rotated(0.0, 0.0, 2.0, Math.PI / 2);
+            assertEquals(0.0, placement.rotation(0, 0), EPSILON);
+            assertEquals(1.0, placement.rotation(1, 0), EPSILON);
+            assertEquals(placement, placement.movedTo(0.0, 0.0, 0.0));
+            assertThrows(IndexOutOfBoundsException.class, () -> placement.rotation(3, 0));
+        }
+
+        @Test
+        @DisplayName("Non-finite positions and degenerate rotations are rejected")
+        void validation() {
+            assertThrows(IllegalArgumentException.class, () -> Placement.at(Double.NaN, 0.0, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> Placement.of(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> Placement.alignedTo(0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Placement.ORIGIN.rotated(1.0, 0.0, 0.0, Double.POSITIVE_INFINITY));
+        }
+    }
+
+    // =================================================================
+    // BoundingBox
+    // =================================================================
+    @Nested
+    @DisplayName("BoundingBox")
+    class BoundingBoxTests {
+
+        @Test
+        @DisplayName("Point, box and intersection tests include the faces")
+        void closedTests() {
+            BoundingBox box = BoundingBox.of(0.0, 0.0, 0.0, 2.0, 2.0, 2.0);
+            assertTrue(box.contains(2.0, 0.0, 1.0));
+            assertFalse(box.contains(2.1, 0.0, 1.0));
+            assertTrue(box.contains(BoundingBox.around(1.0, 1.0, 1.0, 1.0, 1.0, 1.0)));
+            assertTrue(box.intersects(BoundingBox.of(2.0, 2.0, 2.0, 3.0, 3.0, 3.0)));
+            assertFalse(box.intersects(BoundingBox.of(2.5, 0.0, 0.0, 3.0, 1.0, 1.0)));
+        }
+
+        @Test
+        @DisplayName("Union, intersection, distance, area and volume")
+        void measures() {
+            BoundingBox box = BoundingBox.of(0.0, 0.0, 0.0, 1.0, 2.0, 3.0);
+            assertEquals(BoundingBox.of(-1.0, 0.0, 0.0, 1.0, 2.0, 4.0),
+                    box.union(BoundingBox.of(-1.0, 1.0, 1.0, 0.0, 1.0, 4.0)));
+            assertEquals(BoundingBox.of(0.5, 1.0, 1.0, 1.0, 2.0, 3.0),
+                    box.intersection(BoundingBox.of(0.5, 1.0, 1.0, 4.0, 4.0, 4.0)));
+            assertNull(box.intersection(BoundingBox.of(1.5, 0.0, 0.0, 2.0, 1.0, 1.0)));
+            assertEquals(0.0, box.distanceSquared(0.5, 1.0, 1.0), 0.0);
+            assertEquals(25.0, box.distanceSquared(4.0, 6.0, 3.0), 0.0);
+            assertEquals(22.0, box.surfaceArea(), 0.0);
+            assertEquals(6.0, box.volume(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Reversed or NaN bounds are rejected")
+        void validation() {
+            assertThrows(IllegalArgumentException.class, () -> BoundingBox.of(1.0, 0.0, 0.0, 0.0, 1.0, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> BoundingBox.of(0.0, Double.NaN, 0.0, 1.0, 1.0, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> BoundingBox.around(0.0, 0.0, 0.0, -1.0, 1.0, 1.0));
+        }
+    }
+
+    // =================================================================
+    // Shape bounds
+    // =================================================================
+    @Nested
+    @DisplayName("Shape bounds")
+    class ShapeBounds {
+
+        @Test
+        @DisplayName("Unrotated bounds are the local extents around the position")
+        void axisAligned() {
+            Shape3D cone = new Cone("Hat", "Purple", 3.0, 4.0);
+            cone.setPlacement(Placement.at(10.0, 20.0, 30.0));
+            assertEquals(BoundingBox.of(7.0, 17.0, 28.0, 13.0, 23.0, 32.0), cone.getBounds());
+
+            Shape3D prism = new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0);
+            assertEquals(BoundingBox.of(-1.0, -1.5, -2.0, 1.0, 1.5, 2.0), prism.getBounds());
+        }
+
+        @Test
+        @DisplayName("Rotated bounds of the oriented shapes are tight around the surface")
+        void rotatedBoundsAreTight() {
+            for (Shape3D shape : shapes()) {
+                if (shape instanceof Sphere) {
+                    continue;
+                }
+                shape.setPlacement(TILTED);
+                assertTight(shape, 1e-3);
+            }
+        }
+
+        @Test
+        @DisplayName("A sphere ignores its orientation")
+        void sphereIgnoresRotation() {
+            Shape3D sphere = new Sphere("Ball", "Red", 2.0);
+            sphere.setPlacement(TILTED);
+            assertEquals(BoundingBox.around(1.0, -2.0, 3.0, 2.0, 2.0, 2.0), sphere.getBounds());
+        }
+
+        @Test
+        @DisplayName("A cylinder lying along x extends by its radius on y and z")
+        void cylinderOnItsSide() {
+            Cylinder pipe = new Cylinder("Pipe", "Green", 1.0, 10.0);
+            pipe.setPlacement(Placement.alignedTo(0.0, 0.0, 0.0, 1.0, 0.0, 0.0));
+            BoundingBox bounds = pipe.getBounds();
+            assertEquals(-5.0, bounds.getMinX(), EPSILON);
+            assertEquals(5.0, bounds.getMaxX(), EPSILON);
+            assertEquals(1.0, bounds.getMaxY(), EPSILON);
+            assertEquals(-1.0, bounds.getMinZ(), EPSILON);
+        }
+    }
+
+    // =================================================================
+    // Containment
+    // =================================================================
+    @Nested
+    @DisplayName("Containment")
+    class Containment {
+
+        @Test
+        @DisplayName("Surface points are inside and points just beyond are outside")
+        void closedSurfaces() {
+            Shape3D cube = new Cube("Box", "Blue", 2.0);
+            assertTrue(cube.contains(1.0, -1.0, 1.0));
+            assertFalse(cube.contains(1.0 + 1e-9, 0.0, 0.0));
+
+            Shape3D sphere = new Sphere("Ball", "Red", 2.0);
+            sphere.setPlacement(Placement.at(5.0, 0.0, 0.0));
+            assertTrue(sphere.contains(7.0, 0.0, 0.0));
+            assertFalse(sphere.contains(6.5, 1.5, 0.0));
+
+            Shape3D prism = new RectangularPrism("Brick", "Yellow", 2.0, 4.0, 6.0);
+            assertTrue(prism.contains(1.0, 2.0, 3.0));
+            assertFalse(prism.contains(0.0, 0.0, 3.01));
+        }
+
+        @Test
+        @DisplayName("A cone narrows from its base to its apex")
+        void coneTaper() {
+            Shape3D cone = new Cone("Hat", "Purple", 2.0, 4.0);
+            assertTrue(cone.contains(2.0, 0.0, -2.0));
+            assertTrue(cone.contains(0.9, 0.0, 0.0));
+            assertFalse(cone.contains(1.1, 0.0, 0.0));
+            assertTrue(cone.contains(0.0, 0.0, 2.0));
+            assertFalse(cone.contains(0.0, 0.0, 2.1));
+            assertFalse(cone.contains(0.0, 0.0, -2.1));
+        }
+
+        @Test
+        @DisplayName("Rotated shapes test points in their own frame")
+        void rotated() {
+            Cylinder pipe = new Cylinder("Pipe", "Green", 1.0, 10.0);
+            assertFalse(pipe.contains(4.0, 0.0, 0.0));
+            pipe.setPlacement(Placement.alignedTo(0.0, 0.0, 0.0, 1.0, 0.0, 0.0));
+            assertTrue(pipe.contains(4.0, 0.0, 0.0));
+            assertFalse(pipe.contains(0.0, 0.0, 4.0));
+
+            double[] world = new double[3];
+            for (Shape3D shape : List.of(new Cube("Box", "Blue", 3.0), new Cone("Hat", "Purple", 3.0, 4.0),
+                    new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0))) {
+                shape.setPlacement(TILTED);
+                TILTED.toWorld(0.2, 0.3, -1.0, world);
+                assertTrue(shape.contains(world[0], world[1], world[2]), shape.toString());
+                TILTED.toWorld(0.0, 0.0, 2.5, world);
+                assertFalse(shape.contains(world[0], world[1], world[2]), shape.toString());
+                assertTrue(shape.getBounds().contains(TILTED.getX(), TILTED.getY(), TILTED.getZ()));
+            }
+        }
+    }
+
+    // =================================================================
+    // Distance
+    // =================================================================
+    @Nested
+    @DisplayName("Distance")
+    class Distance {
+
+        @Test
+        @DisplayName("Points inside are at distance zero and points outside at their gap to the surface")
+        void distances() {
+            Shape3D sphere = new Sphere("Ball", "Red", 2.0);
+            sphere.setPlacement(Placement.at(5.0, 0.0, 0.0));
+            assertEquals(0.0, sphere.distanceTo(6.0, 0.0, 0.0), 0.0);
+            assertEquals(3.0, sphere.distanceTo(5.0, 5.0, 0.0), 1e-12);
+
+            Shape3D cube = new Cube("Box", "Blue", 2.0);
+            assertEquals(0.0, cube.distanceTo(1.0, -1.0, 1.0), 0.0);
+            assertEquals(Math.sqrt(2.0), cube.distanceTo(2.0, 2.0, 0.0), 1e-12);
+
+            Shape3D prism = new RectangularPrism("Brick", "Yellow", 2.0, 4.0, 6.0);
+            assertEquals(0.5, prism.distanceTo(0.0, 2.5, 0.0), 1e-12);
+
+            Shape3D pipe = new Cylinder("Pipe", "Green", 1.0, 4.0);
+            assertEquals(2.0, pipe.distanceTo(3.0, 0.0, 1.0), 1e-12);
+            assertEquals(5.0, pipe.distanceTo(0.0, 4.0, 6.0), 1e-12);
+
+            assertThrows(IllegalArgumentException.class, () -> cube.distanceTo(Double.NaN, 0.0, 0.0));
+        }
+
+        @Test
+        @DisplayName("A cone is measured to its base, its slanted side or its apex")
+        void coneDistances() {
+            // Radius 3, height 4: the slant has length 5.
+            Shape3D cone = new Cone("Hat", "Purple", 3.0, 4.0);
+            assertEquals(0.0, cone.distanceTo(1.0, 0.0, -1.0), 0.0);
+            assertEquals(1.0, cone.distanceTo(0.0, 0.0, -3.0), 1e-12);
+            assertEquals(1.0, cone.distanceTo(0.0, 0.0, 3.0), 1e-12);
+            assertEquals(Math.sqrt(2.0), cone.distanceTo(4.0, 0.0, -3.0), 1e-12);
+            // From the middle of the slant, 1 along its outward normal (4, 3) / 5.
+            assertEquals(1.0, cone.distanceTo(1.5 + 0.8, 0.0, 0.6), 1e-12);
+        }
+
+        @Test
+        @DisplayName("Rotated distances agree with a brute-force search over interior samples")
+        void matchesInteriorSamples() {
+            int cells = 24;
+            Random random = new Random(11);
+            for (Shape3D shape : List.of(new Sphere("Ball", "Red", 1.5), new Cube("Box", "Blue", 3.0),
+                    new Cylinder("Pipe", "Green", 1.0, 3.0), new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0),
+                    new Cone("Hat", "Purple", 3.0, 4.0))) {
+                shape.setPlacement(TILTED);
+                BoundingBox box = shape.getBounds();
+                double sx = (box.getMaxX() - box.getMinX()) / cells;
+                double sy = (box.getMaxY() - box.getMinY()) / cells;
+                double sz = (box.getMaxZ() - box.getMinZ()) / cells;
+                List<double[]> inside = new ArrayList<>();
+                for (int i = 0; i <= cells; i++) {
+                    for (int j = 0; j <= cells; j++) {
+                        for (int k = 0; k <= cells; k++) {
+                            double[] p = {box.getMinX() + i * sx, box.getMinY() + j * sy, box.getMinZ() + k * sz};
+                            if (shape.contains(p[0], p[1], p[2])) {
+                                inside.add(p);
+                            }
+                        }
+                    }
+                }
+                double cell = Math.sqrt(sx * sx + sy * sy + sz * sz);
+                for (int q = 0; q < 100; q++) {
+                    double x = TILTED.getX() + random.nextGaussian() * 4;
+                    double y = TILTED.getY() + random.nextGaussian() * 4;
+                    double z = TILTED.getZ() + random.nextGaussian() * 4;
+                    double distance = shape.distanceTo(x, y, z);
+                    assertEquals(shape.contains(x, y, z), distance == 0.0, shape.toString());
+                    double brute = Double.POSITIVE_INFINITY;
+                    for (double[] p : inside) {
+                        brute = Math.min(brute, Math.sqrt((x - p[0]) * (x - p[0]) + (y - p[1]) * (y - p[1])
+                                + (z - p[2]) * (z - p[2])));
+                    }
+                    assertTrue(distance <= brute + 1e-9, shape.toString());
+                    assertTrue(brute <= distance + cell, shape.toString());
+                }
+            }
+        }
+    }
+
+    // =================================================================
+    // Ray intersection
+    // =================================================================
+    @Nested
+    @DisplayName("Ray intersection")
+    class RayIntersection {
+
+        private static final double STEP = 1e-7;
+
+        /**
+         * Casts random rays at a tilted shape and checks each answer against
+         * {@link Shape3D#contains}: a hit is on the surface with the normal
+         * pointing out, and no sampled point before it is inside.
+         */
+        private void assertConsistent(Shape3D shape, boolean fromInside) {
+            shape.setPlacement(TILTED);
+            Random random = new Random(31);
+            double[] normal = new double[3];
+            int hits = 0;
+            for (int i = 0; i < 500; i++) {
+                double ox = TILTED.getX();
+                double oy = TILTED.getY();
+                double oz = TILTED.getZ();
+                double dx = random.nextGaussian();
+                double dy = random.nextGaussian();
+                double dz = random.nextGaussian();
+                double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                if (!fromInside) {
+                    // Start ten units out, well clear of every test shape.
+                    ox -= 10 * dx / length + random.nextDouble() * 2 - 1;
+                    oy -= 10 * dy / length + random.nextDouble() * 2 - 1;
+                    oz -= 10 * dz / length + random.nextDouble() * 2 - 1;
+                }
+                double t = shape.intersect(ox, oy, oz, dx, dy, dz, normal);
+                double end = t == Double.POSITIVE_INFINITY ? 30.0 / length : t;
+                for (int k = 1; k < 200 && !fromInside; k++) {
+                    double s = end * k / 200 * (1 - 1e-6);
+                    assertFalse(shape.contains(ox + s * dx, oy + s * dy, oz + s * dz), shape + " ray " + i);
+                }
+                if (t == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                hits++;
+                double x = ox + t * dx;
+                double y = oy + t * dy;
+                double z = oz + t * dz;
+                assertEquals(1.0, normal[0] * normal[0] + normal[1] * normal[1] + normal[2] * normal[2], 1e-12);
+                assertTrue(shape.contains(x - STEP * normal[0], y - STEP * normal[1], z - STEP * normal[2]),
+                        shape + " ray " + i + " just inside");
+                assertFalse(shape.contains(x + STEP * normal[0], y + STEP * normal[1], z + STEP * normal[2]),
+                        shape + " ray " + i + " just outside");
+            }
+            assertTrue(fromInside ? hits == 500 : hits > 50, shape + " hits " + hits);
+        }
+
+        @Test
+        @DisplayName("Hits from outside lie on the surface and nothing before them is inside")
+        void fromOutside() {
+            for (Shape3D shape : shapes()) {
+                assertConsistent(shape, false);
+            }
+        }
+
+        @Test
+        @DisplayName("Every ray from the center hits the surface on its way out")
+        void fromCenter() {
+            for (Shape3D shape : shapes()) {
+                assertConsistent(shape, true);
+            }
+        }
+    }
+}
@@ -313,4 +313,79 @@ class RectangularPrismTest {
             assertTrue(s.contains("2.0"));
         }
     }
+
+    // =================================================================
+    // Cached derived values
+    // =================================================================
+    @Nested
+    @DisplayName("Cached derived values")
+    class CacheTests {
+
+        @Test
+        @DisplayName("Each dimension setter invalidates cached values")
+        void everySetterInvalidatesCache() {
+            prism.getVolume();
+            prism.getSurfaceArea();
+            prism.setLength(10.0);
+            assertEquals(prism.calculateVolume(), prism.getVolume(), 0.0);
+            assertEquals(prism.calculateSurfaceArea(), prism.getSurfaceArea(), 0.0);
+
+            prism.setWidth(8.0);
+            assertEquals(prism.calculateVolume(), prism.getVolume(), 0.0);
+            assertEquals(prism.calculateSurfaceArea(), prism.getSurfaceArea(), 0.0);
+
+            prism.setHeight(0.5);
+            assertEquals(prism.calculateVolume(), prism.getVolume(), 0.0);
+            assertEquals(prism.calculateSurfaceArea(), prism.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Mutated prism matches a freshly built one")
+        void matchesFreshInstance() {
+            prism.getVolume();
+            prism.setLength(1.0);
+            prism.setWidth(2.0);
+            prism.setHeight(3.0);
+            RectangularPrism fresh = new RectangularPrism("Fresh", "Yellow", 1.0, 2.0, 3.0);
+            assertEquals(fresh.getVolume(), prism.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), prism.getSurfaceArea(), 0.0);
+        }
+    }
+
+    // =================================================================
+    // Ray intersection
+    // =================================================================
+    @Nested
+    @DisplayName("Ray intersection")
+    class RayTests {
+
+        private final double[] normal = new double[3];
+
+        private void assertHit(double expected, double nx, double ny, double nz,
+                               double ox, double oy, double oz, double dx, double dy, double dz) {
+            assertEquals(expected, prism.intersect(ox, oy, oz, dx, dy, dz, normal), 1e-12);
+            assertEquals(nx, normal[0], 1e-12, "normal x");
+            assertEquals(ny, normal[1], 1e-12, "normal y");
+            assertEquals(nz, normal[2], 1e-12, "normal z");
+        }
+
+        @Test
+        @DisplayName("Each axis uses its own half extent")
+        void faces() {
+            assertHit(9.0, 0.0, 0.0, -1.0, 0.0, 0.0, -10.0, 0.0, 0.0, 1.0);
+            assertHit(8.5, 0.0, 1.0, 0.0, 0.0, 10.0, 0.0, 0.0, -1.0, 0.0);
+        }
+
+        @Test
+        @DisplayName("A ray from inside leaves through the nearest face")
+        void fromInside() {
+            assertHit(1.5, 0.0, 1.0, 0.0, 0.0, 0.0, 0.0, 1.0, 1.0, 0.0);
+        }
+
+        @Test
+        @DisplayName("A ray that clears a corner misses")
+        void missCorner() {
+            assertEquals(Double.POSITIVE_INFINITY, prism.intersect(-10.0, 0.0, 2.0, 1.0, 0.0, 0.1, null));
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.csc205.project2.shapes;
 
+import java.lang.reflect.Modifier;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -199,6 +202,17 @@ class Shape3DTest {
             // Cube with side 2: volume = 8
             assertEquals(8.0, shape.getVolume(), 1e-9);
         }
+
+        @Test
+        @DisplayName("The hierarchy is sealed over the five final shape classes")
+        void hierarchyIsSealed() {
+            assertTrue(Shape3D.class.isSealed());
+            Class<?>[] permitted = Shape3D.class.getPermittedSubclasses();
+            assertEquals(ShapeType.values().length, permitted.length);
+            for (Class<?> subclass : permitted) {
+                assertTrue(Modifier.isFinal(subclass.getModifiers()), subclass.getName());
+            }
+        }
     }
 
     // =================================================================
@@ -222,4 +236,144 @@ class Shape3DTest {
             assertTrue(shape.toString().contains("Green"));
         }
     }
+
+    // =================================================================
+    // Derived-value cache
+    // =================================================================
+    @Nested
+    @DisplayName("Derived-value cache")
+    class DerivedValueCache {
+
+        @Test
+        @DisplayName("getVolume fills the cache and later reads reuse it")
+        void volumeCachedAfterFirstRead() {
+            Sphere shape = new Sphere("Ball", "Red", 2.0);
+            assertFalse(shape.isVolumeCached());
+            double volume = shape.getVolume();
+            assertTrue(shape.isVolumeCached());
+            assertEquals(volume, shape.getVolume(), 0.0);
+            assertFalse(shape.isSurfaceAreaCached());
+        }
+
+        @Test
+        @DisplayName("getSurfaceArea fills the cache and later reads reuse it")
+        void surfaceAreaCachedAfterFirstRead() {
+            Sphere shape = new Sphere("Ball", "Red", 2.0);
+            double surfaceArea = shape.getSurfaceArea();
+            assertTrue(shape.isSurfaceAreaCached());
+            assertEquals(surfaceArea, shape.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("A dimension setter clears the cache and forces recalculation")
+        void invalidationForcesRecalculation() {
+            Sphere shape = new Sphere("Ball", "Red", 2.0);
+            shape.getVolume();
+            shape.getSurfaceArea();
+            shape.setRadius(3.0);
+            assertFalse(shape.isVolumeCached());
+            assertFalse(shape.isSurfaceAreaCached());
+            assertEquals(shape.calculateVolume(), shape.getVolume(), 0.0);
+        }
+
+        @Test
+        @DisplayName("setName and setColor do not discard cached values")
+        void nameAndColorKeepCache() {
+            Sphere shape = new Sphere("Ball", "Red", 2.0);
+            shape.getVolume();
+            shape.setName("Renamed");
+            shape.setColor("Teal");
+            assertTrue(shape.isVolumeCached());
+        }
+    }
+
+    // =================================================================
+    // Placement
+    // =================================================================
+    @Nested
+    @DisplayName("Placement")
+    class PlacementTests {
+
+        @Test
+        @DisplayName("Bounds follow dimension and placement changes")
+        void boundsFollowChanges() {
+            Cube cube = new Cube("Box", "Blue", 2.0);
+            assertEquals(BoundingBox.around(0.0, 0.0, 0.0, 1.0, 1.0, 1.0), cube.getBounds());
+            cube.setSideLength(4.0);
+            assertEquals(BoundingBox.around(0.0, 0.0, 0.0, 2.0, 2.0, 2.0), cube.getBounds());
+            cube.setPlacement(Placement.at(5.0, 0.0, 0.0));
+            assertEquals(BoundingBox.around(5.0, 0.0, 0.0, 2.0, 2.0, 2.0), cube.getBounds());
+        }
+
+        @Test
+        @DisplayName("Moving a shape notifies placement listeners but keeps size caches")
+        void placementListener() {
+            Sphere shape = new Sphere("Ball", "Red", 2.0);
+            shape.getVolume();
+            int[] moves = new int[1];
+            shape.addChangeListener(new ShapeChangeListener() {
+                @Override
+                public void dimensionsChanged(Shape3D changed) {
+                    throw new AssertionError("No dimension changed.");
+                }
+
+                @Override
+                public void placementChanged(Shape3D changed) {
+                    moves[0]++;
+                }
+            });
+            shape.setPlacement(Placement.at(1.0, 1.0, 1.0));
+            assertEquals(1, moves[0]);
+            assertTrue(shape.isVolumeCached());
+            assertThrows(IllegalArgumentException.class, () -> shape.setPlacement(null));
+        }
+    }
+
+    // =================================================================
+    // Change listeners
+    // =================================================================
+    @Nested
+    @DisplayName("Change listeners")
+    class ChangeListeners {
+
+        @Test
+        @DisplayName("Listeners run after a dimension change and see fresh values")
+        void listenerSeesNewValues() {
+            Cone cone = new Cone("Hat", "Purple", 3.0, 4.0);
+            assertEquals(5.0, cone.getSlantHeight(), 1e-12);
+            double[] seen = new double[2];
+            cone.addChangeListener(shape -> {
+                seen[0] = ((Cone) shape).getSlantHeight();
+                seen[1] = shape.getVolume();
+            });
+            cone.setHeight(8.0);
+            assertEquals(Math.sqrt(73.0), seen[0], 1e-12);
+            assertEquals(cone.calculateVolume(), seen[1], 1e-12);
+        }
+
+        @Test
+        @DisplayName("Name and color changes do not notify; removed listeners stop")
+        void nameColorAndRemoval() {
+            Cube shape = new Cube("Box", "Grey", 1.0);
+            int[] calls = new int[1];
+            ShapeChangeListener listener = changed -> calls[0]++;
+            shape.addChangeListener(listener);
+            shape.addChangeListener(listener);
+            shape.setName("Renamed");
+            shape.setColor("Teal");
+            shape.setSideLength(2.0);
+            assertEquals(1, calls[0]);
+
+            assertTrue(shape.removeChangeListener(listener));
+            assertFalse(shape.removeChangeListener(listener));
+            shape.setSideLength(3.0);
+            assertEquals(1, calls[0]);
+        }
+
+        @Test
+        @DisplayName("A null listener is rejected")
+        void nullListener() {
+            assertThrows(IllegalArgumentException.class, () -> createShape("S", "Red").addChangeListener(null));
+        }
+    }
 }
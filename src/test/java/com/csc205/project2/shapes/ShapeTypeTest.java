@@ -0,0 +1,66 @@
+package com.csc205.project2.shapes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ShapeType} enum.
+ */
+@DisplayName("ShapeType")
+class ShapeTypeTest {
+
+    @Test
+    @DisplayName("of() classifies each concrete shape")
+    void ofClassifiesShapes() {
+        assertEquals(ShapeType.SPHERE, ShapeType.of(new Sphere("S", "R", 1.0)));
+        assertEquals(ShapeType.CUBE, ShapeType.of(new Cube("C", "R", 1.0)));
+        assertEquals(ShapeType.CYLINDER, ShapeType.of(new Cylinder("Y", "R", 1.0, 2.0)));
+        assertEquals(ShapeType.RECTANGULAR_PRISM, ShapeType.of(new RectangularPrism("P", "R", 1.0, 2.0, 3.0)));
+        assertEquals(ShapeType.CONE, ShapeType.of(new Cone("K", "R", 1.0, 2.0)));
+    }
+
+    @Test
+    @DisplayName("of(null) is rejected")
+    void ofNullRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ShapeType.of(null));
+    }
+
+    @Test
+    @DisplayName("Dimension names follow constructor parameter order")
+    void dimensionNamesInConstructorOrder() {
+        assertEquals(List.of("length", "width", "height"), ShapeType.RECTANGULAR_PRISM.dimensionNames());
+        assertEquals(List.of("radius", "height"), ShapeType.CONE.dimensionNames());
+        assertEquals(1, ShapeType.CUBE.dimensionCount());
+    }
+
+    @Test
+    @DisplayName("Display name matches the class simple name")
+    void displayNameMatchesClass() {
+        assertEquals(RectangularPrism.class.getSimpleName(), ShapeType.RECTANGULAR_PRISM.displayName());
+        assertEquals(Sphere.class.getSimpleName(), ShapeType.SPHERE.displayName());
+    }
+
+    @Test
+    @DisplayName("create() builds a shape of the type with the given dimensions")
+    void createBuildsShape() {
+        Shape3D prism = ShapeType.RECTANGULAR_PRISM.create("P", "Red", 6.0, 3.0, 2.0);
+        assertEquals(RectangularPrism.class, prism.getClass());
+        assertEquals(36.0, prism.getVolume(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> ShapeType.CONE.create("K", "Red", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> ShapeType.SPHERE.create("S", "Red", -1.0));
+    }
+
+    @Test
+    @DisplayName("parse() ignores case and underscores")
+    void parseIgnoresCaseAndUnderscores() {
+        assertEquals(ShapeType.RECTANGULAR_PRISM, ShapeType.parse("RectangularPrism"));
+        assertEquals(ShapeType.RECTANGULAR_PRISM, ShapeType.parse("rectangular_prism"));
+        assertEquals(ShapeType.CONE, ShapeType.parse(" CONE "));
+        assertThrows(IllegalArgumentException.class, () -> ShapeType.parse("Pyramid"));
+        assertThrows(IllegalArgumentException.class, () -> ShapeType.parse(null));
+    }
+}
@@ -238,4 +238,81 @@ class SphereTest {
             assertTrue(sphere.toString().contains("5.0"));
         }
     }
+
+    // =================================================================
+    // Cached derived values
+    // =================================================================
+    @Nested
+    @DisplayName("Cached derived values")
+    class CacheTests {
+
+        @Test
+        @DisplayName("Repeated reads return the same volume and surface area")
+        void repeatedReadsAreStable() {
+            double volume = sphere.getVolume();
+            double surfaceArea = sphere.getSurfaceArea();
+            assertEquals(volume, sphere.getVolume(), 0.0);
+            assertEquals(surfaceArea, sphere.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("setRadius invalidates cached volume and surface area")
+        void setRadiusInvalidatesCache() {
+            sphere.getVolume();
+            sphere.getSurfaceArea();
+            sphere.setRadius(2.0);
+            Sphere fresh = new Sphere("Fresh", "Red", 2.0);
+            assertEquals(fresh.getVolume(), sphere.getVolume(), 0.0);
+            assertEquals(fresh.getSurfaceArea(), sphere.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Rejected setRadius leaves cached values intact")
+        void rejectedSetterKeepsCache() {
+            double volume = sphere.getVolume();
+            assertThrows(IllegalArgumentException.class, () -> sphere.setRadius(-1.0));
+            assertEquals(volume, sphere.getVolume(), 0.0);
+        }
+    }
+
+    // =================================================================
+    // Ray intersection
+    // =================================================================
+    @Nested
+    @DisplayName("Ray intersection")
+    class RayTests {
+
+        private final double[] normal = new double[3];
+
+        private void assertHit(double expected, double nx, double ny, double nz,
+                               double ox, double oy, double oz, double dx, double dy, double dz) {
+            assertEquals(expected, sphere.intersect(ox, oy, oz, dx, dy, dz, normal), 1e-12);
+            assertEquals(nx, normal[0], 1e-12, "normal x");
+            assertEquals(ny, normal[1], 1e-12, "normal y");
+            assertEquals(nz, normal[2], 1e-12, "normal z");
+        }
+
+        @Test
+        @DisplayName("A ray from outside hits the near side")
+        void hitFromOutside() {
+            sphere.setPlacement(Placement.at(10.0, 0.0, 0.0));
+            assertHit(5.0, -1.0, 0.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0);
+            assertEquals(2.5, sphere.intersect(0.0, 0.0, 0.0, 2.0, 0.0, 0.0, null), 1e-12);
+        }
+
+        @Test
+        @DisplayName("A ray from the center hits on the way out")
+        void hitFromInside() {
+            assertHit(5.0, 0.0, 0.0, -1.0, 0.0, 0.0, 0.0, 0.0, 0.0, -1.0);
+        }
+
+        @Test
+        @DisplayName("Rays that pass by or point away miss")
+        void misses() {
+            assertEquals(Double.POSITIVE_INFINITY, sphere.intersect(0.0, 6.0, 0.0, 1.0, 0.0, 0.0, null));
+            assertEquals(Double.POSITIVE_INFINITY, sphere.intersect(10.0, 0.0, 0.0, 1.0, 0.0, 0.0, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sphere.intersect(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, null));
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.csc205.project2.shapes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StringDictionary}.
+ */
+@DisplayName("StringDictionary")
+class StringDictionaryTest {
+
+    // =================================================================
+    // Encoding
+    // =================================================================
+    @Nested
+    @DisplayName("Encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("Codes are dense, stable and assigned in first-seen order")
+        void testCodes() {
+            StringDictionary dictionary = new StringDictionary();
+            assertEquals(0, dictionary.encode("Red"));
+            assertEquals(1, dictionary.encode("Blue"));
+            assertEquals(0, dictionary.encode(new String("Red")));
+            assertEquals(2, dictionary.size());
+            assertEquals("Blue", dictionary.decode(1));
+            assertEquals(1, dictionary.lookup("Blue"));
+            assertEquals(-1, dictionary.lookup("Green"));
+            assertEquals(-1, dictionary.lookup(null));
+            assertEquals(2, dictionary.size());
+        }
+
+        @Test
+        @DisplayName("Invalid input is rejected")
+        void testInvalid() {
+            StringDictionary dictionary = new StringDictionary();
+            assertThrows(IllegalArgumentException.class, () -> dictionary.encode(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.decode(0));
+        }
+
+        @Test
+        @DisplayName("Concurrent encoders agree on every code")
+        void testConcurrentEncoding() throws Exception {
+            StringDictionary dictionary = new StringDictionary();
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<int[]>> results = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    results.add(pool.submit(() -> {
+                        int[] codes = new int[5_000];
+                        for (int i = 0; i < codes.length; i++) {
+                            codes[i] = dictionary.encode("value-" + i);
+                            assertEquals("value-" + i, dictionary.decode(codes[i]));
+                        }
+                        return codes;
+                    }));
+                }
+                int[] first = results.get(0).get();
+                for (Future<int[]> result : results) {
+                    int[] codes = result.get();
+                    for (int i = 0; i < codes.length; i++) {
+                        assertEquals(first[i], codes[i]);
+                    }
+                }
+                assertEquals(5_000, dictionary.size());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.csc205.project2.spatial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.BoundingBox;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.Placement;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeSpatialIndex}.
+ *
+ * <p>Every query is checked against a linear scan over the same shapes.</p>
+ */
+@DisplayName("ShapeSpatialIndex")
+class ShapeSpatialIndexTest {
+
+    private static Shape3D randomShape(Random random, int i) {
+        double a = 0.5 + random.nextDouble() * 3;
+        double b = 0.5 + random.nextDouble() * 3;
+        Shape3D shape = switch (random.nextInt(5)) {
+            case 0 -> new Sphere("S" + i, "Red", a);
+            case 1 -> new Cube("C" + i, "Blue", a);
+            case 2 -> new Cylinder("Y" + i, "Green", a, b);
+            case 3 -> new RectangularPrism("P" + i, "Yellow", a, b, a);
+            default -> new Cone("K" + i, "Purple", a, b);
+        };
+        shape.setPlacement(randomPlacement(random));
+        return shape;
+    }
+
+    private static Placement randomPlacement(Random random) {
+        return Placement.at(random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100,
+                        random.nextDouble() * 200 - 100)
+                .rotated(random.nextGaussian(), random.nextGaussian(), random.nextGaussian(),
+                        random.nextDouble() * Math.PI);
+    }
+
+    private static List<Shape3D> randomShapes(long seed, int count) {
+        Random random = new Random(seed);
+        List<Shape3D> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shapes.add(randomShape(random, i));
+        }
+        return shapes;
+    }
+
+    private static BoundingBox randomRegion(Random random) {
+        return BoundingBox.around(random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100,
+                random.nextDouble() * 200 - 100, random.nextDouble() * 20, random.nextDouble() * 20,
+                random.nextDouble() * 20);
+    }
+
+    private static Set<Shape3D> identitySet(List<Shape3D> shapes) {
+        Set<Shape3D> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(shapes);
+        return set;
+    }
+
+    private static void assertMatchesScan(ShapeSpatialIndex index, List<Shape3D> shapes, Random random) {
+        assertEquals(shapes.size(), index.size());
+        for (int q = 0; q < 50; q++) {
+            BoundingBox region = randomRegion(random);
+            List<Shape3D> expected = new ArrayList<>();
+            for (Shape3D shape : shapes) {
+                if (shape.getBounds().intersects(region)) {
+                    expected.add(shape);
+                }
+            }
+            List<Shape3D> actual = index.intersecting(region);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(identitySet(expected), identitySet(actual));
+
+            double x = region.getMinX();
+            double y = region.getMinY();
+            double z = region.getMinZ();
+            assertEquals(identitySet(shapes.stream().filter(s -> s.contains(x, y, z)).toList()),
+                    identitySet(index.containing(x, y, z)));
+            // A point near a shape's center is usually inside one or more shapes.
+            Placement near = shapes.get(random.nextInt(shapes.size())).getPlacement();
+            double px = near.getX() + random.nextGaussian() * 0.5;
+            double py = near.getY() + random.nextGaussian() * 0.5;
+            double pz = near.getZ() + random.nextGaussian() * 0.5;
+            assertEquals(identitySet(shapes.stream().filter(s -> s.contains(px, py, pz)).toList()),
+                    identitySet(index.containing(px, py, pz)));
+
+            double best = shapes.stream()
+                    .mapToDouble(s -> s.distanceTo(x, y, z))
+                    .min().orElseThrow();
+            assertEquals(best, index.nearest(x, y, z).distanceTo(x, y, z), 0.0);
+        }
+    }
+
+    private static int log2Ceiling(int n) {
+        return 32 - Integer.numberOfLeadingZeros(n - 1);
+    }
+
+    // =================================================================
+    // Bulk build
+    // =================================================================
+    @Nested
+    @DisplayName("Bulk build")
+    class BulkBuild {
+
+        @Test
+        @DisplayName("Queries match a linear scan and the tree is balanced")
+        void matchesScan() {
+            List<Shape3D> shapes = randomShapes(1, 2_000);
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(shapes);
+            assertEquals(log2Ceiling(shapes.size()), index.height());
+            assertMatchesScan(index, shapes, new Random(2));
+        }
+
+        @Test
+        @DisplayName("Large inputs are built in parallel with the same result")
+        void parallelBuild() {
+            List<Shape3D> shapes = randomShapes(3, 20_000);
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(shapes);
+            assertEquals(log2Ceiling(shapes.size()), index.height());
+            assertMatchesScan(index, shapes, new Random(4));
+        }
+
+        @Test
+        @DisplayName("Duplicates are indexed once and null shapes are rejected")
+        void duplicatesAndNulls() {
+            Shape3D cube = new Cube("C", "Blue", 1.0);
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(List.of(cube, cube));
+            assertEquals(1, index.size());
+            assertEquals(0, index.height());
+            List<Shape3D> withNull = new ArrayList<>();
+            withNull.add(null);
+            assertThrows(IllegalArgumentException.class, () -> ShapeSpatialIndex.build(withNull));
+        }
+
+        @Test
+        @DisplayName("An empty build answers every query with nothing")
+        void empty() {
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(List.of());
+            assertEquals(-1, index.height());
+            assertNull(index.nearest(0.0, 0.0, 0.0));
+            assertNull(index.getBounds());
+            assertTrue(index.containing(0.0, 0.0, 0.0).isEmpty());
+        }
+    }
+
+    // =================================================================
+    // Incremental updates
+    // =================================================================
+    @Nested
+    @DisplayName("Incremental updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Inserts and removals keep queries exact")
+        void insertAndRemove() {
+            List<Shape3D> shapes = new ArrayList<>(randomShapes(5, 1_500));
+            ShapeSpatialIndex index = new ShapeSpatialIndex();
+            for (Shape3D shape : shapes) {
+                assertTrue(index.add(shape));
+            }
+            assertFalse(index.add(shapes.get(0)));
+            Random random = new Random(6);
+            assertMatchesScan(index, shapes, random);
+
+            Collections.shuffle(shapes, random);
+            for (int i = 0; i < 700; i++) {
+                assertTrue(index.remove(shapes.remove(shapes.size() - 1)));
+            }
+            assertFalse(index.remove(new Sphere("Other", "Red", 1.0)));
+            assertMatchesScan(index, shapes, random);
+        }
+
+        @Test
+        @DisplayName("Sorted inserts still give a logarithmic height")
+        void sortedInsertsStayBalanced() {
+            ShapeSpatialIndex index = new ShapeSpatialIndex();
+            int count = 4_096;
+            for (int i = 0; i < count; i++) {
+                Shape3D cube = new Cube("C" + i, "Blue", 1.0);
+                cube.setPlacement(Placement.at(i * 2.0, 0.0, 0.0));
+                index.add(cube);
+            }
+            assertTrue(index.height() <= 2 * log2Ceiling(count), "height " + index.height());
+            assertEquals(BoundingBox.of(-0.5, -0.5, -0.5, (count - 1) * 2.0 + 0.5, 0.5, 0.5), index.getBounds());
+        }
+
+        @Test
+        @DisplayName("Moving or resizing an indexed shape re-files it")
+        void listenerRefresh() {
+            List<Shape3D> shapes = randomShapes(7, 500);
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(shapes);
+            Random random = new Random(8);
+            for (int i = 0; i < 200; i++) {
+                Shape3D shape = shapes.get(random.nextInt(shapes.size()));
+                shape.setPlacement(randomPlacement(random));
+            }
+            Cube cube = (Cube) shapes.stream().filter(s -> s instanceof Cube).findFirst().orElseThrow();
+            cube.setSideLength(50.0);
+            assertMatchesScan(index, shapes, random);
+
+            Placement far = Placement.at(1_000.0, 1_000.0, 1_000.0);
+            cube.setPlacement(far);
+            assertSame(cube, index.nearest(990.0, 990.0, 990.0));
+
+            index.clear();
+            assertEquals(0, index.size());
+            cube.setPlacement(Placement.ORIGIN);
+            assertFalse(index.contains(cube));
+            assertTrue(index.intersecting(cube.getBounds()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Shapes without finite bounds are rejected")
+        void nonFiniteBounds() {
+            ShapeSpatialIndex index = new ShapeSpatialIndex();
+            assertThrows(IllegalArgumentException.class, () -> index.add(new Sphere("NaN", "Red", Double.NaN)));
+            assertThrows(IllegalArgumentException.class, () -> index.add(null));
+            assertThrows(IllegalArgumentException.class, () -> index.intersecting(null));
+            assertThrows(IllegalArgumentException.class, () -> index.nearest(Double.NaN, 0.0, 0.0));
+            assertEquals(0, index.size());
+        }
+    }
+
+    // =================================================================
+    // Containment
+    // =================================================================
+    @Nested
+    @DisplayName("Containment")
+    class Containment {
+
+        @Test
+        @DisplayName("A point in a box corner but outside the shape does not match it")
+        void exactContainment() {
+            Shape3D ball = new Sphere("Ball", "Red", 2.0);
+            Shape3D box = new Cube("Box", "Blue", 4.0);
+            box.setPlacement(Placement.at(3.0, 0.0, 0.0));
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(List.of(ball, box));
+
+            assertTrue(ball.getBounds().contains(-1.9, 1.9, 1.9));
+            assertTrue(index.containing(-1.9, 1.9, 1.9).isEmpty());
+            assertEquals(List.of(ball), index.containing(0.0, 0.0, 1.9));
+            assertEquals(List.of(ball, box), index.containing(1.5, 0.0, 0.0).stream()
+                    .sorted(Comparator.comparing(Shape3D::getName)).toList());
+            assertEquals(List.of(ball), index.containing(0.0, 0.0, 2.0));
+        }
+    }
+
+    // =================================================================
+    // Nearest
+    // =================================================================
+    @Nested
+    @DisplayName("Nearest")
+    class Nearest {
+
+        @Test
+        @DisplayName("The nearest box wins even when its center is farther")
+        void nearestByBox() {
+            Shape3D wide = new RectangularPrism("Wide", "Red", 20.0, 1.0, 1.0);
+            wide.setPlacement(Placement.at(0.0, 0.0, 0.0));
+            Shape3D small = new Sphere("Small", "Red", 0.5);
+            small.setPlacement(Placement.at(9.0, 3.0, 0.0));
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(List.of(wide, small));
+            assertSame(wide, index.nearest(9.0, 1.2, 0.0));
+            assertSame(small, index.nearest(9.0, 2.5, 0.0));
+
+            Set<String> names = new HashSet<>();
+            index.containing(9.0, 0.0, 0.0).forEach(s -> names.add(s.getName()));
+            assertEquals(Set.of("Wide"), names);
+            assertEquals(List.of("Small", "Wide"), index.intersecting(BoundingBox.of(8.0, 0.0, -1.0, 9.0, 3.0, 1.0))
+                    .stream().map(Shape3D::getName).sorted(Comparator.naturalOrder()).toList());
+        }
+
+        @Test
+        @DisplayName("Distance is measured to the solid, not to its box")
+        void nearestBySolid() {
+            Shape3D ball = new Sphere("Ball", "Red", 2.0);
+            Shape3D box = new Cube("Box", "Blue", 1.0);
+            box.setPlacement(Placement.at(3.2, 2.1, 0.0));
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(List.of(ball, box));
+
+            // The point is 0.14 from the ball's box corner but 0.97 from the ball.
+            assertTrue(ball.getBounds().distanceSquared(2.1, 2.1, 0.0) < box.getBounds().distanceSquared(2.1, 2.1, 0.0));
+            assertSame(box, index.nearest(2.1, 2.1, 0.0));
+            assertSame(ball, index.nearest(1.0, 1.0, 0.0));
+            assertSame(ball, index.nearest(-5.0, -5.0, 0.0));
+        }
+    }
+
+    // =================================================================
+    // Ray casting
+    // =================================================================
+    @Nested
+    @DisplayName("Ray casting")
+    class RayCasting {
+
+        private double[] randomRay(Random random) {
+            return new double[] {random.nextDouble() * 240 - 120, random.nextDouble() * 240 - 120,
+                    random.nextDouble() * 240 - 120, random.nextGaussian(), random.nextGaussian(),
+                    random.nextGaussian()};
+        }
+
+        /** Returns the nearest distance over every shape, tested one by one. */
+        private double scan(List<Shape3D> shapes, double[] ray) {
+            double best = Double.POSITIVE_INFINITY;
+            for (Shape3D shape : shapes) {
+                best = Math.min(best, shape.intersect(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5], null));
+            }
+            return best;
+        }
+
+        @Test
+        @DisplayName("Each ray finds the same nearest hit as a linear scan")
+        void matchesScan() {
+            List<Shape3D> shapes = randomShapes(9, 3_000);
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(shapes);
+            Random random = new Random(10);
+            double[] normal = new double[3];
+            int hits = 0;
+            for (int i = 0; i < 300; i++) {
+                double[] ray = randomRay(random);
+                double expected = scan(shapes, ray);
+                RayHit hit = index.raycast(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5]);
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertNull(hit);
+                    continue;
+                }
+                hits++;
+                assertEquals(expected, hit.getDistance(), 0.0);
+                assertEquals(expected, hit.getShape().intersect(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5],
+                        normal), 0.0);
+                assertEquals(normal[0], hit.getNormalX(), 0.0);
+                assertEquals(normal[1], hit.getNormalY(), 0.0);
+                assertEquals(normal[2], hit.getNormalZ(), 0.0);
+                assertEquals(ray[0] + expected * ray[3], hit.getX(), 0.0);
+            }
+            assertTrue(hits > 30, "hits " + hits);
+        }
+
+        @Test
+        @DisplayName("A batch gives the same answers as single rays and follows moved shapes")
+        void batch() {
+            List<Shape3D> shapes = randomShapes(11, 2_000);
+            ShapeSpatialIndex index = new ShapeSpatialIndex();
+            shapes.forEach(index::add);
+            Random random = new Random(12);
+            for (int i = 0; i < 100; i++) {
+                shapes.get(random.nextInt(shapes.size())).setPlacement(randomPlacement(random));
+            }
+            RayBatch rays = new RayBatch(1_000);
+            for (int i = 0; i < rays.size(); i++) {
+                double[] ray = randomRay(random);
+                rays.setRay(i, ray[0], ray[1], ray[2], ray[3], ray[4], ray[5]);
+            }
+            index.raycast(rays);
+            Random replay = new Random(12);
+            for (int i = 0; i < 100; i++) {
+                replay.nextInt(shapes.size());
+                randomPlacement(replay);
+            }
+            int hits = 0;
+            for (int i = 0; i < rays.size(); i++) {
+                double[] ray = randomRay(replay);
+                RayHit hit = index.raycast(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5]);
+                assertEquals(scan(shapes, ray), rays.getDistance(i), 0.0);
+                if (hit == null) {
+                    assertNull(rays.getShape(i));
+                    continue;
+                }
+                hits++;
+                assertSame(hit.getShape(), rays.getShape(i));
+                assertEquals(hit.getNormalZ(), rays.getNormalZ(i), 0.0);
+            }
+            assertEquals(hits, rays.hitCount());
+        }
+
+        @Test
+        @DisplayName("The nearest surface wins, not the nearest box")
+        void exactSurfaces() {
+            Shape3D ball = new Sphere("Ball", "Red", 1.0);
+            ball.setPlacement(Placement.at(5.0, 0.9, 0.0));
+            Shape3D wall = new RectangularPrism("Wall", "Gray", 1.0, 10.0, 10.0);
+            wall.setPlacement(Placement.at(6.0, 0.0, 0.0));
+            ShapeSpatialIndex index = ShapeSpatialIndex.build(List.of(ball, wall));
+            RayHit hit = index.raycast(0.0, 0.0, 0.0, 1.0, 0.0, 0.0);
+            assertSame(ball, hit.getShape());
+            assertEquals(5.0 - Math.sqrt(1.0 - 0.81), hit.getDistance(), 1e-12);
+
+            // This ray passes through the ball's box but misses the ball.
+            hit = index.raycast(0.0, 1.95, 0.0, 1.0, 0.0, 0.0);
+            assertSame(wall, hit.getShape());
+            assertEquals(5.5, hit.getDistance(), 0.0);
+            assertEquals(-1.0, hit.getNormalX(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Empty indexes miss and invalid rays are rejected")
+        void emptyAndInvalid() {
+            ShapeSpatialIndex index = new ShapeSpatialIndex();
+            assertNull(index.raycast(0.0, 0.0, 0.0, 1.0, 0.0, 0.0));
+            RayBatch rays = new RayBatch(3);
+            index.raycast(rays);
+            assertEquals(0, rays.hitCount());
+            assertEquals(Double.POSITIVE_INFINITY, rays.getDistance(2), 0.0);
+
+            assertThrows(IllegalArgumentException.class, () -> index.raycast(0.0, 0.0, 0.0, 0.0, 0.0, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> index.raycast(null));
+            assertThrows(IllegalArgumentException.class, () -> rays.setRay(0, Double.NaN, 0.0, 0.0, 1.0, 0.0, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> new RayBatch(-1));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.csc205.project2.store;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeFileWriter} and {@link MappedShapeFile}.
+ */
+@DisplayName("MappedShapeFile")
+class MappedShapeFileTest {
+
+    @TempDir
+    Path directory;
+
+    private List<Shape3D> shapes;
+    private ShapeStore store;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Random random = new Random(11);
+        shapes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            double a = 0.01 + random.nextDouble() * 100.0;
+            double b = 0.01 + random.nextDouble() * 100.0;
+            double c = 0.01 + random.nextDouble() * 100.0;
+            String color = i % 2 == 0 ? "Red" : "Bleu clair é";
+            shapes.add(switch (i % 5) {
+                case 0 -> new Sphere("S" + i, color, a);
+                case 1 -> new Cube("C" + i, color, a);
+                case 2 -> new Cylinder("Y" + i, color, a, b);
+                case 3 -> new RectangularPrism("P" + i, color, a, b, c);
+                default -> new Cone("K" + i, color, a, b);
+            });
+        }
+        store = ShapeStore.of(shapes);
+        file = directory.resolve("shapes.bin");
+        ShapeFileWriter.write(store, file);
+    }
+
+    // ---------------------------------------------------------------
+    // Round trip
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Every row, name, color and metric matches the source store")
+        void rowsMatch() throws IOException {
+            try (MappedShapeFile mapped = MappedShapeFile.open(file)) {
+                assertEquals(shapes.size(), mapped.size());
+                for (ShapeType type : ShapeType.values()) {
+                    assertEquals(store.size(type), mapped.size(type));
+                    for (int row = 0; row < store.size(type); row++) {
+                        assertEquals(store.name(type, row), mapped.name(type, row));
+                        assertEquals(store.color(type, row), mapped.color(type, row));
+                        assertEquals(store.volume(type, row), mapped.volume(type, row));
+                        assertEquals(store.surfaceArea(type, row), mapped.surfaceArea(type, row));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Dimension columns are read-only slices of the mapping")
+        void zeroCopyColumns() throws IOException {
+            try (MappedShapeFile mapped = MappedShapeFile.open(file)) {
+                MemorySegment heights = mapped.dimensionColumn(ShapeType.RECTANGULAR_PRISM, 2);
+                double[] expected = store.dimensionColumn(ShapeType.RECTANGULAR_PRISM, 2);
+                assertTrue(heights.isReadOnly());
+                assertTrue(heights.isMapped());
+                assertEquals(expected.length * (long) Double.BYTES, heights.byteSize());
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[i], heights.getAtIndex(ShapeFileFormat.DOUBLE, i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("toList rebuilds every shape grouped by type")
+        void toList() throws IOException {
+            try (MappedShapeFile mapped = MappedShapeFile.open(file)) {
+                List<Shape3D> loaded = mapped.toList();
+                assertEquals(shapes.size(), loaded.size());
+                assertEquals(store.toShape(ShapeType.SPHERE, 0).toString(), loaded.get(0).toString());
+                assertEquals(store.toShape(ShapeType.CONE, 199).toString(),
+                        loaded.get(loaded.size() - 1).toString());
+            }
+        }
+
+        @Test
+        @DisplayName("An empty store round-trips")
+        void empty() throws IOException {
+            Path empty = directory.resolve("empty.bin");
+            ShapeFileWriter.write(List.of(), empty);
+            try (MappedShapeFile mapped = MappedShapeFile.open(empty)) {
+                assertEquals(0, mapped.size());
+                assertTrue(mapped.toList().isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("A closed file can no longer be read")
+        void closed() throws IOException {
+            MappedShapeFile mapped = MappedShapeFile.open(file);
+            mapped.close();
+            assertThrows(IllegalStateException.class, () -> mapped.volume(ShapeType.SPHERE, 0));
+        }
+
+        @Test
+        @DisplayName("Out-of-range rows and dimensions are rejected")
+        void indexChecks() throws IOException {
+            try (MappedShapeFile mapped = MappedShapeFile.open(file)) {
+                assertThrows(IndexOutOfBoundsException.class, () -> mapped.name(ShapeType.CUBE, 200));
+                assertThrows(IndexOutOfBoundsException.class, () -> mapped.dimensionColumn(ShapeType.CUBE, 1));
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Validation
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Files without the magic number are rejected")
+        void badMagic() throws IOException {
+            Path other = directory.resolve("other.bin");
+            Files.write(other, new byte[ShapeFileFormat.HEADER_BYTES]);
+            IOException e = assertThrows(IOException.class, () -> MappedShapeFile.open(other));
+            assertEquals("Not a shape file.", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Unknown versions are rejected")
+        void badVersion() throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 2), 4);
+            }
+            IOException e = assertThrows(IOException.class, () -> MappedShapeFile.open(file));
+            assertEquals("Unsupported shape file version 2 (expected 1).", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Truncated files are rejected")
+        void truncated() throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 1);
+            }
+            IOException e = assertThrows(IOException.class, () -> MappedShapeFile.open(file));
+            assertTrue(e.getMessage().contains("header records"));
+        }
+
+        @Test
+        @DisplayName("Row counts too large for the file are rejected")
+        void hugeRowCount() throws IOException {
+            long position = ShapeFileFormat.SECTION_TABLE_OFFSET + Long.BYTES;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, Long.MAX_VALUE / 4),
+                        position);
+            }
+            IOException e = assertThrows(IOException.class, () -> MappedShapeFile.open(file));
+            assertEquals("Corrupt section table entry for " + ShapeType.values()[0].displayName() + ".",
+                    e.getMessage());
+        }
+    }
+}
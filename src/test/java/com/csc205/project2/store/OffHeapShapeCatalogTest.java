@@ -0,0 +1,245 @@
+package com.csc205.project2.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.analysis.ShapeAnalysis;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link OffHeapShapeCatalog}.
+ *
+ * <p>As with {@link ShapeStore}, the central property is that values read
+ * from the off-heap records match the {@code Shape3D} methods exactly.</p>
+ */
+@DisplayName("OffHeapShapeCatalog")
+class OffHeapShapeCatalogTest {
+
+    private List<Shape3D> shapes;
+    private OffHeapShapeCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        String[] colors = {"Red", "Blue", "Green"};
+        shapes = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            double a = 0.01 + random.nextDouble() * 100.0;
+            double b = 0.01 + random.nextDouble() * 100.0;
+            double c = 0.01 + random.nextDouble() * 100.0;
+            String color = colors[i % colors.length];
+            shapes.add(switch (i % 5) {
+                case 0 -> new Sphere("S" + i, color, a);
+                case 1 -> new Cube("C" + i, color, a);
+                case 2 -> new Cylinder("Y" + i, color, a, b);
+                case 3 -> new RectangularPrism("P" + i, color, a, b, c);
+                default -> new Cone("K" + i, color, a, b);
+            });
+        }
+        catalog = OffHeapShapeCatalog.of(shapes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.close();
+    }
+
+    // ---------------------------------------------------------------
+    // Records
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Records")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Records are 40 bytes and the catalog grows past its initial capacity")
+        void layoutAndGrowth() {
+            assertEquals(40, OffHeapShapeCatalog.RECORD_LAYOUT.byteSize());
+            assertEquals(shapes.size(), catalog.size());
+            assertEquals(shapes.size() / 5, catalog.size(ShapeType.CONE));
+        }
+
+        @Test
+        @DisplayName("Fields round-trip in insertion order")
+        void fieldsRoundTrip() {
+            for (int i = 0; i < shapes.size(); i++) {
+                Shape3D shape = shapes.get(i);
+                assertEquals(ShapeType.of(shape), catalog.type(i));
+                assertEquals(shape.getName(), catalog.name(i));
+                assertEquals(shape.getColor(), catalog.color(i));
+            }
+            Cylinder cylinder = (Cylinder) shapes.get(2);
+            assertEquals(cylinder.getRadius(), catalog.dimension(2, 0));
+            assertEquals(cylinder.getHeight(), catalog.dimension(2, 1));
+        }
+
+        @Test
+        @DisplayName("Equal colors share one dictionary id")
+        void colorsAreShared() {
+            assertEquals(3, catalog.distinctColors());
+            assertEquals(catalog.colorId(0), catalog.colorId(3));
+        }
+
+        @Test
+        @DisplayName("Long and non-ASCII names round-trip through the name region")
+        void namesRoundTrip() {
+            try (OffHeapShapeCatalog small = new OffHeapShapeCatalog(1)) {
+                long reserved = small.byteSize();
+                List<String> names = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    String name = "Kugel-\u00e9\u4e16-" + "x".repeat(i * 40) + i;
+                    names.add(name);
+                    small.addSphere(name, "Red", 1.0 + i);
+                }
+                for (int i = 0; i < names.size(); i++) {
+                    assertEquals(names.get(i), small.name(i));
+                    assertEquals(1.0 + i, small.dimension(i, 0));
+                }
+                assertTrue(small.byteSize() > reserved);
+            }
+        }
+
+        @Test
+        @DisplayName("toShape rebuilds an equal but independent shape")
+        void toShape() {
+            Shape3D rebuilt = catalog.toShape(3);
+            assertInstanceOf(RectangularPrism.class, rebuilt);
+            assertNotSame(shapes.get(3), rebuilt);
+            assertEquals(shapes.get(3).toString(), rebuilt.toString());
+        }
+
+        @Test
+        @DisplayName("Out-of-range indexes are rejected")
+        void indexChecks() {
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.type(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.volume(shapes.size()));
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.dimension(0, 1));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> catalog.volumes(shapes.size() - 1, new double[4], 0, 2));
+        }
+
+        @Test
+        @DisplayName("A closed catalog can no longer be read")
+        void closed() {
+            catalog.close();
+            assertThrows(IllegalStateException.class, () -> catalog.volume(0));
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Kernels
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Kernels")
+    class KernelTests {
+
+        @Test
+        @DisplayName("Per-record and ranged metrics match Shape3D exactly")
+        void metricsMatch() {
+            double[] volumes = new double[shapes.size() + 1];
+            double[] areas = new double[shapes.size() + 1];
+            catalog.volumes(0, volumes, 1, shapes.size());
+            catalog.surfaceAreas(0, areas, 1, shapes.size());
+            for (int i = 0; i < shapes.size(); i++) {
+                Shape3D shape = shapes.get(i);
+                assertEquals(shape.calculateVolume(), catalog.volume(i));
+                assertEquals(shape.calculateSurfaceArea(), catalog.surfaceArea(i));
+                assertEquals(shape.calculateVolume(), volumes[i + 1]);
+                assertEquals(shape.calculateSurfaceArea(), areas[i + 1]);
+            }
+        }
+
+        @Test
+        @DisplayName("Totals agree with the compensated ShapeAnalysis totals")
+        void totals() {
+            ShapeAnalysis analysis = shapes.stream().collect(ShapeAnalysis.collector());
+            assertEquals(analysis.getTotalVolume(), catalog.totalVolume(),
+                    Math.ulp(analysis.getTotalVolume()) * 4);
+            assertEquals(analysis.getTotalSurfaceArea(), catalog.totalSurfaceArea(),
+                    Math.ulp(analysis.getTotalSurfaceArea()) * 4);
+        }
+
+        @Test
+        @DisplayName("Totals that overflow are infinite, never NaN")
+        void overflowingTotals() {
+            try (OffHeapShapeCatalog huge = OffHeapShapeCatalog.of(List.of(
+                    new Sphere("Huge", "Red", 1e200), new Cube("Unit", "Blue", 1.0)))) {
+                assertEquals(Double.POSITIVE_INFINITY, huge.totalVolume());
+                assertEquals(Double.POSITIVE_INFINITY, huge.totalSurfaceArea());
+            }
+            // Each volume is finite, but their sum is not.
+            try (OffHeapShapeCatalog large = OffHeapShapeCatalog.of(List.of(
+                    new Cube("A", "Blue", 5e102), new Cube("B", "Blue", 5e102), new Cube("C", "Blue", 1.0)))) {
+                assertEquals(Double.POSITIVE_INFINITY, large.totalVolume());
+                assertEquals(6 * (2 * 5e102 * 5e102 + 1.0), large.totalSurfaceArea(), 1e192);
+            }
+        }
+
+        @Test
+        @DisplayName("An empty catalog totals to zero")
+        void emptyTotals() {
+            try (OffHeapShapeCatalog empty = new OffHeapShapeCatalog(1)) {
+                assertEquals(0.0, empty.totalVolume());
+                assertEquals(0, empty.size());
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Validation
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Appends use the constructors' validation messages")
+        void sameMessages() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> catalog.addSphere(" ", "Red", 1.0));
+            assertEquals("Name must not be null or blank.", e.getMessage());
+            e = assertThrows(IllegalArgumentException.class,
+                    () -> catalog.addCube("Box", "Red", 0.0));
+            assertEquals("Side length must be greater than zero.", e.getMessage());
+            assertEquals(shapes.size(), catalog.size());
+        }
+
+        @Test
+        @DisplayName("Names longer than the record's length field are rejected")
+        void nameTooLong() {
+            String longest = "n".repeat(OffHeapShapeCatalog.MAX_NAME_BYTES);
+            catalog.addCube(longest, "Red", 1.0);
+            assertEquals(longest, catalog.name(shapes.size()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> catalog.addCube(longest + "n", "Red", 1.0));
+            assertEquals(shapes.size() + 1, catalog.size());
+        }
+
+        @Test
+        @DisplayName("A non-positive initial capacity is rejected")
+        void badCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new OffHeapShapeCatalog(0));
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.csc205.project2.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.kernels.GeometryKernels;
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+import com.csc205.project2.shapes.ThreeDimensionalShape;
+
+/**
+ * Unit tests for {@link ShapeStore} and its {@link ShapeView} flyweight.
+ *
+ * <p>The central property is that the columnar kernels produce exactly the
+ * same values as the per-object {@code calculateVolume()} and
+ * {@code calculateSurfaceArea()} methods.</p>
+ */
+@DisplayName("ShapeStore")
+class ShapeStoreTest {
+
+    private List<Shape3D> shapes;
+    private ShapeStore store;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        shapes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double a = 0.01 + random.nextDouble() * 100.0;
+            double b = 0.01 + random.nextDouble() * 100.0;
+            double c = 0.01 + random.nextDouble() * 100.0;
+            shapes.add(switch (i % 5) {
+                case 0 -> new Sphere("S" + i, "Red", a);
+                case 1 -> new Cube("C" + i, "Blue", a);
+                case 2 -> new Cylinder("Y" + i, "Green", a, b);
+                case 3 -> new RectangularPrism("P" + i, "Yellow", a, b, c);
+                default -> new Cone("K" + i, "Purple", a, b);
+            });
+        }
+        store = ShapeStore.of(shapes);
+    }
+
+    /** Returns the shapes of one type in insertion order. */
+    private List<Shape3D> shapesOf(ShapeType type) {
+        List<Shape3D> result = new ArrayList<>();
+        for (Shape3D shape : shapes) {
+            if (ShapeType.of(shape) == type) {
+                result.add(shape);
+            }
+        }
+        return result;
+    }
+
+    // =================================================================
+    // Batch kernels
+    // =================================================================
+    @Nested
+    @DisplayName("Batch kernels")
+    class KernelTests {
+
+        @Test
+        @DisplayName("Column volumes equal calculateVolume exactly")
+        void volumesMatchObjects() {
+            for (ShapeType type : ShapeType.values()) {
+                List<Shape3D> expected = shapesOf(type);
+                double[] out = new double[store.size(type)];
+                store.volumes(type, out);
+                for (int i = 0; i < out.length; i++) {
+                    assertEquals(expected.get(i).calculateVolume(), out[i], 0.0, type + " row " + i);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Column surface areas equal calculateSurfaceArea exactly")
+        void surfaceAreasMatchObjects() {
+            for (ShapeType type : ShapeType.values()) {
+                List<Shape3D> expected = shapesOf(type);
+                double[] out = new double[store.size(type)];
+                store.surfaceAreas(type, out);
+                for (int i = 0; i < out.length; i++) {
+                    assertEquals(expected.get(i).calculateSurfaceArea(), out[i], 0.0, type + " row " + i);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Best available kernels agree with the exact column results")
+        void bestKernelsAgree() {
+            for (ShapeType type : ShapeType.values()) {
+                double[] exact = new double[store.size(type)];
+                double[] fast = new double[store.size(type)];
+                store.surfaceAreas(type, exact);
+                store.surfaceAreas(type, fast, GeometryKernels.best());
+                for (int i = 0; i < exact.length; i++) {
+                    assertEquals(exact[i], fast[i], exact[i] * 1e-14, type + " row " + i);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Blocks of rows measure the same as whole columns")
+        void blocksMatchColumns() {
+            for (ShapeType type : ShapeType.values()) {
+                int n = store.size(type);
+                double[] volumes = new double[n];
+                double[] surfaceAreas = new double[n];
+                store.volumes(type, volumes);
+                store.surfaceAreas(type, surfaceAreas);
+                int block = 7;
+                double[] blockVolumes = new double[block];
+                double[] blockAreas = new double[block];
+                for (int from = 0; from < n; from += block) {
+                    int count = Math.min(block, n - from);
+                    store.measure(type, from, count, blockVolumes, blockAreas, GeometryKernels.scalar());
+                    for (int i = 0; i < count; i++) {
+                        assertEquals(volumes[from + i], blockVolumes[i], 0.0, type + " row " + (from + i));
+                        assertEquals(surfaceAreas[from + i], blockAreas[i], 0.0, type + " row " + (from + i));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Short output array is rejected")
+        void shortOutputRejected() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> store.volumes(ShapeType.SPHERE, new double[1]));
+            assertThrows(IllegalArgumentException.class, () -> store.measure(ShapeType.SPHERE, 0, 2,
+                    new double[2], new double[1], GeometryKernels.scalar()));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.measure(ShapeType.SPHERE,
+                    store.size(ShapeType.SPHERE), 1, new double[1], new double[1], GeometryKernels.scalar()));
+        }
+    }
+
+    // =================================================================
+    // Storage and views
+    // =================================================================
+    @Nested
+    @DisplayName("Storage and views")
+    class StorageTests {
+
+        @Test
+        @DisplayName("Sizes count shapes per type and overall")
+        void sizesAreCounted() {
+            assertEquals(500, store.size());
+            for (ShapeType type : ShapeType.values()) {
+                assertEquals(100, store.size(type));
+            }
+        }
+
+        @Test
+        @DisplayName("View exposes name, color, dimensions and toString of the original")
+        void viewMatchesOriginal() {
+            List<Shape3D> prisms = shapesOf(ShapeType.RECTANGULAR_PRISM);
+            ShapeView view = store.view(ShapeType.RECTANGULAR_PRISM, 7);
+            RectangularPrism original = (RectangularPrism) prisms.get(7);
+            assertEquals(original.getName(), view.getName());
+            assertEquals(original.getColor(), view.getColor());
+            assertEquals(original.getWidth(), view.getDimension(1), 0.0);
+            assertEquals(original.toString(), view.toString());
+        }
+
+        @Test
+        @DisplayName("View works through a ThreeDimensionalShape reference")
+        void viewIsThreeDimensionalShape() {
+            ThreeDimensionalShape ref = store.view(ShapeType.CONE, 3);
+            Shape3D original = shapesOf(ShapeType.CONE).get(3);
+            assertInstanceOf(ThreeDimensionalShape.class, ref);
+            assertEquals(original.getVolume(), ref.getVolume(), 0.0);
+            assertEquals(original.getSurfaceArea(), ref.getSurfaceArea(), 0.0);
+        }
+
+        @Test
+        @DisplayName("forEach visits every row in order")
+        void forEachVisitsRows() {
+            List<String> names = new ArrayList<>();
+            store.forEach(ShapeType.CUBE, view -> names.add(view.getName()));
+            List<String> expected = new ArrayList<>();
+            shapesOf(ShapeType.CUBE).forEach(s -> expected.add(s.getName()));
+            assertEquals(expected, names);
+        }
+
+        @Test
+        @DisplayName("toShape materializes an equivalent object")
+        void toShapeRoundTrips() {
+            Shape3D original = shapesOf(ShapeType.CYLINDER).get(12);
+            Shape3D copy = store.toShape(ShapeType.CYLINDER, 12);
+            assertInstanceOf(Cylinder.class, copy);
+            assertEquals(original.toString(), copy.toString());
+        }
+
+        @Test
+        @DisplayName("addAll appends another store's rows after this store's")
+        void addAllAppendsRows() {
+            ShapeStore combined = ShapeStore.of(shapes.subList(0, 200));
+            combined.addAll(ShapeStore.of(shapes.subList(200, 500)));
+            assertEquals(500, combined.size());
+            combined.addSphere("Extra", "Red", 1.0);
+            for (ShapeType type : ShapeType.values()) {
+                for (int row = 0; row < 100; row++) {
+                    assertEquals(store.name(type, row), combined.name(type, row));
+                    assertEquals(store.volume(type, row), combined.volume(type, row), 0.0);
+                }
+            }
+            assertEquals("Extra", combined.name(ShapeType.SPHERE, 100));
+            assertThrows(IllegalArgumentException.class, () -> combined.addAll(combined));
+        }
+
+        @Test
+        @DisplayName("Names and dictionary-encoded colors round-trip, also across addAll")
+        void dictionaryEncodedColumns() {
+            ShapeStore first = new ShapeStore();
+            first.addCube("Shared", "Teal", 1.0);
+            first.addCube("OnlyFirst", "Teal", 2.0);
+            ShapeStore second = new ShapeStore();
+            second.addCube("OnlySecond", "Navy", 3.0);
+            second.addCube("Shared", "Teal", 4.0);
+            first.addAll(second);
+
+            assertEquals(List.of("Shared", "OnlyFirst", "OnlySecond", "Shared"),
+                    List.of(first.name(ShapeType.CUBE, 0), first.name(ShapeType.CUBE, 1),
+                            first.name(ShapeType.CUBE, 2), first.name(ShapeType.CUBE, 3)));
+            assertEquals("Navy", first.color(ShapeType.CUBE, 2));
+            assertEquals(first.colorCode(ShapeType.CUBE, 0), first.colorCode(ShapeType.CUBE, 3));
+            assertEquals(0, first.colorCode(ShapeType.CUBE, 1));
+            assertEquals(1, first.colorCode(ShapeType.CUBE, 2));
+            assertSame(first.color(ShapeType.CUBE, 0), first.color(ShapeType.CUBE, 3));
+            assertEquals(0, new ShapeStore().rowsWithColor(ShapeType.CUBE, "Teal").length);
+        }
+
+        @Test
+        @DisplayName("Color filters and counts match the shapes")
+        void colorQueries() {
+            assertEquals(100, store.rowsWithColor(ShapeType.CUBE, "Blue").length);
+            assertEquals(0, store.rowsWithColor(ShapeType.CUBE, "Red").length);
+            assertEquals(0, store.rowsWithColor(ShapeType.CUBE, "NoSuchColorAnywhere").length);
+            int[] rows = store.rowsWithColor(ShapeType.CONE, "Purple");
+            for (int i = 0; i < rows.length; i++) {
+                assertEquals(i, rows[i]);
+            }
+
+            store.addCone("Odd", "Blue", 1.0, 1.0);
+            assertArrayEquals(new int[] {100}, store.rowsWithColor(ShapeType.CONE, "Blue"));
+            Map<String, Long> counts = store.countsByColor();
+            assertEquals(101L, counts.get("Blue"));
+            assertEquals(100L, counts.get("Red"));
+            assertEquals(5, counts.size());
+        }
+
+        @Test
+        @DisplayName("Out-of-range row throws")
+        void outOfRangeRowThrows() {
+            assertThrows(IndexOutOfBoundsException.class, () -> store.view(ShapeType.SPHERE, 100));
+        }
+    }
+
+    // =================================================================
+    // Validation
+    // =================================================================
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Blank name is rejected like the constructors")
+        void blankNameRejected() {
+            ShapeStore empty = new ShapeStore();
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> empty.addSphere(" ", "Red", 1.0));
+            assertEquals("Name must not be null or blank.", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Non-positive dimension is rejected with the constructor's message")
+        void nonPositiveDimensionRejected() {
+            ShapeStore empty = new ShapeStore();
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> empty.addCube("Box", "Blue", 0.0));
+            assertEquals("Side length must be greater than zero.", e.getMessage());
+            e = assertThrows(IllegalArgumentException.class,
+                    () -> empty.addRectangularPrism("Box", "Blue", 1.0, 1.0, -2.0));
+            assertEquals("Height must be greater than zero.", e.getMessage());
+            assertEquals(0, empty.size());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.csc205.project2.value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.csc205.project2.shapes.Cone;
+import com.csc205.project2.shapes.Cube;
+import com.csc205.project2.shapes.Cylinder;
+import com.csc205.project2.shapes.RectangularPrism;
+import com.csc205.project2.shapes.Shape3D;
+import com.csc205.project2.shapes.ShapeType;
+import com.csc205.project2.shapes.Sphere;
+
+/**
+ * Unit tests for {@link ShapeValue}, its five variants and
+ * {@link ShapeInterner}.
+ */
+@DisplayName("ShapeValue")
+class ShapeValueTest {
+
+    private static List<Shape3D> sampleShapes() {
+        return List.of(
+                new Sphere("Ball", "Red", 2.5),
+                new Cube("Box", "Blue", 3.0),
+                new Cylinder("Pipe", "Green", 1.5, 4.0),
+                new RectangularPrism("Brick", "Yellow", 2.0, 3.0, 4.0),
+                new Cone("Hat", "Purple", 3.0, 4.0));
+    }
+
+    // =================================================================
+    // Values
+    // =================================================================
+    @Nested
+    @DisplayName("Values")
+    class Values {
+
+        @Test
+        @DisplayName("Derived values match the mutable classes exactly")
+        void testDerivedValues() {
+            for (Shape3D shape : sampleShapes()) {
+                ShapeValue value = ShapeValue.of(shape);
+                assertEquals(ShapeType.of(shape), value.type());
+                assertEquals(shape.getVolume(), value.getVolume(), 0.0);
+                assertEquals(shape.getSurfaceArea(), value.getSurfaceArea(), 0.0);
+            }
+        }
+
+        @Test
+        @DisplayName("Conversions round-trip through the mutable classes")
+        void testRoundTrip() {
+            for (Shape3D shape : sampleShapes()) {
+                Shape3D copy = ShapeValue.of(shape).toShape(shape.getName());
+                assertNotSame(shape, copy);
+                assertEquals(shape.toString(), copy.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("Equality covers type, color and dimensions but not the name")
+        void testEquality() {
+            ShapeValue a = ShapeValue.of(new Cube("First", "Blue", 2.0));
+            ShapeValue b = ShapeValue.of(new Cube("Second", new String("Blue"), 2.0));
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+            assertEquals(a.color(), b.color());
+            assertNotEquals(a, new CubeValue("Red", 2.0));
+            assertNotEquals(a, new CubeValue("Blue", 2.5));
+            assertNotEquals(new CylinderValue("Red", 1.0, 2.0), new ConeValue("Red", 1.0, 2.0));
+        }
+
+        @Test
+        @DisplayName("Accessors and toString use the dimension names")
+        void testAccessors() {
+            RectangularPrismValue prism = new RectangularPrismValue("Yellow", 2.0, 3.0, 4.0);
+            assertEquals(3.0, prism.width(), 0.0);
+            assertEquals(4.0, prism.dimension(2), 0.0);
+            assertEquals("RectangularPrismValue[color=Yellow, length=2.0, width=3.0, height=4.0]", prism.toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> new SphereValue("Red", 1.0).dimension(1));
+            assertInstanceOf(ConeValue.class, ShapeValue.of(ShapeType.CONE, "Red", 1.0, 2.0));
+        }
+
+        @Test
+        @DisplayName("Invalid values are rejected with the constructor messages")
+        void testValidation() {
+            IllegalArgumentException color = assertThrows(IllegalArgumentException.class,
+                    () -> new SphereValue(" ", 1.0));
+            assertEquals("Color must not be null or blank.", color.getMessage());
+            IllegalArgumentException height = assertThrows(IllegalArgumentException.class,
+                    () -> new ConeValue("Red", 1.0, -1.0));
+            assertEquals(assertThrows(IllegalArgumentException.class,
+                    () -> new Cone("Hat", "Red", 1.0, -1.0)).getMessage(), height.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> ShapeValue.of(ShapeType.CUBE, "Red", 1.0, 2.0));
+        }
+    }
+
+    // =================================================================
+    // Interning
+    // =================================================================
+    @Nested
+    @DisplayName("Interning")
+    class Interning {
+
+        @Test
+        @DisplayName("Identical parts share one instance")
+        void testSharing() {
+            ShapeInterner interner = new ShapeInterner();
+            CubeValue first = interner.cube("Blue", 2.0);
+            assertSame(first, interner.cube("Blue", 2.0));
+            assertSame(first, interner.of(new Cube("Any", "Blue", 2.0)));
+            assertSame(first, interner.of(ShapeType.CUBE, "Blue", 2.0));
+            assertNotSame(first, interner.cube("Blue", 3.0));
+            assertEquals(2, interner.size());
+
+            interner.clear();
+            assertEquals(0, interner.size());
+            assertNotSame(first, interner.cube("Blue", 2.0));
+        }
+
+        @Test
+        @DisplayName("Concurrent interning hands every thread the same instance")
+        void testConcurrentInterning() throws Exception {
+            ShapeInterner interner = new ShapeInterner();
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<ShapeValue[]>> results = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    results.add(pool.submit(() -> {
+                        ShapeValue[] parts = new ShapeValue[1_000];
+                        for (int i = 0; i < parts.length; i++) {
+                            parts[i] = interner.cylinder("Steel", 1.0 + i % 50, 2.0);
+                        }
+                        return parts;
+                    }));
+                }
+                ShapeValue[] first = results.get(0).get();
+                for (Future<ShapeValue[]> result : results) {
+                    ShapeValue[] parts = result.get();
+                    for (int i = 0; i < parts.length; i++) {
+                        assertSame(first[i], parts[i]);
+                    }
+                }
+                assertEquals(50, interner.size());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}